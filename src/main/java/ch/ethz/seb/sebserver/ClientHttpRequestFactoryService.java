@@ -14,10 +14,19 @@ import java.io.IOException;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.lang.ref.WeakReference;
 import java.security.cert.CertificateException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
 
 import javax.net.ssl.SSLContext;
 
@@ -26,21 +35,30 @@ import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
-import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustAllStrategy;
 import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.client.ProxyAuthenticationStrategy;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.env.Environment;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ResourceUtils;
@@ -51,61 +69,144 @@ import ch.ethz.seb.sebserver.gbl.util.Result;
 import ch.ethz.seb.sebserver.gbl.util.Utils;
 import ch.ethz.seb.sebserver.webservice.servicelayer.client.ClientCredentialService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.client.ProxyData;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
+/** Creates the ClientHttpRequestFactory for outgoing HTTP calls, e.g. from GUI to webservice or from webservice
+ * to a LMS.
+ *
+ * All ClientHttpRequestFactory of the same target and client configuration share one HTTP client with a pooled
+ * connection manager, so that connections are kept alive and reused by all RestTemplates of the target. The default
+ * target is used by the GUI to call the webservice, each LMS setup has its own target. A pool is only closed when
+ * no ClientHttpRequestFactory refers to it anymore and none of its connections is leased. Expired and idle
+ * connections and unused pools are evicted periodically and the utilization of every target is available as
+ * metrics. */
 @Lazy
 @Service
 @WebServiceProfile
 @GuiProfile
-public class ClientHttpRequestFactoryService {
+public class ClientHttpRequestFactoryService implements DisposableBean {
 
     private static final Logger log = LoggerFactory.getLogger(ClientHttpRequestFactoryService.class);
 
+    public static final String DEFAULT_TARGET = "default";
+    public static final String LMS_SETUP_TARGET_PREFIX = "lms-setup-";
+    public static final String AD_HOC_TARGET_PREFIX = "ad-hoc-";
+
+    public static final String POOL_LEASED_GAUGE_NAME = "sebserver.http.client.pool.leased";
+    public static final String POOL_AVAILABLE_GAUGE_NAME = "sebserver.http.client.pool.available";
+    public static final String POOL_PENDING_GAUGE_NAME = "sebserver.http.client.pool.pending";
+    public static final String POOL_MAX_GAUGE_NAME = "sebserver.http.client.pool.max";
+    public static final String TARGET_TAG_NAME = "target";
+
     private static final Collection<String> DEV_PROFILES = Arrays.asList("dev-gui", "test", "demo", "dev-ws");
     private static final Collection<String> PROD_PROFILES = Arrays.asList("prod-gui", "prod-ws");
 
     private final int connectTimeout;
     private final int connectionRequestTimeout;
     private final int readTimeout;
+    private final int maxConnections;
+    private final int maxConnectionsPerRoute;
+    private final long keepAlive;
+    private final long idleTimeout;
+    private final int validateAfterInactivity;
 
     private final Environment environment;
     private final ClientCredentialService clientCredentialService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ConnectionPool> pools = new ConcurrentHashMap<>();
+    private final Set<String> meteredTargets = ConcurrentHashMap.newKeySet();
+    private final AtomicLong adHocPoolCount = new AtomicLong();
 
     public ClientHttpRequestFactoryService(
             final Environment environment,
             final ClientCredentialService clientCredentialService,
+            final MeterRegistry meterRegistry,
             @Value("${sebserver.http.client.connect-timeout:15000}") final int connectTimeout,
             @Value("${sebserver.http.client.connection-request-timeout:20000}") final int connectionRequestTimeout,
-            @Value("${sebserver.http.client.read-timeout:10000}") final int readTimeout) {
+            @Value("${sebserver.http.client.read-timeout:10000}") final int readTimeout,
+            @Value("${sebserver.http.client.pool.max-connections:200}") final int maxConnections,
+            @Value("${sebserver.http.client.pool.max-connections-per-route:50}") final int maxConnectionsPerRoute,
+            @Value("${sebserver.http.client.pool.keep-alive:30000}") final long keepAlive,
+            @Value("${sebserver.http.client.pool.idle-timeout:60000}") final long idleTimeout,
+            @Value("${sebserver.http.client.pool.validate-after-inactivity:2000}") final int validateAfterInactivity) {
 
         this.environment = environment;
         this.clientCredentialService = clientCredentialService;
+        this.meterRegistry = meterRegistry;
         this.connectTimeout = connectTimeout;
         this.connectionRequestTimeout = connectionRequestTimeout;
         this.readTimeout = readTimeout;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.keepAlive = keepAlive;
+        this.idleTimeout = idleTimeout;
+        this.validateAfterInactivity = validateAfterInactivity;
     }
 
+    /** Get a ClientHttpRequestFactory for the default target
+     *
+     * @return Result refer to the ClientHttpRequestFactory or to an error if happened */
     public Result<ClientHttpRequestFactory> getClientHttpRequestFactory() {
-        return getClientHttpRequestFactory(null);
+        return getClientHttpRequestFactory(DEFAULT_TARGET, null);
     }
 
-    public Result<ClientHttpRequestFactory> getClientHttpRequestFactory(final ProxyData proxy) {
+    /** Get a ClientHttpRequestFactory for a given target. All ClientHttpRequestFactory of the same target and
+     * proxy share one pooled HTTP client. If the proxy of a target changes, a new pooled HTTP client is used while
+     * the one of the former proxy stays open as long as it is in use.
+     *
+     * If the target is null, the ClientHttpRequestFactory gets its own throw-away HTTP client. This is used for
+     * ad-hoc calls like testing an LMS setup that is not saved yet.
+     *
+     * @param target the name of the target, e.g. LMS_SETUP_TARGET_PREFIX + lmsSetupId, or null for a throw-away
+     *            HTTP client
+     * @param proxy the ProxyData if a proxy shall be used or null
+     * @return Result refer to the ClientHttpRequestFactory or to an error if happened */
+    public Result<ClientHttpRequestFactory> getClientHttpRequestFactory(final String target, final ProxyData proxy) {
         return Result.tryCatch(() -> {
             final List<String> activeProfiles = Arrays.asList(this.environment.getActiveProfiles());
             if (CollectionUtils.containsAny(activeProfiles, DEV_PROFILES)) {
-                return clientHttpRequestFactory(proxy);
+                return clientHttpRequestFactory(target, proxy);
             } else if (CollectionUtils.containsAny(activeProfiles, PROD_PROFILES)) {
-                return clientHttpRequestFactoryTLS(proxy);
+                return clientHttpRequestFactoryTLS(target, proxy);
             } else {
                 throw new IllegalStateException("Unknown or invalid Spring profile setup: " + activeProfiles);
             }
         });
     }
 
+    @Scheduled(fixedDelayString = "${sebserver.http.client.pool.eviction-interval:30000}")
+    public void evictConnections() {
+        this.pools.forEach((key, pool) -> {
+            try {
+                pool.connectionManager.closeExpiredConnections();
+                pool.connectionManager.closeIdleConnections(this.idleTimeout, TimeUnit.MILLISECONDS);
+                if (pool.releaseIfUnused()) {
+                    this.pools.remove(key, pool);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Released unused HTTP connection pool: {}", key);
+                    }
+                }
+            } catch (final Exception e) {
+                log.warn("Failed to evict connections of HTTP connection pool: {} cause: {}",
+                        key,
+                        e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        this.pools.values().forEach(ConnectionPool::close);
+        this.pools.clear();
+    }
+
     /** A ClientHttpRequestFactory for development profile with no TSL SSL protocol and
      * not following redirects on redirect responses.
      *
      * @return ClientHttpRequestFactory bean for development profiles */
-    private ClientHttpRequestFactory clientHttpRequestFactory(final ProxyData proxy) {
+    private ClientHttpRequestFactory clientHttpRequestFactory(final String target, final ProxyData proxy) {
 
         if (log.isDebugEnabled()) {
             log.debug("Initialize ClientHttpRequestFactory with insecure ClientHttpRequestFactory for development");
@@ -117,9 +218,7 @@ public class ClientHttpRequestFactoryService {
                 log.debug("Initialize ClientHttpRequestFactory with proxy: {}", proxy);
             }
 
-            final HttpComponentsClientHttpRequestFactory factory =
-                    new HttpComponentsClientHttpRequestFactory();
-            factory.setHttpClient(this.createProxiedClient(proxy, null));
+            final HttpComponentsClientHttpRequestFactory factory = createRequestFactory(target, proxy, null);
             factory.setBufferRequestBody(false);
             factory.setConnectionRequestTimeout(this.connectionRequestTimeout);
             factory.setConnectTimeout(this.connectTimeout);
@@ -129,7 +228,7 @@ public class ClientHttpRequestFactoryService {
         } else {
 
             final HttpComponentsClientHttpRequestFactory devClientHttpRequestFactory =
-                    new HttpComponentsClientHttpRequestFactory();
+                    createRequestFactory(target, null, null);
 
             devClientHttpRequestFactory.setBufferRequestBody(false);
             devClientHttpRequestFactory.setConnectionRequestTimeout(this.connectionRequestTimeout);
@@ -148,7 +247,9 @@ public class ClientHttpRequestFactoryService {
      * @throws KeyStoreException
      * @throws NoSuchAlgorithmException
      * @throws KeyManagementException */
-    private ClientHttpRequestFactory clientHttpRequestFactoryTLS(final ProxyData proxy) throws KeyManagementException,
+    private ClientHttpRequestFactory clientHttpRequestFactoryTLS(
+            final String target,
+            final ProxyData proxy) throws KeyManagementException,
             NoSuchAlgorithmException, KeyStoreException, CertificateException, FileNotFoundException, IOException {
 
         if (log.isDebugEnabled()) {
@@ -206,14 +307,10 @@ public class ClientHttpRequestFactoryService {
                 log.debug("Initialize ClientHttpRequestFactory with proxy: {}", proxy);
             }
 
-            final HttpClient client = createProxiedClient(proxy, sslContext);
-            return new HttpComponentsClientHttpRequestFactory(client);
+            return createRequestFactory(target, proxy, sslContext);
         } else {
 
-            final HttpClient client = HttpClients.custom()
-                    .setSSLContext(sslContext)
-                    .build();
-            final HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(client);
+            final HttpComponentsClientHttpRequestFactory factory = createRequestFactory(target, null, sslContext);
             factory.setConnectionRequestTimeout(this.connectionRequestTimeout);
             factory.setConnectTimeout(this.connectTimeout);
             factory.setReadTimeout(this.readTimeout);
@@ -221,7 +318,121 @@ public class ClientHttpRequestFactoryService {
         }
     }
 
-    private HttpClient createProxiedClient(final ProxyData proxy, final SSLContext sslContext) {
+    /** Create a HttpComponentsClientHttpRequestFactory on the pooled HTTP client of the given target and client
+     * configuration. The pool is kept open as long as the created factory is in use. */
+    private HttpComponentsClientHttpRequestFactory createRequestFactory(
+            final String target,
+            final ProxyData proxy,
+            final SSLContext sslContext) {
+
+        final String configKey = getConfigKey(proxy);
+        final String poolKey = (target != null)
+                ? target + "|" + configKey
+                : AD_HOC_TARGET_PREFIX + this.adHocPoolCount.incrementAndGet();
+
+        while (true) {
+            final ConnectionPool pool = this.pools.computeIfAbsent(poolKey, key -> {
+                if (target != null && this.meteredTargets.add(target)) {
+                    registerPoolMetrics(target);
+                }
+                return createConnectionPool(key, target, proxy, sslContext);
+            });
+
+            final HttpComponentsClientHttpRequestFactory factory =
+                    new HttpComponentsClientHttpRequestFactory(pool.httpClient);
+            if (pool.addUser(factory)) {
+                return factory;
+            }
+
+            // the pool has just been released as unused, create a new one
+            this.pools.remove(poolKey, pool);
+        }
+    }
+
+    private ConnectionPool createConnectionPool(
+            final String key,
+            final String target,
+            final ProxyData proxy,
+            final SSLContext sslContext) {
+
+        final SSLConnectionSocketFactory sslSocketFactory = (sslContext != null)
+                ? new SSLConnectionSocketFactory(sslContext)
+                : SSLConnectionSocketFactory.getSystemSocketFactory();
+        final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                RegistryBuilder.<ConnectionSocketFactory> create()
+                        .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                        .register("https", sslSocketFactory)
+                        .build());
+        connectionManager.setMaxTotal(this.maxConnections);
+        connectionManager.setDefaultMaxPerRoute(this.maxConnectionsPerRoute);
+        connectionManager.setValidateAfterInactivity(this.validateAfterInactivity);
+
+        final HttpClientBuilder clientBuilder = (proxy != null)
+                ? createProxiedClientBuilder(proxy)
+                : HttpClients.custom().useSystemProperties();
+
+        final CloseableHttpClient httpClient = clientBuilder
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> {
+                    // use the keep-alive of the server if it is shorter than the configured one
+                    final long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return (keepAlive > 0) ? Math.min(keepAlive, this.keepAlive) : this.keepAlive;
+                })
+                // cookies of one caller must not be sent on the calls of another caller sharing the pool
+                .disableCookieManagement()
+                .build();
+
+        if (log.isDebugEnabled()) {
+            log.debug("Created HTTP connection pool: {} max-connections: {} max-connections-per-route: {}",
+                    key,
+                    this.maxConnections,
+                    this.maxConnectionsPerRoute);
+        }
+
+        return new ConnectionPool(key, target, connectionManager, httpClient);
+    }
+
+    private String getConfigKey(final ProxyData proxy) {
+        if (proxy == null) {
+            return "direct";
+        }
+
+        final String credentials = (proxy.clientCredentials != null)
+                ? Utils.toString(proxy.clientCredentials.clientId) + ":"
+                        + Objects.hashCode(Utils.toString(proxy.clientCredentials.secret))
+                : "";
+        return proxy.proxyName + ":" + proxy.proxyPort + ":" + credentials;
+    }
+
+    private void registerPoolMetrics(final String target) {
+        registerPoolGauge(target, POOL_LEASED_GAUGE_NAME, "Number of leased connections of the HTTP connection pool",
+                PoolStats::getLeased);
+        registerPoolGauge(target, POOL_AVAILABLE_GAUGE_NAME,
+                "Number of idle connections of the HTTP connection pool", PoolStats::getAvailable);
+        registerPoolGauge(target, POOL_PENDING_GAUGE_NAME,
+                "Number of requests waiting for a connection of the HTTP connection pool", PoolStats::getPending);
+        registerPoolGauge(target, POOL_MAX_GAUGE_NAME, "Maximal number of connections of the HTTP connection pool",
+                PoolStats::getMax);
+    }
+
+    private void registerPoolGauge(
+            final String target,
+            final String name,
+            final String description,
+            final ToIntFunction<PoolStats> stat) {
+
+        Gauge.builder(name, this.pools, pools -> pools.values()
+                .stream()
+                .filter(pool -> target.equals(pool.target))
+                .mapToInt(pool -> stat.applyAsInt(pool.connectionManager.getTotalStats()))
+                .sum())
+                .description(description)
+                .tag(TARGET_TAG_NAME, target)
+                .register(this.meterRegistry);
+    }
+
+    private HttpClientBuilder createProxiedClientBuilder(final ProxyData proxy) {
 
         final HttpHost httpHost = new HttpHost(
                 proxy.proxyName,
@@ -252,11 +463,63 @@ public class ClientHttpRequestFactoryService {
             clientBuilder.setDefaultCredentialsProvider(credsProvider);
         }
 
-        if (sslContext != null) {
-            clientBuilder.setSSLContext(sslContext);
+        return clientBuilder;
+    }
+
+    private static final class ConnectionPool {
+        final String key;
+        final String target;
+        final PoolingHttpClientConnectionManager connectionManager;
+        final CloseableHttpClient httpClient;
+
+        /** The ClientHttpRequestFactory using this pool. Weakly referenced to release the pool when they are gone */
+        private final List<WeakReference<Object>> users = new ArrayList<>();
+        private boolean closed = false;
+
+        ConnectionPool(
+                final String key,
+                final String target,
+                final PoolingHttpClientConnectionManager connectionManager,
+                final CloseableHttpClient httpClient) {
+
+            this.key = key;
+            this.target = target;
+            this.connectionManager = connectionManager;
+            this.httpClient = httpClient;
+        }
+
+        /** Registers a user of this pool.
+         *
+         * @param user the user of this pool
+         * @return false if the pool has already been closed and cannot be used anymore */
+        synchronized boolean addUser(final Object user) {
+            if (this.closed) {
+                return false;
+            }
+            this.users.add(new WeakReference<>(user));
+            return true;
         }
 
-        return clientBuilder.build();
+        /** Closes this pool if it has no users anymore and none of its connections is leased.
+         *
+         * @return true if the pool has been closed */
+        synchronized boolean releaseIfUnused() {
+            this.users.removeIf(user -> user.get() == null);
+            if (!this.users.isEmpty() || this.connectionManager.getTotalStats().getLeased() > 0) {
+                return false;
+            }
+            close();
+            return true;
+        }
+
+        synchronized void close() {
+            this.closed = true;
+            try {
+                this.httpClient.close();
+            } catch (final Exception e) {
+                log.warn("Failed to close HTTP connection pool: {} cause: {}", this.key, e.getMessage());
+            }
+        }
     }
 
 }
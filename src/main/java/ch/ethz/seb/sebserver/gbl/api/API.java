@@ -18,6 +18,20 @@ public final class API {
         ACTIVATE
     }
 
+    /** Defines the supported formats of a data (log) export */
+    public enum ExportFormat {
+        CSV("csv", "text/csv"),
+        NDJSON("ndjson", "application/x-ndjson");
+
+        public final String fileExtension;
+        public final String contentType;
+
+        private ExportFormat(final String fileExtension, final String contentType) {
+            this.fileExtension = fileExtension;
+            this.contentType = contentType;
+        }
+    }
+
     public static final String SEB_FILE_EXTENSION = "seb";
 
     public static final String PARAM_LOGO_IMAGE = "logoImageBase64";
@@ -30,6 +44,7 @@ public final class API {
     public static final String PARAM_VIEW_ID = "viewId";
     public static final String PARAM_INSTRUCTION_TYPE = "instructionType";
     public static final String PARAM_INSTRUCTION_ATTRIBUTES = "instructionAttributes";
+    public static final String PARAM_FIELDS = "fields";
 
     public static final String DEFAULT_CONFIG_TEMPLATE_ID = String.valueOf(ConfigurationNode.DEFAULT_TEMPLATE_ID);
 
@@ -63,6 +78,8 @@ public final class API {
 
     public static final String DEPENDENCY_PATH_SEGMENT = "/dependency";
 
+    public static final String BULK_ACTION_PATH_SEGMENT = "/bulk-action";
+
     public static final String PASSWORD_PATH_SEGMENT = "/password";
 
     public static final String PATH_VAR_ACTIVE = MODEL_ID_VAR_PATH_SEGMENT + ACTIVE_PATH_SEGMENT;
@@ -136,6 +153,7 @@ public final class API {
     public static final String CONFIGURATION_RESTORE_FROM_HISTORY_PATH_SEGMENT = "/restore";
     public static final String CONFIGURATION_VALUE_ENDPOINT = "/configuration_value";
     public static final String CONFIGURATION_TABLE_VALUE_PATH_SEGMENT = "/table";
+    public static final String CONFIGURATION_VALUE_BATCH_PATH_SEGMENT = "/batch";
     public static final String CONFIGURATION_ATTRIBUTE_ENDPOINT = "/configuration_attribute";
     public static final String CONFIGURATION_PLAIN_XML_DOWNLOAD_PATH_SEGMENT = "/downloadxml";
     public static final String CONFIGURATION_IMPORT_PATH_SEGMENT = "/import";
@@ -156,10 +174,14 @@ public final class API {
 
     public static final String EXAM_MONITORING_ENDPOINT = "/monitoring";
     public static final String EXAM_MONITORING_INSTRUCTION_ENDPOINT = "/instruction";
+    public static final String EXAM_MONITORING_EXAM_INSTRUCTION_ENDPOINT = "/exam-instruction";
+    public static final String EXAM_MONITORING_EXCLUDED_CONNECTION_TOKENS = "excluded-tokens";
     public static final String EXAM_MONITORING_DISABLE_CONNECTION_ENDPOINT = "/disable-connection";
     public static final String EXAM_MONITORING_SEB_CONNECTION_TOKEN_PATH_SEGMENT =
             "/{" + EXAM_API_SEB_CONNECTION_TOKEN + "}";
     public static final String EXAM_MONITORING_STATE_FILTER = "hidden-states";
+    public static final String EXAM_MONITORING_TIMELINE_PATH_SEGMENT = "/timeline";
+    public static final String EXAM_MONITORING_TIMELINE_SINCE = "since";
 
     public static final String SEB_CLIENT_CONNECTION_ENDPOINT = "/seb-client-connection";
 
@@ -167,5 +189,9 @@ public final class API {
     public static final String SEB_CLIENT_EVENT_SEARCH_PATH_SEGMENT = "/search";
     public static final String SEB_CLIENT_EVENT_EXTENDED_PAGE_ENDPOINT = SEB_CLIENT_EVENT_ENDPOINT
             + SEB_CLIENT_EVENT_SEARCH_PATH_SEGMENT;
+    public static final String SEB_CLIENT_EVENT_EXPORT_PATH_SEGMENT = "/export";
+    public static final String SEB_CLIENT_EVENT_EXPORT_ENDPOINT = SEB_CLIENT_EVENT_ENDPOINT
+            + SEB_CLIENT_EVENT_EXPORT_PATH_SEGMENT;
+    public static final String SEB_CLIENT_EVENT_EXPORT_FORMAT = "format";
 
 }
@@ -119,7 +119,12 @@ public final class Privilege {
                                 && isOwner(ownerId, userId)));
     }
 
-    private boolean isOwner(final String ownerId, final String userId) {
+    /** Checks if the given user is an owner of an entity with the given owner identifier.
+     *
+     * @param ownerId the owner identifier of an entity. This can be a single id or a comma-separated list of user ids
+     * @param userId the user identifier
+     * @return true if the given user is an owner */
+    public static boolean isOwner(final String ownerId, final String userId) {
         if (StringUtils.isBlank(ownerId)) {
             return false;
         }
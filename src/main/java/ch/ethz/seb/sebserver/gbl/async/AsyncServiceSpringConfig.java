@@ -9,6 +9,7 @@
 package ch.ethz.seb.sebserver.gbl.async;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.context.annotation.Bean;
@@ -51,6 +52,23 @@ public class AsyncServiceSpringConfig implements AsyncConfigurer {
         return executor;
     }
 
+    public static final String LMS_EXECUTOR_BEAN_NAME = "LmsAsyncServiceExecutorBean";
+
+    /** Executor for background tasks that request the LMS, e.g. exam state transitions and SEB restriction pushes.
+     * If all threads are busy and the queue is full, the task runs in the calling thread. */
+    @Bean(name = LMS_EXECUTOR_BEAN_NAME)
+    public Executor lmsThreadPoolTaskExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(20);
+        executor.setMaxPoolSize(20);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("lmsService-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
     @Override
     public Executor getAsyncExecutor() {
         return threadPoolTaskExecutor();
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.gbl.async;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Runs a batch of tasks concurrently on a given Executor while limiting the number of tasks that run at the
+ * same time for the same key. This is used for example to process many exams at once but with a limited number
+ * of concurrent requests to the same LMS.
+ *
+ * The tasks of one key are processed by at most maxPerKey workers that each take the next task of the key
+ * as soon as the previous one has finished. */
+public final class KeyedTaskRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(KeyedTaskRunner.class);
+
+    private final Executor executor;
+    private final int maxPerKey;
+
+    public KeyedTaskRunner(final Executor executor, final int maxPerKey) {
+        this.executor = executor;
+        this.maxPerKey = Math.max(1, maxPerKey);
+    }
+
+    /** Applies the given task to all given items and blocks until all tasks have finished.
+     * An error thrown by a task is logged and does not affect the other tasks.
+     *
+     * @param items the items to process
+     * @param key function to get the concurrency key of an item
+     * @param task the task to apply to each item */
+    public <T, K> void runAll(
+            final Collection<T> items,
+            final Function<T, K> key,
+            final Consumer<T> task) {
+
+        submitAll(items, key, task).join();
+    }
+
+    /** Applies the given task to all given items without waiting for the tasks to finish.
+     * This is used by scheduled tasks that must not block the scheduler thread.
+     * An error thrown by a task is logged and does not affect the other tasks.
+     *
+     * @param items the items to process
+     * @param key function to get the concurrency key of an item
+     * @param task the task to apply to each item
+     * @return CompletableFuture that completes when all tasks have finished */
+    public <T, K> CompletableFuture<Void> submitAll(
+            final Collection<T> items,
+            final Function<T, K> key,
+            final Consumer<T> task) {
+
+        if (items == null || items.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final Map<K, Queue<T>> groups = new LinkedHashMap<>();
+        items.forEach(item -> groups
+                .computeIfAbsent(key.apply(item), k -> new ConcurrentLinkedQueue<>())
+                .add(item));
+
+        final List<CompletableFuture<Void>> workers = new ArrayList<>();
+        groups.values().forEach(queue -> {
+            final int numWorkers = Math.min(this.maxPerKey, queue.size());
+            for (int i = 0; i < numWorkers; i++) {
+                workers.add(CompletableFuture.runAsync(() -> drain(queue, task), this.executor));
+            }
+        });
+
+        return CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[workers.size()]));
+    }
+
+    private <T> void drain(final Queue<T> queue, final Consumer<T> task) {
+        T item = queue.poll();
+        while (item != null) {
+            try {
+                task.accept(item);
+            } catch (final Exception e) {
+                log.error("Unexpected error while processing task for: {}", item, e);
+            }
+            item = queue.poll();
+        }
+    }
+
+}
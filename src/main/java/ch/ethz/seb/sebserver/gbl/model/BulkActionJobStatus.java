@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.gbl.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import ch.ethz.seb.sebserver.gbl.api.API.BulkActionType;
+import ch.ethz.seb.sebserver.gbl.api.EntityType;
+
+/** Data class that represents the status of an asynchronously processed bulk action job of the SEB Server API.
+ * The EntityProcessingReport is only available after the job has finished. */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(Include.NON_NULL)
+public final class BulkActionJobStatus {
+
+    public static final String ATTR_JOB_ID = "jobId";
+    public static final String ATTR_USER_UUID = "userUuid";
+    public static final String ATTR_BULK_ACTION_TYPE = "bulkActionType";
+    public static final String ATTR_SOURCE_TYPE = "sourceType";
+    public static final String ATTR_STATE = "state";
+    public static final String ATTR_TOTAL = "total";
+    public static final String ATTR_PROCESSED = "processed";
+    public static final String ATTR_SUBMIT_TIME = "submitTime";
+    public static final String ATTR_END_TIME = "endTime";
+    public static final String ATTR_REPORT = "report";
+    public static final String ATTR_ERROR = "error";
+
+    public enum JobState {
+        /** The job is submitted but not yet started */
+        PENDING,
+        /** The job is collecting dependencies or processing entities */
+        RUNNING,
+        /** The job has finished. There may be errors for particular entities within the report */
+        FINISHED,
+        /** The job has been aborted by an unexpected error */
+        FAILED
+    }
+
+    @JsonProperty(ATTR_JOB_ID)
+    public final String jobId;
+    @JsonProperty(ATTR_USER_UUID)
+    public final String userUuid;
+    @JsonProperty(ATTR_BULK_ACTION_TYPE)
+    public final BulkActionType bulkActionType;
+    @JsonProperty(ATTR_SOURCE_TYPE)
+    public final EntityType sourceType;
+    @JsonProperty(ATTR_STATE)
+    public final JobState state;
+    /** The number of all entities (sources and dependencies) to process or 0 if not yet known */
+    @JsonProperty(ATTR_TOTAL)
+    public final int total;
+    /** The number of already processed entities */
+    @JsonProperty(ATTR_PROCESSED)
+    public final int processed;
+    @JsonProperty(ATTR_SUBMIT_TIME)
+    public final Long submitTime;
+    @JsonProperty(ATTR_END_TIME)
+    public final Long endTime;
+    @JsonProperty(ATTR_REPORT)
+    public final EntityProcessingReport report;
+    @JsonProperty(ATTR_ERROR)
+    public final String error;
+
+    @JsonCreator
+    public BulkActionJobStatus(
+            @JsonProperty(ATTR_JOB_ID) final String jobId,
+            @JsonProperty(ATTR_USER_UUID) final String userUuid,
+            @JsonProperty(ATTR_BULK_ACTION_TYPE) final BulkActionType bulkActionType,
+            @JsonProperty(ATTR_SOURCE_TYPE) final EntityType sourceType,
+            @JsonProperty(ATTR_STATE) final JobState state,
+            @JsonProperty(ATTR_TOTAL) final int total,
+            @JsonProperty(ATTR_PROCESSED) final int processed,
+            @JsonProperty(ATTR_SUBMIT_TIME) final Long submitTime,
+            @JsonProperty(ATTR_END_TIME) final Long endTime,
+            @JsonProperty(ATTR_REPORT) final EntityProcessingReport report,
+            @JsonProperty(ATTR_ERROR) final String error) {
+
+        this.jobId = jobId;
+        this.userUuid = userUuid;
+        this.bulkActionType = bulkActionType;
+        this.sourceType = sourceType;
+        this.state = state;
+        this.total = total;
+        this.processed = processed;
+        this.submitTime = submitTime;
+        this.endTime = endTime;
+        this.report = report;
+        this.error = error;
+    }
+
+    public String getJobId() {
+        return this.jobId;
+    }
+
+    public String getUserUuid() {
+        return this.userUuid;
+    }
+
+    public BulkActionType getBulkActionType() {
+        return this.bulkActionType;
+    }
+
+    public EntityType getSourceType() {
+        return this.sourceType;
+    }
+
+    public JobState getState() {
+        return this.state;
+    }
+
+    public int getTotal() {
+        return this.total;
+    }
+
+    public int getProcessed() {
+        return this.processed;
+    }
+
+    public Long getSubmitTime() {
+        return this.submitTime;
+    }
+
+    public Long getEndTime() {
+        return this.endTime;
+    }
+
+    public EntityProcessingReport getReport() {
+        return this.report;
+    }
+
+    public String getError() {
+        return this.error;
+    }
+
+    @JsonIgnore
+    public boolean isDone() {
+        return this.state == JobState.FINISHED || this.state == JobState.FAILED;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("BulkActionJobStatus [jobId=");
+        builder.append(this.jobId);
+        builder.append(", userUuid=");
+        builder.append(this.userUuid);
+        builder.append(", bulkActionType=");
+        builder.append(this.bulkActionType);
+        builder.append(", sourceType=");
+        builder.append(this.sourceType);
+        builder.append(", state=");
+        builder.append(this.state);
+        builder.append(", total=");
+        builder.append(this.total);
+        builder.append(", processed=");
+        builder.append(this.processed);
+        builder.append(", submitTime=");
+        builder.append(this.submitTime);
+        builder.append(", endTime=");
+        builder.append(this.endTime);
+        builder.append(", error=");
+        builder.append(this.error);
+        builder.append("]");
+        return builder.toString();
+    }
+
+}
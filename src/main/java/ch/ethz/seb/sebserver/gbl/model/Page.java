@@ -13,6 +13,8 @@ import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import ch.ethz.seb.sebserver.gbl.util.Utils;
@@ -28,6 +30,9 @@ public final class Page<T> {
     public static final String ATTR_PAGE_SIZE = "page_size";
     public static final String ATTR_SORT = "sort";
     public static final String ATTR_CONTENT = "content";
+    /** Request parameter for keyset (cursor) pagination. Refers to the position after that the requested page starts */
+    public static final String ATTR_CURSOR = "page_cursor";
+    public static final String ATTR_NEXT_CURSOR = "next_cursor";
 
     @JsonProperty(ATTR_NUMBER_OF_PAGES)
     public final Integer numberOfPages;
@@ -38,21 +43,38 @@ public final class Page<T> {
     @JsonProperty(ATTR_SORT)
     public final String sort;
 
+    /** The cursor to request the next page with keyset pagination. Only set for keyset pagination and if there
+     * are more entries after this page. */
+    @JsonProperty(ATTR_NEXT_CURSOR)
+    @JsonInclude(Include.NON_NULL)
+    public final String nextCursor;
+
     @JsonProperty(ATTR_CONTENT)
     public final List<T> content;
 
+    public Page(
+            final Integer numberOfPages,
+            final Integer pageNumber,
+            final String sort,
+            final Collection<T> content) {
+
+        this(numberOfPages, pageNumber, sort, content, null);
+    }
+
     @JsonCreator
     public Page(
             @JsonProperty(ATTR_NUMBER_OF_PAGES) final Integer numberOfPages,
             @JsonProperty(ATTR_PAGE_NUMBER) final Integer pageNumber,
             @JsonProperty(ATTR_SORT) final String sort,
-            @JsonProperty(ATTR_CONTENT) final Collection<T> content) {
+            @JsonProperty(ATTR_CONTENT) final Collection<T> content,
+            @JsonProperty(ATTR_NEXT_CURSOR) final String nextCursor) {
 
         this.numberOfPages = numberOfPages;
         this.pageNumber = pageNumber;
         this.content = Utils.immutableListOf(content);
         this.pageSize = content.size();
         this.sort = sort;
+        this.nextCursor = nextCursor;
     }
 
     public int getNumberOfPages() {
@@ -67,6 +89,10 @@ public final class Page<T> {
         return (this.pageSize != null) ? this.pageSize : -1;
     }
 
+    public String getNextCursor() {
+        return this.nextCursor;
+    }
+
     public Collection<T> getContent() {
         return this.content;
     }
@@ -87,6 +113,8 @@ public final class Page<T> {
         builder.append(this.pageSize);
         builder.append(", sort=");
         builder.append(this.sort);
+        builder.append(", nextCursor=");
+        builder.append(this.nextCursor);
         builder.append(", content=");
         builder.append(this.content);
         builder.append("]");
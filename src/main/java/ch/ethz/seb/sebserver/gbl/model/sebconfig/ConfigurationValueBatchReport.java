@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.gbl.model.sebconfig;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import ch.ethz.seb.sebserver.gbl.model.EntityProcessingReport.ErrorEntry;
+import ch.ethz.seb.sebserver.gbl.util.Utils;
+
+/** Data class that represents the result of a batch save of configuration values. It contains the saved
+ * configuration values as they were stored by the webservice and an error entry for each value that failed
+ * the validation. The entity key of an error entry is the key of the configuration attribute of the value. */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class ConfigurationValueBatchReport {
+
+    public static final String ATTR_VALUES = "values";
+    public static final String ATTR_ERRORS = "errors";
+
+    /** The saved configuration values */
+    @JsonProperty(value = ATTR_VALUES, required = true)
+    public final List<ConfigurationValue> values;
+    /** The error entries of the configuration values that were not saved */
+    @JsonProperty(value = ATTR_ERRORS, required = true)
+    public final Set<ErrorEntry> errors;
+
+    @JsonCreator
+    public ConfigurationValueBatchReport(
+            @JsonProperty(value = ATTR_VALUES, required = true) final Collection<ConfigurationValue> values,
+            @JsonProperty(value = ATTR_ERRORS, required = true) final Collection<ErrorEntry> errors) {
+
+        this.values = Utils.immutableListOf(values);
+        this.errors = Utils.immutableSetOf(errors);
+    }
+
+    public List<ConfigurationValue> getValues() {
+        return this.values;
+    }
+
+    public Set<ErrorEntry> getErrors() {
+        return this.errors;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("ConfigurationValueBatchReport [values=");
+        builder.append(this.values);
+        builder.append(", errors=");
+        builder.append(this.errors);
+        builder.append("]");
+        return builder.toString();
+    }
+
+}
@@ -20,6 +20,18 @@ import ch.ethz.seb.sebserver.gbl.util.Utils;
 
 public class ClientConnectionData {
 
+    /** The fields of the compact view (see API.PARAM_FIELDS) with the connection data that is needed
+     * to update the connection list on the monitoring of a running exam */
+    public static final String MONITORING_VIEW_FIELDS =
+            "missingPing,"
+                    + "clientConnection.id,"
+                    + "clientConnection.status,"
+                    + "clientConnection.connectionToken,"
+                    + "clientConnection.examUserSessionId,"
+                    + "clientConnection.clientAddress,"
+                    + "clientConnection.virtualClientAddress,"
+                    + "indicatorValues";
+
     @JsonProperty("clientConnection")
     public final ClientConnection clientConnection;
     @JsonProperty("indicatorValues")
@@ -207,7 +207,10 @@ public class ConfigTemplateAttributeForm implements TemplateComposer {
                     .newAction(ActionDefinition.SEB_EXAM_CONFIG_TEMPLATE_ATTR_FORM_SET_DEFAULT)
                     .withEntityKey(attributeKey)
                     .withParentEntityKey(templateKey)
-                    .withExec(this.examConfigurationService::resetToDefaults)
+                    .withExec(action -> {
+                        viewContext.getValueChangeListener().flush();
+                        return this.examConfigurationService.resetToDefaults(action);
+                    })
                     .ignoreMoveAwayFromEdit()
                     .publishIf(() -> modifyGrant)
 
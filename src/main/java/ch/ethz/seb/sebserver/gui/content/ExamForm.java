@@ -34,6 +34,7 @@ import org.springframework.stereotype.Component;
 
 import ch.ethz.seb.sebserver.gbl.Constants;
 import ch.ethz.seb.sebserver.gbl.api.API;
+import ch.ethz.seb.sebserver.gbl.api.API.ExportFormat;
 import ch.ethz.seb.sebserver.gbl.api.APIMessage;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.model.Domain;
@@ -62,6 +63,7 @@ import ch.ethz.seb.sebserver.gui.service.page.TemplateComposer;
 import ch.ethz.seb.sebserver.gui.service.page.event.ActionEvent;
 import ch.ethz.seb.sebserver.gui.service.page.impl.PageAction;
 import ch.ethz.seb.sebserver.gui.service.remote.download.DownloadService;
+import ch.ethz.seb.sebserver.gui.service.remote.download.SebClientEventsDownload;
 import ch.ethz.seb.sebserver.gui.service.remote.download.SebExamConfigDownload;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestService;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.exam.CheckExamConsistency;
@@ -155,6 +157,8 @@ public class ExamForm implements TemplateComposer {
     private final static LocTextKey CONSISTENCY_MESSAGE_MISSING_SEB_RESTRICTION =
             new LocTextKey("sebserver.exam.consistency.missing-seb-restriction");
 
+    private final static String CLIENT_EVENTS_DOWNLOAD_FILE_PREFIX = "SEBClientEvents_";
+
     private final Map<String, LocTextKey> consistencyMessageMapping;
 
     private final static LocTextKey CONFIRM_MESSAGE_REMOVE_CONFIG =
@@ -414,7 +418,14 @@ public class ExamForm implements TemplateComposer {
                 .withEntityKey(entityKey)
                 .withExec(action -> ExamSebRestrictionSettings.setSebRestriction(action, false, this.restService))
                 .publishIf(() -> sebRestrictionAvailable && readonly && modifyGrant && !importFromQuizData
-                        && BooleanUtils.isTrue(isRestricted));
+                        && BooleanUtils.isTrue(isRestricted))
+
+                .newAction(ActionDefinition.EXAM_EXPORT_SEB_CLIENT_EVENTS)
+                .withEntityKey(entityKey)
+                .withExec(this::downloadClientEventsAction)
+                .noEventPropagation()
+                .publishIf(() -> readonly && !importFromQuizData && userGrantCheck.r()
+                        && examStatus != ExamStatus.UP_COMING);
 
         // additional data in read-only view
         if (readonly && !importFromQuizData) {
@@ -663,6 +674,17 @@ public class ExamForm implements TemplateComposer {
         return action;
     }
 
+    private PageAction downloadClientEventsAction(final PageAction action) {
+        final UrlLauncher urlLauncher = RWT.getClient().getService(UrlLauncher.class);
+        final EntityKey entityKey = action.getEntityKey();
+        final String downloadURL = this.downloadService.createDownloadURL(
+                entityKey.modelId,
+                SebClientEventsDownload.class,
+                CLIENT_EVENTS_DOWNLOAD_FILE_PREFIX + entityKey.modelId + "." + ExportFormat.CSV.fileExtension);
+        urlLauncher.openURL(downloadURL);
+        return action;
+    }
+
     private Supplier<Set<EntityKey>> getConfigMappingSelection(
             final EntityTable<ExamConfigurationMap> configurationTable) {
         return () -> {
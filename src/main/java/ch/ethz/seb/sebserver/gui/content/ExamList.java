@@ -145,6 +145,7 @@ public class ExamList implements TemplateComposer {
                 this.pageService.entityTableBuilder(restService.getRestCall(GetExamPage.class))
                         .withEmptyMessage(EMPTY_LIST_TEXT_KEY)
                         .withPaging(this.pageSize)
+                        .withPrefetch()
                         .withRowDecorator(decorateOnExamConsistency(this.pageService))
 
                         .withStaticFilter(Exam.FILTER_ATTR_ACTIVE, Constants.TRUE_STRING)
@@ -316,12 +316,18 @@ public class MonitoringRunningExam implements TemplateComposer {
             final ClientConnectionTable clientTable,
             final boolean all) {
 
-        this.instructionProcessor.propagateSebQuitInstruction(
-                clientTable.getExam().id,
-                statesPredicate -> clientTable.getConnectionTokens(
-                        statesPredicate,
-                        !all),
-                action.pageContext());
+        if (all) {
+            this.instructionProcessor.propagateExamSebQuitInstruction(
+                    clientTable.getExam().id,
+                    action.pageContext());
+        } else {
+            this.instructionProcessor.propagateSebQuitInstruction(
+                    clientTable.getExam().id,
+                    statesPredicate -> clientTable.getConnectionTokens(
+                            statesPredicate,
+                            true),
+                    action.pageContext());
+        }
 
         clientTable.removeSelection();
         clientTable.forceUpdateAll();
@@ -118,6 +118,7 @@ public class SebClientLogs implements TemplateComposer {
                 this.restService.getRestCall(GetExtendedClientEventPage.class))
                 .withEmptyMessage(EMPTY_TEXT_KEY)
                 .withPaging(this.pageSize)
+                .withPrefetch()
 
                 .withColumn(new ColumnDefinition<>(
                         Domain.CLIENT_CONNECTION.ATTR_EXAM_ID,
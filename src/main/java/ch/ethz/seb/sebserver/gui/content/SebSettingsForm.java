@@ -163,6 +163,7 @@ public class SebSettingsForm implements TemplateComposer {
                     .newAction(ActionDefinition.SEB_EXAM_CONFIG_SAVE_TO_HISTORY)
                     .withEntityKey(entityKey)
                     .withExec(action -> {
+                        flushPendingValues(viewContexts);
                         this.restService.getBuilder(SaveExamConfigHistory.class)
                                 .withURIVariable(API.PARAM_MODEL_ID, configuration.getModelId())
                                 .call()
@@ -178,6 +179,7 @@ public class SebSettingsForm implements TemplateComposer {
                     .newAction(ActionDefinition.SEB_EXAM_CONFIG_UNDO)
                     .withEntityKey(entityKey)
                     .withExec(action -> {
+                        flushPendingValues(viewContexts);
                         this.restService.getBuilder(SebExamConfigUndo.class)
                                 .withURIVariable(API.PARAM_MODEL_ID, configuration.getModelId())
                                 .call()
@@ -218,6 +220,10 @@ public class SebSettingsForm implements TemplateComposer {
         }
     }
 
+    private void flushPendingValues(final List<ViewContext> viewContexts) {
+        viewContexts.forEach(viewContext -> viewContext.getValueChangeListener().flush());
+    }
+
     private void notifyErrorOnSave(final Exception error, final PageContext context) {
         if (error instanceof APIMessageError) {
             try {
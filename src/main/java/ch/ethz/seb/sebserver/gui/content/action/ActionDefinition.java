@@ -282,6 +282,11 @@ public enum ActionDefinition {
             ImageIcon.LOCK,
             PageStateDefinitionImpl.EXAM_VIEW,
             ActionCategory.FORM),
+    EXAM_EXPORT_SEB_CLIENT_EVENTS(
+            new LocTextKey("sebserver.exam.action.export-client-events"),
+            ImageIcon.EXPORT,
+            PageStateDefinitionImpl.EXAM_VIEW,
+            ActionCategory.FORM),
 
     EXAM_CONFIGURATION_NEW(
             new LocTextKey("sebserver.exam.configuration.action.list.new"),
@@ -32,6 +32,7 @@ import org.springframework.stereotype.Service;
 import ch.ethz.seb.sebserver.gbl.Constants;
 import ch.ethz.seb.sebserver.gbl.api.API;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
+import ch.ethz.seb.sebserver.gbl.api.authorization.PrivilegeType;
 import ch.ethz.seb.sebserver.gbl.model.Activatable;
 import ch.ethz.seb.sebserver.gbl.model.Entity;
 import ch.ethz.seb.sebserver.gbl.model.EntityName;
@@ -62,6 +63,7 @@ import ch.ethz.seb.sebserver.gbl.util.Result;
 import ch.ethz.seb.sebserver.gbl.util.Tuple;
 import ch.ethz.seb.sebserver.gui.service.i18n.I18nSupport;
 import ch.ethz.seb.sebserver.gui.service.i18n.LocTextKey;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestCall;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestService;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.exam.GetExamNames;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.exam.GetExams;
@@ -233,9 +235,10 @@ public class ResourceService {
     }
 
     public List<Tuple<String>> institutionResource() {
-        return this.restService.getBuilder(GetInstitutionNames.class)
-                .withQueryParam(Entity.FILTER_ATTR_ACTIVE, Constants.TRUE_STRING)
-                .call()
+        return getEntityNames(
+                EntityType.INSTITUTION,
+                this.restService.getBuilder(GetInstitutionNames.class)
+                        .withQueryParam(Entity.FILTER_ATTR_ACTIVE, Constants.TRUE_STRING))
                 .getOr(Collections.emptyList())
                 .stream()
                 .map(entityName -> new Tuple<>(entityName.modelId, entityName.name))
@@ -244,9 +247,10 @@ public class ResourceService {
     }
 
     public Function<String, String> getInstitutionNameFunction() {
-        final Map<String, String> idNameMap = this.restService.getBuilder(GetInstitutionNames.class)
-                .withQueryParam(Entity.FILTER_ATTR_ACTIVE, Constants.TRUE_STRING)
-                .call()
+        final Map<String, String> idNameMap = getEntityNames(
+                EntityType.INSTITUTION,
+                this.restService.getBuilder(GetInstitutionNames.class)
+                        .withQueryParam(Entity.FILTER_ATTR_ACTIVE, Constants.TRUE_STRING))
                 .getOr(Collections.emptyList())
                 .stream()
                 .collect(Collectors.toMap(e -> e.modelId, e -> e.name));
@@ -262,10 +266,11 @@ public class ResourceService {
     public List<Tuple<String>> lmsSetupResource() {
         final boolean isSEBAdmin = this.currentUser.get().hasRole(UserRole.SEB_SERVER_ADMIN);
         final String institutionId = (isSEBAdmin) ? "" : String.valueOf(this.currentUser.get().institutionId);
-        return this.restService.getBuilder(GetLmsSetupNames.class)
-                .withQueryParam(Entity.FILTER_ATTR_INSTITUTION, institutionId)
-                .withQueryParam(Entity.FILTER_ATTR_ACTIVE, Constants.TRUE_STRING)
-                .call()
+        return getEntityNames(
+                EntityType.LMS_SETUP,
+                this.restService.getBuilder(GetLmsSetupNames.class)
+                        .withQueryParam(Entity.FILTER_ATTR_INSTITUTION, institutionId)
+                        .withQueryParam(Entity.FILTER_ATTR_ACTIVE, Constants.TRUE_STRING))
                 .getOr(Collections.emptyList())
                 .stream()
                 .map(entityName -> new Tuple<>(entityName.modelId, entityName.name))
@@ -276,10 +281,11 @@ public class ResourceService {
     public Function<String, String> getLmsSetupNameFunction() {
         final boolean isSEBAdmin = this.currentUser.get().hasRole(UserRole.SEB_SERVER_ADMIN);
         final String institutionId = (isSEBAdmin) ? "" : String.valueOf(this.currentUser.get().institutionId);
-        final Map<String, String> idNameMap = this.restService.getBuilder(GetLmsSetupNames.class)
-                .withQueryParam(Entity.FILTER_ATTR_INSTITUTION, institutionId)
-                .withQueryParam(Entity.FILTER_ATTR_ACTIVE, Constants.TRUE_STRING)
-                .call()
+        final Map<String, String> idNameMap = getEntityNames(
+                EntityType.LMS_SETUP,
+                this.restService.getBuilder(GetLmsSetupNames.class)
+                        .withQueryParam(Entity.FILTER_ATTR_INSTITUTION, institutionId)
+                        .withQueryParam(Entity.FILTER_ATTR_ACTIVE, Constants.TRUE_STRING))
                 .getOr(Collections.emptyList())
                 .stream()
                 .collect(Collectors.toMap(e -> e.modelId, e -> e.name));
@@ -396,11 +402,12 @@ public class ResourceService {
 
     public List<Tuple<String>> examSupporterResources() {
         final UserInfo userInfo = this.currentUser.get();
-        final List<EntityName> selection = this.restService.getBuilder(GetUserAccountNames.class)
-                .withQueryParam(Entity.FILTER_ATTR_INSTITUTION, String.valueOf(userInfo.institutionId))
-                .withQueryParam(Entity.FILTER_ATTR_ACTIVE, Constants.TRUE_STRING)
-                .withQueryParam(UserInfo.FILTER_ATTR_ROLE, UserRole.EXAM_SUPPORTER.name())
-                .call()
+        final List<EntityName> selection = getEntityNames(
+                EntityType.USER,
+                this.restService.getBuilder(GetUserAccountNames.class)
+                        .withQueryParam(Entity.FILTER_ATTR_INSTITUTION, String.valueOf(userInfo.institutionId))
+                        .withQueryParam(Entity.FILTER_ATTR_ACTIVE, Constants.TRUE_STRING)
+                        .withQueryParam(UserInfo.FILTER_ATTR_ROLE, UserRole.EXAM_SUPPORTER.name()))
                 .getOr(Collections.emptyList());
         return selection
                 .stream()
@@ -411,10 +418,11 @@ public class ResourceService {
 
     public List<Tuple<String>> userResources() {
         final UserInfo userInfo = this.currentUser.get();
-        return this.restService.getBuilder(GetUserAccountNames.class)
-                .withQueryParam(Entity.FILTER_ATTR_INSTITUTION, String.valueOf(userInfo.institutionId))
-                .withQueryParam(Entity.FILTER_ATTR_ACTIVE, Constants.TRUE_STRING)
-                .call()
+        return getEntityNames(
+                EntityType.USER,
+                this.restService.getBuilder(GetUserAccountNames.class)
+                        .withQueryParam(Entity.FILTER_ATTR_INSTITUTION, String.valueOf(userInfo.institutionId))
+                        .withQueryParam(Entity.FILTER_ATTR_ACTIVE, Constants.TRUE_STRING))
                 .getOr(Collections.emptyList())
                 .stream()
                 .map(entityName -> new Tuple<>(entityName.modelId, entityName.name))
@@ -520,10 +528,11 @@ public class ResourceService {
 
     public List<Tuple<String>> getExamResources() {
         final UserInfo userInfo = this.currentUser.get();
-        return this.restService.getBuilder(GetExamNames.class)
-                .withQueryParam(Entity.FILTER_ATTR_INSTITUTION, String.valueOf(userInfo.getInstitutionId()))
-                .withQueryParam(Exam.FILTER_CACHED_QUIZZES, Constants.TRUE_STRING)
-                .call()
+        return getEntityNames(
+                EntityType.EXAM,
+                this.restService.getBuilder(GetExamNames.class)
+                        .withQueryParam(Entity.FILTER_ATTR_INSTITUTION, String.valueOf(userInfo.getInstitutionId()))
+                        .withQueryParam(Exam.FILTER_CACHED_QUIZZES, Constants.TRUE_STRING))
                 .getOr(Collections.emptyList())
                 .stream()
                 .map(entityName -> new Tuple<>(entityName.modelId, entityName.name))
@@ -533,10 +542,11 @@ public class ResourceService {
 
     public Map<Long, String> getExamNameMapping() {
         final UserInfo userInfo = this.currentUser.get();
-        return this.restService.getBuilder(GetExamNames.class)
-                .withQueryParam(Entity.FILTER_ATTR_INSTITUTION, String.valueOf(userInfo.getInstitutionId()))
-                .withQueryParam(Exam.FILTER_CACHED_QUIZZES, Constants.TRUE_STRING)
-                .call()
+        return getEntityNames(
+                EntityType.EXAM,
+                this.restService.getBuilder(GetExamNames.class)
+                        .withQueryParam(Entity.FILTER_ATTR_INSTITUTION, String.valueOf(userInfo.getInstitutionId()))
+                        .withQueryParam(Exam.FILTER_CACHED_QUIZZES, Constants.TRUE_STRING))
                 .getOr(Collections.emptyList())
                 .stream()
                 .filter(k -> StringUtils.isNotBlank(k.modelId))
@@ -644,17 +654,48 @@ public class ResourceService {
     }
 
     private Result<List<EntityName>> getExamConfigurationSelection() {
-        return this.restService.getBuilder(GetExamConfigNodeNames.class)
-                .withQueryParam(
-                        Entity.FILTER_ATTR_INSTITUTION,
-                        String.valueOf(this.currentUser.get().institutionId))
-                .withQueryParam(
-                        ConfigurationNode.FILTER_ATTR_TYPE,
-                        ConfigurationType.EXAM_CONFIG.name())
-                .withQueryParam(
-                        ConfigurationNode.FILTER_ATTR_STATUS,
-                        ConfigurationStatus.READY_TO_USE.name())
-                .call();
+        return getEntityNames(
+                EntityType.CONFIGURATION_NODE,
+                this.restService.getBuilder(GetExamConfigNodeNames.class)
+                        .withQueryParam(
+                                Entity.FILTER_ATTR_INSTITUTION,
+                                String.valueOf(this.currentUser.get().institutionId))
+                        .withQueryParam(
+                                ConfigurationNode.FILTER_ATTR_TYPE,
+                                ConfigurationType.EXAM_CONFIG.name())
+                        .withQueryParam(
+                                ConfigurationNode.FILTER_ATTR_STATUS,
+                                ConfigurationStatus.READY_TO_USE.name()));
+    }
+
+    /** Get the entity names of the given names call from the EntityNameCache or from the webservice if
+     * there are no valid cached names.
+     *
+     * Since the webservice only responds the names of entities the current user is allowed to read, the
+     * names are cached within the read privilege scope of the current user.
+     *
+     * @param entityType the entity type of the names
+     * @param builder the RestCallBuilder of the names call
+     * @return Result refer to the entity names or to an error if happened */
+    private Result<List<EntityName>> getEntityNames(
+            final EntityType entityType,
+            final RestCall<List<EntityName>>.RestCallBuilder builder) {
+
+        return this.restService.getEntityNameCache().get(
+                entityType,
+                getNameCacheScope(entityType) + builder.buildURI(),
+                builder::call);
+    }
+
+    private String getNameCacheScope(final EntityType entityType) {
+        if (this.currentUser.hasBasePrivilege(PrivilegeType.READ, entityType)) {
+            return "all:";
+        }
+        final UserInfo userInfo = this.currentUser.get();
+        if (this.currentUser.hasInstitutionalPrivilege(PrivilegeType.READ, entityType)) {
+            return "institution:" + userInfo.institutionId + ":";
+        }
+        return "user:" + userInfo.uuid + ":";
     }
 
     public List<Tuple<String>> sebClientConfigPurposeResources() {
@@ -23,6 +23,10 @@ public interface ValueChangeListener {
 
     void tableChanged(ConfigurationTableValues tableValue);
 
+    /** Saves all pending value changes immediately. Use this before an action that relies on the
+     * persistent state of the configuration values, like saving to history. */
+    void flush();
+
     void notifyGUI(
             ViewContext viewContext,
             ConfigurationAttribute attribute,
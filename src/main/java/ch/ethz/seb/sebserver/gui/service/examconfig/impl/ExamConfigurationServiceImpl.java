@@ -8,11 +8,15 @@
 
 package ch.ethz.seb.sebserver.gui.service.examconfig.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.tomcat.util.buf.StringUtils;
@@ -20,8 +24,10 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
@@ -30,11 +36,11 @@ import ch.ethz.seb.sebserver.gbl.api.API;
 import ch.ethz.seb.sebserver.gbl.api.APIMessage;
 import ch.ethz.seb.sebserver.gbl.api.APIMessage.ErrorMessage;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
-import ch.ethz.seb.sebserver.gbl.api.JSONMapper;
 import ch.ethz.seb.sebserver.gbl.model.EntityKey;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.Configuration;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationAttribute;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationTableValues;
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationValueBatchReport;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationValue;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.Orientation;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.TemplateAttribute;
@@ -61,7 +67,7 @@ import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.Ge
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.RemoveOrientation;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.ResetTemplateValues;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.SaveExamConfigTableValues;
-import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.SaveExamConfigValue;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.SaveExamConfigValues;
 import ch.ethz.seb.sebserver.gui.widget.WidgetFactory;
 
 @Lazy
@@ -72,24 +78,24 @@ public class ExamConfigurationServiceImpl implements ExamConfigurationService {
     private static final Logger log = LoggerFactory.getLogger(ExamConfigurationServiceImpl.class);
 
     private final RestService restService;
-    private final JSONMapper jsonMapper;
     private final WidgetFactory widgetFactory;
 
     private final InputFieldBuilderSupplier inputFieldBuilderSupplier;
     private final Collection<ValueChangeRule> valueChangeRules;
+    private final int saveDelay;
 
     public ExamConfigurationServiceImpl(
             final RestService restService,
-            final JSONMapper jsonMapper,
             final WidgetFactory widgetFactory,
             final InputFieldBuilderSupplier inputFieldBuilderSupplier,
-            final Collection<ValueChangeRule> valueChangeRules) {
+            final Collection<ValueChangeRule> valueChangeRules,
+            @Value("${sebserver.gui.examconfig.save.delay:500}") final int saveDelay) {
 
         this.restService = restService;
-        this.jsonMapper = jsonMapper;
         this.widgetFactory = widgetFactory;
         this.inputFieldBuilderSupplier = inputFieldBuilderSupplier;
         this.valueChangeRules = Utils.immutableCollectionOf(valueChangeRules);
+        this.saveDelay = saveDelay;
     }
 
     @Override
@@ -118,7 +124,8 @@ public class ExamConfigurationServiceImpl implements ExamConfigurationService {
             final TemplateAttribute attribute,
             final Orientation defaultOrientation) {
 
-        final List<Orientation> orientations = getOrientations(attribute.templateId);
+        // the orientations are possibly cached and shared, do not modify them
+        final List<Orientation> orientations = new ArrayList<>(getOrientations(attribute.templateId));
         if (attribute.getOrientation() == null) {
             orientations.add(defaultOrientation);
         }
@@ -186,8 +193,8 @@ public class ExamConfigurationServiceImpl implements ExamConfigurationService {
                 new ValueChangeListenerImpl(
                         pageContext,
                         this.restService,
-                        this.jsonMapper,
-                        this.valueChangeRules),
+                        this.valueChangeRules,
+                        this.saveDelay),
                 this.widgetFactory.getI18nSupport(),
                 readonly);
 
@@ -315,25 +322,31 @@ public class ExamConfigurationServiceImpl implements ExamConfigurationService {
                 .getOrThrow();
     }
 
+    /** ValueChangeListener that coalesces value changes within a short delay and saves them with one
+     * batch call. A value change of the same attribute and list index within the delay overrides
+     * the previous one. Pending value changes are saved immediately on flush or before a table change. */
     private static final class ValueChangeListenerImpl implements ValueChangeListener {
 
         public static final String VALIDATION_ERROR_KEY_PREFIX = "sebserver.examconfig.props.validation.";
 
         private final PageContext pageContext;
         private final RestService restService;
-        private final JSONMapper jsonMapper;
         private final Collection<ValueChangeRule> valueChangeRules;
+        private final int saveDelay;
+
+        private final Map<String, PendingValue> pendingValues = new LinkedHashMap<>();
+        private final Runnable flushTask = this::flush;
 
         protected ValueChangeListenerImpl(
                 final PageContext pageContext,
                 final RestService restService,
-                final JSONMapper jsonMapper,
-                final Collection<ValueChangeRule> valueChangeRules) {
+                final Collection<ValueChangeRule> valueChangeRules,
+                final int saveDelay) {
 
             this.pageContext = pageContext;
             this.restService = restService;
-            this.jsonMapper = jsonMapper;
             this.valueChangeRules = valueChangeRules;
+            this.saveDelay = saveDelay;
         }
 
         @Override
@@ -351,29 +364,93 @@ public class ExamConfigurationServiceImpl implements ExamConfigurationService {
                     listIndex,
                     value);
 
+            this.pendingValues.put(
+                    valueKey(attribute.id, listIndex),
+                    new PendingValue(context, attribute, configurationValue));
+
+            final Display display = Display.getCurrent();
+            if (display == null || this.saveDelay <= 0) {
+                flush();
+                return;
+            }
+
+            // re-schedule the save of all pending values
+            display.timerExec(-1, this.flushTask);
+            display.timerExec(this.saveDelay, this.flushTask);
+        }
+
+        @Override
+        public void tableChanged(final ConfigurationTableValues tableValue) {
+            flush();
+            this.restService.getBuilder(SaveExamConfigTableValues.class)
+                    .withBody(tableValue)
+                    .call();
+        }
+
+        @Override
+        public void flush() {
+            if (this.pendingValues.isEmpty()) {
+                return;
+            }
+
+            final Display display = Display.getCurrent();
+            if (display != null) {
+                display.timerExec(-1, this.flushTask);
+            }
+
+            final List<PendingValue> values = new ArrayList<>(this.pendingValues.values());
+            this.pendingValues.clear();
+
             try {
-                final String jsonValue = this.jsonMapper.writeValueAsString(configurationValue);
 
-                final Result<ConfigurationValue> savedValue = this.restService.getBuilder(SaveExamConfigValue.class)
-                        .withBody(jsonValue)
+                final Result<ConfigurationValueBatchReport> report = this.restService
+                        .getBuilder(SaveExamConfigValues.class)
+                        .withBody(values
+                                .stream()
+                                .map(pending -> pending.value)
+                                .collect(Collectors.toList()))
                         .call();
 
-                if (savedValue.hasError()) {
-                    context.showError(attribute.id, verifyErrorMessage(savedValue.getError()));
-                } else {
-                    this.notifyGUI(context, attribute, savedValue.get());
+                if (report.hasError()) {
+                    final String errorMessage = verifyErrorMessage(report.getError());
+                    values.forEach(pending -> pending.context.showError(pending.attribute.id, errorMessage));
+                    return;
                 }
 
+                final Map<String, APIMessage> errors = report.get().errors
+                        .stream()
+                        .collect(Collectors.toMap(
+                                error -> error.entityKey.modelId,
+                                error -> error.errorMessage,
+                                (m1, m2) -> m1));
+
+                final Map<String, ConfigurationValue> savedValues = report.get().values
+                        .stream()
+                        .collect(Collectors.toMap(
+                                value -> valueKey(value.attributeId, value.listIndex),
+                                Function.identity(),
+                                (v1, v2) -> v1));
+
+                values.forEach(pending -> {
+                    final APIMessage error = errors.get(pending.attribute.getModelId());
+                    final ConfigurationValue savedValue = savedValues.get(
+                            valueKey(pending.value.attributeId, pending.value.listIndex));
+                    if (error != null) {
+                        pending.context.showError(pending.attribute.id, verifyErrorMessage(error));
+                    } else if (savedValue != null) {
+                        this.notifyGUI(pending.context, pending.attribute, savedValue);
+                    } else {
+                        log.warn("Missing saved value for configuration attribute: {}", pending.attribute.name);
+                    }
+                });
+
             } catch (final Exception e) {
                 this.pageContext.notifySaveError(EntityType.CONFIGURATION_VALUE, e);
             }
         }
 
-        @Override
-        public void tableChanged(final ConfigurationTableValues tableValue) {
-            this.restService.getBuilder(SaveExamConfigTableValues.class)
-                    .withBody(tableValue)
-                    .call();
+        private static String valueKey(final Long attributeId, final Integer listIndex) {
+            return attributeId + String.valueOf(Constants.COLON) + listIndex;
         }
 
         private String verifyErrorMessage(final Exception error) {
@@ -383,21 +460,24 @@ public class ExamConfigurationServiceImpl implements ExamConfigurationService {
                     return "";
                 }
 
-                final APIMessage apiMessage = errorMessages.get(0);
-                if (!ErrorMessage.FIELD_VALIDATION.isOf(apiMessage)) {
-                    return "";
-                }
-
-                final FieldValidationError fieldValidationError = new FieldValidationError(apiMessage);
-                return this.pageContext.getI18nSupport().getText(new LocTextKey(
-                        VALIDATION_ERROR_KEY_PREFIX + fieldValidationError.errorType,
-                        (Object[]) fieldValidationError.getAttributes()));
+                return verifyErrorMessage(errorMessages.get(0));
             }
 
             log.warn("Unexpected error happened while trying to set SEB configuration value: ", error);
             return VALIDATION_ERROR_KEY_PREFIX + "unexpected";
         }
 
+        private String verifyErrorMessage(final APIMessage apiMessage) {
+            if (!ErrorMessage.FIELD_VALIDATION.isOf(apiMessage)) {
+                return "";
+            }
+
+            final FieldValidationError fieldValidationError = new FieldValidationError(apiMessage);
+            return this.pageContext.getI18nSupport().getText(new LocTextKey(
+                    VALIDATION_ERROR_KEY_PREFIX + fieldValidationError.errorType,
+                    (Object[]) fieldValidationError.getAttributes()));
+        }
+
         @Override
         public void notifyGUI(
                 final ViewContext viewContext,
@@ -409,6 +489,22 @@ public class ExamConfigurationServiceImpl implements ExamConfigurationService {
                     .forEach(rule -> rule.applyRule(viewContext, attribute, value));
 
         }
+
+        private static final class PendingValue {
+            final ViewContext context;
+            final ConfigurationAttribute attribute;
+            final ConfigurationValue value;
+
+            PendingValue(
+                    final ViewContext context,
+                    final ConfigurationAttribute attribute,
+                    final ConfigurationValue value) {
+
+                this.context = context;
+                this.attribute = attribute;
+                this.value = value;
+            }
+        }
     }
 
 }
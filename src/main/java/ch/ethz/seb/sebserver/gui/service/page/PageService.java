@@ -9,6 +9,7 @@
 package ch.ethz.seb.sebserver.gui.service.page;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
@@ -27,9 +28,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import ch.ethz.seb.sebserver.gbl.api.API;
+import ch.ethz.seb.sebserver.gbl.api.API.BulkActionType;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.api.JSONMapper;
+import ch.ethz.seb.sebserver.gbl.async.AsyncRunner;
 import ch.ethz.seb.sebserver.gbl.model.Activatable;
+import ch.ethz.seb.sebserver.gbl.model.BulkActionJobStatus;
 import ch.ethz.seb.sebserver.gbl.model.Entity;
 import ch.ethz.seb.sebserver.gbl.model.EntityKey;
 import ch.ethz.seb.sebserver.gbl.model.Page;
@@ -106,6 +110,11 @@ public interface PageService {
      * @return the CurrentUser facade */
     CurrentUser getCurrentUser();
 
+    /** Get the AsyncRunner to run background tasks of a page, e.g. prefetching of table data
+     *
+     * @return the AsyncRunner bean */
+    AsyncRunner getAsyncRunner();
+
     /** Get the PageState of the current user.
      *
      * @return PageState of the current user. */
@@ -150,6 +159,47 @@ public interface PageService {
         return this.activationToggleActionFunction(table, noSelectionText, null);
     }
 
+    /** Indicates whether bulk actions on entities of a given type can be submitted as background jobs.
+     *
+     * @param entityType the entity type
+     * @return true if the bulk action job API calls are available for the given entity type */
+    boolean isBulkActionJobSupported(EntityType entityType);
+
+    /** Submits a bulk action job for the given entities and polls the status of the job in the background.
+     * When the job has finished, errors of the job are notified to the user and the page of the given
+     * action is reloaded if it is still the current page.
+     *
+     * @param action the page action that submits the job
+     * @param entityType the type of the entities to process
+     * @param bulkActionType the type of the bulk action
+     * @param modelIds the model identifiers of the entities to process
+     * @return Result refer to the status of the submitted job or to an error if happened */
+    Result<BulkActionJobStatus> submitBulkActionJob(
+            PageAction action,
+            EntityType entityType,
+            BulkActionType bulkActionType,
+            Collection<String> modelIds);
+
+    /** Get a page action execution function that submits a bulk action job for the entity of the action.
+     *
+     * @param entityType the type of the entity to process
+     * @param bulkActionType the type of the bulk action
+     * @return page action execution function that submits a bulk action job */
+    default Function<PageAction, PageAction> bulkActionJobFunction(
+            final EntityType entityType,
+            final BulkActionType bulkActionType) {
+
+        return action -> {
+            this.submitBulkActionJob(
+                    action,
+                    entityType,
+                    bulkActionType,
+                    Arrays.asList(action.getEntityKey().modelId))
+                    .getOrThrow();
+            return action;
+        };
+    }
+
     /** Get a message supplier to notify deactivation dependencies to the user for all given entities
      *
      * @param entities Set of entities to collect the dependencies for
@@ -14,26 +14,35 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.servlet.http.HttpSession;
 
+import org.apache.commons.lang3.StringUtils;
 import org.eclipse.rap.rwt.RWT;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
+import ch.ethz.seb.sebserver.gbl.Constants;
 import ch.ethz.seb.sebserver.gbl.api.API;
 import ch.ethz.seb.sebserver.gbl.api.API.BulkActionType;
+import ch.ethz.seb.sebserver.gbl.api.APIMessage;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.api.JSONMapper;
+import ch.ethz.seb.sebserver.gbl.async.AsyncRunner;
 import ch.ethz.seb.sebserver.gbl.model.Activatable;
+import ch.ethz.seb.sebserver.gbl.model.BulkActionJobStatus;
+import ch.ethz.seb.sebserver.gbl.model.BulkActionJobStatus.JobState;
 import ch.ethz.seb.sebserver.gbl.model.Entity;
 import ch.ethz.seb.sebserver.gbl.model.EntityKey;
+import ch.ethz.seb.sebserver.gbl.model.EntityProcessingReport.ErrorEntry;
 import ch.ethz.seb.sebserver.gbl.model.Page;
 import ch.ethz.seb.sebserver.gbl.profile.GuiProfile;
 import ch.ethz.seb.sebserver.gbl.util.Cryptor;
@@ -53,6 +62,8 @@ import ch.ethz.seb.sebserver.gui.service.page.event.ActionEvent;
 import ch.ethz.seb.sebserver.gui.service.page.event.ActionPublishEvent;
 import ch.ethz.seb.sebserver.gui.service.page.event.PageEvent;
 import ch.ethz.seb.sebserver.gui.service.page.event.PageEventListener;
+import ch.ethz.seb.sebserver.gui.service.push.ServerPushContext;
+import ch.ethz.seb.sebserver.gui.service.push.ServerPushService;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestCall;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestCall.CallType;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestService;
@@ -78,6 +89,7 @@ public class PageServiceImpl implements PageService {
             new LocTextKey("sebserver.overall.action.goAwayFromEditPageConfirm");
 
     private static final String ATTR_PAGE_STATE = "PAGE_STATE";
+    private static final long BULK_ACTION_JOB_POLL_INTERVAL = 1000;
     private static final ListenerComparator LIST_COMPARATOR = new ListenerComparator();
 
     private final Cryptor cryptor;
@@ -86,6 +98,8 @@ public class PageServiceImpl implements PageService {
     private final PolyglotPageService polyglotPageService;
     private final ResourceService resourceService;
     private final CurrentUser currentUser;
+    private final AsyncRunner asyncRunner;
+    private final ServerPushService serverPushService;
 
     public PageServiceImpl(
             final Cryptor cryptor,
@@ -93,7 +107,9 @@ public class PageServiceImpl implements PageService {
             final WidgetFactory widgetFactory,
             final PolyglotPageService polyglotPageService,
             final ResourceService resourceService,
-            final CurrentUser currentUser) {
+            final CurrentUser currentUser,
+            final AsyncRunner asyncRunner,
+            final ServerPushService serverPushService) {
 
         this.cryptor = cryptor;
         this.jsonMapper = jsonMapper;
@@ -101,6 +117,8 @@ public class PageServiceImpl implements PageService {
         this.polyglotPageService = polyglotPageService;
         this.resourceService = resourceService;
         this.currentUser = currentUser;
+        this.asyncRunner = asyncRunner;
+        this.serverPushService = serverPushService;
     }
 
     @Override
@@ -147,6 +165,11 @@ public class PageServiceImpl implements PageService {
         return this.currentUser;
     }
 
+    @Override
+    public AsyncRunner getAsyncRunner() {
+        return this.asyncRunner;
+    }
+
     @Override
     public PageState getCurrentState() {
         try {
@@ -269,11 +292,20 @@ public class PageServiceImpl implements PageService {
 
             final RestService restService = this.resourceService.getRestService();
             final EntityType entityType = table.getEntityType();
+            final boolean submitAsJob = isBulkActionJobSupported(entityType);
 
             final Collection<Exception> errors = new ArrayList<>();
+            final Collection<String> toActivate = new ArrayList<>();
+            final Collection<String> toDeactivate = new ArrayList<>();
             for (final T entity : selectedROWData) {
 
                 if (!entity.isActive()) {
+                    // entities that has to be tested before activation are activated one by one
+                    if (submitAsJob && testBeforeActivation == null) {
+                        toActivate.add(entity.getModelId());
+                        continue;
+                    }
+
                     final RestCall<T>.RestCallBuilder restCallBuilder = restService.<T> getBuilder(
                             entityType,
                             CallType.ACTIVATION_ACTIVATE)
@@ -293,6 +325,8 @@ public class PageServiceImpl implements PageService {
                                 .call()
                                 .onError(errors::add);
                     }
+                } else if (submitAsJob) {
+                    toDeactivate.add(entity.getModelId());
                 } else {
                     restService.<T> getBuilder(entityType, CallType.ACTIVATION_DEACTIVATE)
                             .withURIVariable(API.PARAM_MODEL_ID, entity.getModelId())
@@ -301,6 +335,15 @@ public class PageServiceImpl implements PageService {
                 }
             }
 
+            if (!toActivate.isEmpty()) {
+                submitBulkActionJob(action, entityType, BulkActionType.ACTIVATE, toActivate)
+                        .onError(errors::add);
+            }
+            if (!toDeactivate.isEmpty()) {
+                submitBulkActionJob(action, entityType, BulkActionType.DEACTIVATE, toDeactivate)
+                        .onError(errors::add);
+            }
+
             if (!errors.isEmpty()) {
                 final String entityTypeName = this.resourceService.getEntityTypeName(entityType);
                 throw new MultiPageMessageException(
@@ -312,6 +355,120 @@ public class PageServiceImpl implements PageService {
         };
     }
 
+    @Override
+    public boolean isBulkActionJobSupported(final EntityType entityType) {
+        final RestService restService = this.resourceService.getRestService();
+        return restService.getRestCall(entityType, CallType.BULK_ACTION_SUBMIT) != null
+                && restService.getRestCall(entityType, CallType.BULK_ACTION_STATUS) != null;
+    }
+
+    @Override
+    public Result<BulkActionJobStatus> submitBulkActionJob(
+            final PageAction action,
+            final EntityType entityType,
+            final BulkActionType bulkActionType,
+            final Collection<String> modelIds) {
+
+        final RestService restService = this.resourceService.getRestService();
+        return restService.<BulkActionJobStatus> getBuilder(entityType, CallType.BULK_ACTION_SUBMIT)
+                .withFormParam(API.PARAM_MODEL_ID_LIST, StringUtils.join(modelIds, Constants.LIST_SEPARATOR))
+                .withFormParam(API.PARAM_BULK_ACTION_TYPE, bulkActionType.name())
+                .call()
+                .map(jobStatus -> {
+                    pollBulkActionJob(action, entityType, jobStatus);
+                    return jobStatus;
+                });
+    }
+
+    private void pollBulkActionJob(
+            final PageAction action,
+            final EntityType entityType,
+            final BulkActionJobStatus submitted) {
+
+        final RestCall<BulkActionJobStatus>.RestCallBuilder statusCall = this.resourceService
+                .getRestService()
+                .<BulkActionJobStatus> getBuilder(entityType, CallType.BULK_ACTION_STATUS)
+                .withURIVariable(API.PARAM_MODEL_ID, submitted.jobId);
+        final AtomicReference<BulkActionJobStatus> jobStatus = new AtomicReference<>(submitted);
+
+        this.serverPushService.runServerPush(
+                new ServerPushContext(action.pageContext().getParent(), context -> !jobStatus.get().isDone()),
+                BULK_ACTION_JOB_POLL_INTERVAL,
+                context -> jobStatus.set(statusCall
+                        .call()
+                        .onError(error -> log.warn("Failed to get status of bulk action job: {} cause: {}",
+                                submitted.jobId,
+                                error.getMessage()))
+                        .getOr(failedJobStatus(jobStatus.get()))),
+                context -> {
+                    final BulkActionJobStatus status = jobStatus.get();
+                    if (status.isDone()) {
+                        bulkActionJobDone(action, entityType, status);
+                    }
+                });
+    }
+
+    private void bulkActionJobDone(
+            final PageAction action,
+            final EntityType entityType,
+            final BulkActionJobStatus jobStatus) {
+
+        // the job may have changed the activity or existence of dependent entities of other types
+        if (this.resourceService.getRestService().getEntityNameCache() != null) {
+            this.resourceService.getRestService().getEntityNameCache().evictAll();
+        }
+
+        // reload the page only if the user is still on the page the job was submitted from
+        final PageState currentState = getCurrentState();
+        if (currentState != null && currentState.gotoAction == action) {
+            final PageAction reloadAction = new PageAction(
+                    action.definition,
+                    null,
+                    null,
+                    null,
+                    null,
+                    action.pageContext(),
+                    null,
+                    true,
+                    true,
+                    null);
+            firePageEvent(new ActionEvent(reloadAction), reloadAction.pageContext());
+        }
+
+        final Exception error;
+        if (jobStatus.state == JobState.FAILED) {
+            error = new RuntimeException(jobStatus.error);
+        } else if (jobStatus.report != null && !jobStatus.report.errors.isEmpty()) {
+            error = new APIMessage.APIMessageException(jobStatus.report.errors
+                    .stream()
+                    .map(ErrorEntry::getErrorMessage)
+                    .collect(Collectors.toList()));
+        } else {
+            return;
+        }
+
+        if (jobStatus.bulkActionType == BulkActionType.HARD_DELETE) {
+            action.pageContext().notifyRemoveError(entityType, error);
+        } else {
+            action.pageContext().notifyActivationError(entityType, error);
+        }
+    }
+
+    private static BulkActionJobStatus failedJobStatus(final BulkActionJobStatus jobStatus) {
+        return new BulkActionJobStatus(
+                jobStatus.jobId,
+                jobStatus.userUuid,
+                jobStatus.bulkActionType,
+                jobStatus.sourceType,
+                JobState.FAILED,
+                jobStatus.total,
+                jobStatus.processed,
+                jobStatus.submitTime,
+                System.currentTimeMillis(),
+                jobStatus.report,
+                "Failed to get the status of the bulk action job");
+    }
+
     private void exec(final PageAction pageAction, final Consumer<Result<PageAction>> callback) {
         pageAction.applyAction(result -> {
             if (!result.hasError()) {
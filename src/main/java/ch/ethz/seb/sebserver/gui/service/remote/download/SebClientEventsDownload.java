@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.gui.service.remote.download;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.tomcat.util.http.fileupload.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.stereotype.Component;
+
+import ch.ethz.seb.sebserver.gbl.api.API;
+import ch.ethz.seb.sebserver.gbl.api.API.ExportFormat;
+import ch.ethz.seb.sebserver.gbl.model.session.ExtendedClientEvent;
+import ch.ethz.seb.sebserver.gbl.profile.GuiProfile;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestCall;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestService;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.logs.ExportSEBClientEvents;
+
+/** Download of all SEB client events of an exam (modelId) as CSV.
+ *
+ * Since such an export may be very large, the response of the webservice is directly copied
+ * to the download output-stream instead of being buffered in memory. */
+@Lazy
+@Component
+@GuiProfile
+public class SebClientEventsDownload extends AbstractDownloadServiceHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(SebClientEventsDownload.class);
+
+    private final RestService restService;
+
+    protected SebClientEventsDownload(final RestService restService) {
+        this.restService = restService;
+    }
+
+    @Override
+    protected void webserviceCall(final String modelId, final String parentModelId, final OutputStream downloadOut) {
+
+        final RestCall<InputStream>.RestCallBuilder builder = this.restService.getBuilder(ExportSEBClientEvents.class)
+                .withQueryParam(ExtendedClientEvent.FILTER_ATTRIBUTE_EXAM, modelId)
+                .withQueryParam(API.SEB_CLIENT_EVENT_EXPORT_FORMAT, ExportFormat.CSV.name());
+
+        try {
+            builder.getRestTemplate().execute(
+                    builder.buildURI(),
+                    HttpMethod.GET,
+                    (final ClientHttpRequest requestCallback) -> {
+                    },
+                    response -> IOUtils.copyLarge(response.getBody(), downloadOut),
+                    builder.getURIVariables());
+        } catch (final Exception e) {
+            log.error(
+                    "Unexpected error while streaming incoming SEB client events from web-service to output-stream of download response: ",
+                    e);
+        } finally {
+            try {
+                downloadOut.flush();
+                downloadOut.close();
+            } catch (final IOException e) {
+                log.error("Unexpected error while trying to close download output-stream");
+            }
+        }
+    }
+
+}
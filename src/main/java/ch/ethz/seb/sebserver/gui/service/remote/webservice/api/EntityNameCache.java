@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.gui.service.remote.webservice.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import ch.ethz.seb.sebserver.gbl.api.EntityType;
+import ch.ethz.seb.sebserver.gbl.model.EntityName;
+import ch.ethz.seb.sebserver.gbl.profile.GuiProfile;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.gbl.util.Utils;
+
+/** A short living cache for entity names that is shared by all users of this GUI instance.
+ *
+ * Entity names are used to resolve identifiers to names in lists, forms and filters and are loaded
+ * with the names endpoints of the webservice. Names are cached per entity type and a key given by the caller.
+ * The key must contain everything the names depend on, like the request query and the scope in which the
+ * current user is allowed to read entities of the type.
+ *
+ * Cached names expire after the configured time to live. All cached names of an entity type are evicted when
+ * the GUI writes an entity of that type. */
+@Lazy
+@Component
+@GuiProfile
+public class EntityNameCache {
+
+    private static final int MAX_ENTRIES_PER_TYPE = 200;
+
+    private final long timeToLive;
+    private final Map<EntityType, Map<String, CachedNames>> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong(0);
+
+    public EntityNameCache(@Value("${sebserver.gui.webservice.names.cache.ttl:10000}") final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /** Get the cached names for the given entity type and key or load and cache them if there are no valid
+     * cached names.
+     *
+     * NOTE: The cached name list is shared and must not be modified by the caller
+     *
+     * @param entityType the entity type of the names
+     * @param key the cache key that identifies the names within the entity type
+     * @param loader the loader that loads the names from the webservice
+     * @return Result refer to the names or to an error from the loader */
+    public Result<List<EntityName>> get(
+            final EntityType entityType,
+            final String key,
+            final Supplier<Result<List<EntityName>>> loader) {
+
+        if (this.timeToLive <= 0 || entityType == null) {
+            return loader.get();
+        }
+
+        final Map<String, CachedNames> names = this.cache.computeIfAbsent(
+                entityType,
+                type -> new ConcurrentHashMap<>());
+
+        final CachedNames cached = names.get(key);
+        if (cached != null && cached.isValid(this.timeToLive)) {
+            return Result.of(cached.names);
+        }
+
+        final long generation = this.generation.get();
+        final Result<List<EntityName>> result = loader.get();
+        if (result.hasError()) {
+            return result;
+        }
+
+        final List<EntityName> loaded = Utils.immutableListOf(result.get());
+        // do not cache names that have been loaded while an eviction was going on
+        if (generation == this.generation.get()) {
+            if (names.size() >= MAX_ENTRIES_PER_TYPE) {
+                names.clear();
+            }
+            names.put(key, new CachedNames(loaded));
+        }
+
+        return Result.of(loaded);
+    }
+
+    /** Evicts all cached names of the given entity type.
+     *
+     * @param entityType the entity type. If null, all cached names are evicted */
+    public void evict(final EntityType entityType) {
+        this.generation.incrementAndGet();
+        if (entityType == null) {
+            this.cache.clear();
+        } else {
+            this.cache.remove(entityType);
+        }
+    }
+
+    /** Evicts all cached names */
+    public void evictAll() {
+        evict(null);
+    }
+
+    private static final class CachedNames {
+        final List<EntityName> names;
+        final long loaded;
+
+        CachedNames(final List<EntityName> names) {
+            this.names = names;
+            this.loaded = Utils.getMillisecondsNow();
+        }
+
+        boolean isValid(final long timeToLive) {
+            return Utils.getMillisecondsNow() - this.loaded < timeToLive;
+        }
+    }
+
+}
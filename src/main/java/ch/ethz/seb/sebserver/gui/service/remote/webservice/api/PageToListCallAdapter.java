@@ -20,6 +20,10 @@ import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.model.Page;
 import ch.ethz.seb.sebserver.gbl.util.Result;
 
+/** Adapts a page call to a list call by collecting all pages of the page call.
+ *
+ * NOTE: The pages are requested with the page call. To cache the responses, enable the response cache
+ * on the page call. The response cache of the adapter itself is not used. */
 public abstract class PageToListCallAdapter<T> extends RestCall<List<T>> {
 
     private final static int PAGE_SIZE_OF_PAGER = 100;
@@ -14,6 +14,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
@@ -50,6 +51,8 @@ public abstract class RestCall<T> {
 
     private static final Logger log = LoggerFactory.getLogger(RestCall.class);
 
+    private static final int MAX_CACHED_RESPONSES = 500;
+
     public enum CallType {
         UNDEFINED,
         GET_SINGLE,
@@ -62,7 +65,9 @@ public abstract class RestCall<T> {
         SAVE,
         DELETE,
         ACTIVATION_ACTIVATE,
-        ACTIVATION_DEACTIVATE
+        ACTIVATION_DEACTIVATE,
+        BULK_ACTION_SUBMIT,
+        BULK_ACTION_STATUS
     }
 
     protected RestService restService;
@@ -72,6 +77,9 @@ public abstract class RestCall<T> {
     protected final MediaType contentType;
     protected final String path;
 
+    private long responseCacheFreshness = -1;
+    private final Map<String, CachedResponse<T>> responseCache = new ConcurrentHashMap<>();
+
     protected RestCall(
             final TypeKey<T> typeKey,
             final HttpMethod httpMethod,
@@ -102,21 +110,66 @@ public abstract class RestCall<T> {
         return null;
     }
 
+    /** Enables the response cache for this (GET) call. This shall only be used for calls that get data
+     * that is rarely changed and is the same for all users, like the exam configuration metadata.
+     *
+     * The response cache is shared by all users of this GUI instance. A response is cached per request URI
+     * together with its ETag (version stamp) given by the webservice. Within the given freshness time a
+     * cached response is used without calling the webservice. After that the cached response is revalidated
+     * with a conditional request (If-None-Match) and the webservice either answers with 304 Not Modified,
+     * so the cached response is used further on, or with the new data.
+     *
+     * NOTE: Cached response objects are shared and must not be modified by the caller
+     *
+     * @param freshness the time in milliseconds a cached response is used without revalidation.
+     *            Use 0 to always revalidate */
+    protected final void enableResponseCache(final long freshness) {
+        this.responseCacheFreshness = Math.max(0, freshness);
+    }
+
+    /** Evicts all cached responses of this call, if the response cache is enabled */
+    public void evictResponseCache() {
+        this.responseCache.clear();
+    }
+
     protected Result<T> exchange(final RestCallBuilder builder) {
 
         log.debug("Call webservice API on {} for {}", this.path, builder);
 
+        final String cacheKey = (this.responseCacheFreshness >= 0 && this.httpMethod == HttpMethod.GET)
+                ? builder.buildURI() + builder.uriVariables
+                : null;
+        final CachedResponse<T> cachedResponse = (cacheKey != null)
+                ? this.responseCache.get(cacheKey)
+                : null;
+
+        if (cachedResponse != null && cachedResponse.isFresh(this.responseCacheFreshness)) {
+            return Result.of(cachedResponse.value);
+        }
+
         try {
             final ResponseEntity<String> responseEntity = builder.restTemplate
                     .exchange(
                             builder.buildURI(),
                             this.httpMethod,
-                            builder.buildRequestEntity(),
+                            (cachedResponse != null)
+                                    ? builder.buildConditionalRequestEntity(cachedResponse.eTag)
+                                    : builder.buildRequestEntity(),
                             String.class,
                             builder.uriVariables);
 
+            if (cachedResponse != null && responseEntity.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                log.debug("Cached response is still valid for {}", cacheKey);
+                cachedResponse.revalidated();
+                return Result.of(cachedResponse.value);
+            }
+
             if (responseEntity.getStatusCode() == HttpStatus.OK) {
 
+                if (this.httpMethod != HttpMethod.GET) {
+                    evictEntityNames();
+                }
+
                 if (log.isTraceEnabled()) {
                     log.trace("response body --> {}" + responseEntity.getBody());
                 }
@@ -125,9 +178,15 @@ public abstract class RestCall<T> {
                     return Result.ofEmpty();
                 }
 
-                return Result.of(RestCall.this.jsonMapper.readValue(
+                final T value = RestCall.this.jsonMapper.readValue(
                         responseEntity.getBody(),
-                        RestCall.this.typeKey.typeRef));
+                        RestCall.this.typeKey.typeRef);
+
+                if (cacheKey != null) {
+                    cacheResponse(cacheKey, responseEntity.getHeaders().getETag(), value);
+                }
+
+                return Result.of(value);
 
             } else {
                 return handleRestCallError(responseEntity);
@@ -161,6 +220,34 @@ public abstract class RestCall<T> {
         }
     }
 
+    private void evictEntityNames() {
+        final EntityNameCache entityNameCache = this.restService.getEntityNameCache();
+        if (entityNameCache == null) {
+            return;
+        }
+
+        // activation, deactivation and deletion may cascade to dependent entities of other types
+        if (this.typeKey.callType == CallType.ACTIVATION_ACTIVATE
+                || this.typeKey.callType == CallType.ACTIVATION_DEACTIVATE
+                || this.typeKey.callType == CallType.DELETE) {
+            entityNameCache.evictAll();
+        } else {
+            entityNameCache.evict(this.typeKey.entityType);
+        }
+    }
+
+    private void cacheResponse(final String cacheKey, final String eTag, final T value) {
+        if (StringUtils.isBlank(eTag) || value == null) {
+            this.responseCache.remove(cacheKey);
+            return;
+        }
+
+        if (this.responseCache.size() >= MAX_CACHED_RESPONSES) {
+            this.responseCache.clear();
+        }
+        this.responseCache.put(cacheKey, new CachedResponse<>(eTag, value));
+    }
+
     public RestCallBuilder newBuilder() {
         return new RestCallBuilder(
                 this.restService.getWebserviceAPIRestTemplate(),
@@ -322,6 +409,13 @@ public abstract class RestCall<T> {
             return this;
         }
 
+        public RestCallBuilder withPageCursor(final String cursor) {
+            if (cursor != null) {
+                this.queryParams.put(Page.ATTR_CURSOR, Arrays.asList(cursor));
+            }
+            return this;
+        }
+
         public RestCallBuilder withSorting(final String column, final PageSortOrder order) {
             if (column != null) {
                 this.queryParams.put(Page.ATTR_SORT, Arrays.asList(order.encode(column)));
@@ -365,6 +459,13 @@ public abstract class RestCall<T> {
             }
         }
 
+        HttpEntity<?> buildConditionalRequestEntity(final String eTag) {
+            final HttpHeaders headers = new HttpHeaders();
+            headers.putAll(this.httpHeaders);
+            headers.setIfNoneMatch(eTag);
+            return new HttpEntity<>(headers);
+        }
+
         public Map<String, String> getURIVariables() {
             return Utils.immutableMapOf(this.uriVariables);
         }
@@ -378,6 +479,26 @@ public abstract class RestCall<T> {
 
     }
 
+    private static final class CachedResponse<T> {
+        final String eTag;
+        final T value;
+        private volatile long validated;
+
+        CachedResponse(final String eTag, final T value) {
+            this.eTag = eTag;
+            this.value = value;
+            this.validated = Utils.getMillisecondsNow();
+        }
+
+        boolean isFresh(final long freshness) {
+            return Utils.getMillisecondsNow() - this.validated < freshness;
+        }
+
+        void revalidated() {
+            this.validated = Utils.getMillisecondsNow();
+        }
+    }
+
     public static final class TypeKey<T> {
         final CallType callType;
         final EntityType entityType;
@@ -71,4 +71,10 @@ public interface RestService {
             EntityType entityType,
             CallType callType);
 
+    /** Get the cache for entity names that is shared by all users of this GUI instance.
+     * All cached names of an entity type are evicted when a RestCall writes an entity of that type.
+     *
+     * @return the EntityNameCache of this GUI instance */
+    EntityNameCache getEntityNameCache();
+
 }
\ No newline at end of file
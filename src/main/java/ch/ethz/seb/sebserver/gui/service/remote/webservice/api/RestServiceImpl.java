@@ -32,13 +32,16 @@ public class RestServiceImpl implements RestService {
     private final AuthorizationContextHolder authorizationContextHolder;
     private final WebserviceURIService webserviceURIBuilderSupplier;
     private final Map<String, RestCall<?>> calls;
+    private final EntityNameCache entityNameCache;
 
     public RestServiceImpl(
             final AuthorizationContextHolder authorizationContextHolder,
             final JSONMapper jsonMapper,
-            final Collection<RestCall<?>> calls) {
+            final Collection<RestCall<?>> calls,
+            final EntityNameCache entityNameCache) {
 
         this.authorizationContextHolder = authorizationContextHolder;
+        this.entityNameCache = entityNameCache;
         this.webserviceURIBuilderSupplier = authorizationContextHolder
                 .getWebserviceURIService();
 
@@ -56,6 +59,11 @@ public class RestServiceImpl implements RestService {
                 .getRestTemplate();
     }
 
+    @Override
+    public final EntityNameCache getEntityNameCache() {
+        return this.entityNameCache;
+    }
+
     @Override
     public final UriComponentsBuilder getWebserviceURIBuilder() {
         return this.webserviceURIBuilderSupplier.getURIBuilder();
@@ -17,6 +17,7 @@ import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import ch.ethz.seb.sebserver.gbl.Constants;
 import ch.ethz.seb.sebserver.gbl.api.API;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationAttribute;
@@ -37,6 +38,9 @@ public class GetConfigAttributes extends RestCall<List<ConfigurationAttribute>>
                 HttpMethod.GET,
                 MediaType.APPLICATION_FORM_URLENCODED,
                 API.CONFIGURATION_ATTRIBUTE_ENDPOINT + API.LIST_PATH_SEGMENT);
+
+        // the configuration attributes only change with a SEB Server update
+        enableResponseCache(5 * Constants.MINUTE_IN_MILLIS);
     }
 
 }
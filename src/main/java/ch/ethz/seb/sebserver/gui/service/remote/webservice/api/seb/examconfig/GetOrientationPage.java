@@ -36,6 +36,10 @@ public class GetOrientationPage extends RestCall<Page<Orientation>> {
                 HttpMethod.GET,
                 MediaType.APPLICATION_FORM_URLENCODED,
                 API.ORIENTATION_ENDPOINT);
+
+        // used by GetOrientations to collect all orientations.
+        // orientations of a template may be changed by users. Always revalidate
+        enableResponseCache(0);
     }
 
 }
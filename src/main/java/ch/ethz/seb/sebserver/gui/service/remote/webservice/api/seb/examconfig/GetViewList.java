@@ -17,6 +17,7 @@ import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import ch.ethz.seb.sebserver.gbl.Constants;
 import ch.ethz.seb.sebserver.gbl.api.API;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.View;
@@ -37,6 +38,9 @@ public class GetViewList extends RestCall<List<View>> {
                 HttpMethod.GET,
                 MediaType.APPLICATION_FORM_URLENCODED,
                 API.VIEW_ENDPOINT + API.LIST_PATH_SEGMENT);
+
+        // the views only change with a SEB Server update
+        enableResponseCache(5 * Constants.MINUTE_IN_MILLIS);
     }
 
 }
@@ -8,7 +8,6 @@
 
 package ch.ethz.seb.sebserver.gui.service.remote.webservice.auth;
 
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
@@ -17,22 +16,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.WebApplicationContext;
 
-import ch.ethz.seb.sebserver.gbl.Constants;
-import ch.ethz.seb.sebserver.gbl.api.API;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
-import ch.ethz.seb.sebserver.gbl.api.authorization.Privilege;
-import ch.ethz.seb.sebserver.gbl.api.authorization.Privilege.RoleTypeKey;
 import ch.ethz.seb.sebserver.gbl.api.authorization.PrivilegeType;
 import ch.ethz.seb.sebserver.gbl.model.GrantEntity;
 import ch.ethz.seb.sebserver.gbl.model.user.UserInfo;
-import ch.ethz.seb.sebserver.gbl.model.user.UserRole;
 import ch.ethz.seb.sebserver.gbl.profile.GuiProfile;
 
 @Component
@@ -44,11 +34,16 @@ public class CurrentUser {
 
     private final AuthorizationContextHolder authorizationContextHolder;
     private SEBServerAuthorizationContext authContext = null;
-    private Map<RoleTypeKey, Privilege> privileges = null;
+    private final PrivilegeCache privilegeCache;
+    private RolePrivileges privileges = null;
     private final Map<String, String> attributes;
 
-    public CurrentUser(final AuthorizationContextHolder authorizationContextHolder) {
+    public CurrentUser(
+            final AuthorizationContextHolder authorizationContextHolder,
+            final PrivilegeCache privilegeCache) {
+
         this.authorizationContextHolder = authorizationContextHolder;
+        this.privilegeCache = privilegeCache;
         this.attributes = new HashMap<>();
     }
 
@@ -113,21 +108,17 @@ public class CurrentUser {
             final EntityType entityType,
             final Long institutionId,
             final String ownerId) {
-        if (loadPrivileges()) {
+        final RolePrivileges privileges = getPrivileges();
+        if (privileges != null) {
             try {
                 final UserInfo userInfo = get();
-                return userInfo
-                        .getRoles()
-                        .stream()
-                        .map(UserRole::valueOf)
-                        .map(role -> new RoleTypeKey(entityType, role))
-                        .map(key -> this.privileges.get(key))
-                        .anyMatch(privilege -> (privilege != null) && privilege.hasGrant(
-                                userInfo.uuid,
-                                userInfo.institutionId,
-                                privilegeType,
-                                institutionId,
-                                ownerId));
+                return privileges.hasGrant(
+                        userInfo.uuid,
+                        userInfo.institutionId,
+                        privilegeType,
+                        entityType,
+                        institutionId,
+                        ownerId);
             } catch (final Exception e) {
                 log.error("Failed to verify privilege: PrivilegeType {} EntityType {}",
                         privilegeType, entityType, e);
@@ -141,21 +132,18 @@ public class CurrentUser {
             final PrivilegeType privilegeType,
             final GrantEntity grantEntity) {
 
-        if (loadPrivileges()) {
+        final RolePrivileges privileges = getPrivileges();
+        if (privileges != null) {
             final EntityType entityType = grantEntity.entityType();
             try {
                 final UserInfo userInfo = get();
-                return userInfo.getRoles()
-                        .stream()
-                        .map(UserRole::valueOf)
-                        .map(role -> new RoleTypeKey(entityType, role))
-                        .map(key -> this.privileges.get(key))
-                        .anyMatch(privilege -> (privilege != null) && privilege.hasGrant(
-                                userInfo.uuid,
-                                userInfo.institutionId,
-                                privilegeType,
-                                grantEntity.getInstitutionId(),
-                                grantEntity.getOwnerId()));
+                return privileges.hasGrant(
+                        userInfo.uuid,
+                        userInfo.institutionId,
+                        privilegeType,
+                        entityType,
+                        grantEntity.getInstitutionId(),
+                        grantEntity.getOwnerId());
             } catch (final Exception e) {
                 log.error("Failed to verify privilege: PrivilegeType {} EntityType {}",
                         privilegeType, entityType, e);
@@ -206,58 +194,29 @@ public class CurrentUser {
         }
     }
 
-    private boolean loadPrivileges() {
-        if (this.privileges != null) {
-            return true;
+    /** Get the privileges of the roles of the current user from the PrivilegeCache that is shared with all
+     * sessions of this GUI instance. The reference is kept within the session as long as it is up to date. */
+    private RolePrivileges getPrivileges() {
+        if (this.privileges != null && this.privilegeCache.isUpToDate(this.privileges)) {
+            return this.privileges;
         }
 
         updateContext();
-        if (this.authContext != null) {
-            try {
-                final WebserviceURIService webserviceURIService =
-                        this.authorizationContextHolder.getWebserviceURIService();
-                final ResponseEntity<Collection<Privilege>> exchange = this.authContext.getRestTemplate()
-                        .exchange(
-                                webserviceURIService.getURIBuilder()
-                                        .path(API.PRIVILEGES_ENDPOINT)
-                                        .toUriString(),
-                                HttpMethod.GET,
-                                HttpEntity.EMPTY,
-                                Constants.TYPE_REFERENCE_PRIVILEGES);
-
-                if (exchange.getStatusCodeValue() == HttpStatus.OK.value()) {
-                    final Collection<Privilege> privileges = exchange.getBody();
-                    if (privileges != null) {
-                        this.privileges = privileges
-                                .stream()
-                                .reduce(new HashMap<>(),
-                                        (map, privilege) -> {
-                                            map.put(privilege.roleTypeKey, privilege);
-                                            return map;
-                                        },
-                                        (map1, map2) -> {
-                                            map1.putAll(map2);
-                                            return map1;
-                                        });
-                    } else {
-                        log.error("Failed to get Privileges from webservice API: {}", exchange);
-                        return false;
-                    }
-
-                    return true;
-                } else {
-                    log.error("Failed to get Privileges from webservice API: {}", exchange);
-                    return false;
-                }
-
-            } catch (final Exception e) {
-                log.error("Failed to get Privileges from webservice API: ", e);
-                return false;
-            }
-        } else {
+        if (this.authContext == null) {
             log.error("Failed to get Privileges from webservice API. No AuthorizationContext available");
-            return false;
+            return null;
         }
+
+        try {
+            this.privileges = this.privilegeCache
+                    .getRolePrivileges(get().getUserRoles(), this.authContext.getRestTemplate())
+                    .getOrThrow();
+        } catch (final Exception e) {
+            log.error("Failed to get Privileges from webservice API: ", e);
+            this.privileges = null;
+        }
+
+        return this.privileges;
     }
 
     /** Wrapper can be used for base and institutional grant checks for a specified EntityType */
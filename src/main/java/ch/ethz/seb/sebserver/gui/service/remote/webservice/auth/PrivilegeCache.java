@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.gui.service.remote.webservice.auth;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import ch.ethz.seb.sebserver.gbl.Constants;
+import ch.ethz.seb.sebserver.gbl.api.API;
+import ch.ethz.seb.sebserver.gbl.api.authorization.Privilege;
+import ch.ethz.seb.sebserver.gbl.api.authorization.Privilege.RoleTypeKey;
+import ch.ethz.seb.sebserver.gbl.model.user.UserRole;
+import ch.ethz.seb.sebserver.gbl.profile.GuiProfile;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.gbl.util.Utils;
+
+/** Holds a snapshot of the privileges of the webservice that is shared by all user sessions of this GUI instance.
+ *
+ * The privileges are the same for all users and only depend on the user roles. The snapshot is loaded once and
+ * revalidated with the webservice after the refresh interval by sending the ETag of the snapshot. The webservice
+ * only responds the privileges again if they have changed.
+ *
+ * For every set of user roles, the privileges are compiled once per snapshot into RolePrivileges that allow
+ * constant time grant checks. */
+@Lazy
+@Component
+@GuiProfile
+public class PrivilegeCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PrivilegeCache.class);
+
+    private static final class Snapshot {
+        final long version;
+        final String eTag;
+        final Map<RoleTypeKey, Privilege> privileges;
+        final long checked;
+
+        Snapshot(
+                final long version,
+                final String eTag,
+                final Map<RoleTypeKey, Privilege> privileges,
+                final long checked) {
+
+            this.version = version;
+            this.eTag = eTag;
+            this.privileges = privileges;
+            this.checked = checked;
+        }
+    }
+
+    private final long refreshInterval;
+    private final WebserviceURIService webserviceURIService;
+    private final Map<EnumSet<UserRole>, RolePrivileges> rolePrivileges = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = null;
+
+    public PrivilegeCache(
+            final WebserviceURIService webserviceURIService,
+            @Value("${sebserver.gui.webservice.privileges.refresh-interval:60000}") final long refreshInterval) {
+
+        this.webserviceURIService = webserviceURIService;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /** Get the compiled privileges for a given set of user roles.
+     *
+     * @param roles the user roles
+     * @param restTemplate the RestTemplate of the current user to load the privileges from the webservice if needed
+     * @return Result refer to the RolePrivileges of the given roles or to an error if happened */
+    public Result<RolePrivileges> getRolePrivileges(
+            final EnumSet<UserRole> roles,
+            final RestTemplate restTemplate) {
+
+        return Result.tryCatch(() -> {
+            final Snapshot snapshot = getSnapshot(restTemplate);
+            final RolePrivileges privileges = this.rolePrivileges.get(roles);
+            if (privileges != null && privileges.version == snapshot.version) {
+                return privileges;
+            }
+
+            final RolePrivileges newPrivileges = new RolePrivileges(snapshot.version, roles, snapshot.privileges);
+            this.rolePrivileges.put(EnumSet.copyOf(roles), newPrivileges);
+            return newPrivileges;
+        });
+    }
+
+    /** Checks if the given RolePrivileges are compiled from the current snapshot and the snapshot needs no
+     * revalidation with the webservice.
+     *
+     * @param privileges the RolePrivileges to check
+     * @return true if the given RolePrivileges are up to date */
+    public boolean isUpToDate(final RolePrivileges privileges) {
+        final Snapshot snapshot = this.snapshot;
+        return privileges != null
+                && snapshot != null
+                && privileges.version == snapshot.version
+                && !needsRevalidation(snapshot);
+    }
+
+    private Snapshot getSnapshot(final RestTemplate restTemplate) {
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null && !needsRevalidation(snapshot)) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+            if (this.snapshot != null && !needsRevalidation(this.snapshot)) {
+                return this.snapshot;
+            }
+
+            this.snapshot = loadSnapshot(restTemplate, this.snapshot);
+            return this.snapshot;
+        }
+    }
+
+    private boolean needsRevalidation(final Snapshot snapshot) {
+        return Utils.getMillisecondsNow() - snapshot.checked >= this.refreshInterval;
+    }
+
+    private Snapshot loadSnapshot(final RestTemplate restTemplate, final Snapshot current) {
+        final HttpHeaders headers = new HttpHeaders();
+        if (current != null && current.eTag != null) {
+            headers.setIfNoneMatch(current.eTag);
+        }
+
+        try {
+            final ResponseEntity<Collection<Privilege>> exchange = restTemplate.exchange(
+                    this.webserviceURIService.getURIBuilder()
+                            .path(API.PRIVILEGES_ENDPOINT)
+                            .toUriString(),
+                    HttpMethod.GET,
+                    new HttpEntity<>(headers),
+                    Constants.TYPE_REFERENCE_PRIVILEGES);
+
+            if (current != null && exchange.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                return new Snapshot(
+                        current.version,
+                        current.eTag,
+                        current.privileges,
+                        Utils.getMillisecondsNow());
+            }
+
+            final Collection<Privilege> privileges = exchange.getBody();
+            if (exchange.getStatusCode() != HttpStatus.OK || privileges == null) {
+                throw new IllegalStateException("Failed to get Privileges from webservice API: " + exchange);
+            }
+
+            final Map<RoleTypeKey, Privilege> privilegeMap = new HashMap<>();
+            privileges.forEach(privilege -> privilegeMap.put(privilege.roleTypeKey, privilege));
+
+            if (log.isDebugEnabled()) {
+                log.debug("Loaded new privileges snapshot from webservice. ETag: {}",
+                        exchange.getHeaders().getETag());
+            }
+
+            this.rolePrivileges.clear();
+            return new Snapshot(
+                    (current != null) ? current.version + 1 : 1,
+                    exchange.getHeaders().getETag(),
+                    Utils.immutableMapOf(privilegeMap),
+                    Utils.getMillisecondsNow());
+
+        } catch (final Exception e) {
+            if (current == null) {
+                throw e;
+            }
+
+            // keep the current snapshot and try again after the next refresh interval
+            log.warn("Failed to revalidate privileges with webservice API. Keep current privileges. Cause: {}",
+                    e.getMessage());
+            return new Snapshot(
+                    current.version,
+                    current.eTag,
+                    current.privileges,
+                    Utils.getMillisecondsNow());
+        }
+    }
+
+}
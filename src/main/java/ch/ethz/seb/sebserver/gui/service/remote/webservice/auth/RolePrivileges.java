@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.gui.service.remote.webservice.auth;
+
+import java.util.Map;
+import java.util.Set;
+
+import ch.ethz.seb.sebserver.gbl.api.EntityType;
+import ch.ethz.seb.sebserver.gbl.api.authorization.Privilege;
+import ch.ethz.seb.sebserver.gbl.api.authorization.Privilege.RoleTypeKey;
+import ch.ethz.seb.sebserver.gbl.api.authorization.PrivilegeType;
+import ch.ethz.seb.sebserver.gbl.model.user.UserRole;
+
+/** The precompiled privileges of a set of user roles.
+ *
+ * For every EntityType and PrivilegeType the base-, institutional- and ownership grant of all roles of the set
+ * are combined on creation so that a grant check is a constant time lookup. A user has a grant if any of its
+ * roles has a grant, this is the same as if one of the combined grants matches. */
+public final class RolePrivileges {
+
+    private static final int NUM_PRIVILEGE_TYPES = PrivilegeType.values().length;
+
+    /** The version of the privileges this was compiled from */
+    final long version;
+
+    private final boolean[] baseGrants;
+    private final boolean[] institutionalGrants;
+    private final boolean[] ownershipGrants;
+
+    RolePrivileges(
+            final long version,
+            final Set<UserRole> roles,
+            final Map<RoleTypeKey, Privilege> privileges) {
+
+        this.version = version;
+
+        final int size = EntityType.values().length * NUM_PRIVILEGE_TYPES;
+        this.baseGrants = new boolean[size];
+        this.institutionalGrants = new boolean[size];
+        this.ownershipGrants = new boolean[size];
+
+        for (final EntityType entityType : EntityType.values()) {
+            for (final UserRole role : roles) {
+                final Privilege privilege = privileges.get(new RoleTypeKey(entityType, role));
+                if (privilege == null) {
+                    continue;
+                }
+
+                for (final PrivilegeType privilegeType : PrivilegeType.values()) {
+                    final int index = index(entityType, privilegeType);
+                    this.baseGrants[index] |= privilege.hasBasePrivilege(privilegeType);
+                    this.institutionalGrants[index] |= privilege.hasInstitutionalPrivilege(privilegeType);
+                    this.ownershipGrants[index] |= privilege.hasOwnershipPrivilege(privilegeType);
+                }
+            }
+        }
+    }
+
+    /** Checks if the roles have a grant for a given context.
+     * This is the same check as Privilege.hasGrant for all privileges of the roles.
+     *
+     * @param userId The user identifier of the user to check the grant on
+     * @param userInstitutionId the users institution identifier
+     * @param privilegeType the type of privilege to check
+     * @param entityType the EntityType to check the grant on
+     * @param institutionId the institution identifier of an Entity for the institutional grant check,
+     *            may be null in case the institutional grant check should be skipped
+     * @param ownerId the owner identifier of an Entity for ownership grant check,
+     *            may be null in case the ownership grant check should be skipped
+     * @return true if there is any grant within the given context or false on deny */
+    public boolean hasGrant(
+            final String userId,
+            final Long userInstitutionId,
+            final PrivilegeType privilegeType,
+            final EntityType entityType,
+            final Long institutionId,
+            final String ownerId) {
+
+        if (privilegeType == null || entityType == null) {
+            return false;
+        }
+
+        final int index = index(entityType, privilegeType);
+        return this.baseGrants[index]
+                || (institutionId != null
+                        && this.institutionalGrants[index]
+                        && userInstitutionId != null
+                        && userInstitutionId.longValue() == institutionId.longValue())
+                || (this.ownershipGrants[index] && Privilege.isOwner(ownerId, userId));
+    }
+
+    private static int index(final EntityType entityType, final PrivilegeType privilegeType) {
+        return entityType.ordinal() * NUM_PRIVILEGE_TYPES + privilegeType.ordinal();
+    }
+
+}
@@ -118,7 +118,9 @@ public final class ClientConnectionTable {
         this.widgetFactory = pageService.getWidgetFactory();
         this.resourceService = pageService.getResourceService();
         this.exam = exam;
-        this.restCallBuilder = restCallBuilder;
+        // the update poll only needs the compact view of the connection data
+        this.restCallBuilder = restCallBuilder
+                .withQueryParam(API.PARAM_FIELDS, ClientConnectionData.MONITORING_VIEW_FIELDS);
 
         final Display display = tableRoot.getDisplay();
         this.colorData = new ColorData(display);
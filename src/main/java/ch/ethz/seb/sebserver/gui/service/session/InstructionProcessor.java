@@ -37,6 +37,7 @@ import ch.ethz.seb.sebserver.gui.service.page.PageService;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestCallError;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestService;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.session.DisableClientConnection;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.session.PropagateExamInstruction;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.session.PropagateInstruction;
 
 @Lazy
@@ -101,6 +102,30 @@ public class InstructionProcessor {
 
     }
 
+    /** Propagates one SEB quit instruction for all SEB client connections of the given exam.
+     * The instruction is resolved for each connection on the webservice, so the call is independent
+     * of the number of connections of the exam.
+     *
+     * @param examId the exam identifier
+     * @param pageContext the PageContext to notify errors */
+    public void propagateExamSebQuitInstruction(
+            final Long examId,
+            final PageContext pageContext) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Propagate SEB quit instruction for all connections of exam: {}", examId);
+        }
+
+        processInstruction(() -> this.restService.getBuilder(PropagateExamInstruction.class)
+                .withURIVariable(API.PARAM_MODEL_ID, String.valueOf(examId))
+                .withFormParam(
+                        Domain.CLIENT_INSTRUCTION.ATTR_TYPE,
+                        InstructionType.SEB_QUIT.name())
+                .call()
+                .getOrThrow(),
+                pageContext);
+    }
+
     public void disableConnection(
             final Long examId,
             final Function<Predicate<ClientConnection>, Set<String>> selectionFunction,
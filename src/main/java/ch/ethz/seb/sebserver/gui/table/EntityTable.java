@@ -12,9 +12,13 @@ import static ch.ethz.seb.sebserver.gui.service.i18n.PolyglotPageService.POLYGLO
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -23,12 +27,14 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.service.ServerPushSession;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
@@ -42,11 +48,13 @@ import org.springframework.web.util.HtmlUtils;
 
 import ch.ethz.seb.sebserver.gbl.Constants;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
+import ch.ethz.seb.sebserver.gbl.api.JSONMapper;
 import ch.ethz.seb.sebserver.gbl.model.Entity;
 import ch.ethz.seb.sebserver.gbl.model.EntityKey;
 import ch.ethz.seb.sebserver.gbl.model.GrantEntity;
 import ch.ethz.seb.sebserver.gbl.model.Page;
 import ch.ethz.seb.sebserver.gbl.model.PageSortOrder;
+import ch.ethz.seb.sebserver.gbl.util.Result;
 import ch.ethz.seb.sebserver.gbl.util.Utils;
 import ch.ethz.seb.sebserver.gui.service.i18n.I18nSupport;
 import ch.ethz.seb.sebserver.gui.service.i18n.LocTextKey;
@@ -70,6 +78,7 @@ public class EntityTable<ROW extends Entity> {
     private static final String TABLE_ROW_DATA = "TABLE_ROW_DATA";
     private static final int HEADER_HEIGHT = 40;
     private static final int ROW_HEIGHT = 25;
+    private static final int MAX_CACHED_PAGES = 5;
 
     private final String name;
     private final String filterAttrName;
@@ -95,6 +104,14 @@ public class EntityTable<ROW extends Entity> {
     private final MultiValueMap<String, String> staticQueryParams;
     private final BiConsumer<TableItem, ROW> rowDecorator;
     private final Consumer<Set<ROW>> selectionListener;
+    // known keyset pagination cursors (page number -> cursor) for the current sort, filter and page size
+    private final Map<Integer, String> pageCursors = new HashMap<>();
+    private String pageCursorsQuery = null;
+    // recently viewed and prefetched pages (query and page number -> page) if prefetch is enabled
+    private final boolean prefetch;
+    private final Map<String, Page<ROW>> cachedPages;
+    private final Set<String> loadingPages = ConcurrentHashMap.newKeySet();
+    private String currentPageKey = null;
 
     int pageNumber;
     int pageSize;
@@ -118,7 +135,8 @@ public class EntityTable<ROW extends Entity> {
             final boolean hideNavigation,
             final MultiValueMap<String, String> staticQueryParams,
             final BiConsumer<TableItem, ROW> rowDecorator,
-            final Consumer<Set<ROW>> selectionListener) {
+            final Consumer<Set<ROW>> selectionListener,
+            final boolean prefetch) {
 
         this.name = name;
         this.filterAttrName = name + "_filter";
@@ -137,6 +155,15 @@ public class EntityTable<ROW extends Entity> {
         this.columns = Utils.immutableListOf(columns);
         this.emptyMessage = emptyMessage;
         this.hideNavigation = hideNavigation;
+        this.prefetch = prefetch;
+        this.cachedPages = Collections.synchronizedMap(new LinkedHashMap<String, Page<ROW>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 6294811567325418946L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Page<ROW>> eldest) {
+                return size() > MAX_CACHED_PAGES;
+            }
+        });
 
         final GridLayout layout = new GridLayout();
         layout.horizontalSpacing = 0;
@@ -470,14 +497,31 @@ public class EntityTable<ROW extends Entity> {
         // first remove all rows if there are some
         this.table.removeAll();
 
+        final MultiValueMap<String, String> filterParameter = (this.filter != null)
+                ? this.filter.getFilterParameter()
+                : null;
+
+        // known page cursors are only valid for the same query
+        final String query = sortOrder.encode(String.valueOf(sortColumn)) + pageSize + filterParameter;
+        if (!query.equals(this.pageCursorsQuery)) {
+            this.pageCursors.clear();
+            this.pageCursorsQuery = query;
+        }
+
+        final String pageKey = query + "_" + pageNumber;
+        final RestCall<Page<ROW>>.RestCallBuilder pageCall = createPageCall(
+                pageNumber,
+                pageSize,
+                sortColumn,
+                sortOrder,
+                filterParameter);
+        final Page<ROW> cachedPage = (this.prefetch) ? this.cachedPages.get(pageKey) : null;
+        this.currentPageKey = pageKey;
+
         // get page data and create rows
-        this.restCall.newBuilder()
-                .withPaging(pageNumber, pageSize)
-                .withSorting(sortColumn, sortOrder)
-                .withQueryParams((this.filter != null) ? this.filter.getFilterParameter() : null)
-                .withQueryParams(this.staticQueryParams)
-                .apply(this.restCallAdapter)
-                .call()
+        final Result<Page<ROW>> page = (cachedPage != null) ? Result.of(cachedPage) : pageCall.call();
+        page
+                .map(this::registerPageCursor)
                 .map(this::createTableRowsFromPage)
                 .map(this.navigator::update)
                 .onError(this.pageContext::notifyUnexpectedError);
@@ -485,6 +529,155 @@ public class EntityTable<ROW extends Entity> {
         this.composite.getParent().layout(true, true);
         PageService.updateScrolledComposite(this.composite);
         this.notifySelectionChange();
+
+        if (this.prefetch && !page.hasError()) {
+            if (cachedPage != null) {
+                // the page was shown from memory, revalidate it with the webservice
+                loadPageAsync(pageKey, pageCall, true);
+            } else {
+                this.cachedPages.put(pageKey, page.get());
+            }
+
+            final int nextPageNumber = pageNumber + 1;
+            final String nextPageKey = query + "_" + nextPageNumber;
+            if (nextPageNumber <= page.get().getNumberOfPages() && !this.cachedPages.containsKey(nextPageKey)) {
+                loadPageAsync(
+                        nextPageKey,
+                        createPageCall(nextPageNumber, pageSize, sortColumn, sortOrder, filterParameter),
+                        false);
+            }
+        }
+    }
+
+    private RestCall<Page<ROW>>.RestCallBuilder createPageCall(
+            final int pageNumber,
+            final int pageSize,
+            final String sortColumn,
+            final PageSortOrder sortOrder,
+            final MultiValueMap<String, String> filterParameter) {
+
+        return this.restCall.newBuilder()
+                .withPaging(pageNumber, pageSize)
+                .withPageCursor(this.pageCursors.get(pageNumber))
+                .withSorting(sortColumn, sortOrder)
+                .withQueryParams(filterParameter)
+                .withQueryParams(this.staticQueryParams)
+                .apply(this.restCallAdapter);
+    }
+
+    /** Loads a page in the background and puts it to the page cache. If refresh is set and the loaded page differs
+     * from the cached one, the table is updated with the loaded page if the page is still shown.
+     * This uses a RAP server push session to update the table without user interaction. */
+    private void loadPageAsync(
+            final String pageKey,
+            final RestCall<Page<ROW>>.RestCallBuilder pageCall,
+            final boolean refresh) {
+
+        if (!this.loadingPages.add(pageKey)) {
+            return;
+        }
+
+        final Display display = this.table.getDisplay();
+        final ServerPushSession pushSession = (refresh) ? new ServerPushSession() : null;
+        if (pushSession != null) {
+            pushSession.start();
+        }
+
+        try {
+            this.pageService.getAsyncRunner().runAsync(() -> {
+                boolean updateTable = false;
+                try {
+                    final Result<Page<ROW>> result = pageCall.call();
+                    if (result.hasError()) {
+                        log.warn("Failed to load page {} of table {} in background: {}",
+                                pageKey,
+                                this.name,
+                                result.getError().getMessage());
+                        return;
+                    }
+
+                    final Page<ROW> page = result.get();
+                    final Page<ROW> oldPage = this.cachedPages.put(pageKey, page);
+                    if (refresh && !isSamePage(oldPage, page)) {
+                        display.asyncExec(() -> {
+                            try {
+                                updateTableRowsFromCache(pageKey, page);
+                            } finally {
+                                stopPushSession(pushSession);
+                            }
+                        });
+                        updateTable = true;
+                    }
+                } catch (final Exception e) {
+                    log.warn("Failed to load page {} of table {} in background: ", pageKey, this.name, e);
+                } finally {
+                    this.loadingPages.remove(pageKey);
+                    if (!updateTable) {
+                        stopPushSession(pushSession);
+                    }
+                }
+            });
+        } catch (final Exception e) {
+            log.warn("Failed to start background loading of page {} of table {}: {}", pageKey, this.name,
+                    e.getMessage());
+            this.loadingPages.remove(pageKey);
+            stopPushSession(pushSession);
+        }
+    }
+
+    private void updateTableRowsFromCache(final String pageKey, final Page<ROW> page) {
+        if (this.table.isDisposed() || !pageKey.equals(this.currentPageKey)) {
+            return;
+        }
+
+        final Set<EntityKey> selection = getSelection();
+        this.table.removeAll();
+        registerPageCursor(page);
+        createTableRowsFromPage(page);
+        this.navigator.update(page);
+        if (!selection.isEmpty()) {
+            this.table.setSelection(Arrays.stream(this.table.getItems())
+                    .filter(item -> selection.contains(getRowDataId(item)))
+                    .toArray(TableItem[]::new));
+        }
+
+        this.composite.getParent().layout(true, true);
+        PageService.updateScrolledComposite(this.composite);
+        this.notifySelectionChange();
+    }
+
+    private boolean isSamePage(final Page<ROW> page1, final Page<ROW> page2) {
+        if (page1 == null || page2 == null || page1.getNumberOfPages() != page2.getNumberOfPages()) {
+            return false;
+        }
+
+        try {
+            final JSONMapper jsonMapper = this.pageService.getJSONMapper();
+            return jsonMapper.writeValueAsString(page1.content)
+                    .equals(jsonMapper.writeValueAsString(page2.content));
+        } catch (final Exception e) {
+            return false;
+        }
+    }
+
+    private static void stopPushSession(final ServerPushSession pushSession) {
+        if (pushSession == null) {
+            return;
+        }
+
+        try {
+            pushSession.stop();
+        } catch (final Exception e) {
+            log.warn("Failed to stop server push session. It seems that the UISession is not available anymore: {}",
+                    e.getMessage());
+        }
+    }
+
+    private Page<ROW> registerPageCursor(final Page<ROW> page) {
+        if (page.nextCursor != null) {
+            this.pageCursors.put(page.getPageNumber() + 1, page.nextCursor);
+        }
+        return page;
     }
 
     private Page<ROW> createTableRowsFromPage(final Page<ROW> page) {
@@ -46,6 +46,7 @@ public class TableBuilder<ROW extends Entity> {
     private BiConsumer<TableItem, ROW> rowDecorator;
     private Consumer<Set<ROW>> selectionListener;
     private boolean markupEnabled = false;
+    private boolean prefetch = false;
 
     public TableBuilder(
             final String name,
@@ -73,6 +74,15 @@ public class TableBuilder<ROW extends Entity> {
         return this;
     }
 
+    /** Prefetch the next page of the table in the background and keep recently viewed pages in memory.
+     * A page that is shown from memory is revalidated with the webservice in the background.
+     *
+     * @return this TableBuilder */
+    public TableBuilder<ROW> withPrefetch() {
+        this.prefetch = true;
+        return this;
+    }
+
     public TableBuilder<ROW> withColumn(final ColumnDefinition<ROW> columnDefinition) {
         this.columns.add(columnDefinition);
         return this;
@@ -168,7 +178,8 @@ public class TableBuilder<ROW extends Entity> {
                 this.hideNavigation,
                 this.staticQueryParams,
                 this.rowDecorator,
-                this.selectionListener);
+                this.selectionListener,
+                this.prefetch);
     }
 
 }
@@ -13,6 +13,7 @@ import java.net.UnknownHostException;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -44,6 +45,7 @@ public class WebserviceInfo {
             "sebserver.webservice.api.exam.endpoint.discovery";
     private static final String WEB_SERVICE_EXTERNAL_ADDRESS_ALIAS = "sebserver.webservice.lms.address.alias";
 
+    private final String webserviceUUID;
     private final String sebServerVersion;
     private final String testProperty;
     private final String httpScheme;
@@ -59,6 +61,7 @@ public class WebserviceInfo {
     private Map<String, String> lmsExternalAddressAlias;
 
     public WebserviceInfo(final Environment environment) {
+        this.webserviceUUID = UUID.randomUUID().toString();
         this.sebServerVersion = environment.getRequiredProperty(VERSION_KEY);
         this.testProperty = environment.getProperty(WEB_SERVICE_TEST_PROPERTY, "NOT_AVAILABLE");
         this.httpScheme = environment.getRequiredProperty(WEB_SERVICE_HTTP_SCHEME_KEY);
@@ -108,6 +111,13 @@ public class WebserviceInfo {
         }
     }
 
+    /** Get the UUID that identifies this webservice instance. The UUID is created on startup
+     *
+     * @return the UUID of this webservice instance */
+    public String getWebserviceUUID() {
+        return this.webserviceUUID;
+    }
+
     public String getSebServerVersion() {
         return this.sebServerVersion;
     }
@@ -199,7 +209,9 @@ public class WebserviceInfo {
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
-        builder.append("WebserviceInfo [testProperty=");
+        builder.append("WebserviceInfo [webserviceUUID=");
+        builder.append(this.webserviceUUID);
+        builder.append(", testProperty=");
         builder.append(this.testProperty);
         builder.append(", httpScheme=");
         builder.append(this.httpScheme);
@@ -15,8 +15,11 @@ import java.util.Collection;
 import org.apache.ibatis.annotations.Arg;
 import org.apache.ibatis.annotations.ConstructorArgs;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
 import org.apache.ibatis.annotations.ResultType;
 import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 import org.apache.ibatis.type.JdbcType;
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.SqlBuilder;
@@ -32,6 +35,9 @@ import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientEventRecord
 @Mapper
 public interface ClientEventExtensionMapper {
 
+    /** The JDBC fetch size used for streamed (cursor) selects */
+    int STREAM_FETCH_SIZE = 1000;
+
     @SelectProvider(type = SqlProviderAdapter.class, method = "select")
     Long num(SelectStatementProvider selectStatement);
 
@@ -86,6 +92,52 @@ public interface ClientEventExtensionMapper {
                         equalTo(ClientConnectionRecordDynamicSqlSupport.clientConnectionRecord.id));
     }
 
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    @ResultType(ClientEventExtensionMapper.ConnectionEventJoinRecord.class)
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = STREAM_FETCH_SIZE)
+    @ConstructorArgs({
+            @Arg(column = "id", javaType = Long.class, jdbcType = JdbcType.BIGINT, id = true),
+            @Arg(column = "connection_id", javaType = Long.class, jdbcType = JdbcType.BIGINT),
+            @Arg(column = "type", javaType = Integer.class, jdbcType = JdbcType.INTEGER),
+            @Arg(column = "client_time", javaType = Long.class, jdbcType = JdbcType.BIGINT),
+            @Arg(column = "server_time", javaType = Long.class, jdbcType = JdbcType.BIGINT),
+            @Arg(column = "numeric_value", javaType = Double.class, jdbcType = JdbcType.DECIMAL),
+            @Arg(column = "text", javaType = String.class, jdbcType = JdbcType.VARCHAR),
+
+            @Arg(column = "institution_id", javaType = Long.class, jdbcType = JdbcType.BIGINT),
+            @Arg(column = "exam_id", javaType = Long.class, jdbcType = JdbcType.BIGINT),
+            @Arg(column = "exam_user_session_identifier", javaType = String.class, jdbcType = JdbcType.VARCHAR)
+    })
+    Cursor<ConnectionEventJoinRecord> selectCursor(SelectStatementProvider select);
+
+    /** Use this to select joined client event records with a MyBatis Cursor. The records are fetched from the
+     * database in chunks of STREAM_FETCH_SIZE while iterating the Cursor.
+     * <p>
+     * NOTE: The Cursor can only be iterated within the transaction (SqlSession) that has opened it */
+    default QueryExpressionDSL<MyBatis3SelectModelAdapter<Cursor<ConnectionEventJoinRecord>>>.JoinSpecificationFinisher selectCursorByExample() {
+        return SelectDSL.selectWithMapper(
+                this::selectCursor,
+
+                ClientEventRecordDynamicSqlSupport.id,
+                ClientEventRecordDynamicSqlSupport.clientConnectionId.as("connection_id"),
+                ClientEventRecordDynamicSqlSupport.type,
+                ClientEventRecordDynamicSqlSupport.clientTime.as("client_time"),
+                ClientEventRecordDynamicSqlSupport.serverTime.as("server_time"),
+                ClientEventRecordDynamicSqlSupport.numericValue.as("numeric_value"),
+                ClientEventRecordDynamicSqlSupport.text,
+
+                ClientConnectionRecordDynamicSqlSupport.institutionId.as("institution_id"),
+                ClientConnectionRecordDynamicSqlSupport.examId.as("exam_id"),
+                ClientConnectionRecordDynamicSqlSupport.examUserSessionId.as("exam_user_session_identifier"))
+
+                .from(ClientEventRecordDynamicSqlSupport.clientEventRecord)
+
+                .leftJoin(ClientConnectionRecordDynamicSqlSupport.clientConnectionRecord)
+                .on(
+                        ClientEventRecordDynamicSqlSupport.clientEventRecord.clientConnectionId,
+                        equalTo(ClientConnectionRecordDynamicSqlSupport.clientConnectionRecord.id));
+    }
+
     final class ConnectionEventJoinRecord {
 
         public final Long id;
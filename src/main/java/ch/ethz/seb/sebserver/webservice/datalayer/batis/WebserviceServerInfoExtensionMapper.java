@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.datalayer.batis;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Select;
+
+@Mapper
+public interface WebserviceServerInfoExtensionMapper {
+
+    /** Locks all webservice instance registrations until the end of the current transaction.
+     * This is used to serialize the master lease renewal of all webservice instances.
+     *
+     * @return the ids of the locked registrations */
+    @Select("SELECT id FROM webservice_server_info FOR UPDATE")
+    List<Long> lockAll();
+
+    /** Get the current time of the database. This is used as the one clock for the lease of all
+     * webservice instances instead of the local clocks of the instances.
+     *
+     * @return the current time of the database */
+    @Select("SELECT CURRENT_TIMESTAMP(3)")
+    Timestamp currentTime();
+
+}
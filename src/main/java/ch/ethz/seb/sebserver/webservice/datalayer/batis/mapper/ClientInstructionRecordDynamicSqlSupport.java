@@ -24,6 +24,12 @@ public final class ClientInstructionRecordDynamicSqlSupport {
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.011+01:00", comments="Source field: client_instruction.attributes")
     public static final SqlColumn<String> attributes = clientInstructionRecord.attributes;
 
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.011+01:00", comments="Source field: client_instruction.excluded_tokens")
+    public static final SqlColumn<String> excludedTokens = clientInstructionRecord.excludedTokens;
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.011+01:00", comments="Source field: client_instruction.creation_time")
+    public static final SqlColumn<Long> creationTime = clientInstructionRecord.creationTime;
+
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.010+01:00", comments="Source Table: client_instruction")
     public static final class ClientInstructionRecord extends SqlTable {
         public final SqlColumn<Long> id = column("id", JDBCType.BIGINT);
@@ -36,6 +42,10 @@ public final class ClientInstructionRecordDynamicSqlSupport {
 
         public final SqlColumn<String> attributes = column("attributes", JDBCType.VARCHAR);
 
+        public final SqlColumn<String> excludedTokens = column("excluded_tokens", JDBCType.CLOB);
+
+        public final SqlColumn<Long> creationTime = column("creation_time", JDBCType.BIGINT);
+
         public ClientInstructionRecord() {
             super("client_instruction");
         }
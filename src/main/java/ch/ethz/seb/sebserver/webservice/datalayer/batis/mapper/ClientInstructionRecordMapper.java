@@ -52,7 +52,9 @@ public interface ClientInstructionRecordMapper {
         @Arg(column="exam_id", javaType=Long.class, jdbcType=JdbcType.BIGINT),
         @Arg(column="connection_token", javaType=String.class, jdbcType=JdbcType.VARCHAR),
         @Arg(column="type", javaType=String.class, jdbcType=JdbcType.VARCHAR),
-        @Arg(column="attributes", javaType=String.class, jdbcType=JdbcType.VARCHAR)
+        @Arg(column="attributes", javaType=String.class, jdbcType=JdbcType.VARCHAR),
+        @Arg(column="excluded_tokens", javaType=String.class, jdbcType=JdbcType.CLOB),
+        @Arg(column="creation_time", javaType=Long.class, jdbcType=JdbcType.BIGINT)
     })
     ClientInstructionRecord selectOne(SelectStatementProvider selectStatement);
 
@@ -63,7 +65,9 @@ public interface ClientInstructionRecordMapper {
         @Arg(column="exam_id", javaType=Long.class, jdbcType=JdbcType.BIGINT),
         @Arg(column="connection_token", javaType=String.class, jdbcType=JdbcType.VARCHAR),
         @Arg(column="type", javaType=String.class, jdbcType=JdbcType.VARCHAR),
-        @Arg(column="attributes", javaType=String.class, jdbcType=JdbcType.VARCHAR)
+        @Arg(column="attributes", javaType=String.class, jdbcType=JdbcType.VARCHAR),
+        @Arg(column="excluded_tokens", javaType=String.class, jdbcType=JdbcType.CLOB),
+        @Arg(column="creation_time", javaType=Long.class, jdbcType=JdbcType.BIGINT)
     })
     List<ClientInstructionRecord> selectMany(SelectStatementProvider selectStatement);
 
@@ -98,6 +102,8 @@ public interface ClientInstructionRecordMapper {
                 .map(connectionToken).toProperty("connectionToken")
                 .map(type).toProperty("type")
                 .map(attributes).toProperty("attributes")
+                .map(excludedTokens).toProperty("excludedTokens")
+                .map(creationTime).toProperty("creationTime")
                 .build()
                 .render(RenderingStrategy.MYBATIS3));
     }
@@ -110,25 +116,27 @@ public interface ClientInstructionRecordMapper {
                 .map(connectionToken).toPropertyWhenPresent("connectionToken", record::getConnectionToken)
                 .map(type).toPropertyWhenPresent("type", record::getType)
                 .map(attributes).toPropertyWhenPresent("attributes", record::getAttributes)
+                .map(excludedTokens).toPropertyWhenPresent("excludedTokens", record::getExcludedTokens)
+                .map(creationTime).toPropertyWhenPresent("creationTime", record::getCreationTime)
                 .build()
                 .render(RenderingStrategy.MYBATIS3));
     }
 
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.012+01:00", comments="Source Table: client_instruction")
     default QueryExpressionDSL<MyBatis3SelectModelAdapter<List<ClientInstructionRecord>>> selectByExample() {
-        return SelectDSL.selectWithMapper(this::selectMany, id, examId, connectionToken, type, attributes)
+        return SelectDSL.selectWithMapper(this::selectMany, id, examId, connectionToken, type, attributes, excludedTokens, creationTime)
                 .from(clientInstructionRecord);
     }
 
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.012+01:00", comments="Source Table: client_instruction")
     default QueryExpressionDSL<MyBatis3SelectModelAdapter<List<ClientInstructionRecord>>> selectDistinctByExample() {
-        return SelectDSL.selectDistinctWithMapper(this::selectMany, id, examId, connectionToken, type, attributes)
+        return SelectDSL.selectDistinctWithMapper(this::selectMany, id, examId, connectionToken, type, attributes, excludedTokens, creationTime)
                 .from(clientInstructionRecord);
     }
 
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.012+01:00", comments="Source Table: client_instruction")
     default ClientInstructionRecord selectByPrimaryKey(Long id_) {
-        return SelectDSL.selectWithMapper(this::selectOne, id, examId, connectionToken, type, attributes)
+        return SelectDSL.selectWithMapper(this::selectOne, id, examId, connectionToken, type, attributes, excludedTokens, creationTime)
                 .from(clientInstructionRecord)
                 .where(id, isEqualTo(id_))
                 .build()
@@ -141,7 +149,9 @@ public interface ClientInstructionRecordMapper {
                 .set(examId).equalTo(record::getExamId)
                 .set(connectionToken).equalTo(record::getConnectionToken)
                 .set(type).equalTo(record::getType)
-                .set(attributes).equalTo(record::getAttributes);
+                .set(attributes).equalTo(record::getAttributes)
+                .set(excludedTokens).equalTo(record::getExcludedTokens)
+                .set(creationTime).equalTo(record::getCreationTime);
     }
 
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.012+01:00", comments="Source Table: client_instruction")
@@ -150,7 +160,9 @@ public interface ClientInstructionRecordMapper {
                 .set(examId).equalToWhenPresent(record::getExamId)
                 .set(connectionToken).equalToWhenPresent(record::getConnectionToken)
                 .set(type).equalToWhenPresent(record::getType)
-                .set(attributes).equalToWhenPresent(record::getAttributes);
+                .set(attributes).equalToWhenPresent(record::getAttributes)
+                .set(excludedTokens).equalToWhenPresent(record::getExcludedTokens)
+                .set(creationTime).equalToWhenPresent(record::getCreationTime);
     }
 
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.012+01:00", comments="Source Table: client_instruction")
@@ -160,6 +172,8 @@ public interface ClientInstructionRecordMapper {
                 .set(connectionToken).equalTo(record::getConnectionToken)
                 .set(type).equalTo(record::getType)
                 .set(attributes).equalTo(record::getAttributes)
+                .set(excludedTokens).equalTo(record::getExcludedTokens)
+                .set(creationTime).equalTo(record::getCreationTime)
                 .where(id, isEqualTo(record::getId))
                 .build()
                 .execute();
@@ -172,6 +186,8 @@ public interface ClientInstructionRecordMapper {
                 .set(connectionToken).equalToWhenPresent(record::getConnectionToken)
                 .set(type).equalToWhenPresent(record::getType)
                 .set(attributes).equalToWhenPresent(record::getAttributes)
+                .set(excludedTokens).equalToWhenPresent(record::getExcludedTokens)
+                .set(creationTime).equalToWhenPresent(record::getCreationTime)
                 .where(id, isEqualTo(record::getId))
                 .build()
                 .execute();
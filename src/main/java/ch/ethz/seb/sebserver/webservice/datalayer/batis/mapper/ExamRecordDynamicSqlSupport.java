@@ -51,6 +51,15 @@ public final class ExamRecordDynamicSqlSupport {
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:21.998+01:00", comments="Source field: exam.active")
     public static final SqlColumn<Integer> active = examRecord.active;
 
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:21.996+01:00", comments="Source field: exam.quiz_name")
+    public static final SqlColumn<String> quizName = examRecord.quizName;
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:21.996+01:00", comments="Source field: exam.quiz_start_time")
+    public static final SqlColumn<Long> quizStartTime = examRecord.quizStartTime;
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:21.996+01:00", comments="Source field: exam.quiz_end_time")
+    public static final SqlColumn<Long> quizEndTime = examRecord.quizEndTime;
+
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:21.996+01:00", comments="Source Table: exam")
     public static final class ExamRecord extends SqlTable {
         public final SqlColumn<Long> id = column("id", JDBCType.BIGINT);
@@ -81,6 +90,12 @@ public final class ExamRecordDynamicSqlSupport {
 
         public final SqlColumn<Integer> active = column("active", JDBCType.INTEGER);
 
+        public final SqlColumn<String> quizName = column("quiz_name", JDBCType.VARCHAR);
+
+        public final SqlColumn<Long> quizStartTime = column("quiz_start_time", JDBCType.BIGINT);
+
+        public final SqlColumn<Long> quizEndTime = column("quiz_end_time", JDBCType.BIGINT);
+
         public ExamRecord() {
             super("exam");
         }
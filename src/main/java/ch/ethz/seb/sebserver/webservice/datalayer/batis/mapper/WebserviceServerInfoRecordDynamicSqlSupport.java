@@ -18,6 +18,12 @@ public final class WebserviceServerInfoRecordDynamicSqlSupport {
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.035+01:00", comments="Source field: webservice_server_info.service_address")
     public static final SqlColumn<String> serviceAddress = webserviceServerInfoRecord.serviceAddress;
 
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.035+01:00", comments="Source field: webservice_server_info.master")
+    public static final SqlColumn<Integer> master = webserviceServerInfoRecord.master;
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.035+01:00", comments="Source field: webservice_server_info.update_time")
+    public static final SqlColumn<Long> updateTime = webserviceServerInfoRecord.updateTime;
+
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.035+01:00", comments="Source Table: webservice_server_info")
     public static final class WebserviceServerInfoRecord extends SqlTable {
         public final SqlColumn<Long> id = column("id", JDBCType.BIGINT);
@@ -26,6 +32,10 @@ public final class WebserviceServerInfoRecordDynamicSqlSupport {
 
         public final SqlColumn<String> serviceAddress = column("service_address", JDBCType.VARCHAR);
 
+        public final SqlColumn<Integer> master = column("master", JDBCType.INTEGER);
+
+        public final SqlColumn<Long> updateTime = column("update_time", JDBCType.BIGINT);
+
         public WebserviceServerInfoRecord() {
             super("webservice_server_info");
         }
@@ -50,7 +50,9 @@ public interface WebserviceServerInfoRecordMapper {
     @ConstructorArgs({
         @Arg(column="id", javaType=Long.class, jdbcType=JdbcType.BIGINT, id=true),
         @Arg(column="uuid", javaType=String.class, jdbcType=JdbcType.VARCHAR),
-        @Arg(column="service_address", javaType=String.class, jdbcType=JdbcType.VARCHAR)
+        @Arg(column="service_address", javaType=String.class, jdbcType=JdbcType.VARCHAR),
+        @Arg(column="master", javaType=Integer.class, jdbcType=JdbcType.INTEGER),
+        @Arg(column="update_time", javaType=Long.class, jdbcType=JdbcType.BIGINT)
     })
     WebserviceServerInfoRecord selectOne(SelectStatementProvider selectStatement);
 
@@ -59,7 +61,9 @@ public interface WebserviceServerInfoRecordMapper {
     @ConstructorArgs({
         @Arg(column="id", javaType=Long.class, jdbcType=JdbcType.BIGINT, id=true),
         @Arg(column="uuid", javaType=String.class, jdbcType=JdbcType.VARCHAR),
-        @Arg(column="service_address", javaType=String.class, jdbcType=JdbcType.VARCHAR)
+        @Arg(column="service_address", javaType=String.class, jdbcType=JdbcType.VARCHAR),
+        @Arg(column="master", javaType=Integer.class, jdbcType=JdbcType.INTEGER),
+        @Arg(column="update_time", javaType=Long.class, jdbcType=JdbcType.BIGINT)
     })
     List<WebserviceServerInfoRecord> selectMany(SelectStatementProvider selectStatement);
 
@@ -92,6 +96,8 @@ public interface WebserviceServerInfoRecordMapper {
                 .into(webserviceServerInfoRecord)
                 .map(uuid).toProperty("uuid")
                 .map(serviceAddress).toProperty("serviceAddress")
+                .map(master).toProperty("master")
+                .map(updateTime).toProperty("updateTime")
                 .build()
                 .render(RenderingStrategy.MYBATIS3));
     }
@@ -102,25 +108,27 @@ public interface WebserviceServerInfoRecordMapper {
                 .into(webserviceServerInfoRecord)
                 .map(uuid).toPropertyWhenPresent("uuid", record::getUuid)
                 .map(serviceAddress).toPropertyWhenPresent("serviceAddress", record::getServiceAddress)
+                .map(master).toPropertyWhenPresent("master", record::getMaster)
+                .map(updateTime).toPropertyWhenPresent("updateTime", record::getUpdateTime)
                 .build()
                 .render(RenderingStrategy.MYBATIS3));
     }
 
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.036+01:00", comments="Source Table: webservice_server_info")
     default QueryExpressionDSL<MyBatis3SelectModelAdapter<List<WebserviceServerInfoRecord>>> selectByExample() {
-        return SelectDSL.selectWithMapper(this::selectMany, id, uuid, serviceAddress)
+        return SelectDSL.selectWithMapper(this::selectMany, id, uuid, serviceAddress, master, updateTime)
                 .from(webserviceServerInfoRecord);
     }
 
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.036+01:00", comments="Source Table: webservice_server_info")
     default QueryExpressionDSL<MyBatis3SelectModelAdapter<List<WebserviceServerInfoRecord>>> selectDistinctByExample() {
-        return SelectDSL.selectDistinctWithMapper(this::selectMany, id, uuid, serviceAddress)
+        return SelectDSL.selectDistinctWithMapper(this::selectMany, id, uuid, serviceAddress, master, updateTime)
                 .from(webserviceServerInfoRecord);
     }
 
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.036+01:00", comments="Source Table: webservice_server_info")
     default WebserviceServerInfoRecord selectByPrimaryKey(Long id_) {
-        return SelectDSL.selectWithMapper(this::selectOne, id, uuid, serviceAddress)
+        return SelectDSL.selectWithMapper(this::selectOne, id, uuid, serviceAddress, master, updateTime)
                 .from(webserviceServerInfoRecord)
                 .where(id, isEqualTo(id_))
                 .build()
@@ -131,14 +139,18 @@ public interface WebserviceServerInfoRecordMapper {
     default UpdateDSL<MyBatis3UpdateModelAdapter<Integer>> updateByExample(WebserviceServerInfoRecord record) {
         return UpdateDSL.updateWithMapper(this::update, webserviceServerInfoRecord)
                 .set(uuid).equalTo(record::getUuid)
-                .set(serviceAddress).equalTo(record::getServiceAddress);
+                .set(serviceAddress).equalTo(record::getServiceAddress)
+                .set(master).equalTo(record::getMaster)
+                .set(updateTime).equalTo(record::getUpdateTime);
     }
 
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.036+01:00", comments="Source Table: webservice_server_info")
     default UpdateDSL<MyBatis3UpdateModelAdapter<Integer>> updateByExampleSelective(WebserviceServerInfoRecord record) {
         return UpdateDSL.updateWithMapper(this::update, webserviceServerInfoRecord)
                 .set(uuid).equalToWhenPresent(record::getUuid)
-                .set(serviceAddress).equalToWhenPresent(record::getServiceAddress);
+                .set(serviceAddress).equalToWhenPresent(record::getServiceAddress)
+                .set(master).equalToWhenPresent(record::getMaster)
+                .set(updateTime).equalToWhenPresent(record::getUpdateTime);
     }
 
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.036+01:00", comments="Source Table: webservice_server_info")
@@ -146,6 +158,8 @@ public interface WebserviceServerInfoRecordMapper {
         return UpdateDSL.updateWithMapper(this::update, webserviceServerInfoRecord)
                 .set(uuid).equalTo(record::getUuid)
                 .set(serviceAddress).equalTo(record::getServiceAddress)
+                .set(master).equalTo(record::getMaster)
+                .set(updateTime).equalTo(record::getUpdateTime)
                 .where(id, isEqualTo(record::getId))
                 .build()
                 .execute();
@@ -156,6 +170,8 @@ public interface WebserviceServerInfoRecordMapper {
         return UpdateDSL.updateWithMapper(this::update, webserviceServerInfoRecord)
                 .set(uuid).equalToWhenPresent(record::getUuid)
                 .set(serviceAddress).equalToWhenPresent(record::getServiceAddress)
+                .set(master).equalToWhenPresent(record::getMaster)
+                .set(updateTime).equalToWhenPresent(record::getUpdateTime)
                 .where(id, isEqualTo(record::getId))
                 .build()
                 .execute();
@@ -18,13 +18,21 @@ public class ClientInstructionRecord {
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.010+01:00", comments="Source field: client_instruction.attributes")
     private String attributes;
 
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.010+01:00", comments="Source field: client_instruction.excluded_tokens")
+    private String excludedTokens;
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.010+01:00", comments="Source field: client_instruction.creation_time")
+    private Long creationTime;
+
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.009+01:00", comments="Source Table: client_instruction")
-    public ClientInstructionRecord(Long id, Long examId, String connectionToken, String type, String attributes) {
+    public ClientInstructionRecord(Long id, Long examId, String connectionToken, String type, String attributes, String excludedTokens, Long creationTime) {
         this.id = id;
         this.examId = examId;
         this.connectionToken = connectionToken;
         this.type = type;
         this.attributes = attributes;
+        this.excludedTokens = excludedTokens;
+        this.creationTime = creationTime;
     }
 
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.009+01:00", comments="Source field: client_instruction.id")
@@ -52,6 +60,16 @@ public class ClientInstructionRecord {
         return attributes;
     }
 
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.010+01:00", comments="Source field: client_instruction.excluded_tokens")
+    public String getExcludedTokens() {
+        return excludedTokens;
+    }
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.010+01:00", comments="Source field: client_instruction.creation_time")
+    public Long getCreationTime() {
+        return creationTime;
+    }
+
     /**
      * This method was generated by MyBatis Generator.
      * This method corresponds to the database table client_instruction
@@ -69,6 +87,8 @@ public class ClientInstructionRecord {
         sb.append(", connectionToken=").append(connectionToken);
         sb.append(", type=").append(type);
         sb.append(", attributes=").append(attributes);
+        sb.append(", excludedTokens=").append(excludedTokens);
+        sb.append(", creationTime=").append(creationTime);
         sb.append("]");
         return sb.toString();
     }
@@ -95,7 +115,9 @@ public class ClientInstructionRecord {
             && (this.getExamId() == null ? other.getExamId() == null : this.getExamId().equals(other.getExamId()))
             && (this.getConnectionToken() == null ? other.getConnectionToken() == null : this.getConnectionToken().equals(other.getConnectionToken()))
             && (this.getType() == null ? other.getType() == null : this.getType().equals(other.getType()))
-            && (this.getAttributes() == null ? other.getAttributes() == null : this.getAttributes().equals(other.getAttributes()));
+            && (this.getAttributes() == null ? other.getAttributes() == null : this.getAttributes().equals(other.getAttributes()))
+            && (this.getExcludedTokens() == null ? other.getExcludedTokens() == null : this.getExcludedTokens().equals(other.getExcludedTokens()))
+            && (this.getCreationTime() == null ? other.getCreationTime() == null : this.getCreationTime().equals(other.getCreationTime()));
     }
 
     /**
@@ -113,6 +135,8 @@ public class ClientInstructionRecord {
         result = prime * result + ((getConnectionToken() == null) ? 0 : getConnectionToken().hashCode());
         result = prime * result + ((getType() == null) ? 0 : getType().hashCode());
         result = prime * result + ((getAttributes() == null) ? 0 : getAttributes().hashCode());
+        result = prime * result + ((getExcludedTokens() == null) ? 0 : getExcludedTokens().hashCode());
+        result = prime * result + ((getCreationTime() == null) ? 0 : getCreationTime().hashCode());
         return result;
     }
 }
\ No newline at end of file
@@ -12,11 +12,19 @@ public class WebserviceServerInfoRecord {
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.035+01:00", comments="Source field: webservice_server_info.service_address")
     private String serviceAddress;
 
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.035+01:00", comments="Source field: webservice_server_info.master")
+    private Integer master;
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.035+01:00", comments="Source field: webservice_server_info.update_time")
+    private Long updateTime;
+
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.035+01:00", comments="Source Table: webservice_server_info")
-    public WebserviceServerInfoRecord(Long id, String uuid, String serviceAddress) {
+    public WebserviceServerInfoRecord(Long id, String uuid, String serviceAddress, Integer master, Long updateTime) {
         this.id = id;
         this.uuid = uuid;
         this.serviceAddress = serviceAddress;
+        this.master = master;
+        this.updateTime = updateTime;
     }
 
     @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.035+01:00", comments="Source field: webservice_server_info.id")
@@ -34,6 +42,16 @@ public class WebserviceServerInfoRecord {
         return serviceAddress;
     }
 
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.035+01:00", comments="Source field: webservice_server_info.master")
+    public Integer getMaster() {
+        return master;
+    }
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", date="2020-02-05T10:36:22.035+01:00", comments="Source field: webservice_server_info.update_time")
+    public Long getUpdateTime() {
+        return updateTime;
+    }
+
     /**
      * This method was generated by MyBatis Generator.
      * This method corresponds to the database table webservice_server_info
@@ -49,6 +67,8 @@ public class WebserviceServerInfoRecord {
         sb.append(", id=").append(id);
         sb.append(", uuid=").append(uuid);
         sb.append(", serviceAddress=").append(serviceAddress);
+        sb.append(", master=").append(master);
+        sb.append(", updateTime=").append(updateTime);
         sb.append("]");
         return sb.toString();
     }
@@ -73,7 +93,9 @@ public class WebserviceServerInfoRecord {
         WebserviceServerInfoRecord other = (WebserviceServerInfoRecord) that;
         return (this.getId() == null ? other.getId() == null : this.getId().equals(other.getId()))
             && (this.getUuid() == null ? other.getUuid() == null : this.getUuid().equals(other.getUuid()))
-            && (this.getServiceAddress() == null ? other.getServiceAddress() == null : this.getServiceAddress().equals(other.getServiceAddress()));
+            && (this.getServiceAddress() == null ? other.getServiceAddress() == null : this.getServiceAddress().equals(other.getServiceAddress()))
+            && (this.getMaster() == null ? other.getMaster() == null : this.getMaster().equals(other.getMaster()))
+            && (this.getUpdateTime() == null ? other.getUpdateTime() == null : this.getUpdateTime().equals(other.getUpdateTime()));
     }
 
     /**
@@ -89,6 +111,8 @@ public class WebserviceServerInfoRecord {
         result = prime * result + ((getId() == null) ? 0 : getId().hashCode());
         result = prime * result + ((getUuid() == null) ? 0 : getUuid().hashCode());
         result = prime * result + ((getServiceAddress() == null) ? 0 : getServiceAddress().hashCode());
+        result = prime * result + ((getMaster() == null) ? 0 : getMaster().hashCode());
+        result = prime * result + ((getUpdateTime() == null) ? 0 : getUpdateTime().hashCode());
         return result;
     }
 }
\ No newline at end of file
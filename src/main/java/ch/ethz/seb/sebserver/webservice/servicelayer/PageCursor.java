@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.mybatis.dynamic.sql.SqlBuilder;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.select.QueryExpressionDSL;
+import org.mybatis.dynamic.sql.select.SelectDSL;
+
+import ch.ethz.seb.sebserver.gbl.model.PageSortOrder;
+
+/** Defines the position and the order of a keyset (cursor) paginated query on a (time, id) key.
+ *
+ * The cursor is encoded as "{time}_{id}" of the last entry of the previous page. The next page contains
+ * all entries that are, in the given sort order, located after this key. A PageCursor without position
+ * refers to the first page. */
+public final class PageCursor {
+
+    private static final String SEPARATOR = "_";
+
+    public final boolean descending;
+    /** The time value of the last entry of the previous page or null for the first page */
+    public final Long time;
+    /** The identifier of the last entry of the previous page or null for the first page */
+    public final Long id;
+
+    private PageCursor(final boolean descending, final Long time, final Long id) {
+        this.descending = descending;
+        this.time = time;
+        this.id = id;
+    }
+
+    public boolean hasPosition() {
+        return this.time != null && this.id != null;
+    }
+
+    /** Applies the keyset condition and the ordering of this PageCursor to a given select statement.
+     *
+     * @param where the where clause of the select statement
+     * @param timeColumn the time column of the key
+     * @param idColumn the identifier column of the key
+     * @return the ordered select statement */
+    public <R> SelectDSL<R> applyTo(
+            final QueryExpressionDSL<R>.QueryExpressionWhereBuilder where,
+            final SqlColumn<Long> timeColumn,
+            final SqlColumn<Long> idColumn) {
+
+        if (hasPosition()) {
+            where.and(
+                    timeColumn,
+                    (this.descending)
+                            ? SqlBuilder.isLessThan(this.time)
+                            : SqlBuilder.isGreaterThan(this.time),
+                    SqlBuilder.or(
+                            timeColumn,
+                            SqlBuilder.isEqualTo(this.time),
+                            SqlBuilder.and(
+                                    idColumn,
+                                    (this.descending)
+                                            ? SqlBuilder.isLessThan(this.id)
+                                            : SqlBuilder.isGreaterThan(this.id))));
+        }
+
+        return (this.descending)
+                ? where.orderBy(timeColumn.descending(), idColumn.descending())
+                : where.orderBy(timeColumn, idColumn);
+    }
+
+    /** Indicates if keyset pagination can be applied for the given sort parameter.
+     * This is the case if there is no sort or the sort refers to the time attribute of the key.
+     *
+     * @param sort the SEB Server API encoded sort parameter
+     * @param timeAttribute the name of the time attribute of the key
+     * @return true if keyset pagination can be applied */
+    public static boolean isApplicable(final String sort, final String timeAttribute) {
+        return StringUtils.isBlank(sort) || timeAttribute.equals(PageSortOrder.decode(sort));
+    }
+
+    /** Decodes a given cursor parameter. An invalid or missing cursor refers to the first page.
+     *
+     * @param sort the SEB Server API encoded sort parameter
+     * @param cursor the cursor parameter as encoded by encode
+     * @return the PageCursor */
+    public static PageCursor decode(final String sort, final String cursor) {
+        final boolean descending = PageSortOrder.getSortOrder(sort) == PageSortOrder.DESCENDING;
+        if (StringUtils.isBlank(cursor)) {
+            return new PageCursor(descending, null, null);
+        }
+
+        try {
+            final String[] split = StringUtils.split(cursor, SEPARATOR);
+            return new PageCursor(descending, Long.parseLong(split[0]), Long.parseLong(split[1]));
+        } catch (final Exception e) {
+            return new PageCursor(descending, null, null);
+        }
+    }
+
+    public static String encode(final Long time, final Long id) {
+        return time + SEPARATOR + id;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("PageCursor [descending=");
+        builder.append(this.descending);
+        builder.append(", time=");
+        builder.append(this.time);
+        builder.append(", id=");
+        builder.append(this.id);
+        builder.append("]");
+        return builder.toString();
+    }
+
+}
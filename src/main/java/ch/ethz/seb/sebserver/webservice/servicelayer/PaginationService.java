@@ -9,6 +9,8 @@
 package ch.ethz.seb.sebserver.webservice.servicelayer;
 
 import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.mybatis.dynamic.sql.SqlTable;
@@ -75,4 +77,36 @@ public interface PaginationService {
             final String tableName,
             final Supplier<Result<Collection<T>>> delegate);
 
+    /** Get a Page of specified domain models with keyset (cursor) pagination on a (time, id) key.
+     *
+     * Instead of skipping all entries of the previous pages (OFFSET) the delegate has to select only the
+     * entries after the position of the given PageCursor, ordered by (time, id) in the order of the PageCursor.
+     * This service only applies the page limit on SQL level. There is no additional count query. The number of
+     * pages of the resulting Page is approximated by the number of already known pages plus one if there are
+     * more entries after the page.
+     *
+     * If there is no cursor for a requested page number greater then one (e.g.: jump to a page), the page is
+     * requested with an offset instead, but still without count query.
+     *
+     * The given filter is applied on software-level after the SQL query. If it filters entries away, the
+     * delegate is applied again from the position of the last fetched entry until the page is filled or
+     * there are no more entries. Therefore the delegate must not apply any additional filter itself.
+     *
+     * @param pageNumber the current page number
+     * @param pageSize the (full) size of the page
+     * @param sort the sort parameter. Either blank or the time attribute of the key with optional leading '-'
+     * @param cursor the cursor of the requested page as given by Page.nextCursor of the previous page or null
+     * @param cursorOf function to get the encoded cursor of a page entry (see PageCursor.encode)
+     * @param filter additional filter on software-level (e.g.: read access of the current user)
+     * @param delegate a function that does the underling SQL query for the given PageCursor
+     * @return Result refers to a Page of specified type of model models or to an exception on error case */
+    <T extends Entity> Result<Page<T>> getKeysetPage(
+            final Integer pageNumber,
+            final Integer pageSize,
+            final String sort,
+            final String cursor,
+            final Function<T, String> cursorOf,
+            final Predicate<T> filter,
+            final Function<PageCursor, Result<Collection<T>>> delegate);
+
 }
@@ -8,9 +8,13 @@
 
 package ch.ethz.seb.sebserver.webservice.servicelayer;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.StringUtils;
@@ -25,6 +29,7 @@ import ch.ethz.seb.sebserver.gbl.model.Domain;
 import ch.ethz.seb.sebserver.gbl.model.Entity;
 import ch.ethz.seb.sebserver.gbl.model.Page;
 import ch.ethz.seb.sebserver.gbl.model.PageSortOrder;
+import ch.ethz.seb.sebserver.gbl.model.exam.QuizData;
 import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
 import ch.ethz.seb.sebserver.gbl.util.Result;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientEventRecordDynamicSqlSupport;
@@ -145,6 +150,54 @@ public class PaginationServiceImpl implements PaginationService {
         });
     }
 
+    @Override
+    public <T extends Entity> Result<Page<T>> getKeysetPage(
+            final Integer pageNumber,
+            final Integer pageSize,
+            final String sort,
+            final String cursor,
+            final Function<T, String> cursorOf,
+            final Predicate<T> filter,
+            final Function<PageCursor, Result<Collection<T>>> delegate) {
+
+        return Result.tryCatch(() -> {
+            final int page = getPageNumber(pageNumber);
+            final int size = getPageSize(pageSize);
+            PageCursor pageCursor = PageCursor.decode(sort, cursor);
+            int offset = (pageCursor.hasPosition()) ? 0 : (page - 1) * size;
+
+            // fetch one more entry to know if there is a next page. No count query
+            // if the filter takes entries away, fetch again after the last fetched entry until
+            // the page is filled or there are no more entries
+            final List<T> list = new ArrayList<>(size + 1);
+            while (list.size() <= size) {
+                PageHelper.offsetPage(offset, size + 1, false);
+                final List<T> fetched = new ArrayList<>(delegate.apply(pageCursor).getOrThrow());
+                fetched.stream()
+                        .filter(filter)
+                        .limit(size + 1 - list.size())
+                        .forEach(list::add);
+
+                if (fetched.size() <= size) {
+                    break;
+                }
+
+                pageCursor = PageCursor.decode(sort, cursorOf.apply(fetched.get(fetched.size() - 1)));
+                offset = 0;
+            }
+
+            final boolean hasNext = list.size() > size;
+            final List<T> content = (hasNext) ? list.subList(0, size) : list;
+
+            return new Page<>(
+                    (hasNext) ? page + 1 : page,
+                    page,
+                    sort,
+                    content,
+                    (hasNext) ? cursorOf.apply(content.get(size - 1)) : null);
+        });
+    }
+
     private String verifySortColumnName(final String sort, final String columnName) {
 
         if (StringUtils.isBlank(sort)) {
@@ -236,6 +289,21 @@ public class PaginationServiceImpl implements PaginationService {
         examTableMap.put(
                 Domain.EXAM.ATTR_TYPE,
                 ExamRecordDynamicSqlSupport.type.name());
+        examTableMap.put(
+                Domain.EXAM.ATTR_LMS_SETUP_ID,
+                ExamRecordDynamicSqlSupport.lmsSetupId.name());
+        examTableMap.put(
+                QuizData.QUIZ_ATTR_NAME,
+                ExamRecordDynamicSqlSupport.quizName.name());
+        examTableMap.put(
+                Entity.FILTER_ATTR_NAME,
+                ExamRecordDynamicSqlSupport.quizName.name());
+        examTableMap.put(
+                QuizData.QUIZ_ATTR_START_TIME,
+                ExamRecordDynamicSqlSupport.quizStartTime.name());
+        examTableMap.put(
+                QuizData.FILTER_ATTR_START_TIME,
+                ExamRecordDynamicSqlSupport.quizStartTime.name());
         this.sortColumnMapping.put(
                 ExamRecordDynamicSqlSupport.examRecord.name(),
                 examTableMap);
@@ -8,6 +8,10 @@
 
 package ch.ethz.seb.sebserver.webservice.servicelayer.bulkaction;
 
+import java.util.function.Consumer;
+
+import ch.ethz.seb.sebserver.gbl.api.EntityType;
+import ch.ethz.seb.sebserver.gbl.model.BulkActionJobStatus;
 import ch.ethz.seb.sebserver.gbl.model.EntityProcessingReport;
 import ch.ethz.seb.sebserver.gbl.util.Result;
 import ch.ethz.seb.sebserver.webservice.servicelayer.bulkaction.impl.BulkAction;
@@ -33,7 +37,11 @@ import ch.ethz.seb.sebserver.webservice.servicelayer.bulkaction.impl.BulkAction;
  *                      | Exam Config Mapping
  *                      |
  *               Client Connection
- * </code> */
+ * </code>
+ * <p>
+ * The entities of one type are processed in chunks, each chunk within its own transaction, and the
+ * user activity log entries of a chunk are written in one batch. A BulkAction that affects many entities
+ * can be submitted as a background job that can be observed by its BulkActionJobStatus. */
 public interface BulkActionService {
 
     /** Use this to collect all EntityKey's of dependent entities for a given BulkAction.
@@ -57,4 +65,22 @@ public interface BulkActionService {
      * @return EntityProcessingReport extracted form an executed BulkAction */
     Result<EntityProcessingReport> createReport(BulkAction action);
 
+    /** Submits a given BulkAction to be processed asynchronously as a background job for the current user.
+     * The given callback is called within the job thread with the EntityProcessingReport after all
+     * entities have been processed.
+     *
+     * @param action the BulkAction that defines at least the type and the source entity keys
+     * @param onFinished callback that is called with the EntityProcessingReport when the job has finished
+     * @return Result refer to the initial BulkActionJobStatus of the submitted job or to an error if happened */
+    Result<BulkActionJobStatus> submitBulkAction(BulkAction action, Consumer<EntityProcessingReport> onFinished);
+
+    /** Get the current status of a bulk action job that has been submitted with submitBulkAction.
+     * Finished jobs are only kept for a limited time.
+     *
+     * @param sourceType the EntityType of the source entities of the bulk action job
+     * @param jobId the identifier of the job
+     * @return Result refer to the current BulkActionJobStatus or to a ResourceNotFoundException if there is no
+     *         such job for the given source type */
+    Result<BulkActionJobStatus> getJobStatus(EntityType sourceType, String jobId);
+
 }
\ No newline at end of file
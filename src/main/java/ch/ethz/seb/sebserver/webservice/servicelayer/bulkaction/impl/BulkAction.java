@@ -83,6 +83,22 @@ public final class BulkAction {
         return Collections.emptySet();
     }
 
+    /** Creates a new BulkAction of the same type and source type that only refers to the given chunk of
+     * entity keys of the given type. This is used to process the entities of one type in bounded chunks.
+     *
+     * @param type the EntityType of the chunk
+     * @param chunk the entity keys of the chunk
+     * @return new BulkAction that only refers to the given chunk of entity keys */
+    BulkAction chunkOf(final EntityType type, final Collection<EntityKey> chunk) {
+        if (this.sourceType == type) {
+            return new BulkAction(this.type, this.sourceType, chunk);
+        }
+
+        final BulkAction chunkAction = new BulkAction(this.type, this.sourceType, Collections.emptyList());
+        chunkAction.dependencies.addAll(chunk);
+        return chunkAction;
+    }
+
     public UserLogActivityType getActivityType() {
         if (this.type == null) {
             return null;
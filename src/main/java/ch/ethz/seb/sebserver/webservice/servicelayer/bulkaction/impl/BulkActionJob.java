@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.bulkaction.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ch.ethz.seb.sebserver.gbl.model.BulkActionJobStatus;
+import ch.ethz.seb.sebserver.gbl.model.BulkActionJobStatus.JobState;
+import ch.ethz.seb.sebserver.gbl.model.EntityProcessingReport;
+import ch.ethz.seb.sebserver.gbl.util.Utils;
+import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.impl.SEBServerUser;
+
+/** Holds the state and progress of an asynchronously processed BulkAction */
+final class BulkActionJob {
+
+    final String jobId;
+    final BulkAction action;
+    final SEBServerUser user;
+    final long submitTime;
+    final AtomicInteger processed = new AtomicInteger(0);
+
+    private volatile JobState state = JobState.PENDING;
+    private volatile int total = 0;
+    private volatile Long endTime = null;
+    private volatile EntityProcessingReport report = null;
+    private volatile String error = null;
+
+    BulkActionJob(final String jobId, final BulkAction action, final SEBServerUser user) {
+        this.jobId = jobId;
+        this.action = action;
+        this.user = user;
+        this.submitTime = Utils.getMillisecondsNow();
+    }
+
+    void start(final int total) {
+        this.total = total;
+        this.state = JobState.RUNNING;
+    }
+
+    void finish(final EntityProcessingReport report) {
+        this.report = report;
+        this.endTime = Utils.getMillisecondsNow();
+        this.state = JobState.FINISHED;
+    }
+
+    void fail(final Exception error) {
+        this.error = error.getMessage();
+        this.endTime = Utils.getMillisecondsNow();
+        this.state = JobState.FAILED;
+    }
+
+    boolean isExpired(final long now, final long timeToLive) {
+        final Long end = this.endTime;
+        return end != null && now - end > timeToLive;
+    }
+
+    BulkActionJobStatus getStatus() {
+        return new BulkActionJobStatus(
+                this.jobId,
+                this.user.getUserInfo().uuid,
+                this.action.type,
+                this.action.sourceType,
+                this.state,
+                this.total,
+                this.processed.get(),
+                this.submitTime,
+                this.endTime,
+                this.report,
+                this.error);
+    }
+
+}
@@ -8,6 +8,7 @@
 
 package ch.ethz.seb.sebserver.webservice.servicelayer.bulkaction.impl;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -15,38 +16,68 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+import ch.ethz.seb.sebserver.gbl.api.APIMessage;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.api.JSONMapper;
+import ch.ethz.seb.sebserver.gbl.async.AsyncRunner;
+import ch.ethz.seb.sebserver.gbl.model.BulkActionJobStatus;
 import ch.ethz.seb.sebserver.gbl.model.EntityKey;
 import ch.ethz.seb.sebserver.gbl.model.EntityProcessingReport;
+import ch.ethz.seb.sebserver.gbl.model.EntityProcessingReport.ErrorEntry;
 import ch.ethz.seb.sebserver.gbl.model.user.UserLogActivityType;
 import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
 import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.gbl.util.Utils;
+import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.UserService;
+import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.impl.SEBServerUser;
+import ch.ethz.seb.sebserver.webservice.servicelayer.bulkaction.BulkActionEntityException;
 import ch.ethz.seb.sebserver.webservice.servicelayer.bulkaction.BulkActionService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.bulkaction.BulkActionSupportDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ResourceNotFoundException;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.UserActivityLogDAO;
 
 @Service
 @WebServiceProfile
 public class BulkActionServiceImpl implements BulkActionService {
 
+    private static final Logger log = LoggerFactory.getLogger(BulkActionServiceImpl.class);
+
+    private static final String LOG_MESSAGE_DEPENDENCY = "Bulk Action - Dependency : ";
+    private static final String LOG_MESSAGE_SOURCE = "Bulk Action - Source : ";
+
     private final Map<EntityType, BulkActionSupportDAO<?>> supporter;
     private final UserActivityLogDAO userActivityLogDAO;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final JSONMapper jsonMapper;
+    private final UserService userService;
+    private final AsyncRunner asyncRunner;
+    private final int chunkSize;
+    private final long jobTimeToLive;
+
+    private final Map<String, BulkActionJob> jobs = new ConcurrentHashMap<>();
 
     public BulkActionServiceImpl(
             final Collection<BulkActionSupportDAO<?>> supporter,
             final UserActivityLogDAO userActivityLogDAO,
             final ApplicationEventPublisher applicationEventPublisher,
-            final JSONMapper jsonMapper) {
+            final JSONMapper jsonMapper,
+            final UserService userService,
+            final AsyncRunner asyncRunner,
+            @Value("${sebserver.webservice.bulkaction.chunk-size:100}") final int chunkSize,
+            @Value("${sebserver.webservice.bulkaction.job.time-to-live:3600000}") final long jobTimeToLive) {
 
         this.supporter = new HashMap<>();
         for (final BulkActionSupportDAO<?> support : supporter) {
@@ -55,6 +86,10 @@ public class BulkActionServiceImpl implements BulkActionService {
         this.userActivityLogDAO = userActivityLogDAO;
         this.applicationEventPublisher = applicationEventPublisher;
         this.jsonMapper = jsonMapper;
+        this.userService = userService;
+        this.asyncRunner = asyncRunner;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.jobTimeToLive = jobTimeToLive;
     }
 
     @Override
@@ -67,100 +102,203 @@ public class BulkActionServiceImpl implements BulkActionService {
     }
 
     @Override
-
     public Result<BulkAction> doBulkAction(final BulkAction action) {
-        return Result.tryCatch(() -> {
+        return Result.tryCatch(() -> process(action, this.userService.getCurrentUser(), null));
+    }
+
+    @Override
+    public Result<EntityProcessingReport> createReport(final BulkAction action) {
+        if (!action.alreadyProcessed) {
+            return doBulkAction(action)
+                    .flatMap(this::createFullReport);
+        } else {
+            return createFullReport(action);
+        }
+    }
+
+    @Override
+    public Result<BulkActionJobStatus> submitBulkAction(
+            final BulkAction action,
+            final Consumer<EntityProcessingReport> onFinished) {
 
+        return Result.tryCatch(() -> {
             checkProcessing(action);
+            evictExpiredJobs();
+
+            final BulkActionJob job = new BulkActionJob(
+                    UUID.randomUUID().toString(),
+                    action,
+                    this.userService.getCurrentUser());
+
+            this.jobs.put(job.jobId, job);
+            try {
+                this.asyncRunner.runAsync(() -> runJob(job, onFinished));
+            } catch (final Exception e) {
+                this.jobs.remove(job.jobId);
+                throw e;
+            }
+
+            return job.getStatus();
+        });
+    }
 
-            final BulkActionSupportDAO<?> supportForSource = this.supporter
-                    .get(action.sourceType);
-            if (supportForSource == null) {
-                action.alreadyProcessed = true;
-                throw new IllegalArgumentException("No bulk action support for: " + action);
+    @Override
+    public Result<BulkActionJobStatus> getJobStatus(final EntityType sourceType, final String jobId) {
+        return Result.tryCatch(() -> {
+            evictExpiredJobs();
+
+            final BulkActionJob job = this.jobs.get(jobId);
+            if (job == null || job.action.sourceType != sourceType) {
+                throw new ResourceNotFoundException(sourceType, jobId);
             }
 
-            collectDependencies(action);
+            return job.getStatus();
+        });
+    }
+
+    private void runJob(final BulkActionJob job, final Consumer<EntityProcessingReport> onFinished) {
+        try {
 
-            if (!action.dependencies.isEmpty()) {
-                // process dependencies first...
-                final List<BulkActionSupportDAO<?>> dependencySupporter =
-                        getDependencySupporter(action);
+            process(job.action, job.user, job);
+            final EntityProcessingReport report = createFullReport(job.action).getOrThrow();
 
-                for (final BulkActionSupportDAO<?> support : dependencySupporter) {
-                    action.result.addAll(support.processBulkAction(action));
+            if (onFinished != null) {
+                try {
+                    onFinished.accept(report);
+                } catch (final Exception e) {
+                    log.error("Unexpected error while notify finished bulk action job: {}", job.jobId, e);
                 }
             }
 
-            action.result.addAll(supportForSource.processBulkAction(action));
+            job.finish(report);
 
-            processUserActivityLog(action);
+        } catch (final Exception e) {
+            log.error("Bulk action job: {} failed: ", job.jobId, e);
+            job.fail(e);
+        }
+    }
+
+    private BulkAction process(final BulkAction action, final SEBServerUser user, final BulkActionJob job) {
+        checkProcessing(action);
+
+        final BulkActionSupportDAO<?> supportForSource = this.supporter
+                .get(action.sourceType);
+        if (supportForSource == null) {
             action.alreadyProcessed = true;
+            throw new IllegalArgumentException("No bulk action support for: " + action);
+        }
 
-            this.applicationEventPublisher.publishEvent(new BulkActionEvent(action));
+        collectDependencies(action);
 
-            return action;
-        });
+        if (job != null) {
+            job.start(action.dependencies.size() + action.sources.size());
+        }
+
+        if (!action.dependencies.isEmpty()) {
+            // process dependencies first...
+            final List<BulkActionSupportDAO<?>> dependencySupporter =
+                    getDependencySupporter(action);
+
+            for (final BulkActionSupportDAO<?> support : dependencySupporter) {
+                processInChunks(action, support, user, job, LOG_MESSAGE_DEPENDENCY);
+            }
+        }
+
+        processInChunks(action, supportForSource, user, job, LOG_MESSAGE_SOURCE);
+
+        action.alreadyProcessed = true;
+
+        this.applicationEventPublisher.publishEvent(new BulkActionEvent(action));
+
+        return action;
     }
 
-    @Override
-    public Result<EntityProcessingReport> createReport(final BulkAction action) {
-        if (!action.alreadyProcessed) {
-            return doBulkAction(action)
-                    .flatMap(this::createFullReport);
-        } else {
-            return createFullReport(action);
+    /** Processes all entities of the type of the given BulkActionSupportDAO in chunks of the configured chunk-size.
+     * Each chunk is processed within its own transaction and the user activity log entries of a chunk are
+     * written within one batch after the chunk has been processed. */
+    private void processInChunks(
+            final BulkAction action,
+            final BulkActionSupportDAO<?> support,
+            final SEBServerUser user,
+            final BulkActionJob job,
+            final String logMessage) {
+
+        final EntityType entityType = support.entityType();
+        final List<EntityKey> keys = new ArrayList<>(action.extractKeys(entityType));
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < keys.size(); from += this.chunkSize) {
+            final List<EntityKey> chunk = keys.subList(from, Math.min(from + this.chunkSize, keys.size()));
+            final Collection<Result<EntityKey>> results = (keys.size() <= this.chunkSize)
+                    ? support.processBulkAction(action)
+                    : support.processBulkAction(action.chunkOf(entityType, chunk));
+
+            action.result.addAll(results);
+            processUserActivityLog(action, user, results, logMessage);
+
+            if (job != null) {
+                job.processed.addAndGet(chunk.size());
+            }
         }
     }
 
     private Result<EntityProcessingReport> createFullReport(final BulkAction action) {
-        return Result.tryCatch(() -> {
+        return Result.tryCatch(() -> new EntityProcessingReport(
+                action.sources,
+                action.dependencies,
+                action.result
+                        .stream()
+                        .filter(Result::hasError)
+                        .map(result -> toErrorEntry(result.getError()))
+                        .collect(Collectors.toList())));
+    }
 
-            // TODO
-            return new EntityProcessingReport(
-                    action.sources,
-                    Collections.emptyList(),
-                    Collections.emptyList());
-        });
+    private ErrorEntry toErrorEntry(final Exception error) {
+        return new ErrorEntry(
+                (error instanceof BulkActionEntityException) ? ((BulkActionEntityException) error).key : null,
+                APIMessage.ErrorMessage.UNEXPECTED.of(error));
     }
 
-    private void processUserActivityLog(final BulkAction action) {
-        final UserLogActivityType activityType = action.getActivityType();
+    private void processUserActivityLog(
+            final BulkAction action,
+            final SEBServerUser user,
+            final Collection<Result<EntityKey>> results,
+            final String logMessage) {
 
-        if (activityType == null) {
+        final UserLogActivityType activityType = action.getActivityType();
+        if (activityType == null || user == null) {
             return;
         }
 
-        for (final EntityKey key : action.dependencies) {
-
-            this.userActivityLogDAO.log(
-                    activityType,
-                    key.entityType,
-                    key.modelId,
-                    "Bulk Action - Dependency : " + toLogMessage(key));
-        }
+        final List<EntityKey> processed = results
+                .stream()
+                .flatMap(Result::skipOnError)
+                .collect(Collectors.toList());
 
-        for (final EntityKey key : action.sources) {
-            this.userActivityLogDAO.log(
-                    activityType,
-                    key.entityType,
-                    key.modelId,
-                    "Bulk Action - Source : " + toLogMessage(key));
-        }
+        this.userActivityLogDAO.logAll(
+                user,
+                activityType,
+                processed,
+                key -> logMessage + toLogMessage(key));
     }
 
     private String toLogMessage(final EntityKey key) {
         String entityAsString;
         try {
-            entityAsString = this.jsonMapper
-                    .writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(key);
+            entityAsString = this.jsonMapper.writeValueAsString(key);
         } catch (final JsonProcessingException e) {
             entityAsString = key.toString();
         }
         return entityAsString;
     }
 
+    private void evictExpiredJobs() {
+        final long now = Utils.getMillisecondsNow();
+        this.jobs.values().removeIf(job -> job.isExpired(now, this.jobTimeToLive));
+    }
+
     private List<BulkActionSupportDAO<?>> getDependencySupporter(final BulkAction action) {
         switch (action.type) {
             case ACTIVATE:
@@ -9,11 +9,13 @@
 package ch.ethz.seb.sebserver.webservice.servicelayer.dao;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent;
 import ch.ethz.seb.sebserver.gbl.model.session.ExtendedClientEvent;
 import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.servicelayer.PageCursor;
 
 public interface ClientEventDAO extends EntityDAO<ClientEvent, ClientEvent> {
 
@@ -26,4 +28,28 @@ public interface ClientEventDAO extends EntityDAO<ClientEvent, ClientEvent> {
             FilterMap filterMap,
             Predicate<ExtendedClientEvent> predicate);
 
+    /** Use this to get all matching ExtendedClientEvent from persistent storage with keyset pagination.
+     * The result is ordered by (server_time, id) in the order of the given PageCursor and contains only
+     * the entries after the position of the PageCursor.
+     *
+     * @param filterMap the FilterMap containing all the filter criteria
+     * @param cursor the PageCursor defining the keyset position and order
+     * @param predicate an additional predicate to filter the list
+     * @return Result refer to all matching ExtendedClientEvent from persistent storage or to an error if happened. */
+    Result<Collection<ExtendedClientEvent>> allMatchingExtended(
+            FilterMap filterMap,
+            PageCursor cursor,
+            Predicate<ExtendedClientEvent> predicate);
+
+    /** Use this to stream all matching ExtendedClientEvent from persistent storage to a given consumer.
+     * The events are read with a database cursor and passed one by one to the consumer, ordered by
+     * (server_time, id), without holding the whole result in memory. Ping events are not included.
+     *
+     * @param filterMap the FilterMap containing all the filter criteria
+     * @param consumer the consumer that gets all matching ExtendedClientEvent in order
+     * @return Result refer to the number of streamed events or to an error if happened. */
+    Result<Integer> streamExtended(
+            FilterMap filterMap,
+            Consumer<ExtendedClientEvent> consumer);
+
 }
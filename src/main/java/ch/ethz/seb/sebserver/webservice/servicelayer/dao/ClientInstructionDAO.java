@@ -22,8 +22,55 @@ public interface ClientInstructionDAO {
             String attributes,
             String connectionTokens);
 
+    /** Inserts an exam-wide instruction that is sent to all SEB client connections of the exam
+     * that exist at the time of insertion, except the excluded ones.
+     *
+     * @param examId the exam identifier
+     * @param type the instruction type
+     * @param attributes the instruction attributes
+     * @param excludedTokens comma separated list of connection tokens to exclude or null
+     * @return Result refer to the inserted instruction record or to an error if happened */
+    Result<ClientInstructionRecord> insertExamWide(
+            Long examId,
+            InstructionType type,
+            String attributes,
+            String excludedTokens);
+
     Result<Collection<ClientInstructionRecord>> getAllActive();
 
+    /** Get all active (not yet delivered) instructions with an identifier greater then the given one,
+     * ordered by identifier. This is used to incrementally load new instructions from persistent storage
+     *
+     * @param lastKnownId the lower bound (exclusive) of instruction identifiers to get
+     * @return Result refer to the new instructions or to an error if happened */
+    Result<Collection<ClientInstructionRecord>> getAllActiveAfter(Long lastKnownId);
+
+    /** Adds the given connection tokens to the excluded connection tokens of an exam-wide instruction.
+     * This is used to persistently mark the connections an exam-wide instruction has already been delivered to.
+     *
+     * @param examInstructionId the identifier of the exam-wide instruction
+     * @param connectionTokens the connection tokens to add
+     * @return Result refer to void or to an error if happened */
+    Result<Void> addExcludedTokens(Long examInstructionId, Collection<String> connectionTokens);
+
+    /** Adds the given connection token to the excluded connection tokens of an exam-wide instruction if it is
+     * not already excluded. The excluded connection tokens are only updated if they have not been changed
+     * concurrently, so that only one webservice instance is able to claim the delivery of an exam-wide instruction
+     * to a connection.
+     *
+     * @param examInstructionId the identifier of the exam-wide instruction
+     * @param connectionToken the connection token to claim the delivery for
+     * @return Result refer to true if the delivery was claimed, false if the connection token is already excluded
+     *         or the instruction does not exist anymore, or to an error if the excluded connection tokens have been
+     *         changed concurrently */
+    Result<Boolean> claimExcludedToken(Long examInstructionId, String connectionToken);
+
     Result<Void> delete(Long id);
 
+    /** Deletes all instructions with the given identifiers with one statement.
+     *
+     * @param ids the identifiers of the instructions to delete
+     * @return Result refer to the number of deleted instructions or to an error if happened */
+    Result<Integer> delete(Collection<Long> ids);
+
 }
@@ -9,12 +9,34 @@
 package ch.ethz.seb.sebserver.webservice.servicelayer.dao;
 
 import java.util.Collection;
+import java.util.Set;
 
+import org.springframework.cache.annotation.CacheEvict;
+
+import ch.ethz.seb.sebserver.gbl.model.EntityKey;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationAttribute;
 import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.ExamConfigService;
 
 public interface ConfigurationAttributeDAO extends EntityDAO<ConfigurationAttribute, ConfigurationAttribute> {
 
+    /** Name of the cache that holds the prepared SEB configuration export plans that are based on the
+     * root attributes. Every modification of a ConfigurationAttribute evicts all entries of this cache and also
+     * all memoized Config-Keys since they are based on the same attributes. */
+    String ATTRIBUTE_EXPORT_PLAN_CACHE = "ATTRIBUTE_EXPORT_PLAN_CACHE";
+
+    @Override
+    @CacheEvict(cacheNames = { ATTRIBUTE_EXPORT_PLAN_CACHE, ExamConfigService.CONFIG_KEY_CACHE }, allEntries = true)
+    Result<ConfigurationAttribute> createNew(ConfigurationAttribute data);
+
+    @Override
+    @CacheEvict(cacheNames = { ATTRIBUTE_EXPORT_PLAN_CACHE, ExamConfigService.CONFIG_KEY_CACHE }, allEntries = true)
+    Result<ConfigurationAttribute> save(ConfigurationAttribute data);
+
+    @Override
+    @CacheEvict(cacheNames = { ATTRIBUTE_EXPORT_PLAN_CACHE, ExamConfigService.CONFIG_KEY_CACHE }, allEntries = true)
+    Result<Collection<EntityKey>> delete(Set<EntityKey> all);
+
     /** Use this to get all ConfigurationAttribute that are root attributes and no child
      * attributes (has no parent reference).
      *
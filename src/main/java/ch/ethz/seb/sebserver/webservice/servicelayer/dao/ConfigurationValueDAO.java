@@ -59,6 +59,19 @@ public interface ConfigurationValueDAO extends EntityDAO<ConfigurationValue, Con
      * @return the saved table values of the attribute and configuration */
     Result<ConfigurationTableValues> saveTableValues(ConfigurationTableValues value);
 
+    /** Use this to save a batch of ConfigurationValue of one configuration within one transaction.
+     * A value is identified by its attribute identifier and list index that both must be set. Missing values
+     * are created.
+     *
+     * @param institutionId the institution identifier of the configuration
+     * @param configurationId the configuration identifier
+     * @param values the ConfigurationValue to save. All must belong to the given configuration
+     * @return Result refer to the saved ConfigurationValue or to an error if happened */
+    Result<Collection<ConfigurationValue>> saveAll(
+            Long institutionId,
+            Long configurationId,
+            Collection<ConfigurationValue> values);
+
     /** Use this to (re)set the default value(s) for a configuration attributes of a given configuration entry.
      * This uses also the ExamConfigInitService to initialize table values
      *
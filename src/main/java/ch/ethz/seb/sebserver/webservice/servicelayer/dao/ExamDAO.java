@@ -61,17 +61,20 @@ public interface ExamDAO extends ActivatableEntityDAO<Exam, Exam>, BulkActionSup
      * @return Result refer to collection of exam identifiers or to an error if happened */
     Result<Collection<Long>> getExamIdsForStatus(Long institutionId, ExamStatus status);
 
-    /** This is used to get all Exams to check if they have to set into running state in the meanwhile.
-     * Gets all exams in the upcoming status for run-check
+    /** This is used to get all active Exams in up-coming or running status for the exam lifecycle schedule.
+     * The Exams are created from the local copy of the LMS quiz data (quiz name, start- and end-time)
+     * without requesting the LMS. All other quiz data like description or start URL is not set.
      *
+     * @param examIds the identifiers of the exams to get or null to get all exams in up-coming or running status
      * @return Result refer to a collection of exams or to an error if happened */
-    Result<Collection<Exam>> allForRunCheck();
+    Result<Collection<Exam>> allForLifecycleSchedule(Collection<Long> examIds);
 
-    /** This is used to get all Exams to check if they have to set into finished state in the meanwhile.
-     * Gets all exams in the running status for end-check
+    /** This is used to initially synchronize the local copy of the LMS quiz data (quiz name, start- and end-time)
+     * of all exams that have no local copy yet, e.g. exams that where imported before the local copy was introduced.
+     * The local copy is used for native filtering and sorting of exam lists.
      *
-     * @return Result refer to a collection of exams or to an error if happened */
-    Result<Collection<Exam>> allForEndCheck();
+     * @return Result refer to the identifiers of the exams that are synchronized or to an error if happened */
+    Result<Collection<Long>> syncMissingQuizData();
 
     /** Get a collection of all currently running exam identifiers
      *
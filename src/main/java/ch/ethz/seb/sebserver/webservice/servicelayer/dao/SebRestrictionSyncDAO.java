@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.dao;
+
+import java.util.Collection;
+
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.SebRestrictionSyncRecord;
+
+/** Defines functionality to persist the requested SEB restriction state of exams that is not yet synchronized
+ * with the LMS. This is used to continue the synchronization after a restart or on another webservice instance
+ * that takes over as master. There is at most one pending request per exam. */
+public interface SebRestrictionSyncDAO {
+
+    /** Get all pending SEB restriction requests.
+     *
+     * @return Result refer to all pending requests or to an error if happened */
+    Result<Collection<SebRestrictionSyncRecord>> allPending();
+
+    /** Stores a SEB restriction request for the given exam. This replaces a pending request for the same exam.
+     *
+     * @param examId the exam identifier
+     * @param applyRestriction true if the restriction has to be applied, false if it has to be released
+     * @param requestTime the time of the request that also identifies the request
+     * @return Result refer to the exam identifier or to an error if happened */
+    Result<Long> savePending(Long examId, boolean applyRestriction, long requestTime);
+
+    /** Removes the SEB restriction request of the given exam if it has not been replaced by a newer request.
+     *
+     * @param examId the exam identifier
+     * @param requestTime the time of the request to remove
+     * @return Result refer to true if the request has been removed or to an error if happened */
+    Result<Boolean> removePending(Long examId, long requestTime);
+
+}
@@ -9,14 +9,17 @@
 package ch.ethz.seb.sebserver.webservice.servicelayer.dao;
 
 import java.util.Collection;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.model.Entity;
+import ch.ethz.seb.sebserver.gbl.model.EntityKey;
 import ch.ethz.seb.sebserver.gbl.model.user.UserAccount;
 import ch.ethz.seb.sebserver.gbl.model.user.UserActivityLog;
 import ch.ethz.seb.sebserver.gbl.model.user.UserLogActivityType;
 import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.servicelayer.PageCursor;
 import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.impl.SEBServerUser;
 
 /** Concrete EntityDAO interface of UserActivityLog entities */
@@ -96,6 +99,20 @@ public interface UserActivityLogDAO extends
      * @return Result of the Entity or referring to an Error if happened */
     <T> Result<T> log(UserLogActivityType activityType, EntityType entityType, String entityId, String message, T data);
 
+    /** Creates a user activity log entry for each of the given entity keys. All entries are
+     * written with one batch-insert within one (new) transaction.
+     *
+     * @param user for specified SEBServerUser instance
+     * @param activityType the activity type
+     * @param entityKeys the keys of all entities to create a log entry for
+     * @param message function to create the message of a log entry for an entity key
+     * @return Result refer to the number of created log entries or to an error if happened */
+    Result<Integer> logAll(
+            SEBServerUser user,
+            UserLogActivityType activityType,
+            Collection<EntityKey> entityKeys,
+            Function<EntityKey, String> message);
+
     /** Creates a user activity log entry.
      *
      * @param user for specified SEBServerUser instance
@@ -123,6 +140,19 @@ public interface UserActivityLogDAO extends
         return log(user, activityType, entity, null);
     }
 
+    /** Use this to get all matching UserActivityLog from persistent storage with keyset pagination.
+     * The result is ordered by (timestamp, id) in the order of the given PageCursor and contains only
+     * the entries after the position of the PageCursor.
+     *
+     * @param filterMap the FilterMap containing all the filter criteria
+     * @param cursor the PageCursor defining the keyset position and order
+     * @param predicate an additional predicate to filter the list
+     * @return Result refer to all matching UserActivityLog from persistent storage or to an error if happened. */
+    Result<Collection<UserActivityLog>> allMatching(
+            FilterMap filterMap,
+            PageCursor cursor,
+            Predicate<UserActivityLog> predicate);
+
     Result<Collection<UserActivityLog>> all(
             Long InstitutionId,
             String userId,
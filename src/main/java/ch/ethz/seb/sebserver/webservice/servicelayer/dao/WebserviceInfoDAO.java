@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.dao;
+
+import ch.ethz.seb.sebserver.gbl.util.Result;
+
+/** Defines functionality to access the registry of webservice instances of a distributed setup
+ * and to elect one of these instances as master.
+ *
+ * The master election is based on a lease: The master instance has to renew its lease on a regular basis.
+ * If the lease of a master instance expires, because the instance is down or has lost the connection to the
+ * data-base, another instance will take over as master with its next lease renewal. */
+public interface WebserviceInfoDAO {
+
+    /** Registers a webservice instance. Existing registrations of the same instance are replaced.
+     *
+     * @param uuid the UUID of the webservice instance
+     * @param serviceAddress the service address of the webservice instance
+     * @return Result refer to true if the registration was successful or to an error if happened */
+    Result<Boolean> register(String uuid, String serviceAddress);
+
+    /** Renews the lease of a registered webservice instance and checks if the instance is (or has become)
+     * the master instance.
+     *
+     * The instance takes over as master if there is no other master instance with a lease that is
+     * not expired. The lease renewals of all instances are serialized by a lock on the registrations and
+     * the lease expiry is based on the database time, so that only one instance can take over.
+     * Registrations of other instances with an expired lease are removed.
+     *
+     * @param uuid the UUID of the webservice instance
+     * @param serviceAddress the service address of the webservice instance to register again if needed
+     * @param leaseTime the time in milliseconds after which a lease that was not renewed expires
+     * @return Result refer to true if the instance is master or to an error if happened */
+    Result<Boolean> renewLease(String uuid, String serviceAddress, long leaseTime);
+
+    /** Removes the registration of a webservice instance. If the instance was master, another instance
+     * can take over with its next lease renewal without waiting for the lease to expire.
+     *
+     * @param uuid the UUID of the webservice instance
+     * @return Result refer to true if the registration has been removed or to an error if happened */
+    Result<Boolean> unregister(String uuid);
+
+}
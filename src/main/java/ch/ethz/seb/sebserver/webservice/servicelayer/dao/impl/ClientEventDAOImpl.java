@@ -15,10 +15,14 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.mybatis.dynamic.sql.SqlBuilder;
+import org.mybatis.dynamic.sql.select.MyBatis3SelectModelAdapter;
+import org.mybatis.dynamic.sql.select.QueryExpressionDSL;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,6 +41,7 @@ import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientConnectionR
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientEventRecordDynamicSqlSupport;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientEventRecordMapper;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.ClientEventRecord;
+import ch.ethz.seb.sebserver.webservice.servicelayer.PageCursor;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientEventDAO;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.DAOLoggingSupport;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.FilterMap;
@@ -117,47 +122,70 @@ public class ClientEventDAOImpl implements ClientEventDAO {
             final FilterMap filterMap,
             final Predicate<ExtendedClientEvent> predicate) {
 
-        return Result.tryCatch(() -> this.clientEventExtensionMapper.selectByExample()
-                .where(
-                        ClientConnectionRecordDynamicSqlSupport.institutionId,
-                        isEqualToWhenPresent(filterMap.getInstitutionId()))
-                .and(
-                        ClientConnectionRecordDynamicSqlSupport.examId,
-                        isEqualToWhenPresent(filterMap.getClientEventExamId()))
-                .and(
-                        ClientConnectionRecordDynamicSqlSupport.examUserSessionId,
-                        SqlBuilder.isLikeWhenPresent(filterMap.getSQLWildcard(ClientConnection.FILTER_ATTR_SESSION_ID)))
-                .and(
-                        ClientEventRecordDynamicSqlSupport.clientConnectionId,
-                        isEqualToWhenPresent(filterMap.getClientEventConnectionId()))
-                .and(
-                        ClientEventRecordDynamicSqlSupport.type,
-                        isEqualToWhenPresent(filterMap.getClientEventTypeId()))
-                .and(
-                        ClientEventRecordDynamicSqlSupport.type,
-                        SqlBuilder.isNotEqualTo(EventType.LAST_PING.id))
-                .and(
-                        ClientEventRecordDynamicSqlSupport.clientTime,
-                        SqlBuilder.isGreaterThanOrEqualToWhenPresent(filterMap.getClientEventClientTimeFrom()))
-                .and(
-                        ClientEventRecordDynamicSqlSupport.clientTime,
-                        SqlBuilder.isLessThanOrEqualToWhenPresent(filterMap.getClientEventClientTimeTo()))
-                .and(
-                        ClientEventRecordDynamicSqlSupport.serverTime,
-                        SqlBuilder.isGreaterThanOrEqualToWhenPresent(filterMap.getClientEventServerTimeFrom()))
-                .and(
-                        ClientEventRecordDynamicSqlSupport.serverTime,
-                        SqlBuilder.isLessThanOrEqualToWhenPresent(filterMap.getClientEventServerTimeTo()))
-                .and(
-                        ClientEventRecordDynamicSqlSupport.text,
-                        SqlBuilder.isLikeWhenPresent(filterMap.getClientEventText()))
-                .build()
-                .execute()
-                .stream()
-                .map(ClientEventDAOImpl::toDomainModelExtended)
-                .flatMap(DAOLoggingSupport::logAndSkipOnError)
-                .filter(predicate)
-                .collect(Collectors.toList()));
+        return allMatchingExtended(filterMap, null, predicate);
+    }
+
+    @Override
+    public Result<Collection<ExtendedClientEvent>> allMatchingExtended(
+            final FilterMap filterMap,
+            final PageCursor cursor,
+            final Predicate<ExtendedClientEvent> predicate) {
+
+        return Result.tryCatch(() -> {
+
+            final QueryExpressionDSL<MyBatis3SelectModelAdapter<Collection<ConnectionEventJoinRecord>>>.QueryExpressionWhereBuilder where =
+                    extendedWhere(this.clientEventExtensionMapper.selectByExample(), filterMap);
+
+            final Collection<ConnectionEventJoinRecord> records = (cursor != null)
+                    ? cursor.applyTo(
+                            where,
+                            ClientEventRecordDynamicSqlSupport.serverTime,
+                            ClientEventRecordDynamicSqlSupport.id)
+                            .build()
+                            .execute()
+                    : where.build().execute();
+
+            return records
+                    .stream()
+                    .map(ClientEventDAOImpl::toDomainModelExtended)
+                    .flatMap(DAOLoggingSupport::logAndSkipOnError)
+                    .filter(predicate)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Result<Integer> streamExtended(
+            final FilterMap filterMap,
+            final Consumer<ExtendedClientEvent> consumer) {
+
+        return Result.tryCatch(() -> {
+            int count = 0;
+            try (final Cursor<ConnectionEventJoinRecord> records = extendedWhere(
+                    this.clientEventExtensionMapper.selectCursorByExample(),
+                    filterMap)
+                            .orderBy(
+                                    ClientEventRecordDynamicSqlSupport.serverTime,
+                                    ClientEventRecordDynamicSqlSupport.id)
+                            .build()
+                            .execute()) {
+
+                for (final ConnectionEventJoinRecord record : records) {
+                    final Result<ExtendedClientEvent> event = toDomainModelExtended(record);
+                    if (event.hasError()) {
+                        DAOLoggingSupport.log.error(
+                                "Unexpected error. Streaming of client event: {} is skipped: ",
+                                record.id,
+                                event.getError());
+                    } else {
+                        consumer.accept(event.get());
+                        count++;
+                    }
+                }
+            }
+            return count;
+        });
     }
 
     @Override
@@ -224,6 +252,49 @@ public class ClientEventDAOImpl implements ClientEventDAO {
         });
     }
 
+    private static <R> QueryExpressionDSL<R>.QueryExpressionWhereBuilder extendedWhere(
+            final QueryExpressionDSL<R>.JoinSpecificationFinisher select,
+            final FilterMap filterMap) {
+
+        return select
+                .where(
+                        ClientConnectionRecordDynamicSqlSupport.institutionId,
+                        isEqualToWhenPresent(filterMap.getInstitutionId()))
+                .and(
+                        ClientConnectionRecordDynamicSqlSupport.examId,
+                        isEqualToWhenPresent(filterMap.getClientEventExamId()))
+                .and(
+                        ClientConnectionRecordDynamicSqlSupport.examUserSessionId,
+                        SqlBuilder.isLikeWhenPresent(
+                                filterMap.getSQLWildcard(ClientConnection.FILTER_ATTR_SESSION_ID)))
+                .and(
+                        ClientEventRecordDynamicSqlSupport.clientConnectionId,
+                        isEqualToWhenPresent(filterMap.getClientEventConnectionId()))
+                .and(
+                        ClientEventRecordDynamicSqlSupport.type,
+                        isEqualToWhenPresent(filterMap.getClientEventTypeId()))
+                .and(
+                        ClientEventRecordDynamicSqlSupport.type,
+                        SqlBuilder.isNotEqualTo(EventType.LAST_PING.id))
+                .and(
+                        ClientEventRecordDynamicSqlSupport.clientTime,
+                        SqlBuilder.isGreaterThanOrEqualToWhenPresent(
+                                filterMap.getClientEventClientTimeFrom()))
+                .and(
+                        ClientEventRecordDynamicSqlSupport.clientTime,
+                        SqlBuilder.isLessThanOrEqualToWhenPresent(filterMap.getClientEventClientTimeTo()))
+                .and(
+                        ClientEventRecordDynamicSqlSupport.serverTime,
+                        SqlBuilder.isGreaterThanOrEqualToWhenPresent(
+                                filterMap.getClientEventServerTimeFrom()))
+                .and(
+                        ClientEventRecordDynamicSqlSupport.serverTime,
+                        SqlBuilder.isLessThanOrEqualToWhenPresent(filterMap.getClientEventServerTimeTo()))
+                .and(
+                        ClientEventRecordDynamicSqlSupport.text,
+                        SqlBuilder.isLikeWhenPresent(filterMap.getClientEventText()));
+    }
+
     private static Result<ClientEvent> toDomainModel(final ClientEventRecord record) {
         return Result.tryCatch(() -> {
 
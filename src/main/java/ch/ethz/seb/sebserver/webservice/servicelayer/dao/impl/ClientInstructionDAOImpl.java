@@ -8,15 +8,25 @@
 
 package ch.ethz.seb.sebserver.webservice.servicelayer.dao.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
+import org.apache.commons.lang3.StringUtils;
+import org.mybatis.dynamic.sql.SqlBuilder;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import ch.ethz.seb.sebserver.gbl.Constants;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientInstruction.InstructionType;
 import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
 import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.gbl.util.Utils;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientInstructionRecordDynamicSqlSupport;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientInstructionRecordMapper;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.ClientInstructionRecord;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientInstructionDAO;
@@ -37,10 +47,103 @@ public class ClientInstructionDAOImpl implements ClientInstructionDAO {
     public Result<Collection<ClientInstructionRecord>> getAllActive() {
         return Result.tryCatch(() -> this.clientInstructionRecordMapper
                 .selectByExample()
+                .orderBy(ClientInstructionRecordDynamicSqlSupport.id)
+                .build()
+                .execute());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Result<Collection<ClientInstructionRecord>> getAllActiveAfter(final Long lastKnownId) {
+        return Result.tryCatch(() -> this.clientInstructionRecordMapper
+                .selectByExample()
+                .where(
+                        ClientInstructionRecordDynamicSqlSupport.id,
+                        SqlBuilder.isGreaterThan(lastKnownId))
+                .orderBy(ClientInstructionRecordDynamicSqlSupport.id)
                 .build()
                 .execute());
     }
 
+    @Override
+    @Transactional
+    public Result<Void> addExcludedTokens(final Long examInstructionId, final Collection<String> connectionTokens) {
+        return Result.tryCatch(() -> {
+            final ClientInstructionRecord record = this.clientInstructionRecordMapper
+                    .selectByPrimaryKey(examInstructionId);
+
+            // the instruction may already be removed because the exam has finished
+            if (record == null || connectionTokens.isEmpty()) {
+                return;
+            }
+
+            final Set<String> tokens = new LinkedHashSet<>();
+            if (StringUtils.isNotBlank(record.getExcludedTokens())) {
+                tokens.addAll(Arrays.asList(StringUtils.split(
+                        record.getExcludedTokens(),
+                        Constants.LIST_SEPARATOR)));
+            }
+            tokens.addAll(connectionTokens);
+
+            this.clientInstructionRecordMapper.updateByPrimaryKeySelective(new ClientInstructionRecord(
+                    examInstructionId,
+                    null,
+                    null,
+                    null,
+                    null,
+                    StringUtils.join(tokens, Constants.LIST_SEPARATOR),
+                    null));
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Result<Boolean> claimExcludedToken(final Long examInstructionId, final String connectionToken) {
+        return Result.tryCatch(() -> {
+            final ClientInstructionRecord record = this.clientInstructionRecordMapper
+                    .selectByPrimaryKey(examInstructionId);
+
+            // the instruction may already be removed because the exam has finished
+            if (record == null) {
+                return false;
+            }
+
+            final String excludedTokens = record.getExcludedTokens();
+            final Set<String> tokens = new LinkedHashSet<>();
+            if (StringUtils.isNotBlank(excludedTokens)) {
+                tokens.addAll(Arrays.asList(StringUtils.split(excludedTokens, Constants.LIST_SEPARATOR)));
+            }
+            if (!tokens.add(connectionToken)) {
+                return false;
+            }
+
+            // only update if the excluded tokens have not been changed by another webservice instance meanwhile
+            final int updated = (excludedTokens == null)
+                    ? this.clientInstructionRecordMapper
+                            .updateByExampleSelective(excludedTokensRecord(tokens))
+                            .where(ClientInstructionRecordDynamicSqlSupport.id, SqlBuilder.isEqualTo(examInstructionId))
+                            .and(ClientInstructionRecordDynamicSqlSupport.excludedTokens, SqlBuilder.isNull())
+                            .build()
+                            .execute()
+                    : this.clientInstructionRecordMapper
+                            .updateByExampleSelective(excludedTokensRecord(tokens))
+                            .where(ClientInstructionRecordDynamicSqlSupport.id, SqlBuilder.isEqualTo(examInstructionId))
+                            .and(
+                                    ClientInstructionRecordDynamicSqlSupport.excludedTokens,
+                                    SqlBuilder.isEqualTo(excludedTokens))
+                            .build()
+                            .execute();
+
+            if (updated != 1) {
+                throw new IllegalStateException(
+                        "Excluded tokens of exam-wide ClientInstruction have been changed concurrently: "
+                                + examInstructionId);
+            }
+
+            return true;
+        });
+    }
+
     @Override
     @Transactional
     public Result<Void> delete(final Long id) {
@@ -52,6 +155,24 @@ public class ClientInstructionDAOImpl implements ClientInstructionDAO {
         });
     }
 
+    @Override
+    @Transactional
+    public Result<Integer> delete(final Collection<Long> ids) {
+        return Result.tryCatch(() -> {
+            if (ids.isEmpty()) {
+                return 0;
+            }
+
+            return this.clientInstructionRecordMapper
+                    .deleteByExample()
+                    .where(
+                            ClientInstructionRecordDynamicSqlSupport.id,
+                            SqlBuilder.isIn(new ArrayList<>(ids)))
+                    .build()
+                    .execute();
+        });
+    }
+
     @Override
     public Result<ClientInstructionRecord> insert(
             final Long examId,
@@ -65,11 +186,46 @@ public class ClientInstructionDAOImpl implements ClientInstructionDAO {
                     examId,
                     connectionToken,
                     type.name(),
-                    attributes);
+                    attributes,
+                    null,
+                    Utils.getMillisecondsNow());
+
+            this.clientInstructionRecordMapper.insert(clientInstructionRecord);
+            return clientInstructionRecord;
+        });
+    }
+
+    @Override
+    public Result<ClientInstructionRecord> insertExamWide(
+            final Long examId,
+            final InstructionType type,
+            final String attributes,
+            final String excludedTokens) {
+
+        return Result.tryCatch(() -> {
+            final ClientInstructionRecord clientInstructionRecord = new ClientInstructionRecord(
+                    null,
+                    examId,
+                    null,
+                    type.name(),
+                    attributes,
+                    excludedTokens,
+                    Utils.getMillisecondsNow());
 
             this.clientInstructionRecordMapper.insert(clientInstructionRecord);
             return clientInstructionRecord;
         });
     }
 
+    private ClientInstructionRecord excludedTokensRecord(final Collection<String> excludedTokens) {
+        return new ClientInstructionRecord(
+                null,
+                null,
+                null,
+                null,
+                null,
+                StringUtils.join(excludedTokens, Constants.LIST_SEPARATOR),
+                null);
+    }
+
 }
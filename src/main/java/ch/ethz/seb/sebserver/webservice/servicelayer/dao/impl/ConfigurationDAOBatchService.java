@@ -9,9 +9,13 @@
 package ch.ethz.seb.sebserver.webservice.servicelayer.dao.impl;
 
 import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.isIn;
 import static org.mybatis.dynamic.sql.SqlBuilder.isNotEqualTo;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -31,6 +35,7 @@ import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import ch.ethz.seb.sebserver.gbl.Constants;
 import ch.ethz.seb.sebserver.gbl.api.APIMessage.FieldValidationException;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.AttributeType;
@@ -41,6 +46,7 @@ import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationNode;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationNode.ConfigurationStatus;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationTableValues;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationTableValues.TableValue;
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationValue;
 import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
 import ch.ethz.seb.sebserver.gbl.util.Result;
 import ch.ethz.seb.sebserver.gbl.util.Utils;
@@ -57,6 +63,7 @@ import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.ConfigurationAttri
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.ConfigurationNodeRecord;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.ConfigurationRecord;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.ConfigurationValueRecord;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.DAOLoggingSupport;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ResourceNotFoundException;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.TransactionHandler;
 import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.ExamConfigInitService;
@@ -181,6 +188,152 @@ class ConfigurationDAOBatchService {
                 });
     }
 
+    /** Saves a batch of values of one follow-up configuration with batched statements.
+     * Existing values are resolved with one query and only updated if the value has changed. Missing values
+     * are created, with the default value of the attribute if no value is given. If the batch contains more
+     * then one value for the same attribute and list index, the last one is taken. */
+    Result<Collection<ConfigurationValue>> saveAllValues(
+            final Long institutionId,
+            final Long configurationId,
+            final Collection<ConfigurationValue> values) {
+
+        return Result.<Collection<ConfigurationValue>> tryCatch(() -> {
+
+            if (values == null || values.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            // integrity checks are made once for the whole batch
+            final ConfigurationRecord config = this.batchConfigurationRecordMapper
+                    .selectByPrimaryKey(configurationId);
+            if (config == null) {
+                throw new ResourceNotFoundException(EntityType.CONFIGURATION, String.valueOf(configurationId));
+            }
+            if (config.getInstitutionId().longValue() != institutionId.longValue()) {
+                throw new IllegalArgumentException("Institutional integrity constraint violation");
+            }
+            if (!BooleanUtils.toBoolean(config.getFollowup())) {
+                throw new IllegalArgumentException(
+                        "Forbidden to modify an configuration value of a none follow-up configuration");
+            }
+
+            final Map<String, ConfigurationValue> batch = new LinkedHashMap<>();
+            for (final ConfigurationValue value : values) {
+                if (!configurationId.equals(value.configurationId)) {
+                    throw new IllegalArgumentException("Configuration value does not belong to the configuration");
+                }
+                if (value.attributeId == null || value.listIndex == null) {
+                    throw new IllegalArgumentException(
+                            "Configuration value without configuration attribute or list index");
+                }
+                batch.put(valueKey(value.attributeId, value.listIndex), value);
+            }
+
+            final List<Long> attributeIds = batch.values()
+                    .stream()
+                    .map(value -> value.attributeId)
+                    .distinct()
+                    .collect(Collectors.toList());
+
+            // get all existing values of the involved attributes within one query
+            final Map<String, ConfigurationValueRecord> existing = this.batchConfigurationValueRecordMapper
+                    .selectByExample()
+                    .where(
+                            ConfigurationValueRecordDynamicSqlSupport.configurationId,
+                            isEqualTo(configurationId))
+                    .and(
+                            ConfigurationValueRecordDynamicSqlSupport.configurationAttributeId,
+                            isIn(attributeIds))
+                    .build()
+                    .execute()
+                    .stream()
+                    .collect(Collectors.toMap(
+                            record -> valueKey(record.getConfigurationAttributeId(), record.getListIndex()),
+                            Function.identity(),
+                            (r1, r2) -> r1));
+
+            final List<ConfigurationValue> missing = new ArrayList<>();
+            for (final Map.Entry<String, ConfigurationValue> entry : batch.entrySet()) {
+                final ConfigurationValue value = entry.getValue();
+                final ConfigurationValueRecord record = existing.get(entry.getKey());
+                if (record == null) {
+                    missing.add(value);
+                    continue;
+                }
+
+                if (value.id != null && !value.id.equals(record.getId())) {
+                    throw new IllegalArgumentException("Configuration value identity mismatch");
+                }
+
+                if (value.value != null && !value.value.equals(record.getValue())) {
+                    this.batchConfigurationValueRecordMapper.updateByPrimaryKeySelective(
+                            new ConfigurationValueRecord(
+                                    record.getId(),
+                                    null,
+                                    null,
+                                    null,
+                                    value.listIndex,
+                                    value.value));
+                }
+            }
+
+            if (!missing.isEmpty()) {
+                log.debug("Missing SEB exam configuration attribute values, create new ones for: {}", missing);
+
+                // get the default values of the missing values within one query
+                final Map<Long, ConfigurationAttributeRecord> attributes = this.batchConfigurationAttributeRecordMapper
+                        .selectByExample()
+                        .where(
+                                ConfigurationAttributeRecordDynamicSqlSupport.id,
+                                isIn(missing
+                                        .stream()
+                                        .map(value -> value.attributeId)
+                                        .distinct()
+                                        .collect(Collectors.toList())))
+                        .build()
+                        .execute()
+                        .stream()
+                        .collect(Collectors.toMap(ConfigurationAttributeRecord::getId, Function.identity()));
+
+                for (final ConfigurationValue value : missing) {
+                    final ConfigurationAttributeRecord attribute = attributes.get(value.attributeId);
+                    if (attribute == null) {
+                        throw new ResourceNotFoundException(
+                                EntityType.CONFIGURATION_ATTRIBUTE,
+                                String.valueOf(value.attributeId));
+                    }
+
+                    this.batchConfigurationValueRecordMapper.insert(new ConfigurationValueRecord(
+                            null,
+                            institutionId,
+                            configurationId,
+                            value.attributeId,
+                            value.listIndex,
+                            (value.value != null) ? value.value : attribute.getDefaultValue()));
+                }
+            }
+
+            this.batchSqlSessionTemplate.flushStatements();
+
+            return this.batchConfigurationValueRecordMapper
+                    .selectByExample()
+                    .where(
+                            ConfigurationValueRecordDynamicSqlSupport.configurationId,
+                            isEqualTo(configurationId))
+                    .and(
+                            ConfigurationValueRecordDynamicSqlSupport.configurationAttributeId,
+                            isIn(attributeIds))
+                    .build()
+                    .execute()
+                    .stream()
+                    .filter(record -> batch.containsKey(
+                            valueKey(record.getConfigurationAttributeId(), record.getListIndex())))
+                    .map(ConfigurationValueDAOImpl::toDomainModel)
+                    .flatMap(DAOLoggingSupport::logAndSkipOnError)
+                    .collect(Collectors.toList());
+        });
+    }
+
     Result<Configuration> saveToHistory(final Long configurationNodeId) {
         return Result.tryCatch(() -> {
 
@@ -615,6 +768,10 @@ class ConfigurationDAOBatchService {
         }
     }
 
+    private static String valueKey(final Long attributeId, final Integer listIndex) {
+        return attributeId + String.valueOf(Constants.COLON) + listIndex;
+    }
+
     private Result<ConfigurationTableValues> checkInstitutionalIntegrity(final ConfigurationTableValues data) {
         return Result.tryCatch(() -> {
             final ConfigurationRecord r = this.batchConfigurationRecordMapper.selectByPrimaryKey(data.configurationId);
@@ -225,6 +225,18 @@ public class ConfigurationValueDAOImpl implements ConfigurationValueDAO {
                 .onError(TransactionHandler::rollback);
     }
 
+    @Override
+    @Transactional
+    public Result<Collection<ConfigurationValue>> saveAll(
+            final Long institutionId,
+            final Long configurationId,
+            final Collection<ConfigurationValue> values) {
+
+        return this.configurationDAOBatchService
+                .saveAllValues(institutionId, configurationId, values)
+                .onError(TransactionHandler::rollback);
+    }
+
     @Override
     @Transactional
     public Result<Collection<EntityKey>> delete(final Set<EntityKey> all) {
@@ -516,7 +528,7 @@ public class ConfigurationValueDAOImpl implements ConfigurationValueDAO {
         });
     }
 
-    private static Result<ConfigurationValue> toDomainModel(final ConfigurationValueRecord record) {
+    static Result<ConfigurationValue> toDomainModel(final ConfigurationValueRecord record) {
         return Result.tryCatch(() -> new ConfigurationValue(
                 record.getId(),
                 record.getInstitutionId(),
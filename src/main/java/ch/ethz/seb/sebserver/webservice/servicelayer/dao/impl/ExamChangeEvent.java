@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.dao.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.context.ApplicationEvent;
+
+/** Published by the ExamDAO when persistent data of one or more exams that is relevant for the exam lifecycle
+ * has changed, e.g. the status or the local copy of the LMS quiz start- and end-time. */
+public class ExamChangeEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = 5311860466591052153L;
+
+    public ExamChangeEvent(final Collection<Long> examIds) {
+        super(Collections.unmodifiableCollection(examIds));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection<Long> getExamIds() {
+        return (Collection<Long>) this.source;
+    }
+
+}
@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -25,6 +26,8 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
@@ -32,6 +35,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import ch.ethz.seb.sebserver.gbl.Constants;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
+import ch.ethz.seb.sebserver.gbl.async.AsyncRunner;
 import ch.ethz.seb.sebserver.gbl.model.EntityKey;
 import ch.ethz.seb.sebserver.gbl.model.exam.Exam;
 import ch.ethz.seb.sebserver.gbl.model.exam.Exam.ExamStatus;
@@ -59,15 +63,21 @@ public class ExamDAOImpl implements ExamDAO {
     private final ExamRecordMapper examRecordMapper;
     private final ClientConnectionRecordMapper clientConnectionRecordMapper;
     private final LmsAPIService lmsAPIService;
+    private final AsyncRunner asyncRunner;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public ExamDAOImpl(
             final ExamRecordMapper examRecordMapper,
             final ClientConnectionRecordMapper clientConnectionRecordMapper,
-            final LmsAPIService lmsAPIService) {
+            final LmsAPIService lmsAPIService,
+            final AsyncRunner asyncRunner,
+            final ApplicationEventPublisher applicationEventPublisher) {
 
         this.examRecordMapper = examRecordMapper;
         this.clientConnectionRecordMapper = clientConnectionRecordMapper;
         this.lmsAPIService = lmsAPIService;
+        this.asyncRunner = asyncRunner;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
@@ -136,24 +146,8 @@ public class ExamDAOImpl implements ExamDAO {
         return Result.tryCatch(() -> {
 
             final boolean cached = filterMap.getBoolean(Exam.FILTER_CACHED_QUIZZES);
-            final String name = filterMap.getQuizName();
-            final DateTime from = filterMap.getExamFromTime();
-            final Predicate<Exam> quizDataFilter = exam -> {
-                if (StringUtils.isNotBlank(name)) {
-                    if (!exam.name.contains(name)) {
-                        return false;
-                    }
-                }
-
-                if (from != null) {
-                    if (exam.startTime.isBefore(from)) {
-                        return false;
-                    }
-                }
-
-                return true;
-            };
 
+            // NOTE: quiz name and start-time are filtered on the local copy of the LMS quiz data
             final List<ExamRecord> records = this.examRecordMapper.selectByExample()
                     .where(
                             ExamRecordDynamicSqlSupport.active,
@@ -170,13 +164,19 @@ public class ExamDAOImpl implements ExamDAO {
                     .and(
                             ExamRecordDynamicSqlSupport.status,
                             isEqualToWhenPresent(filterMap.getExamStatus()))
+                    .and(
+                            ExamRecordDynamicSqlSupport.quizName,
+                            isLikeWhenPresent(filterMap.getName()))
+                    .and(
+                            ExamRecordDynamicSqlSupport.quizStartTime,
+                            isGreaterThanOrEqualToWhenPresent(toTimestamp(filterMap.getExamFromTime())))
                     .build()
                     .execute();
 
             return this.toDomainModel(records, cached)
                     .getOrThrow()
                     .stream()
-                    .filter(quizDataFilter.and(predicate))
+                    .filter(predicate)
                     .collect(Collectors.toList());
         });
     }
@@ -195,7 +195,7 @@ public class ExamDAOImpl implements ExamDAO {
                             examRecord.getId(),
                             null, null, null, null, null, null, null, null,
                             status.name(),
-                            null, null, null, null);
+                            null, null, null, null, null, null, null);
 
                     this.examRecordMapper.updateByPrimaryKeySelective(newExamRecord);
                     return this.examRecordMapper.selectByPrimaryKey(examId);
@@ -232,10 +232,14 @@ public class ExamDAOImpl implements ExamDAO {
                     1, // seb restriction (deprecated)
                     null, // updating
                     null, // lastUpdate
-                    null // active
+                    null, // active
+                    null, // quizName
+                    null, // quizStartTime
+                    null // quizEndTime
             );
 
             this.examRecordMapper.updateByPrimaryKeySelective(examRecord);
+            publishExamChange(Arrays.asList(exam.id));
             return this.examRecordMapper.selectByPrimaryKey(exam.id);
         })
                 .flatMap(this::toDomainModel)
@@ -251,7 +255,7 @@ public class ExamDAOImpl implements ExamDAO {
                     examId,
                     null, null, null, null, null, null, null, null, null,
                     BooleanUtils.toInteger(sebRestriction),
-                    null, null, null);
+                    null, null, null, null, null, null);
 
             this.examRecordMapper.updateByPrimaryKeySelective(examRecord);
             return this.examRecordMapper.selectByPrimaryKey(examId);
@@ -289,9 +293,13 @@ public class ExamDAOImpl implements ExamDAO {
                             null, // lmsSebRestriction (deprecated)
                             null, // updating
                             null, // lastUpdate
-                            BooleanUtils.toIntegerObject(exam.active));
+                            BooleanUtils.toIntegerObject(exam.active),
+                            exam.name,
+                            toTimestamp(exam.startTime),
+                            toTimestamp(exam.endTime));
 
                     this.examRecordMapper.updateByPrimaryKeySelective(newRecord);
+                    publishExamChange(Arrays.asList(examRecord.getId()));
                     return this.examRecordMapper.selectByPrimaryKey(examRecord.getId());
                 }
             }
@@ -312,9 +320,13 @@ public class ExamDAOImpl implements ExamDAO {
                     1, // seb restriction (deprecated)
                     BooleanUtils.toInteger(false),
                     null, // lastUpdate
-                    BooleanUtils.toInteger(true));
+                    BooleanUtils.toInteger(true),
+                    exam.name,
+                    toTimestamp(exam.startTime),
+                    toTimestamp(exam.endTime));
 
             this.examRecordMapper.insert(examRecord);
+            publishExamChange(Arrays.asList(examRecord.getId()));
             return examRecord;
         })
                 .flatMap(this::toDomainModel)
@@ -328,13 +340,14 @@ public class ExamDAOImpl implements ExamDAO {
 
             final List<Long> ids = extractListOfPKs(all);
             final ExamRecord examRecord = new ExamRecord(null, null, null, null, null,
-                    null, null, null, null, null, null, null, null, BooleanUtils.toInteger(active));
+                    null, null, null, null, null, null, null, null, BooleanUtils.toInteger(active), null, null, null);
 
             this.examRecordMapper.updateByExampleSelective(examRecord)
                     .where(ExamRecordDynamicSqlSupport.id, isIn(ids))
                     .build()
                     .execute();
 
+            publishExamChange(ids);
             return ids.stream()
                     .map(id -> new EntityKey(id, EntityType.EXAM))
                     .collect(Collectors.toList());
@@ -396,47 +409,47 @@ public class ExamDAOImpl implements ExamDAO {
 
     @Override
     @Transactional(readOnly = true)
-    public Result<Collection<Exam>> allForRunCheck() {
+    public Result<Collection<Exam>> allForLifecycleSchedule(final Collection<Long> examIds) {
         return Result.tryCatch(() -> {
-            final List<ExamRecord> records = this.examRecordMapper.selectByExample()
+            if (examIds != null && examIds.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            return this.examRecordMapper.selectByExample()
                     .where(
                             ExamRecordDynamicSqlSupport.active,
                             isEqualTo(BooleanUtils.toInteger(true)))
                     .and(
                             ExamRecordDynamicSqlSupport.status,
-                            isEqualTo(ExamStatus.UP_COMING.name()))
+                            isIn(ExamStatus.UP_COMING.name(), ExamStatus.RUNNING.name()))
                     .and(
-                            ExamRecordDynamicSqlSupport.updating,
-                            isEqualTo(BooleanUtils.toInteger(false)))
-
+                            ExamRecordDynamicSqlSupport.id,
+                            isInWhenPresent((examIds != null) ? new ArrayList<>(examIds) : null))
                     .build()
-                    .execute();
-
-            return new ArrayList<>(this.toDomainModel(records)
-                    .getOrThrow());
+                    .execute()
+                    .stream()
+                    .map(ExamDAOImpl::toLocalDomainModel)
+                    .collect(Collectors.toList());
         });
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Result<Collection<Exam>> allForEndCheck() {
+    public Result<Collection<Long>> syncMissingQuizData() {
         return Result.tryCatch(() -> {
             final List<ExamRecord> records = this.examRecordMapper.selectByExample()
                     .where(
-                            ExamRecordDynamicSqlSupport.active,
-                            isEqualTo(BooleanUtils.toInteger(true)))
-                    .and(
-                            ExamRecordDynamicSqlSupport.status,
-                            isEqualTo(ExamStatus.RUNNING.name()))
-                    .and(
-                            ExamRecordDynamicSqlSupport.updating,
-                            isEqualTo(BooleanUtils.toInteger(false)))
-
+                            ExamRecordDynamicSqlSupport.quizName,
+                            isNull())
                     .build()
                     .execute();
 
-            return new ArrayList<>(this.toDomainModel(records)
-                    .getOrThrow());
+            // the local copy of the quiz data is synchronized while mapping to the domain model
+            return this.toDomainModel(records)
+                    .getOrThrow()
+                    .stream()
+                    .map(Exam::getId)
+                    .collect(Collectors.toList());
         });
     }
 
@@ -459,7 +472,7 @@ public class ExamDAOImpl implements ExamDAO {
                     null, null, null, null, null, null, null, null, null, null,
                     BooleanUtils.toInteger(true),
                     updateId,
-                    null);
+                    null, null, null, null);
 
             this.examRecordMapper.updateByPrimaryKeySelective(newRecord);
             return newRecord;
@@ -490,7 +503,7 @@ public class ExamDAOImpl implements ExamDAO {
                     null, null, null, null, null, null, null, null, null, null,
                     BooleanUtils.toInteger(false),
                     updateId,
-                    null);
+                    null, null, null, null);
 
             this.examRecordMapper.updateByPrimaryKeySelective(newRecord);
             return newRecord;
@@ -513,7 +526,7 @@ public class ExamDAOImpl implements ExamDAO {
                     examId,
                     null, null, null, null, null, null, null, null, null, null,
                     BooleanUtils.toInteger(false),
-                    null, null);
+                    null, null, null, null, null);
 
             this.examRecordMapper.updateByPrimaryKeySelective(examRecord);
             return examRecord.getId();
@@ -578,6 +591,7 @@ public class ExamDAOImpl implements ExamDAO {
                     .build()
                     .execute();
 
+            publishExamChange(ids);
             return ids.stream()
                     .map(id -> new EntityKey(id, EntityType.EXAM))
                     .collect(Collectors.toList());
@@ -694,12 +708,19 @@ public class ExamDAOImpl implements ExamDAO {
                             (map, record) -> Utils.mapCollect(map, record.getLmsSetupId(), record),
                             Utils::mapPutAll);
 
-            return lmsSetupToRecordMapping
+            final Map<Long, Exam> exams = lmsSetupToRecordMapping
                     .entrySet()
                     .stream()
                     .flatMap(entry -> toDomainModel(entry.getKey(), entry.getValue(), cached)
                             .getOrThrow()
                             .stream())
+                    .collect(Collectors.toMap(Exam::getId, Function.identity()));
+
+            // keep the order of the given records, e.g. the SQL sort order of a page
+            return records
+                    .stream()
+                    .map(record -> exams.get(record.getId()))
+                    .filter(Objects::nonNull)
                     .collect(Collectors.toList());
         });
     }
@@ -734,6 +755,8 @@ public class ExamDAOImpl implements ExamDAO {
                     .flatMap(Result::skipOnError)
                     .collect(Collectors.toMap(q -> q.id, Function.identity()));
 
+            syncQuizData(records, quizzes);
+
             // collect Exam's
             return recordMapping.entrySet()
                     .stream()
@@ -742,6 +765,97 @@ public class ExamDAOImpl implements ExamDAO {
         });
     }
 
+    /** Updates the local copy of the LMS quiz data for all given exam records where it differs
+     * from the given quiz data.
+     *
+     * The update is done asynchronously to not interfere with the transaction of the caller that
+     * may be read-only or may hold a lock on one of the exam records. */
+    private void syncQuizData(final Collection<ExamRecord> records, final Map<String, QuizData> quizzes) {
+        final List<ExamRecord> updates = records
+                .stream()
+                .map(record -> toQuizDataUpdate(record, quizzes.get(record.getExternalId())))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        this.asyncRunner.runAsync(() -> {
+            try {
+                updates.forEach(this.examRecordMapper::updateByPrimaryKeySelective);
+                publishExamChange(updates
+                        .stream()
+                        .map(ExamRecord::getId)
+                        .collect(Collectors.toList()));
+            } catch (final Exception e) {
+                log.warn("Failed to synchronize local quiz data of exams: {} cause: {}",
+                        updates.stream().map(ExamRecord::getId).collect(Collectors.toList()),
+                        e.getMessage());
+            }
+        });
+    }
+
+    private void publishExamChange(final Collection<Long> examIds) {
+        this.applicationEventPublisher.publishEvent(new ExamChangeEvent(examIds));
+    }
+
+    private static ExamRecord toQuizDataUpdate(final ExamRecord record, final QuizData quizData) {
+        if (quizData == null) {
+            return null;
+        }
+
+        final Long startTime = toTimestamp(quizData.startTime);
+        final Long endTime = toTimestamp(quizData.endTime);
+        if (Objects.equals(record.getQuizName(), quizData.name)
+                && Objects.equals(record.getQuizStartTime(), startTime)
+                && Objects.equals(record.getQuizEndTime(), endTime)) {
+            return null;
+        }
+
+        return new ExamRecord(
+                record.getId(),
+                null, null, null, null, null, null, null, null, null, null, null, null, null,
+                quizData.name,
+                startTime,
+                endTime);
+    }
+
+    private static Long toTimestamp(final DateTime dateTime) {
+        return (dateTime != null) ? dateTime.getMillis() : null;
+    }
+
+    private static DateTime toDateTime(final Long timestamp) {
+        return (timestamp != null) ? new DateTime(timestamp, DateTimeZone.UTC) : null;
+    }
+
+    private static Exam toLocalDomainModel(final ExamRecord record) {
+        ExamStatus status;
+        try {
+            status = ExamStatus.valueOf(record.getStatus());
+        } catch (final Exception e) {
+            status = ExamStatus.UP_COMING;
+        }
+
+        return new Exam(
+                record.getId(),
+                record.getInstitutionId(),
+                record.getLmsSetupId(),
+                record.getExternalId(),
+                record.getQuizName(),
+                null, // description
+                toDateTime(record.getQuizStartTime()),
+                toDateTime(record.getQuizEndTime()),
+                null, // startURL
+                ExamType.valueOf(record.getType()),
+                record.getOwner(),
+                null, // supporter
+                status,
+                null, // browserExamKeys
+                BooleanUtils.toBooleanObject(record.getActive()),
+                record.getLastupdate());
+    }
+
     private Result<Exam> toDomainModel(
             final ExamRecord record,
             final QuizData quizData) {
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.dao.impl;
+
+import java.util.Collection;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.mybatis.dynamic.sql.SqlBuilder;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.SebRestrictionSyncRecordDynamicSqlSupport;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.SebRestrictionSyncRecordMapper;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.SebRestrictionSyncRecord;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.SebRestrictionSyncDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.TransactionHandler;
+
+@Lazy
+@Component
+@WebServiceProfile
+public class SebRestrictionSyncDAOImpl implements SebRestrictionSyncDAO {
+
+    private final SebRestrictionSyncRecordMapper sebRestrictionSyncRecordMapper;
+
+    protected SebRestrictionSyncDAOImpl(final SebRestrictionSyncRecordMapper sebRestrictionSyncRecordMapper) {
+        this.sebRestrictionSyncRecordMapper = sebRestrictionSyncRecordMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Result<Collection<SebRestrictionSyncRecord>> allPending() {
+        return Result.tryCatch(() -> this.sebRestrictionSyncRecordMapper
+                .selectByExample()
+                .orderBy(SebRestrictionSyncRecordDynamicSqlSupport.requestTime)
+                .build()
+                .execute());
+    }
+
+    @Override
+    @Transactional
+    public Result<Long> savePending(final Long examId, final boolean applyRestriction, final long requestTime) {
+        return Result.tryCatch(() -> {
+
+            this.sebRestrictionSyncRecordMapper
+                    .deleteByExample()
+                    .where(
+                            SebRestrictionSyncRecordDynamicSqlSupport.examId,
+                            SqlBuilder.isEqualTo(examId))
+                    .build()
+                    .execute();
+
+            this.sebRestrictionSyncRecordMapper.insert(new SebRestrictionSyncRecord(
+                    null,
+                    examId,
+                    BooleanUtils.toInteger(applyRestriction),
+                    requestTime));
+
+            return examId;
+        })
+                .onError(TransactionHandler::rollback);
+    }
+
+    @Override
+    @Transactional
+    public Result<Boolean> removePending(final Long examId, final long requestTime) {
+        return Result.tryCatch(() -> this.sebRestrictionSyncRecordMapper
+                .deleteByExample()
+                .where(
+                        SebRestrictionSyncRecordDynamicSqlSupport.examId,
+                        SqlBuilder.isEqualTo(examId))
+                .and(
+                        SebRestrictionSyncRecordDynamicSqlSupport.requestTime,
+                        SqlBuilder.isEqualTo(requestTime))
+                .build()
+                .execute() > 0)
+                .onError(TransactionHandler::rollback);
+    }
+
+}
@@ -17,11 +17,15 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.mybatis.dynamic.sql.SqlBuilder;
+import org.mybatis.dynamic.sql.select.MyBatis3SelectModelAdapter;
+import org.mybatis.dynamic.sql.select.QueryExpressionDSL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Lazy;
@@ -47,6 +51,7 @@ import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.UserRecordDynamic
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.UserRecordMapper;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.UserActivityLogRecord;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.UserRecord;
+import ch.ethz.seb.sebserver.webservice.servicelayer.PageCursor;
 import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.UserService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.impl.SEBServerUser;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.FilterMap;
@@ -64,17 +69,20 @@ public class UserActivityLogDAOImpl implements UserActivityLogDAO {
     private final UserRecordMapper userRecordMapper;
     private final UserService userService;
     private final JSONMapper jsonMapper;
+    private final UserActivityLogWriter userActivityLogWriter;
 
     public UserActivityLogDAOImpl(
             final UserActivityLogRecordMapper userLogRecordMapper,
             final UserRecordMapper userRecordMapper,
             final UserService userService,
-            final JSONMapper jsonMapper) {
+            final JSONMapper jsonMapper,
+            final UserActivityLogWriter userActivityLogWriter) {
 
         this.userLogRecordMapper = userLogRecordMapper;
         this.userRecordMapper = userRecordMapper;
         this.userService = userService;
         this.jsonMapper = jsonMapper;
+        this.userActivityLogWriter = userActivityLogWriter;
     }
 
     @Override
@@ -93,14 +101,12 @@ public class UserActivityLogDAOImpl implements UserActivityLogDAO {
     public Result<UserAccount> logRegisterAccount(final UserAccount account) {
         return Result.tryCatch(() -> {
 
-            this.userLogRecordMapper.insertSelective(new UserActivityLogRecord(
-                    null,
+            this.userActivityLogWriter.write(
                     account.getModelId(),
-                    System.currentTimeMillis(),
-                    UserLogActivityType.REGISTER.name(),
-                    EntityType.USER.name(),
+                    UserLogActivityType.REGISTER,
+                    EntityType.USER,
                     account.getModelId(),
-                    toMessage(account)));
+                    () -> toMessage(account));
 
             return account;
         });
@@ -110,18 +116,20 @@ public class UserActivityLogDAOImpl implements UserActivityLogDAO {
     @Transactional
     public <E extends Entity> Result<E> logSaveToHistory(final E entity) {
         return log(
+                this.userService.getCurrentUser(),
                 UserLogActivityType.MODIFY,
                 entity,
-                "SEB Exam Configuration : Save To History : " + toMessage(entity));
+                () -> "SEB Exam Configuration : Save To History : " + toMessage(entity));
     }
 
     @Override
     @Transactional
     public <E extends Entity> Result<E> logUndo(final E entity) {
         return log(
+                this.userService.getCurrentUser(),
                 UserLogActivityType.MODIFY,
                 entity,
-                "SEB Exam Configuration : Undo : " + toMessage(entity));
+                () -> "SEB Exam Configuration : Undo : " + toMessage(entity));
     }
 
     @Override
@@ -155,7 +163,7 @@ public class UserActivityLogDAOImpl implements UserActivityLogDAO {
     @Override
     @Transactional
     public <E extends Entity> Result<E> log(final UserLogActivityType activityType, final E entity) {
-        return log(this.userService.getCurrentUser(), activityType, entity, toMessage(entity));
+        return log(this.userService.getCurrentUser(), activityType, entity, () -> toMessage(entity));
     }
 
     @Override
@@ -212,13 +220,26 @@ public class UserActivityLogDAOImpl implements UserActivityLogDAO {
             final E entity,
             final String message) {
 
-        return Result.tryCatch(() -> {
-            String _message = message;
-            if (message == null) {
-                _message = "Entity details: " + entity;
-            }
+        return log(
+                user,
+                activityType,
+                entity,
+                (message != null) ? () -> message : () -> "Entity details: " + entity);
+    }
+
+    private <E extends Entity> Result<E> log(
+            final SEBServerUser user,
+            final UserLogActivityType activityType,
+            final E entity,
+            final Supplier<String> message) {
 
-            log(user, activityType, entity.entityType(), entity.getModelId(), _message);
+        return Result.tryCatch(() -> {
+            this.userActivityLogWriter.write(
+                    user.getUserInfo().uuid,
+                    activityType,
+                    entity.entityType(),
+                    entity.getModelId(),
+                    message);
             return entity;
         })
                 .onError(TransactionHandler::rollback)
@@ -231,6 +252,36 @@ public class UserActivityLogDAOImpl implements UserActivityLogDAO {
                         t));
     }
 
+    @Override
+    public Result<Integer> logAll(
+            final SEBServerUser user,
+            final UserLogActivityType activityType,
+            final Collection<EntityKey> entityKeys,
+            final Function<EntityKey, String> message) {
+
+        return Result.tryCatch(() -> {
+            if (entityKeys == null || entityKeys.isEmpty()) {
+                return 0;
+            }
+
+            return this.userActivityLogWriter.writeAll(
+                    user.getUserInfo().uuid,
+                    activityType,
+                    entityKeys.stream()
+                            .map(key -> new UserActivityLogWriter.Entry(
+                                    key.entityType,
+                                    key.modelId,
+                                    () -> message.apply(key)))
+                            .collect(Collectors.toList()));
+        })
+                .onError(t -> log.error(
+                        "Unexpected error while trying to batch-log user activity for user {}, action-type: {} entities: {}",
+                        user.getUserInfo().uuid,
+                        activityType,
+                        entityKeys.size(),
+                        t));
+    }
+
     private void log(
             final SEBServerUser user,
             final UserLogActivityType activityType,
@@ -238,14 +289,12 @@ public class UserActivityLogDAOImpl implements UserActivityLogDAO {
             final String entityId,
             final String message) {
 
-        this.userLogRecordMapper.insertSelective(new UserActivityLogRecord(
-                null,
+        this.userActivityLogWriter.write(
                 user.getUserInfo().uuid,
-                System.currentTimeMillis(),
-                activityType.name(),
-                entityType.name(),
+                activityType,
+                entityType,
                 entityId,
-                message));
+                () -> message);
     }
 
     @Override
@@ -299,6 +348,25 @@ public class UserActivityLogDAOImpl implements UserActivityLogDAO {
                 filterMap.getUserLofTo(),
                 filterMap.getString(UserActivityLog.FILTER_ATTR_ACTIVITY_TYPES),
                 filterMap.getString(UserActivityLog.FILTER_ATTR_ENTITY_TYPES),
+                null,
+                predicate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Result<Collection<UserActivityLog>> allMatching(
+            final FilterMap filterMap,
+            final PageCursor cursor,
+            final Predicate<UserActivityLog> predicate) {
+
+        return all(
+                filterMap.getInstitutionId(),
+                filterMap.getSQLWildcard(UserActivityLog.FILTER_ATTR_USER_NAME),
+                filterMap.getUserLogFrom(),
+                filterMap.getUserLofTo(),
+                filterMap.getString(UserActivityLog.FILTER_ATTR_ACTIVITY_TYPES),
+                filterMap.getString(UserActivityLog.FILTER_ATTR_ENTITY_TYPES),
+                cursor,
                 predicate);
     }
 
@@ -313,6 +381,19 @@ public class UserActivityLogDAOImpl implements UserActivityLogDAO {
             final String entityTypes,
             final Predicate<UserActivityLog> predicate) {
 
+        return all(institutionId, userName, from, to, activityTypes, entityTypes, null, predicate);
+    }
+
+    private Result<Collection<UserActivityLog>> all(
+            final Long institutionId,
+            final String userName,
+            final Long from,
+            final Long to,
+            final String activityTypes,
+            final String entityTypes,
+            final PageCursor cursor,
+            final Predicate<UserActivityLog> predicate) {
+
         return Result.tryCatch(() -> {
             final List<String> _activityTypes = (activityTypes != null)
                     ? Arrays.asList(StringUtils.split(activityTypes, Constants.LIST_SEPARATOR))
@@ -321,32 +402,40 @@ public class UserActivityLogDAOImpl implements UserActivityLogDAO {
                     ? Arrays.asList(StringUtils.split(entityTypes, Constants.LIST_SEPARATOR))
                     : null;
 
-            final List<UserActivityLogRecord> records = this.userLogRecordMapper
-                    .selectByExample()
-                    .leftJoin(UserRecordDynamicSqlSupport.userRecord)
-                    .on(
-                            UserRecordDynamicSqlSupport.uuid,
-                            SqlBuilder.equalTo(UserActivityLogRecordDynamicSqlSupport.userUuid))
-                    .where(
-                            UserRecordDynamicSqlSupport.institutionId,
-                            SqlBuilder.isEqualToWhenPresent(institutionId))
-                    .and(
-                            UserRecordDynamicSqlSupport.username,
-                            SqlBuilder.isLikeWhenPresent(userName))
-                    .and(
+            final QueryExpressionDSL<MyBatis3SelectModelAdapter<List<UserActivityLogRecord>>>.QueryExpressionWhereBuilder where =
+                    this.userLogRecordMapper
+                            .selectByExample()
+                            .leftJoin(UserRecordDynamicSqlSupport.userRecord)
+                            .on(
+                                    UserRecordDynamicSqlSupport.uuid,
+                                    SqlBuilder.equalTo(UserActivityLogRecordDynamicSqlSupport.userUuid))
+                            .where(
+                                    UserRecordDynamicSqlSupport.institutionId,
+                                    SqlBuilder.isEqualToWhenPresent(institutionId))
+                            .and(
+                                    UserRecordDynamicSqlSupport.username,
+                                    SqlBuilder.isLikeWhenPresent(userName))
+                            .and(
+                                    UserActivityLogRecordDynamicSqlSupport.timestamp,
+                                    SqlBuilder.isGreaterThanOrEqualToWhenPresent(from))
+                            .and(
+                                    UserActivityLogRecordDynamicSqlSupport.timestamp,
+                                    SqlBuilder.isLessThanWhenPresent(to))
+                            .and(
+                                    UserActivityLogRecordDynamicSqlSupport.activityType,
+                                    SqlBuilder.isInCaseInsensitiveWhenPresent(_activityTypes))
+                            .and(
+                                    UserActivityLogRecordDynamicSqlSupport.entityType,
+                                    SqlBuilder.isInCaseInsensitiveWhenPresent(_entityTypes));
+
+            final List<UserActivityLogRecord> records = (cursor != null)
+                    ? cursor.applyTo(
+                            where,
                             UserActivityLogRecordDynamicSqlSupport.timestamp,
-                            SqlBuilder.isGreaterThanOrEqualToWhenPresent(from))
-                    .and(
-                            UserActivityLogRecordDynamicSqlSupport.timestamp,
-                            SqlBuilder.isLessThanWhenPresent(to))
-                    .and(
-                            UserActivityLogRecordDynamicSqlSupport.activityType,
-                            SqlBuilder.isInCaseInsensitiveWhenPresent(_activityTypes))
-                    .and(
-                            UserActivityLogRecordDynamicSqlSupport.entityType,
-                            SqlBuilder.isInCaseInsensitiveWhenPresent(_entityTypes))
-                    .build()
-                    .execute();
+                            UserActivityLogRecordDynamicSqlSupport.id)
+                            .build()
+                            .execute()
+                    : where.build().execute();
 
             return this.toDomainModel(institutionId, records)
                     .stream()
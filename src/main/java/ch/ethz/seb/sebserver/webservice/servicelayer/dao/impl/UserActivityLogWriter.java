@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.dao.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ch.ethz.seb.sebserver.SEBServerInit;
+import ch.ethz.seb.sebserver.SEBServerInitEvent;
+import ch.ethz.seb.sebserver.gbl.Constants;
+import ch.ethz.seb.sebserver.gbl.api.EntityType;
+import ch.ethz.seb.sebserver.gbl.model.user.UserLogActivityType;
+import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.UserActivityLogRecordMapper;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.UserActivityLogRecord;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/** Persists user activity log entries for the UserActivityLogDAO.
+ *
+ * On default (write-through) every entry is inserted synchronously within the transaction of the caller.
+ *
+ * If write-behind is enabled, an entry is only captured in memory and put into a pending-queue. The message
+ * of an entry is supplied lazily and created only when the entry gets persisted, so that the serialization
+ * of the logged entity is also done off the request thread. A background task drains the pending-queue and
+ * stores the entries in batches of a configurable size with one JDBC batch-insert within one transaction.
+ * If the pending-queue has reached its maximum size, new entries are inserted synchronously (back-pressure).
+ *
+ * Durability: Entries are only removed from the pending-queue within a flush. If the batch-insert fails, the
+ * batch is kept and retried on the next flush. If the batch-insert still fails after a configurable number of
+ * attempts, the entries of the batch are inserted one by one and entries that cannot be persisted are dropped
+ * with an error log. On server shutdown the pending-queue is flushed synchronously and entries written after
+ * shutdown are inserted synchronously. There is a potential loss of the latest entries on total server fail.
+ *
+ * Note that with write-behind an entry is persisted independently of the transaction of the caller and is
+ * also kept if the transaction of the caller is rolled back.
+ *
+ * The number of pending entries is exposed with the gauge "sebserver.activitylog.pending". */
+@Lazy
+@Component
+@WebServiceProfile
+public class UserActivityLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(UserActivityLogWriter.class);
+
+    public static final String WRITE_BEHIND_PROPERTY_KEY = "sebserver.webservice.api.admin.activity-log.write-behind";
+    public static final String PENDING_GAUGE_NAME = "sebserver.activitylog.pending";
+
+    private final UserActivityLogRecordMapper userLogRecordMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final SqlSessionTemplate sqlSessionTemplate;
+    private final UserActivityLogRecordMapper batchMapper;
+    private final boolean writeBehind;
+    private final int maxPending;
+    private final int batchSize;
+    private final int maxFlushAttempts;
+
+    private final ConcurrentLinkedQueue<PendingEntry> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger(0);
+    private volatile boolean flushActive = false;
+    private volatile boolean shutdown = false;
+
+    // the batch that failed to be flushed and the number of failed attempts. Only accessed within flush
+    private List<PendingEntry> failedBatch = null;
+    private int failedAttempts = 0;
+
+    protected UserActivityLogWriter(
+            final UserActivityLogRecordMapper userLogRecordMapper,
+            final SqlSessionFactory sqlSessionFactory,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry,
+            @Value("${" + WRITE_BEHIND_PROPERTY_KEY + ":false}") final boolean writeBehind,
+            @Value("${" + WRITE_BEHIND_PROPERTY_KEY + ".max-pending:10000}") final int maxPending,
+            @Value("${" + WRITE_BEHIND_PROPERTY_KEY + ".batch-size:500}") final int batchSize,
+            @Value("${" + WRITE_BEHIND_PROPERTY_KEY + ".max-attempts:5}") final int maxFlushAttempts) {
+
+        this.userLogRecordMapper = userLogRecordMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.sqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.batchMapper = this.sqlSessionTemplate.getMapper(UserActivityLogRecordMapper.class);
+        this.writeBehind = writeBehind;
+        this.maxPending = Math.max(1, maxPending);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxFlushAttempts = Math.max(1, maxFlushAttempts);
+
+        Gauge.builder(PENDING_GAUGE_NAME, this.pendingCount, AtomicInteger::get)
+                .description("Number of user activity log entries that are not yet persisted")
+                .register(meterRegistry);
+    }
+
+    @EventListener(SEBServerInitEvent.class)
+    protected void init() {
+        if (this.writeBehind) {
+            SEBServerInit.INIT_LOGGER.info("------>");
+            SEBServerInit.INIT_LOGGER.info("------> Activate write-behind for user activity logs");
+            this.flushActive = true;
+        }
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        this.flushActive = false;
+        this.shutdown = true;
+        if (this.pendingCount.get() > 0) {
+            log.info("Flush {} pending user activity log entries on shutdown", this.pendingCount.get());
+            flush(true);
+        }
+    }
+
+    /** Indicates if write-behind is active for this webservice instance.
+     *
+     * @return true if user activity log entries are persisted asynchronously */
+    public boolean isWriteBehindEnabled() {
+        return this.writeBehind;
+    }
+
+    /** Get the number of pending (not yet persisted) user activity log entries.
+     *
+     * @return the number of pending user activity log entries */
+    public int pendingCount() {
+        return this.pendingCount.get();
+    }
+
+    /** Writes a user activity log entry.
+     *
+     * @param userUUID the UUID of the user that performed the activity
+     * @param activityType the type of the activity
+     * @param entityType the type of the entity the activity was performed on
+     * @param entityId the identifier of the entity the activity was performed on
+     * @param message supplier of the log message. Is only called when the entry gets persisted */
+    public void write(
+            final String userUUID,
+            final UserLogActivityType activityType,
+            final EntityType entityType,
+            final String entityId,
+            final Supplier<String> message) {
+
+        final PendingEntry entry = new PendingEntry(
+                userUUID,
+                System.currentTimeMillis(),
+                activityType,
+                entityType,
+                entityId,
+                message);
+
+        if (!this.writeBehind || this.shutdown || !enqueue(entry)) {
+            this.userLogRecordMapper.insertSelective(entry.toRecord());
+        }
+    }
+
+    /** Writes a collection of user activity log entries of the same user and activity type.
+     * With write-through the entries are inserted with one batch-insert within a new transaction.
+     *
+     * @param userUUID the UUID of the user that performed the activities
+     * @param activityType the type of the activities
+     * @param entries the entries to write
+     * @return the number of written or queued entries */
+    public int writeAll(
+            final String userUUID,
+            final UserLogActivityType activityType,
+            final Collection<Entry> entries) {
+
+        final long timestamp = System.currentTimeMillis();
+        final List<PendingEntry> batch = new ArrayList<>(entries.size());
+        for (final Entry entry : entries) {
+            final PendingEntry pendingEntry = new PendingEntry(
+                    userUUID,
+                    timestamp,
+                    activityType,
+                    entry.entityType,
+                    entry.entityId,
+                    entry.message);
+
+            if (!this.writeBehind || this.shutdown || !enqueue(pendingEntry)) {
+                batch.add(pendingEntry);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            batchInsert(batch);
+        }
+
+        return entries.size();
+    }
+
+    @Scheduled(fixedDelayString = "${" + WRITE_BEHIND_PROPERTY_KEY + ".interval:1000}")
+    public void flushTask() {
+        if (!this.flushActive || this.pendingCount.get() <= 0) {
+            return;
+        }
+
+        flush(false);
+    }
+
+    private boolean enqueue(final PendingEntry entry) {
+        if (this.pendingCount.incrementAndGet() > this.maxPending) {
+            this.pendingCount.decrementAndGet();
+            log.warn("Maximum of pending user activity log entries reached. Write synchronously");
+            return false;
+        }
+
+        this.pending.add(entry);
+
+        // the entry may have been queued after the last flush on shutdown
+        if (this.shutdown) {
+            flush(true);
+        }
+        return true;
+    }
+
+    private synchronized void flush(final boolean lastAttempt) {
+        while (true) {
+            final List<PendingEntry> batch = (this.failedBatch != null) ? this.failedBatch : nextBatch();
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+
+                batchInsert(batch);
+                this.failedBatch = null;
+                this.failedAttempts = 0;
+                this.pendingCount.addAndGet(-batch.size());
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Flushed {} user activity log entries", batch.size());
+                }
+
+            } catch (final Exception e) {
+                this.failedAttempts++;
+                if (!lastAttempt && this.failedAttempts < this.maxFlushAttempts) {
+                    log.error("Failed to flush user activity log entries. Keep {} entries for retry: ",
+                            batch.size(),
+                            e);
+                    // the entries are still counted as pending
+                    this.failedBatch = batch;
+                    return;
+                }
+
+                log.error("Failed to flush user activity log entries {} times. Insert {} entries one by one: ",
+                        this.failedAttempts,
+                        batch.size(),
+                        e);
+                this.failedBatch = null;
+                this.failedAttempts = 0;
+                insertOneByOne(batch);
+                this.pendingCount.addAndGet(-batch.size());
+            }
+        }
+    }
+
+    private List<PendingEntry> nextBatch() {
+        final List<PendingEntry> batch = new ArrayList<>(this.batchSize);
+        PendingEntry entry;
+        while (batch.size() < this.batchSize && (entry = this.pending.poll()) != null) {
+            batch.add(entry);
+        }
+        return batch;
+    }
+
+    private void insertOneByOne(final Collection<PendingEntry> batch) {
+        for (final PendingEntry entry : batch) {
+            try {
+                this.transactionTemplate.execute(status -> this.userLogRecordMapper.insert(entry.toRecord()));
+            } catch (final Exception e) {
+                log.error("Drop user activity log entry that cannot be persisted: {}", entry, e);
+            }
+        }
+    }
+
+    private void batchInsert(final Collection<PendingEntry> batch) {
+        this.transactionTemplate.execute(status -> {
+            batch.stream()
+                    .map(PendingEntry::toRecord)
+                    .forEach(this.batchMapper::insert);
+            this.sqlSessionTemplate.flushStatements();
+            return null;
+        });
+    }
+
+    /** A user activity log entry for a specific entity with a lazy supplied message */
+    public static final class Entry {
+
+        public final EntityType entityType;
+        public final String entityId;
+        public final Supplier<String> message;
+
+        public Entry(final EntityType entityType, final String entityId, final Supplier<String> message) {
+            this.entityType = entityType;
+            this.entityId = entityId;
+            this.message = message;
+        }
+    }
+
+    private static final class PendingEntry {
+
+        final String userUUID;
+        final long timestamp;
+        final UserLogActivityType activityType;
+        final EntityType entityType;
+        final String entityId;
+        final Supplier<String> message;
+        private String messageValue;
+
+        PendingEntry(
+                final String userUUID,
+                final long timestamp,
+                final UserLogActivityType activityType,
+                final EntityType entityType,
+                final String entityId,
+                final Supplier<String> message) {
+
+            this.userUUID = userUUID;
+            this.timestamp = timestamp;
+            this.activityType = activityType;
+            this.entityType = entityType;
+            this.entityId = entityId;
+            this.message = message;
+        }
+
+        UserActivityLogRecord toRecord() {
+            return new UserActivityLogRecord(
+                    null,
+                    this.userUUID,
+                    this.timestamp,
+                    this.activityType.name(),
+                    this.entityType.name(),
+                    this.entityId,
+                    getMessage());
+        }
+
+        // the message is created only once, also if the entry has to be re-queued
+        private String getMessage() {
+            if (this.messageValue == null) {
+                try {
+                    this.messageValue = (this.message != null) ? this.message.get() : Constants.EMPTY_NOTE;
+                } catch (final Exception e) {
+                    log.warn("Failed to create user activity log message: {}", e.getMessage());
+                    this.messageValue = Constants.EMPTY_NOTE;
+                }
+            }
+            return this.messageValue;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder();
+            builder.append("PendingEntry [userUUID=");
+            builder.append(this.userUUID);
+            builder.append(", timestamp=");
+            builder.append(this.timestamp);
+            builder.append(", activityType=");
+            builder.append(this.activityType);
+            builder.append(", entityType=");
+            builder.append(this.entityType);
+            builder.append(", entityId=");
+            builder.append(this.entityId);
+            builder.append("]");
+            return builder.toString();
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.dao.impl;
+
+import java.util.List;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.mybatis.dynamic.sql.SqlBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.WebserviceServerInfoExtensionMapper;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.WebserviceServerInfoRecordDynamicSqlSupport;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.WebserviceServerInfoRecordMapper;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.WebserviceServerInfoRecord;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.TransactionHandler;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.WebserviceInfoDAO;
+
+@Lazy
+@Component
+@WebServiceProfile
+public class WebserviceInfoDAOImpl implements WebserviceInfoDAO {
+
+    private static final Logger log = LoggerFactory.getLogger(WebserviceInfoDAOImpl.class);
+
+    private final WebserviceServerInfoRecordMapper webserviceServerInfoRecordMapper;
+    private final WebserviceServerInfoExtensionMapper webserviceServerInfoExtensionMapper;
+
+    protected WebserviceInfoDAOImpl(
+            final WebserviceServerInfoRecordMapper webserviceServerInfoRecordMapper,
+            final WebserviceServerInfoExtensionMapper webserviceServerInfoExtensionMapper) {
+
+        this.webserviceServerInfoRecordMapper = webserviceServerInfoRecordMapper;
+        this.webserviceServerInfoExtensionMapper = webserviceServerInfoExtensionMapper;
+    }
+
+    @Override
+    @Transactional
+    public Result<Boolean> register(final String uuid, final String serviceAddress) {
+        return Result.tryCatch(() -> {
+
+            deleteRegistration(uuid);
+            insertRegistration(uuid, serviceAddress, currentTime());
+            return true;
+        })
+                .onError(TransactionHandler::rollback);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Result<Boolean> renewLease(final String uuid, final String serviceAddress, final long leaseTime) {
+        return Result.tryCatch(() -> {
+
+            // lock all registrations first to serialize the lease renewal of all instances.
+            // Another instance that renews its lease at the same time waits here for this transaction
+            // and sees the result of it
+            this.webserviceServerInfoExtensionMapper.lockAll();
+            final long now = currentTime();
+
+            // renew the lease of this instance or register again if the registration was removed
+            final int renewed = this.webserviceServerInfoRecordMapper
+                    .updateByExampleSelective(new WebserviceServerInfoRecord(null, null, null, null, now))
+                    .where(
+                            WebserviceServerInfoRecordDynamicSqlSupport.uuid,
+                            SqlBuilder.isEqualTo(uuid))
+                    .build()
+                    .execute();
+
+            if (renewed <= 0) {
+                log.info("Registration of webservice instance: {} has been removed. Register again", uuid);
+                insertRegistration(uuid, serviceAddress, now);
+            }
+
+            // remove registrations of other instances with an expired lease
+            final int removed = this.webserviceServerInfoRecordMapper
+                    .deleteByExample()
+                    .where(
+                            WebserviceServerInfoRecordDynamicSqlSupport.uuid,
+                            SqlBuilder.isNotEqualTo(uuid))
+                    .and(
+                            WebserviceServerInfoRecordDynamicSqlSupport.updateTime,
+                            SqlBuilder.isLessThan(now - leaseTime))
+                    .build()
+                    .execute();
+
+            if (removed > 0) {
+                log.info("Removed {} webservice instance registrations with expired lease", removed);
+            }
+
+            final List<WebserviceServerInfoRecord> masters = this.webserviceServerInfoRecordMapper
+                    .selectByExample()
+                    .where(
+                            WebserviceServerInfoRecordDynamicSqlSupport.master,
+                            SqlBuilder.isEqualTo(BooleanUtils.toInteger(true)))
+                    .orderBy(WebserviceServerInfoRecordDynamicSqlSupport.id)
+                    .build()
+                    .execute();
+
+            if (masters.isEmpty()) {
+                // no master with valid lease, take over
+                setMaster(uuid, true);
+                log.info("Webservice instance: {} has taken over as master", uuid);
+                return true;
+            }
+
+            if (uuid.equals(masters.get(0).getUuid())) {
+                return true;
+            }
+
+            if (masters.stream().anyMatch(rec -> uuid.equals(rec.getUuid()))) {
+                // more than one master, e.g. from before the lease renewal was serialized. Keep the first one
+                setMaster(uuid, false);
+                log.info("Webservice instance: {} steps back from master", uuid);
+            }
+
+            return false;
+        })
+                .onError(TransactionHandler::rollback);
+    }
+
+    @Override
+    @Transactional
+    public Result<Boolean> unregister(final String uuid) {
+        return Result.tryCatch(() -> deleteRegistration(uuid) > 0)
+                .onError(TransactionHandler::rollback);
+    }
+
+    // the database time is the one clock for the lease of all instances
+    private long currentTime() {
+        return this.webserviceServerInfoExtensionMapper.currentTime().getTime();
+    }
+
+    private void insertRegistration(final String uuid, final String serviceAddress, final long now) {
+        this.webserviceServerInfoRecordMapper.insert(new WebserviceServerInfoRecord(
+                null,
+                uuid,
+                serviceAddress,
+                BooleanUtils.toInteger(false),
+                now));
+    }
+
+    private int deleteRegistration(final String uuid) {
+        return this.webserviceServerInfoRecordMapper
+                .deleteByExample()
+                .where(
+                        WebserviceServerInfoRecordDynamicSqlSupport.uuid,
+                        SqlBuilder.isEqualTo(uuid))
+                .build()
+                .execute();
+    }
+
+    private void setMaster(final String uuid, final boolean master) {
+        this.webserviceServerInfoRecordMapper
+                .updateByExampleSelective(new WebserviceServerInfoRecord(
+                        null,
+                        null,
+                        null,
+                        BooleanUtils.toInteger(master),
+                        null))
+                .where(
+                        WebserviceServerInfoRecordDynamicSqlSupport.uuid,
+                        SqlBuilder.isEqualTo(uuid))
+                .build()
+                .execute();
+    }
+
+}
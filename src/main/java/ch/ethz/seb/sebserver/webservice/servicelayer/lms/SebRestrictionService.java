@@ -50,4 +50,17 @@ public interface SebRestrictionService {
      * @return Result refer to the Exam instance or to an error if happened */
     Result<Exam> releaseSebClientRestriction(Exam exam);
 
+    /** Reads the SEB Client restriction of a specified Exam back from the LMS API and checks if it is
+     * in the expected state. An applied restriction is expected to contain all Config-Keys generated for the Exam
+     * and the Browser-Exam-Keys of the Exam. A released restriction is expected to be not existing on the LMS.
+     * If the underling LMS Setup API didn't support the SEB restriction feature the check always succeeds.
+     *
+     * NOTE: This is a single observation. Since some LMS do not reflect a change consistently right away,
+     * a caller should only consider the restriction as synchronized after several consecutive matching checks.
+     *
+     * @param exam the Exam instance
+     * @param restricted true if the SEB Client restriction is expected to be applied, false if expected to be released
+     * @return Result refer to true if the LMS is in the expected state, false if not, or to an error if happened */
+    Result<Boolean> checkSebClientRestriction(Exam exam, boolean restricted);
+
 }
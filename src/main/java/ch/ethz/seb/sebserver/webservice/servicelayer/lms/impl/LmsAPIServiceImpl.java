@@ -21,6 +21,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import ch.ethz.seb.sebserver.ClientHttpRequestFactoryService;
 import ch.ethz.seb.sebserver.gbl.Constants;
 import ch.ethz.seb.sebserver.gbl.model.Page;
 import ch.ethz.seb.sebserver.gbl.model.exam.QuizData;
@@ -137,7 +138,8 @@ public class LmsAPIServiceImpl implements LmsAPIService {
                                 lmsSetup.proxyAuthSecret))
                 : null;
 
-        return test(createLmsSetupTemplate(lmsSetup, lmsCredentials, proxyData));
+        // use a throw-away HTTP client to not interfere with the pooled one of the saved LMS setup
+        return test(createLmsSetupTemplate(lmsSetup, lmsCredentials, proxyData, null));
     }
 
     /** Collect all QuizData from all affecting LmsSetup.
@@ -209,13 +211,18 @@ public class LmsAPIServiceImpl implements LmsAPIService {
                 .getLmsAPIAccessProxyData(lmsSetup.getModelId())
                 .getOr(null);
 
-        return createLmsSetupTemplate(lmsSetup, credentials, proxyData);
+        return createLmsSetupTemplate(
+                lmsSetup,
+                credentials,
+                proxyData,
+                ClientHttpRequestFactoryService.LMS_SETUP_TARGET_PREFIX + lmsSetup.id);
     }
 
     private LmsAPITemplate createLmsSetupTemplate(
             final LmsSetup lmsSetup,
             final ClientCredentials credentials,
-            final ProxyData proxyData) {
+            final ProxyData proxyData,
+            final String httpClientTarget) {
 
         switch (lmsSetup.lmsType) {
             case MOCKUP:
@@ -225,11 +232,11 @@ public class LmsAPIServiceImpl implements LmsAPIService {
                         this.webserviceInfo);
             case OPEN_EDX:
                 return this.openEdxLmsAPITemplateFactory
-                        .create(lmsSetup, credentials, proxyData)
+                        .create(lmsSetup, credentials, proxyData, httpClientTarget)
                         .getOrThrow();
             case MOODLE:
                 return this.moodleLmsAPITemplateFactory
-                        .create(lmsSetup, credentials, proxyData)
+                        .create(lmsSetup, credentials, proxyData, httpClientTarget)
                         .getOrThrow();
 
             default:
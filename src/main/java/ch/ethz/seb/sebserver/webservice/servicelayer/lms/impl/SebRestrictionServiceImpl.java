@@ -203,4 +203,44 @@ public class SebRestrictionServiceImpl implements SebRestrictionService {
                 .flatMap(template -> template.releaseSebClientRestriction(exam));
     }
 
+    @Override
+    public Result<Boolean> checkSebClientRestriction(final Exam exam, final boolean restricted) {
+        return Result.tryCatch(() -> {
+            if (!this.lmsAPIService
+                    .getLmsSetup(exam.lmsSetupId)
+                    .getOrThrow().lmsType.features.contains(Features.SEB_RESTRICTION)) {
+
+                return true;
+            }
+
+            final Result<SebRestriction> observed = this.lmsAPIService
+                    .getLmsAPITemplate(exam.lmsSetupId)
+                    .flatMap(lmsTemplate -> lmsTemplate.getSebClientRestriction(exam));
+
+            if (observed.hasError()) {
+                if (observed.getError() instanceof NoSebRestrictionException) {
+                    return !restricted;
+                }
+                throw observed.getError();
+            }
+
+            if (!restricted) {
+                return false;
+            }
+
+            final SebRestriction sebRestriction = observed.get();
+            final Collection<String> configKeys = this.examConfigService
+                    .generateConfigKeys(exam.institutionId, exam.id)
+                    .getOrThrow();
+            final Set<String> browserExamKeys = (StringUtils.isNotBlank(exam.getBrowserExamKeys()))
+                    ? new HashSet<>(Arrays.asList(StringUtils.split(
+                            exam.getBrowserExamKeys(),
+                            Constants.LIST_SEPARATOR)))
+                    : Collections.emptySet();
+
+            return sebRestriction.configKeys.containsAll(configKeys)
+                    && new HashSet<>(sebRestriction.browserExamKeys).equals(browserExamKeys);
+        });
+    }
+
 }
@@ -43,20 +43,17 @@ public class OpenEdxCourseRestriction {
     private final LmsSetup lmsSetup;
     private final JSONMapper jsonMapper;
     private final OpenEdxRestTemplateFactory openEdxRestTemplateFactory;
-    private final int restrictionAPIPushCount;
 
     private OAuth2RestTemplate restTemplate;
 
     protected OpenEdxCourseRestriction(
             final LmsSetup lmsSetup,
             final JSONMapper jsonMapper,
-            final OpenEdxRestTemplateFactory openEdxRestTemplateFactory,
-            final int restrictionAPIPushCount) {
+            final OpenEdxRestTemplateFactory openEdxRestTemplateFactory) {
 
         this.lmsSetup = lmsSetup;
         this.jsonMapper = jsonMapper;
         this.openEdxRestTemplateFactory = openEdxRestTemplateFactory;
-        this.restrictionAPIPushCount = restrictionAPIPushCount;
     }
 
     LmsSetupTestResult initAPIAccess() {
@@ -145,9 +142,12 @@ public class OpenEdxCourseRestriction {
             log.debug("PUT SEB Client restriction on course: {} : {}", courseId, restriction);
         }
 
-        return handleSebRestriction(processSebRestrictionUpdate(pushSebRestrictionFunction(
+        // NOTE: The Open edX SEB restriction API may not apply a change immediately from an outside perspective,
+        //       e.g. on load-balanced infrastructure or with several layers of cache. The restriction is therefore
+        //       pushed only once here and the caller verifies the change by reading it back (see checkSebClientRestriction)
+        return handleSebRestriction(pushSebRestrictionFunction(
                 restriction,
-                courseId)));
+                courseId));
     }
 
     Result<Boolean> deleteSebRestriction(final String courseId) {
@@ -156,41 +156,7 @@ public class OpenEdxCourseRestriction {
             log.debug("DELETE SEB Client restriction on course: {}", courseId);
         }
 
-        return handleSebRestriction(processSebRestrictionUpdate(deleteSebRestrictionFunction(courseId)));
-    }
-
-    private BooleanSupplier processSebRestrictionUpdate(final BooleanSupplier restrictionUpdate) {
-        return () -> {
-            if (this.restrictionAPIPushCount > 0) {
-                // NOTE: This is a temporary work-around for SEB Restriction API within Open edX SEB integration plugin to
-                //       apply on load-balanced infrastructure or infrastructure that has several layers of cache.
-                //       The reason for this is that the API (Open edX system) internally don't apply a resource-change that is
-                //       done within HTTP API call immediately from an outside perspective.
-                //       After a resource-change on the API is done, the system toggles between the old and the new resource
-                //       while constantly calling GET. This usually happens for about a minute or two then it stabilizes on the new resource
-                //
-                //       This may source on load-balancing or internally caching on Open edX side.
-                //       To mitigate this effect the SEB Server can be configured to apply a resource-change on the
-                //       API several times in a row to flush as match caches and reach as match as possible server instances.
-                //
-                //       Since this is a brute-force method to mitigate the problem, this should only be a temporary
-                //       work-around until a better solution on Open edX SEB integration side has been found and applied.
-
-                log.warn("SEB restriction update with multiple API push "
-                        + "(this is a temporary work-around for SEB Restriction API within Open edX SEB integration plugin)");
-
-                for (int i = 0; i < this.restrictionAPIPushCount; i++) {
-                    if (!restrictionUpdate.getAsBoolean()) {
-                        Result.ofRuntimeError(
-                                "Failed to process SEB restriction update. See logs for more information");
-                    }
-                }
-
-                return true;
-            } else {
-                return restrictionUpdate.getAsBoolean();
-            }
-        };
+        return handleSebRestriction(deleteSebRestrictionFunction(courseId));
     }
 
     private BooleanSupplier pushSebRestrictionFunction(
@@ -36,7 +36,6 @@ public class OpenEdxLmsAPITemplateFactory {
     private final ClientCredentialService clientCredentialService;
     private final ClientHttpRequestFactoryService clientHttpRequestFactoryService;
     private final String[] alternativeTokenRequestPaths;
-    private final int restrictionAPIPushCount;
 
     protected OpenEdxLmsAPITemplateFactory(
             final JSONMapper jsonMapper,
@@ -44,8 +43,7 @@ public class OpenEdxLmsAPITemplateFactory {
             final AsyncService asyncService,
             final ClientCredentialService clientCredentialService,
             final ClientHttpRequestFactoryService clientHttpRequestFactoryService,
-            @Value("${sebserver.webservice.lms.openedx.api.token.request.paths}") final String alternativeTokenRequestPaths,
-            @Value("${sebserver.webservice.lms.openedx.seb.restriction.push-count:0}") final int restrictionAPIPushCount) {
+            @Value("${sebserver.webservice.lms.openedx.api.token.request.paths}") final String alternativeTokenRequestPaths) {
 
         this.jsonMapper = jsonMapper;
         this.webserviceInfo = webserviceInfo;
@@ -55,13 +53,13 @@ public class OpenEdxLmsAPITemplateFactory {
         this.alternativeTokenRequestPaths = (alternativeTokenRequestPaths != null)
                 ? StringUtils.split(alternativeTokenRequestPaths, Constants.LIST_SEPARATOR)
                 : null;
-        this.restrictionAPIPushCount = restrictionAPIPushCount;
     }
 
     public Result<OpenEdxLmsAPITemplate> create(
             final LmsSetup lmsSetup,
             final ClientCredentials credentials,
-            final ProxyData proxyData) {
+            final ProxyData proxyData,
+            final String httpClientTarget) {
 
         return Result.tryCatch(() -> {
 
@@ -69,6 +67,7 @@ public class OpenEdxLmsAPITemplateFactory {
                     lmsSetup,
                     credentials,
                     proxyData,
+                    httpClientTarget,
                     this.clientCredentialService,
                     this.clientHttpRequestFactoryService,
                     this.alternativeTokenRequestPaths);
@@ -82,8 +81,7 @@ public class OpenEdxLmsAPITemplateFactory {
             final OpenEdxCourseRestriction openEdxCourseRestriction = new OpenEdxCourseRestriction(
                     lmsSetup,
                     this.jsonMapper,
-                    openEdxRestTemplateFactory,
-                    this.restrictionAPIPushCount);
+                    openEdxRestTemplateFactory);
 
             return new OpenEdxLmsAPITemplate(
                     lmsSetup,
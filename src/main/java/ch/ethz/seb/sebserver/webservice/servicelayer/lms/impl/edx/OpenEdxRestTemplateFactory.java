@@ -50,6 +50,7 @@ final class OpenEdxRestTemplateFactory {
     final LmsSetup lmsSetup;
     final ClientCredentials credentials;
     final ProxyData proxyData;
+    final String httpClientTarget;
     final ClientHttpRequestFactoryService clientHttpRequestFactoryService;
     final ClientCredentialService clientCredentialService;
     final Set<String> knownTokenAccessPaths;
@@ -58,6 +59,7 @@ final class OpenEdxRestTemplateFactory {
             final LmsSetup lmsSetup,
             final ClientCredentials credentials,
             final ProxyData proxyData,
+            final String httpClientTarget,
             final ClientCredentialService clientCredentialService,
             final ClientHttpRequestFactoryService clientHttpRequestFactoryService,
             final String[] alternativeTokenRequestPaths) {
@@ -66,6 +68,7 @@ final class OpenEdxRestTemplateFactory {
         this.clientCredentialService = clientCredentialService;
         this.credentials = credentials;
         this.proxyData = proxyData;
+        this.httpClientTarget = httpClientTarget;
         this.clientHttpRequestFactoryService = clientHttpRequestFactoryService;
 
         this.knownTokenAccessPaths = new HashSet<>();
@@ -140,7 +143,9 @@ final class OpenEdxRestTemplateFactory {
         details.setClientSecret(plainClientSecret.toString());
 
         final ClientHttpRequestFactory clientHttpRequestFactory = this.clientHttpRequestFactoryService
-                .getClientHttpRequestFactory(this.proxyData)
+                .getClientHttpRequestFactory(
+                        this.httpClientTarget,
+                        this.proxyData)
                 .getOrThrow();
 
         final OAuth2RestTemplate template = new OAuth2RestTemplate(details);
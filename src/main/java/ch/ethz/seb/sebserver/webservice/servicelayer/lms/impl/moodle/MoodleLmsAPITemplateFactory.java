@@ -54,7 +54,8 @@ public class MoodleLmsAPITemplateFactory {
     public Result<MoodleLmsAPITemplate> create(
             final LmsSetup lmsSetup,
             final ClientCredentials credentials,
-            final ProxyData proxyData) {
+            final ProxyData proxyData,
+            final String httpClientTarget) {
 
         return Result.tryCatch(() -> {
 
@@ -63,6 +64,7 @@ public class MoodleLmsAPITemplateFactory {
                     lmsSetup,
                     credentials,
                     proxyData,
+                    httpClientTarget,
                     this.clientCredentialService,
                     this.clientHttpRequestFactoryService,
                     this.alternativeTokenRequestPaths);
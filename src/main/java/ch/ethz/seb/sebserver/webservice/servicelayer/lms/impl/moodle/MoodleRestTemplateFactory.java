@@ -52,6 +52,7 @@ final class MoodleRestTemplateFactory {
     final LmsSetup lmsSetup;
     final ClientCredentials credentials;
     final ProxyData proxyData;
+    final String httpClientTarget;
     final ClientHttpRequestFactoryService clientHttpRequestFactoryService;
     final ClientCredentialService clientCredentialService;
     final Set<String> knownTokenAccessPaths;
@@ -61,6 +62,7 @@ final class MoodleRestTemplateFactory {
             final LmsSetup lmsSetup,
             final ClientCredentials credentials,
             final ProxyData proxyData,
+            final String httpClientTarget,
             final ClientCredentialService clientCredentialService,
             final ClientHttpRequestFactoryService clientHttpRequestFactoryService,
             final String[] alternativeTokenRequestPaths) {
@@ -70,6 +72,7 @@ final class MoodleRestTemplateFactory {
         this.clientCredentialService = clientCredentialService;
         this.credentials = credentials;
         this.proxyData = proxyData;
+        this.httpClientTarget = httpClientTarget;
         this.clientHttpRequestFactoryService = clientHttpRequestFactoryService;
 
         this.knownTokenAccessPaths = new HashSet<>();
@@ -148,7 +151,9 @@ final class MoodleRestTemplateFactory {
                 plainClientSecret);
 
         final ClientHttpRequestFactory clientHttpRequestFactory = this.clientHttpRequestFactoryService
-                .getClientHttpRequestFactory(this.proxyData)
+                .getClientHttpRequestFactory(
+                        this.httpClientTarget,
+                        this.proxyData)
                 .getOrThrow();
 
         restTemplate.setRequestFactory(clientHttpRequestFactory);
@@ -33,6 +33,15 @@ public interface ConfigurationValueValidator {
             ConfigurationValue value,
             ConfigurationAttribute attribute);
 
+    /** Indicates if this validator checks a ConfigurationValue against other values of the same configuration
+     * that are already stored. Such a validator cannot be applied to values that are saved together with the
+     * values they depend on, e.g. the values of an imported SEB configuration.
+     *
+     * @return true if this validator checks a ConfigurationValue against other stored values */
+    default boolean dependsOnStoredValues() {
+        return false;
+    }
+
     /** Default convenient method to handle validation exception if validation failed.
      *
      * @param value ConfigurationValue instance
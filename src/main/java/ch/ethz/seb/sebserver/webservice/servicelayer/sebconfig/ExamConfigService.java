@@ -21,6 +21,11 @@ import ch.ethz.seb.sebserver.gbl.util.Result;
 /** The base interface and service for all SEB Exam Configuration related functionality. */
 public interface ExamConfigService {
 
+    /** Name of the cache that holds the generated Config-Keys per stable configuration (version).
+     * A stable configuration is never modified and a new stable configuration gets a new identifier
+     * on save to history, so a Config-Key has only to be evicted if a ConfigurationAttribute gets modified. */
+    String CONFIG_KEY_CACHE = "CONFIG_KEY_CACHE";
+
     /** Validates a given ConfigurationValue by using registered ConfigurationValueValidator
      * beans to find a proper validator for the specified ConfigurationValue
      *
@@ -92,6 +97,9 @@ public interface ExamConfigService {
     /** Generates a Config-Key from the SEB exam configuration defined by configurationNodeId.
      * See https://www.safeexambrowser.org/developer/seb-config-key.html for more information about the Config-Key
      *
+     * The Config-Key is generated from the last stable configuration of the given configuration node
+     * and is memoized for this configuration.
+     *
      * @param institutionId the institutional id
      * @param configurationNodeId the configurationNodeId
      * @return Result refer to the generated Config-Key or to an error if happened. */
@@ -8,13 +8,13 @@
 
 package ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Set;
 
-import org.springframework.scheduling.annotation.Async;
+import org.apache.commons.io.IOUtils;
 
-import ch.ethz.seb.sebserver.gbl.async.AsyncServiceSpringConfig;
 import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.SebConfigEncryptionService.Strategy;
 
 /** Interface for a SEB Configuration encryption and decryption strategy.
@@ -28,28 +28,68 @@ public interface SebConfigCryptor {
      * @return Set of strategies a concrete implementation is supporting */
     Set<Strategy> strategies();
 
-    /** Encrypt an incoming plain data stream to an outgoing cipher data stream
-     * This uses Springs @Async annotation to run in a separated thread
+    /** Decorates a given cipher data output stream with encryption.
+     * All plain data written to the returned output stream is encrypted within the writing thread
+     * and written to the given output stream. Closing the returned output stream finishes the encryption
+     * and closes the given output stream.
+     *
+     * @param output the output stream to write encrypted data to
+     * @param context the SebConfigEncryptionContext to access strategy specific data needed for encryption
+     * @return the output stream to write the plain data to
+     * @throws IOException if the encryption cannot be initialized */
+    OutputStream encryptingStream(
+            final OutputStream output,
+            final SebConfigEncryptionContext context) throws IOException;
+
+    /** Decorates a given cipher data input stream with decryption.
+     * All plain data read from the returned input stream is read from the given input stream and decrypted
+     * within the reading thread. Closing the returned input stream closes the given input stream.
+     *
+     * @param input the input stream to read the cipher text from
+     * @param context the SebConfigEncryptionContext to access strategy specific data needed for decryption
+     * @return the input stream to read the plain data from
+     * @throws IOException if the decryption cannot be initialized */
+    InputStream decryptingStream(
+            final InputStream input,
+            final SebConfigEncryptionContext context) throws IOException;
+
+    /** Encrypt an incoming plain data stream to an outgoing cipher data stream within the calling thread.
+     * Both streams are closed after encryption.
      *
      * @param output the output stream to write encrypted data to
      * @param input the input stream to read plain data from
-     * @param context the SebConfigEncryptionContext to access strategy specific data needed for encryption */
-    @Async(AsyncServiceSpringConfig.EXECUTOR_BEAN_NAME)
-    void encrypt(
+     * @param context the SebConfigEncryptionContext to access strategy specific data needed for encryption
+     * @throws IOException if reading from or writing to the streams failed */
+    default void encrypt(
             final OutputStream output,
             final InputStream input,
-            final SebConfigEncryptionContext context);
+            final SebConfigEncryptionContext context) throws IOException {
 
-    /** Decrypt an incoming cipher data stream to an outgoing plain text data stream
-     * This uses Springs @Async annotation to run in a separated thread
+        try (final OutputStream encryptOutput = encryptingStream(output, context)) {
+            IOUtils.copyLarge(input, encryptOutput);
+        } finally {
+            IOUtils.closeQuietly(input);
+        }
+    }
+
+    /** Decrypt an incoming cipher data stream to an outgoing plain text data stream within the calling thread.
+     * Both streams are closed after decryption.
      *
      * @param output the output stream to write the plain text data to
      * @param input the input stream to read the cipher text from
-     * @param context the SebConfigEncryptionContext to access strategy specific data needed for encryption */
-    @Async(AsyncServiceSpringConfig.EXECUTOR_BEAN_NAME)
-    void decrypt(
+     * @param context the SebConfigEncryptionContext to access strategy specific data needed for decryption
+     * @throws IOException if reading from or writing to the streams failed */
+    default void decrypt(
             final OutputStream output,
             final InputStream input,
-            final SebConfigEncryptionContext context);
+            final SebConfigEncryptionContext context) throws IOException {
+
+        try (final InputStream decryptInput = decryptingStream(input, context)) {
+            IOUtils.copyLarge(decryptInput, output);
+        } finally {
+            output.flush();
+            IOUtils.closeQuietly(output);
+        }
+    }
 
 }
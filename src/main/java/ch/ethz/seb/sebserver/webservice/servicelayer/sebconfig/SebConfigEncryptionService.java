@@ -8,14 +8,13 @@
 
 package ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Arrays;
-import java.util.concurrent.Future;
 
-import org.springframework.scheduling.annotation.Async;
-
-import ch.ethz.seb.sebserver.gbl.async.AsyncServiceSpringConfig;
+import ch.ethz.seb.sebserver.gbl.api.APIMessage.APIMessageException;
+import ch.ethz.seb.sebserver.gbl.util.Result;
 import ch.ethz.seb.sebserver.gbl.util.Utils;
 
 /** Used for SEB Configuration encryption and decryption */
@@ -63,24 +62,53 @@ public interface SebConfigEncryptionService {
 
     }
 
-    /** This can be used to stream incoming plain text data to encrypted cipher data output stream.
+    /** Decorates a given output stream with the encryption of the strategy of the given context.
+     * The strategy header is written immediately to the given output stream. All plain data that is
+     * written to the returned output stream is encrypted within the writing thread. Closing the returned
+     * output stream finishes the encryption and closes the given output stream.
+     *
+     * @param output the output data stream to write the cipher text to
+     * @param context the SebConfigEncryptionContext to access strategy specific data needed for encryption
+     * @return the output stream to write the plain text to
+     * @throws IOException if the header cannot be written or the encryption cannot be initialized */
+    OutputStream encryptingStream(
+            final OutputStream output,
+            SebConfigEncryptionContext context) throws IOException;
+
+    /** Decorates a given input stream of cipher data with the decryption of the strategy that is defined by
+     * the strategy header of the cipher data. All plain text data that is read from the returned input stream
+     * is decrypted within the reading thread. Closing the returned input stream closes the given input stream.
+     *
+     * @param input the input stream to read the cipher text from
+     * @param context the SebConfigEncryptionContext to access strategy specific data needed for decryption
+     * @return the input stream to read the plain text from
+     * @throws IOException if the header cannot be read or the decryption cannot be initialized
+     * @throws APIMessageException with MISSING_PASSWORD if the cipher data is password encrypted but the
+     *             context has no password */
+    InputStream decryptingStream(
+            final InputStream input,
+            final SebConfigEncryptionContext context) throws IOException;
+
+    /** This can be used to stream incoming plain text data to encrypted cipher data output stream
+     * within the calling thread. Both streams are closed after encryption.
      *
      * @param output the output data stream to write the cipher text to
      * @param input the input stream to read the plain text from
-     * @param context the SebConfigEncryptionContext to access strategy specific data needed for encryption */
-    @Async(AsyncServiceSpringConfig.EXECUTOR_BEAN_NAME)
-    void streamEncrypted(
+     * @param context the SebConfigEncryptionContext to access strategy specific data needed for encryption
+     * @return Result refer to the Exception that happened while encryption or to empty on success */
+    Result<Void> streamEncrypted(
             final OutputStream output,
             final InputStream input,
             SebConfigEncryptionContext context);
 
-    /** This can be used to stream incoming cipher data to decrypted plain text data output stream.
+    /** This can be used to stream incoming cipher data to decrypted plain text data output stream
+     * within the calling thread. Both streams are closed after decryption.
      *
      * @param output the output data stream to write encrypted plain text to
      * @param input the input stream to read the cipher text from
-     * @param context the SebConfigEncryptionContext to access strategy specific data needed for encryption */
-    @Async(AsyncServiceSpringConfig.EXECUTOR_BEAN_NAME)
-    Future<Exception> streamDecrypted(
+     * @param context the SebConfigEncryptionContext to access strategy specific data needed for encryption
+     * @return Result refer to the Exception that happened while decryption or to empty on success */
+    Result<Void> streamDecrypted(
             final OutputStream output,
             final InputStream input,
             final SebConfigEncryptionContext context);
@@ -8,32 +8,34 @@
 
 package ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
-import org.springframework.scheduling.annotation.Async;
-
-import ch.ethz.seb.sebserver.gbl.async.AsyncServiceSpringConfig;
-
-/** A Zip service that can be used to compress or uncompress a given data stream. */
+/** A Zip service that can be used to compress or uncompress a given data stream.
+ *
+ * The service decorates given streams so that compression and decompression is done within the thread
+ * that writes to or reads from the decorated stream. The decorators can be chained with other stream
+ * decorators like the ones of the SebConfigEncryptionService to a streaming pipeline. */
 public interface ZipService {
 
-    /** Use this to read uncompressed data from a given input-stream,
-     * compress this data with gzip and write the compressed data to
-     * a given output stream.
+    /** Use this to decorate a given output stream with gzip compression.
+     * All data written to the returned output stream is compressed with gzip and written to the given
+     * output stream. Closing the returned output stream finishes the compression and closes the given
+     * output stream.
      *
      * @param out the OutputStream to write the compressed data to
-     * @param in the InputStream to read the uncompressed data from */
-    @Async(AsyncServiceSpringConfig.EXECUTOR_BEAN_NAME)
-    void write(OutputStream out, InputStream in);
+     * @return the OutputStream to write the uncompressed data to
+     * @throws IOException if the gzip header cannot be written to the given output stream */
+    OutputStream compress(OutputStream out) throws IOException;
 
-    /** Use this to read gzip-compressed data from a given input-stream,
-     * uncompress this data and write the uncompressed data to
-     * a given output stream.
+    /** Use this to decorate a given input stream of gzip-compressed data with decompression.
+     * All data read from the returned input stream is read from the given input stream and uncompressed.
+     * Closing the returned input stream closes the given input stream.
      *
-     * @param out the OutputStream to write the uncompressed data to
-     * @param in the InputStream to read the compressed data from */
-    @Async(AsyncServiceSpringConfig.EXECUTOR_BEAN_NAME)
-    void read(OutputStream out, InputStream in);
+     * @param in the InputStream to read the compressed data from
+     * @return the InputStream to read the uncompressed data from
+     * @throws IOException if the gzip header cannot be read from the given input stream */
+    InputStream uncompress(InputStream in) throws IOException;
 
 }
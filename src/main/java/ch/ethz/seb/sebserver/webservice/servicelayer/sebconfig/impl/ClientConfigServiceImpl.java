@@ -8,17 +8,14 @@
 
 package ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.impl;
 
-import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.UUID;
 
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -53,6 +50,7 @@ import ch.ethz.seb.sebserver.webservice.servicelayer.client.ClientCredentials;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.InstitutionDAO;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.SebClientConfigDAO;
 import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.ClientConfigService;
+import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.SebConfigEncryptionContext;
 import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.SebConfigEncryptionService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.SebConfigEncryptionService.Strategy;
 import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.ZipService;
@@ -197,54 +195,31 @@ public class ClientConfigServiceImpl implements ClientConfigService {
 
         final String plainTextXMLContent = extractXMLContent(config);
 
-        PipedOutputStream pOut = null;
-        PipedInputStream pIn = null;
-        PipedOutputStream zipOut = null;
-        PipedInputStream zipIn = null;
+        final SebConfigEncryptionContext encryptionContext = (encryptionPassword != null)
+                // encrypt zipped plain text and add header
+                ? passwordEncryptionContext(encryptionPassword)
+                // just add plain text header
+                : EncryptionContext.contextOfPlainText();
 
-        try {
+        // streaming within the calling thread: plain text -> zip -> encrypt -> zip again to finish up -> output
+        try (final OutputStream plainOut = this.zipService.compress(
+                this.sebConfigEncryptionService.encryptingStream(
+                        this.zipService.compress(new CloseShieldOutputStream(output)),
+                        encryptionContext))) {
 
-            final InputStream plainIn = IOUtils.toInputStream(
+            plainOut.write(Utils.toByteArray(
                     Constants.XML_VERSION_HEADER +
                             Constants.XML_DOCTYPE_HEADER +
                             Constants.XML_PLIST_START_V1 +
                             plainTextXMLContent +
-                            Constants.XML_PLIST_END,
-                    StandardCharsets.UTF_8.name());
-
-            pOut = new PipedOutputStream();
-            pIn = new PipedInputStream(pOut);
-
-            zipOut = new PipedOutputStream();
-            zipIn = new PipedInputStream(zipOut);
-
-            // ZIP plain text
-            this.zipService.write(pOut, plainIn);
-
-            if (encryptionPassword != null) {
-                // encrypt zipped plain text and add header
-                passwordEncryption(zipOut, encryptionPassword, pIn);
-            } else {
-                // just add plain text header
-                this.sebConfigEncryptionService.streamEncrypted(
-                        zipOut,
-                        pIn,
-                        EncryptionContext.contextOfPlainText());
-            }
-
-            // ZIP again to finish up
-            this.zipService.write(output, zipIn);
-
-            if (log.isDebugEnabled()) {
-                log.debug("*** Finished Seb client configuration download streaming composition");
-            }
+                            Constants.XML_PLIST_END));
 
         } catch (final Exception e) {
             log.error("Error while zip and encrypt seb client config stream: ", e);
-            IOUtils.closeQuietly(pIn);
-            IOUtils.closeQuietly(pOut);
-            IOUtils.closeQuietly(zipIn);
-            IOUtils.closeQuietly(zipOut);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("*** Finished Seb client configuration download streaming composition");
         }
     }
 
@@ -372,10 +347,7 @@ public class ClientConfigServiceImpl implements ClientConfigService {
         checkAccess(config);
     }
 
-    private void passwordEncryption(
-            final OutputStream output,
-            final CharSequence encryptionPassword,
-            final InputStream input) {
+    private SebConfigEncryptionContext passwordEncryptionContext(final CharSequence encryptionPassword) {
 
         if (log.isDebugEnabled()) {
             log.debug("*** Seb client configuration with password based encryption");
@@ -385,12 +357,9 @@ public class ClientConfigServiceImpl implements ClientConfigService {
                 ? StringUtils.EMPTY
                 : this.clientCredentialService.decrypt(encryptionPassword);
 
-        this.sebConfigEncryptionService.streamEncrypted(
-                output,
-                input,
-                EncryptionContext.contextOf(
-                        (encryptionPassword == StringUtils.EMPTY) ? Strategy.PASSWORD_PWCC : Strategy.PASSWORD_PSWD,
-                        encryptionPasswordPlaintext));
+        return EncryptionContext.contextOf(
+                (encryptionPassword == StringUtils.EMPTY) ? Strategy.PASSWORD_PWCC : Strategy.PASSWORD_PSWD,
+                encryptionPasswordPlaintext);
     }
 
     /** Get a encoded clientSecret for the SebClientConfiguration with specified clientId/clientName.
@@ -12,9 +12,9 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
 import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -31,13 +31,13 @@ import ch.ethz.seb.sebserver.gbl.util.Cryptor;
 import org.apache.tomcat.util.http.fileupload.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.xml.sax.SAXException;
 
 import ch.ethz.seb.sebserver.gbl.Constants;
-import ch.ethz.seb.sebserver.gbl.async.AsyncServiceSpringConfig;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationAttribute;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationValue;
 import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
@@ -49,6 +49,7 @@ import ch.ethz.seb.sebserver.webservice.servicelayer.dao.FilterMap;
 import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.AttributeValueConverter;
 import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.AttributeValueConverterService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.ConfigurationFormat;
+import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.ConfigurationValueValidator;
 import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.ZipService;
 
 @Lazy
@@ -74,6 +75,8 @@ public class ExamConfigIO {
     private final AttributeValueConverterService attributeValueConverterService;
     private final ZipService zipService;
     private final Cryptor cryptor;
+    private final CacheManager cacheManager;
+    private final Collection<ConfigurationValueValidator> validators;
 
     protected ExamConfigIO(
             final ConfigurationAttributeDAO configurationAttributeDAO,
@@ -81,7 +84,9 @@ public class ExamConfigIO {
             final ConfigurationDAO configurationDAO,
             final AttributeValueConverterService attributeValueConverterService,
             final ZipService zipService,
-            final Cryptor cryptor) {
+            final Cryptor cryptor,
+            final CacheManager cacheManager,
+            final Collection<ConfigurationValueValidator> validators) {
 
         this.configurationAttributeDAO = configurationAttributeDAO;
         this.configurationValueDAO = configurationValueDAO;
@@ -89,86 +94,71 @@ public class ExamConfigIO {
         this.attributeValueConverterService = attributeValueConverterService;
         this.zipService = zipService;
         this.cryptor = cryptor;
+        this.cacheManager = cacheManager;
+        this.validators = validators;
     }
 
-    @Async(AsyncServiceSpringConfig.EXECUTOR_BEAN_NAME)
-    void exportPlain(
+    /** Writes the plain SEB configuration of the given configuration (version) within the calling thread
+     * to the given OutputStream. The OutputStream is neither flushed nor closed by this method.
+     *
+     * @param exportFormat the format of the export
+     * @param out the OutputStream to write to
+     * @param institutionId the institution identifier
+     * @param configurationId the identifier of the configuration (version) to export
+     * @throws IOException if writing to the OutputStream failed */
+    void writePlain(
             final ConfigurationFormat exportFormat,
             final OutputStream out,
             final Long institutionId,
-            final Long configurationNodeId) throws Exception {
-
-        if (log.isDebugEnabled()) {
-            log.debug("Start export SEB plain XML configuration asynconously");
-        }
-
-        try {
-
-            // get all defined root configuration attributes prepared and sorted
-            final List<ConfigurationAttribute> sortedAttributes = this.configurationAttributeDAO.getAllRootAttributes()
-                    .getOrThrow()
-                    .stream()
-                    .flatMap(this::convertAttribute)
-                    .filter(exportFormatBasedAttributeFilter(exportFormat))
-                    .sorted()
-                    .collect(Collectors.toList());
+            final Long configurationId) throws IOException {
 
-            // get follow-up configurationId for given configurationNodeId
-            final Long configurationId = this.configurationDAO
-                    .getConfigurationLastStableVersion(configurationNodeId)
-                    .getOrThrow().id;
+        // get all defined root configuration attributes prepared and sorted with their converters
+        final ExportPlan exportPlan = getExportPlan(exportFormat);
 
-            final Function<ConfigurationAttribute, ConfigurationValue> configurationValueSupplier =
-                    getConfigurationValueSupplier(institutionId, configurationId);
+        final Function<ConfigurationAttribute, ConfigurationValue> configurationValueSupplier =
+                getConfigurationValueSupplier(institutionId, configurationId);
 
-            writeHeader(exportFormat, out);
+        writeHeader(exportFormat, out);
 
-            // write attributes
-            final Iterator<ConfigurationAttribute> iterator = sortedAttributes.iterator();
-            while (iterator.hasNext()) {
+        // write attributes
+        final Iterator<ExportEntry> iterator = exportPlan.entries.iterator();
+        while (iterator.hasNext()) {
 
-                final ConfigurationAttribute attribute = iterator.next();
-                final AttributeValueConverter attributeValueConverter =
-                        this.attributeValueConverterService.getAttributeValueConverter(attribute);
+            final ExportEntry entry = iterator.next();
 
-                switch (exportFormat) {
-                    case XML: {
-                        attributeValueConverter.convertToXML(
-                                out,
-                                attribute,
-                                configurationValueSupplier);
-                        break;
-                    }
-                    case JSON: {
-                        attributeValueConverter.convertToJSON(
-                                out,
-                                attribute,
-                                configurationValueSupplier);
-                        if (iterator.hasNext()) {
-                            out.write(JSON_SEPARATOR);
-                        }
-                        break;
+            switch (exportFormat) {
+                case XML: {
+                    entry.converter.convertToXML(
+                            out,
+                            entry.attribute,
+                            configurationValueSupplier);
+                    break;
+                }
+                case JSON: {
+                    entry.converter.convertToJSON(
+                            out,
+                            entry.attribute,
+                            configurationValueSupplier);
+                    if (iterator.hasNext()) {
+                        out.write(JSON_SEPARATOR);
                     }
+                    break;
                 }
             }
+        }
 
-            writeFooter(exportFormat, out);
-
-            if (log.isDebugEnabled()) {
-                log.debug("Finished export SEB plain XML configuration asynconously");
-            }
+        writeFooter(exportFormat, out);
+    }
 
-        } catch (final Exception e) {
-            log.error("Unexpected error while trying to write SEB Exam Configuration XML to output stream: ", e);
-            throw e;
-        } finally {
-            try {
-                out.flush();
-            } catch (final IOException e1) {
-                log.error("Unable to flush output stream after error");
-            }
-            IOUtils.closeQuietly(out);
-        }
+    /** Get the identifier of the last stable configuration (version) of the given configuration node.
+     * This is the configuration that is used for export.
+     *
+     * @param configurationNodeId the identifier of the configuration node
+     * @return the identifier of the last stable configuration of the given configuration node */
+    Long getLastStableConfigurationId(final Long configurationNodeId) {
+        return this.configurationDAO
+                .getConfigurationLastStableVersion(configurationNodeId)
+                .getOrThrow().id;
     }
 
     /** This parses the XML from given InputStream with a SAX parser to avoid keeping the
@@ -189,22 +179,44 @@ public class ExamConfigIO {
                             attr -> attr.name,
                             Function.identity()));
 
-            // the SAX handler with a ConfigValue sink that saves the values to DB
+            // the SAX handler with a ConfigValue sink that stages the values in memory
             // and a attribute-name/id mapping function with pre-created mapping
+            final List<ConfigurationValue> values = new ArrayList<>();
             final ExamConfigXMLParser examConfigImportHandler = new ExamConfigXMLParser(
                     cryptor,
                     institutionId,
                     configurationId,
-                    value -> this.configurationValueDAO
-                            .save(value)
-                            .getOrThrow(),
+                    values::add,
                     attributeMap::get);
 
             // SAX parsing
             final SAXParserFactory saxParserFactory = SAXParserFactory.newInstance();
+            saxParserFactory.setFeature(ExamConfigXMLParser.LOAD_EXTERNAL_DTD_FEATURE, false);
             final SAXParser parser = saxParserFactory.newSAXParser();
             parser.parse(in, examConfigImportHandler);
 
+            // validate the staged values with the configuration value validators on the pre-loaded attributes
+            // and save the valid values all within one batch. Validators that check a value against other
+            // stored values are not applied since the imported values replace the stored values together
+            final Map<Long, ConfigurationAttribute> attributes = attributeMap
+                    .values()
+                    .stream()
+                    .collect(Collectors.toMap(attr -> attr.id, Function.identity()));
+            final List<ConfigurationValue> validValues = values
+                    .stream()
+                    .filter(value -> isValid(value, attributes.get(value.attributeId)))
+                    .collect(Collectors.toList());
+
+            if (log.isDebugEnabled()) {
+                log.debug("Save {} imported SEB Config values for configuration: {}",
+                        validValues.size(),
+                        configurationId);
+            }
+
+            this.configurationValueDAO
+                    .saveAll(institutionId, configurationId, validValues)
+                    .getOrThrow();
+
         } catch (final ParserConfigurationException | SAXException | IOException e) {
             log.error("Unexpected error while trying to parse imported SEB Config XML: ", e);
             throw new RuntimeException(e);
@@ -213,6 +225,21 @@ public class ExamConfigIO {
         }
     }
 
+    private boolean isValid(final ConfigurationValue value, final ConfigurationAttribute attribute) {
+        return this.validators
+                .stream()
+                .filter(validator -> !validator.dependsOnStoredValues())
+                .filter(validator -> !validator.validate(value, attribute))
+                .findFirst()
+                .map(validator -> {
+                    log.warn("Skip invalid imported value: {} error: {}",
+                            value,
+                            validator.createErrorMessage(value, attribute));
+                    return false;
+                })
+                .orElse(true);
+    }
+
     InputStream unzip(final InputStream input) throws Exception {
 
         final byte[] zipHeader = new byte[Constants.GZIP_HEADER_LENGTH];
@@ -230,17 +257,43 @@ public class ExamConfigIO {
                 input);
 
         if (isZipped) {
-
-            final PipedInputStream pipedIn = new PipedInputStream();
-            final PipedOutputStream pipedOut = new PipedOutputStream(pipedIn);
-            this.zipService.read(pipedOut, sequencedInput);
-
-            return pipedIn;
+            return this.zipService.uncompress(sequencedInput);
         } else {
             return sequencedInput;
         }
     }
 
+    /** Get the ExportPlan for the given format. An ExportPlan is only created once per format and is cached
+     * until a ConfigurationAttribute gets modified.
+     *
+     * @param exportFormat the format of the export
+     * @return the ExportPlan for the given format */
+    ExportPlan getExportPlan(final ConfigurationFormat exportFormat) {
+        final Cache cache = this.cacheManager.getCache(ConfigurationAttributeDAO.ATTRIBUTE_EXPORT_PLAN_CACHE);
+        if (cache == null) {
+            return createExportPlan(exportFormat);
+        }
+
+        return cache.get(exportFormat, () -> createExportPlan(exportFormat));
+    }
+
+    private ExportPlan createExportPlan(final ConfigurationFormat exportFormat) {
+        if (log.isDebugEnabled()) {
+            log.debug("Create SEB configuration export plan for format: {}", exportFormat);
+        }
+
+        return new ExportPlan(this.configurationAttributeDAO.getAllRootAttributes()
+                .getOrThrow()
+                .stream()
+                .flatMap(this::convertAttribute)
+                .filter(exportFormatBasedAttributeFilter(exportFormat))
+                .sorted()
+                .map(attr -> new ExportEntry(
+                        attr,
+                        this.attributeValueConverterService.getAttributeValueConverter(attr)))
+                .collect(Collectors.toList()));
+    }
+
     private Predicate<ConfigurationAttribute> exportFormatBasedAttributeFilter(final ConfigurationFormat format) {
         // Filter originatorVersion according to: https://www.safeexambrowser.org/developer/seb-config-key.html
         return attr -> !("originatorVersion".equals(attr.getName()) && format == ConfigurationFormat.JSON);
@@ -309,4 +362,26 @@ public class ExamConfigIO {
         return attr -> mapping.get(attr.id);
     }
 
+    /** The immutable, ordered list of all ConfigurationAttribute to export for a specific format
+     * together with their resolved AttributeValueConverter */
+    static final class ExportPlan {
+
+        final List<ExportEntry> entries;
+
+        ExportPlan(final List<ExportEntry> entries) {
+            this.entries = Utils.immutableListOf(entries);
+        }
+    }
+
+    static final class ExportEntry {
+
+        final ConfigurationAttribute attribute;
+        final AttributeValueConverter converter;
+
+        ExportEntry(final ConfigurationAttribute attribute, final AttributeValueConverter converter) {
+            this.attribute = attribute;
+            this.converter = converter;
+        }
+    }
+
 }
@@ -8,22 +8,28 @@
 
 package ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.impl;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.commons.io.output.NullOutputStream;
+import org.apache.commons.io.output.TeeOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
@@ -61,6 +67,7 @@ public class ExamConfigServiceImpl implements ExamConfigService {
     private final ClientCredentialService clientCredentialService;
     private final ZipService zipService;
     private final SebConfigEncryptionService sebConfigEncryptionService;
+    private final CacheManager cacheManager;
 
     protected ExamConfigServiceImpl(
             final ExamConfigIO examConfigIO,
@@ -69,7 +76,8 @@ public class ExamConfigServiceImpl implements ExamConfigService {
             final Collection<ConfigurationValueValidator> validators,
             final ClientCredentialService clientCredentialService,
             final ZipService zipService,
-            final SebConfigEncryptionService sebConfigEncryptionService) {
+            final SebConfigEncryptionService sebConfigEncryptionService,
+            final CacheManager cacheManager) {
 
         this.examConfigIO = examConfigIO;
         this.configurationAttributeDAO = configurationAttributeDAO;
@@ -78,6 +86,7 @@ public class ExamConfigServiceImpl implements ExamConfigService {
         this.clientCredentialService = clientCredentialService;
         this.zipService = zipService;
         this.sebConfigEncryptionService = sebConfigEncryptionService;
+        this.cacheManager = cacheManager;
     }
 
     @Override
@@ -186,55 +195,22 @@ public class ExamConfigServiceImpl implements ExamConfigService {
             final CharSequence encryptionPasswordPlaintext = this.clientCredentialService
                     .decrypt(passwordCipher);
 
-            PipedOutputStream plainOut = null;
-            PipedInputStream zipIn = null;
+            // streaming within the calling thread: plain text -> zip -> encrypt -> out
+            try (final OutputStream zipOut = this.zipService.compress(
+                    this.sebConfigEncryptionService.encryptingStream(
+                            new CloseShieldOutputStream(out),
+                            EncryptionContext.contextOf(
+                                    Strategy.PASSWORD_PSWD,
+                                    encryptionPasswordPlaintext)))) {
 
-            PipedOutputStream zipOut = null;
-            PipedInputStream cryptIn = null;
-
-            PipedOutputStream cryptOut = null;
-            PipedInputStream in = null;
-
-            try {
-
-                plainOut = new PipedOutputStream();
-                zipIn = new PipedInputStream(plainOut);
-
-                zipOut = new PipedOutputStream();
-                cryptIn = new PipedInputStream(zipOut);
-
-                cryptOut = new PipedOutputStream();
-                in = new PipedInputStream(cryptOut);
-
-                // streaming...
-                // export plain text
-                this.examConfigIO.exportPlain(
+                this.examConfigIO.writePlain(
                         ConfigurationFormat.XML,
-                        plainOut,
+                        zipOut,
                         institutionId,
-                        configurationNodeId);
-                // zip the plain text
-                this.zipService.write(zipOut, zipIn);
-                // encrypt the zipped plain text
-                this.sebConfigEncryptionService.streamEncrypted(
-                        cryptOut,
-                        cryptIn,
-                        EncryptionContext.contextOf(
-                                Strategy.PASSWORD_PSWD,
-                                encryptionPasswordPlaintext));
-
-                // copy to output
-                IOUtils.copyLarge(in, out);
+                        this.examConfigIO.getLastStableConfigurationId(configurationNodeId));
 
             } catch (final Exception e) {
                 log.error("Error while zip and encrypt seb exam config stream: ", e);
-            } finally {
-                IOUtils.closeQuietly(zipIn);
-                IOUtils.closeQuietly(plainOut);
-                IOUtils.closeQuietly(cryptIn);
-                IOUtils.closeQuietly(zipOut);
-                IOUtils.closeQuietly(in);
-                IOUtils.closeQuietly(cryptOut);
             }
         } else {
             // just export in plain text XML format
@@ -249,69 +225,48 @@ public class ExamConfigServiceImpl implements ExamConfigService {
             final Long institutionId,
             final Long configurationNodeId) {
 
-        if (log.isDebugEnabled()) {
-            log.debug("Start to stream plain JSON SEB Configuration data for Config-Key generation");
-        }
-
-        if (true) {
-            PipedOutputStream pout;
-            PipedInputStream pin;
-            try {
-                pout = new PipedOutputStream();
-                pin = new PipedInputStream(pout);
-                this.examConfigIO.exportPlain(
-                        ConfigurationFormat.JSON,
-                        pout,
-                        institutionId,
-                        configurationNodeId);
+        return Result.tryCatch(() -> {
+            final Long configurationId = this.examConfigIO.getLastStableConfigurationId(configurationNodeId);
+            final Cache cache = this.cacheManager.getCache(CONFIG_KEY_CACHE);
+            if (cache == null) {
+                return createConfigKey(institutionId, configurationId);
+            }
 
-                final String json = IOUtils.toString(pin, "UTF-8");
+            return cache.get(configurationId, () -> createConfigKey(institutionId, configurationId));
+        })
+                .onError(error -> log.error(
+                        "Error while stream plain JSON SEB Configuration data for Config-Key generation: ",
+                        error));
+    }
 
-                log.trace("SEB Configuration JSON to create Config-Key: {}", json);
-            } catch (final Exception e) {
-                log.error("Failed to trace SEB Configuration JSON: ", e);
-            }
+    /* Streams the plain JSON SEB Configuration data of the given configuration within the calling thread
+     * directly into a SHA-256 digest and returns the hex encoded digest as Config-Key */
+    private String createConfigKey(final Long institutionId, final Long configurationId) throws IOException {
+        if (log.isDebugEnabled()) {
+            log.debug("Start to stream plain JSON SEB Configuration data for Config-Key generation");
         }
 
-        PipedOutputStream pout = null;
-        PipedInputStream pin = null;
-        try {
-            pout = new PipedOutputStream();
-            pin = new PipedInputStream(pout);
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        final ByteArrayOutputStream trace = (log.isTraceEnabled()) ? new ByteArrayOutputStream() : null;
+        final OutputStream digestOut = new DigestOutputStream(new NullOutputStream(), digest);
 
-            this.examConfigIO.exportPlain(
+        try (final OutputStream out = (trace != null) ? new TeeOutputStream(digestOut, trace) : digestOut) {
+            this.examConfigIO.writePlain(
                     ConfigurationFormat.JSON,
-                    pout,
+                    out,
                     institutionId,
-                    configurationNodeId);
-
-            final String configKey = DigestUtils.sha256Hex(pin);
-
-            return Result.of(configKey);
+                    configurationId);
+        }
 
-        } catch (final Exception e) {
-            log.error("Error while stream plain JSON SEB Configuration data for Config-Key generation: ", e);
-            return Result.ofError(e);
-        } finally {
-            try {
-                if (pin != null) {
-                    pin.close();
-                }
-            } catch (final IOException e1) {
-                log.error("Failed to close PipedInputStream: ", e1);
-            }
-            try {
-                if (pout != null) {
-                    pout.close();
-                }
-            } catch (final IOException e1) {
-                log.error("Failed to close PipedOutputStream: ", e1);
-            }
+        if (trace != null) {
+            log.trace("SEB Configuration JSON to create Config-Key: {}", trace.toString("UTF-8"));
+        }
 
-            if (log.isDebugEnabled()) {
-                log.debug("Finished to stream plain JSON SEB Configuration data for Config-Key generation");
-            }
+        if (log.isDebugEnabled()) {
+            log.debug("Finished to stream plain JSON SEB Configuration data for Config-Key generation");
         }
+
+        return Hex.encodeHexString(digest.digest());
     }
 
     @Override
@@ -332,50 +287,32 @@ public class ExamConfigServiceImpl implements ExamConfigService {
 
         return Result.tryCatch(() -> {
 
-            Future<Exception> streamDecrypted = null;
-            InputStream cryptIn = null;
-            PipedInputStream plainIn = null;
-            PipedOutputStream cryptOut = null;
-            InputStream unzippedIn = null;
+            InputStream plainIn = null;
             try {
 
-                cryptIn = this.examConfigIO.unzip(input);
-                plainIn = new PipedInputStream();
-                cryptOut = new PipedOutputStream(plainIn);
-
-                // decrypt
-                streamDecrypted = this.sebConfigEncryptionService.streamDecrypted(
-                        cryptOut,
-                        cryptIn,
-                        EncryptionContext.contextOf(password));
-
-                // if zipped, unzip attach unzip stream first
-                unzippedIn = this.examConfigIO.unzip(plainIn);
+                // streaming within the calling thread: in -> (unzip) -> decrypt -> (unzip) -> parse XML
+                plainIn = this.examConfigIO.unzip(
+                        this.sebConfigEncryptionService.decryptingStream(
+                                this.examConfigIO.unzip(input),
+                                EncryptionContext.contextOf(password)));
 
                 // parse XML and import
                 this.examConfigIO.importPlainXML(
-                        unzippedIn,
+                        plainIn,
                         config.institutionId,
                         config.id);
 
                 return config;
 
+            } catch (final APIMessageException e) {
+                log.error("Unexpected error while trying to import SEB Exam Configuration: ", e);
+                throw e;
             } catch (final Exception e) {
                 log.error("Unexpected error while trying to import SEB Exam Configuration: ", e);
-
-                if (streamDecrypted != null) {
-                    final Exception exception = streamDecrypted.get();
-                    if (exception != null && exception instanceof APIMessageException) {
-                        throw exception;
-                    }
-                }
-
                 throw new RuntimeException("Failed to import SEB configuration. Cause is: " + e.getMessage());
             } finally {
-                IOUtils.closeQuietly(cryptIn);
                 IOUtils.closeQuietly(plainIn);
-                IOUtils.closeQuietly(cryptOut);
-                IOUtils.closeQuietly(unzippedIn);
+                IOUtils.closeQuietly(input);
             }
         });
     }
@@ -390,39 +327,19 @@ public class ExamConfigServiceImpl implements ExamConfigService {
             log.debug("Start to stream plain text SEB Configuration data");
         }
 
-        PipedOutputStream pout = null;
-        PipedInputStream pin = null;
         try {
-            pout = new PipedOutputStream();
-            pin = new PipedInputStream(pout);
 
-            this.examConfigIO.exportPlain(
+            this.examConfigIO.writePlain(
                     exportFormat,
-                    pout,
+                    out,
                     institutionId,
-                    configurationNodeId);
+                    this.examConfigIO.getLastStableConfigurationId(configurationNodeId));
 
-            IOUtils.copyLarge(pin, out);
+            out.flush();
 
         } catch (final Exception e) {
             log.error("Error while stream plain text SEB Configuration export data: ", e);
         } finally {
-            try {
-                if (pin != null) {
-                    pin.close();
-                }
-            } catch (final IOException e1) {
-                log.error("Failed to close PipedInputStream: ", e1);
-            }
-            try {
-                if (pout != null) {
-                    pout.flush();
-                    pout.close();
-                }
-            } catch (final IOException e1) {
-                log.error("Failed to close PipedOutputStream: ", e1);
-            }
-
             if (log.isDebugEnabled()) {
                 log.debug("Finished to stream plain text SEB Configuration export data");
             }
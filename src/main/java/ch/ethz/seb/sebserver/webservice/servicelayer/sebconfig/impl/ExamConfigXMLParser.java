@@ -35,6 +35,11 @@ public class ExamConfigXMLParser extends DefaultHandler {
 
     private static final Logger log = LoggerFactory.getLogger(ExamConfigXMLParser.class);
 
+    /** SAX parser feature to disable the loading of the external plist DTD. The DTD is not needed for parsing
+     * and would otherwise be loaded over the network for every parsed document */
+    public static final String LOAD_EXTERNAL_DTD_FEATURE =
+            "http://apache.org/xml/features/nonvalidating/load-external-dtd";
+
     // comma separated list of SEB exam config keys that can be ignored on imports
     // See: https://jira.let.ethz.ch/browse/SEBSERV-100
     private static final Set<String> SEB_EXAM_CONFIG_KEYS_TO_IGNORE = new HashSet<>(Arrays.asList(
@@ -398,7 +403,8 @@ public class ExamConfigXMLParser extends DefaultHandler {
             }
         } else if (top.type == Type.VALUE_INTEGER) {
             top.value = value;
-        } else if (top.type == Type.KEY) {
+        } else if (top.type == Type.KEY && StringUtils.isNotBlank(value)) {
+            // NOTE: without the plist DTD, whitespace between elements is not ignorable and is reported here
             top.name = value;
         }
     }
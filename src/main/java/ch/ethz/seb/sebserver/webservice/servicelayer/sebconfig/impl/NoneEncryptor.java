@@ -8,12 +8,10 @@
 
 package ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.impl;
 
-import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Set;
 
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Lazy;
@@ -41,39 +39,19 @@ public class NoneEncryptor implements SebConfigCryptor {
     }
 
     @Override
-    public void encrypt(
+    public OutputStream encryptingStream(
             final OutputStream output,
-            final InputStream input,
             final SebConfigEncryptionContext context) {
 
         if (log.isDebugEnabled()) {
             log.debug("No encryption, write plain input data");
         }
 
-        try {
-
-            IOUtils.copyLarge(input, output);
-
-        } catch (final IOException e) {
-            log.error("Error while streaming plain data to output: ", e);
-        } finally {
-            try {
-                input.close();
-                output.flush();
-                output.close();
-            } catch (final IOException e) {
-                log.error("Failed to close InputStream and OutputStream");
-            }
-
-            if (log.isDebugEnabled()) {
-                log.debug("Finished with no encryption. Close input stream");
-            }
-        }
+        return output;
     }
 
     @Override
-    public void decrypt(
-            final OutputStream output,
+    public InputStream decryptingStream(
             final InputStream input,
             final SebConfigEncryptionContext context) {
 
@@ -81,28 +59,7 @@ public class NoneEncryptor implements SebConfigCryptor {
             log.debug("No decryption, read plain input data");
         }
 
-        try {
-
-            IOUtils.copyLarge(input, output);
-
-            input.close();
-            output.flush();
-            output.close();
-
-        } catch (final IOException e) {
-            log.error("Error while streaming plain data to output: ", e);
-        } finally {
-            try {
-                input.close();
-            } catch (final IOException e) {
-                log.error("Failed to close InputStream");
-            }
-
-            if (log.isDebugEnabled()) {
-                log.debug("Finished with no encryption. Close input stream");
-            }
-        }
-
+        return input;
     }
 
 }
@@ -9,14 +9,13 @@
 package ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.impl;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.SequenceInputStream;
 import java.util.Set;
 
-import org.apache.tomcat.util.http.fileupload.IOUtils;
+import org.apache.commons.io.IOUtils;
 import org.cryptonode.jncryptor.AES256JNCryptorInputStream;
 import org.cryptonode.jncryptor.AES256JNCryptorOutputStream;
 import org.cryptonode.jncryptor.CryptorException;
@@ -56,125 +55,78 @@ public class PasswordEncryptor implements SebConfigCryptor {
     }
 
     @Override
-    public void encrypt(
+    public OutputStream encryptingStream(
             final OutputStream output,
-            final InputStream input,
-            final SebConfigEncryptionContext context) {
+            final SebConfigEncryptionContext context) throws IOException {
 
         if (log.isDebugEnabled()) {
-            log.debug("*** Start streaming asynchronous encryption");
+            log.debug("*** Start streaming encryption");
         }
 
-        OutputStream encryptOutput = null;
         try {
 
             final CharSequence password = context.getPassword();
             if (password.length() == 0) {
-                encryptOutput = new AES256JNCryptorOutputStreamEmptyPwdSupport(
+                return new AES256JNCryptorOutputStreamEmptyPwdSupport(
                         output,
                         Utils.toCharArray(password),
                         Constants.JN_CRYPTOR_ITERATIONS);
             } else {
-                encryptOutput = new AES256JNCryptorOutputStream(
+                return new AES256JNCryptorOutputStream(
                         output,
                         Utils.toCharArray(password),
                         Constants.JN_CRYPTOR_ITERATIONS);
             }
 
-            IOUtils.copyLarge(input, encryptOutput);
-
         } catch (final CryptorException e) {
-            log.error("Error while trying to stream and encrypt data: ", e);
-        } catch (final IOException e) {
-            log.error("Error while trying to read/write form/to streams: ", e);
-        } finally {
-            try {
-                input.close();
-                if (encryptOutput != null) {
-                    encryptOutput.flush();
-                    encryptOutput.close();
-                }
-            } catch (final IOException e) {
-                log.error("Failed to close AES256JNCryptorOutputStream: ", e);
-            }
-
-            if (log.isDebugEnabled()) {
-                log.debug("*** Finish streaming asynchronous encryption");
-            }
+            log.error("Error while trying to initialize stream encryption: ", e);
+            throw new IOException("Failed to initialize stream encryption", e);
         }
     }
 
     @Override
-    public void decrypt(
-            final OutputStream output,
+    public InputStream decryptingStream(
             final InputStream input,
-            final SebConfigEncryptionContext context) {
+            final SebConfigEncryptionContext context) throws IOException {
 
         final CharSequence password = context.getPassword();
 
-        try {
-            final byte[] version = new byte[Constants.JN_CRYPTOR_VERSION_HEADER_SIZE];
-            final int read = input.read(version);
-            if (read != Constants.JN_CRYPTOR_VERSION_HEADER_SIZE) {
-                throw new IllegalArgumentException("Failed to verify RNCrypt version from input stream file header.");
-            }
-
-            final SequenceInputStream sequenceInputStream = new SequenceInputStream(
-                    new ByteArrayInputStream(version),
-                    input);
-
-            if (version[0] == 3) {
-
-                if (log.isDebugEnabled()) {
-                    log.debug("*** Start streaming asynchronous decryption");
-                }
-
-                AES256JNCryptorInputStream encryptInput = null;
-                try {
-
-                    encryptInput = new AES256JNCryptorInputStream(
-                            sequenceInputStream,
-                            Utils.toCharArray(password));
+        final byte[] version = new byte[Constants.JN_CRYPTOR_VERSION_HEADER_SIZE];
+        final int read = input.read(version);
+        if (read != Constants.JN_CRYPTOR_VERSION_HEADER_SIZE) {
+            throw new IllegalArgumentException("Failed to verify RNCrypt version from input stream file header.");
+        }
 
-                    IOUtils.copyLarge(encryptInput, output);
+        final SequenceInputStream sequenceInputStream = new SequenceInputStream(
+                new ByteArrayInputStream(version),
+                input);
 
-                } catch (final IOException e) {
-                    log.error("Error while trying to read/write form/to streams: ", e);
-                } finally {
-                    IOUtils.closeQuietly(encryptInput);
-                }
-            } else {
-                // AES256JNCryptorInputStream supports only decryption of AES256 version 3 encrypted data
-                // Workaround: stop streaming and use AES256JNCryptor which supports both, version 2 and 3
-                log.info("Trying to decrypt with AES256JNCryptor by load all data into memory...");
+        if (version[0] == 3) {
 
-                try {
+            if (log.isDebugEnabled()) {
+                log.debug("*** Start streaming decryption");
+            }
 
-                    final ByteArrayOutputStream out = new ByteArrayOutputStream();
-                    IOUtils.copy(sequenceInputStream, out);
-                    final byte[] ciphertext = out.toByteArray();
+            return new AES256JNCryptorInputStream(
+                    sequenceInputStream,
+                    Utils.toCharArray(password));
 
-                    //cryptor.setPBKDFIterations(Constants.JN_CRYPTOR_ITERATIONS);
-                    final byte[] decryptData = this.cryptor.decryptData(ciphertext, Utils.toCharArray(password));
-                    final ByteArrayInputStream decryptedIn = new ByteArrayInputStream(decryptData);
-                    IOUtils.copyLarge(decryptedIn, output);
+        } else {
+            // AES256JNCryptorInputStream supports only decryption of AES256 version 3 encrypted data
+            // Workaround: stop streaming and use AES256JNCryptor which supports both, version 2 and 3
+            log.info("Trying to decrypt with AES256JNCryptor by load all data into memory...");
 
-                } catch (final IOException | CryptorException e) {
-                    log.error("Error while trying to none-streaming decrypt: ", e);
-                }
-            }
-        } catch (final IOException e) {
-            log.error("Unexpected error while decryption: ", e);
-        } finally {
             try {
-                output.flush();
-                output.close();
-            } catch (final IOException e) {
-                log.error("Failed to close streams");
-            }
 
-            if (log.isDebugEnabled()) {
-                log.debug("*** Finish streaming asynchronous decryption");
+                final byte[] ciphertext = IOUtils.toByteArray(sequenceInputStream);
+                final byte[] decryptData = this.cryptor.decryptData(ciphertext, Utils.toCharArray(password));
+                return new ByteArrayInputStream(decryptData);
+
+            } catch (final CryptorException e) {
+                log.error("Error while trying to none-streaming decrypt: ", e);
+                throw new IOException("Failed to decrypt", e);
+            } finally {
+                IOUtils.closeQuietly(input);
             }
         }
     }
@@ -12,14 +12,11 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
 import java.io.SequenceInputStream;
 import java.security.cert.Certificate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
-import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -29,7 +26,6 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.stereotype.Service;
 
 import ch.ethz.seb.sebserver.gbl.Constants;
@@ -61,121 +57,105 @@ public final class SebConfigEncryptionServiceImpl implements SebConfigEncryption
     }
 
     @Override
-    public void streamEncrypted(
+    public OutputStream encryptingStream(
             final OutputStream output,
-            final InputStream input,
-            final SebConfigEncryptionContext context) {
+            final SebConfigEncryptionContext context) throws IOException {
 
         final Strategy strategy = context.getStrategy();
-        PipedOutputStream pout = null;
-        PipedInputStream pin = null;
-        try {
-            pout = new PipedOutputStream();
-            pin = new PipedInputStream(pout);
-
-            if (log.isDebugEnabled()) {
-                log.debug("Password encryption with strategy: {}", strategy);
-            }
 
-            output.write(strategy.header);
+        if (log.isDebugEnabled()) {
+            log.debug("Password encryption with strategy: {}", strategy);
+        }
 
-            getEncryptor(strategy)
-                    .getOrThrow()
-                    .encrypt(pout, input, context);
+        final SebConfigCryptor encryptor = getEncryptor(strategy).getOrThrow();
+        output.write(strategy.header);
+        return encryptor.encryptingStream(output, context);
+    }
 
-            IOUtils.copyLarge(pin, output);
+    @Override
+    public InputStream decryptingStream(
+            final InputStream input,
+            final SebConfigEncryptionContext context) throws IOException {
 
-        } catch (final IOException e) {
-            log.error("Error while stream encrypted data: ", e);
-        } finally {
-            try {
-                if (pin != null) {
-                    pin.close();
-                }
-                if (pout != null) {
-                    pout.flush();
-                    pout.close();
-                }
-                output.flush();
-                output.close();
-            } catch (final IOException e1) {
-                log.error("Failed to close PipedInputStream: ", e1);
+        Strategy strategy = null;
+        final byte[] header = new byte[Constants.SEB_FILE_HEADER_SIZE];
+        final int read = input.read(header);
+        if (read != Constants.SEB_FILE_HEADER_SIZE) {
+            throw new IllegalArgumentException("Failed to read seb file header.");
+        }
+
+        for (final Strategy s : Strategy.values()) {
+            if (Arrays.equals(s.header, header)) {
+                strategy = s;
+                break;
             }
         }
+
+        InputStream newIn;
+        if (strategy == null) {
+            strategy = Strategy.PLAIN_TEXT;
+            newIn = new SequenceInputStream(
+                    new ByteArrayInputStream(header),
+                    input);
+        } else {
+            newIn = input;
+        }
+
+        if ((strategy == Strategy.PASSWORD_PSWD || strategy == Strategy.PASSWORD_PWCC)
+                && StringUtils.isBlank(context.getPassword())) {
+            throw new APIMessage.APIMessageException(
+                    APIMessage.ErrorMessage.MISSING_PASSWORD.of("Missing Password"));
+        }
+
+        return getEncryptor(strategy)
+                .getOrThrow()
+                .decryptingStream(newIn, context);
     }
 
     @Override
-    public Future<Exception> streamDecrypted(
+    public Result<Void> streamEncrypted(
             final OutputStream output,
             final InputStream input,
             final SebConfigEncryptionContext context) {
 
-        PipedOutputStream pout = null;
-        PipedInputStream pin = null;
-        try {
-            pout = new PipedOutputStream();
-            pin = new PipedInputStream(pout);
-
-            Strategy strategy = null;
-            final byte[] header = new byte[Constants.SEB_FILE_HEADER_SIZE];
-            final int read = input.read(header);
-            if (read != Constants.SEB_FILE_HEADER_SIZE) {
-                throw new IllegalArgumentException("Failed to read seb file header.");
-            }
+        try (final OutputStream encryptOutput = encryptingStream(output, context)) {
 
-            for (final Strategy s : Strategy.values()) {
-                if (Arrays.equals(s.header, header)) {
-                    strategy = s;
-                    break;
-                }
-            }
+            IOUtils.copyLarge(input, encryptOutput);
 
-            InputStream newIn;
-            if (strategy == null) {
-                strategy = Strategy.PLAIN_TEXT;
-                newIn = new SequenceInputStream(
-                        new ByteArrayInputStream(header),
-                        input);
-            } else {
-                newIn = input;
-            }
+            return Result.EMPTY;
+        } catch (final IOException e) {
+            log.error("Error while stream encrypted data: ", e);
+            return Result.ofError(e);
+        } catch (final Exception e) {
+            return Result.ofError(e);
+        } finally {
+            IOUtils.closeQuietly(input);
+            IOUtils.closeQuietly(output);
+        }
+    }
 
-            if ((strategy == Strategy.PASSWORD_PSWD || strategy == Strategy.PASSWORD_PWCC)
-                    && StringUtils.isBlank(context.getPassword())) {
-                return new AsyncResult<>(new APIMessage.APIMessageException(
-                        APIMessage.ErrorMessage.MISSING_PASSWORD.of("Missing Password")));
-            }
+    @Override
+    public Result<Void> streamDecrypted(
+            final OutputStream output,
+            final InputStream input,
+            final SebConfigEncryptionContext context) {
 
-            // then decrypt stream
-            getEncryptor(strategy)
-                    .getOrThrow()
-                    .decrypt(pout, newIn, context);
+        try (final InputStream decryptInput = decryptingStream(input, context)) {
 
-            IOUtils.copyLarge(pin, output);
+            IOUtils.copyLarge(decryptInput, output);
 
-            return new AsyncResult<>(null);
+            return Result.EMPTY;
         } catch (final IOException e) {
             log.error("Error while stream decrypted data: ", e);
-            return new AsyncResult<>(e);
+            return Result.ofError(e);
         } catch (final Exception iae) {
-            return new AsyncResult<>(iae);
+            return Result.ofError(iae);
         } finally {
             try {
-                if (pin != null) {
-                    pin.close();
-                }
-            } catch (final IOException e1) {
-                log.error("Failed to close PipedInputStream: ", e1);
-            }
-            try {
-                if (pout != null) {
-                    pout.flush();
-                    pout.close();
-                }
                 output.flush();
                 output.close();
             } catch (final IOException e1) {
-                log.error("Failed to close PipedOutputStream: ", e1);
+                log.error("Failed to close OutputStream: ", e1);
             }
         }
     }
@@ -14,7 +14,6 @@ import java.io.OutputStream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
-import org.apache.tomcat.util.http.fileupload.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Lazy;
@@ -30,69 +29,24 @@ public class ZipServiceImpl implements ZipService {
 
     private static final Logger log = LoggerFactory.getLogger(ZipServiceImpl.class);
 
-    @Override
-    public void write(final OutputStream out, final InputStream in) {
+    private static final int BUFFER_SIZE = 8192;
 
+    @Override
+    public OutputStream compress(final OutputStream out) throws IOException {
         if (log.isDebugEnabled()) {
-            log.debug("*** Start streaming asynchronous zipping of SEB exam configuration data");
+            log.debug("*** Start streaming zipping of SEB exam configuration data");
         }
 
-        GZIPOutputStream zipOutputStream = null;
-        try {
-
-            zipOutputStream = new GZIPOutputStream(out);
-            IOUtils.copyLarge(in, zipOutputStream);
-
-        } catch (final IOException e) {
-            log.error("Error while streaming data to zipped output: ", e);
-        } finally {
-            try {
-                in.close();
-                if (zipOutputStream != null) {
-                    zipOutputStream.flush();
-                    zipOutputStream.close();
-                }
-                out.flush();
-                out.close();
-            } catch (final IOException e) {
-                log.error("Failed to close ZipOutputStream: ", e);
-            }
-
-            if (log.isDebugEnabled()) {
-                log.debug("*** Finish streaming asynchronous zipping of SEB exam configuration data");
-            }
-        }
+        return new GZIPOutputStream(out, BUFFER_SIZE);
     }
 
     @Override
-    public void read(final OutputStream out, final InputStream in) {
+    public InputStream uncompress(final InputStream in) throws IOException {
         if (log.isDebugEnabled()) {
-            log.debug("*** Start streaming asynchronous unzipping of SEB exam configuration data");
-        }
-
-        GZIPInputStream zipInputStream = null;
-        try {
-
-            zipInputStream = new GZIPInputStream(in);
-            IOUtils.copyLarge(zipInputStream, out);
-
-        } catch (final IOException e) {
-            log.error("Error while streaming data to unzipped output: ", e);
-        } finally {
-            try {
-                out.flush();
-            } catch (final IOException e) {
-                log.error("Failed to close OutputStream: ", e);
-            }
-
-            IOUtils.closeQuietly(out);
-            IOUtils.closeQuietly(zipInputStream);
-
-            if (log.isDebugEnabled()) {
-                log.debug("*** Finish streaming asynchronous unzipping of SEB exam configuration data");
-            }
+            log.debug("*** Start streaming unzipping of SEB exam configuration data");
         }
 
+        return new GZIPInputStream(in, BUFFER_SIZE);
     }
 
 }
@@ -71,6 +71,7 @@ public class XMLAttributeLoader {
                     attributeResolver);
 
             final SAXParserFactory saxParserFactory = SAXParserFactory.newInstance();
+            saxParserFactory.setFeature(ExamConfigXMLParser.LOAD_EXTERNAL_DTD_FEATURE, false);
             final SAXParser parser = saxParserFactory.newSAXParser();
             parser.parse(inputStream, examConfigImportHandler);
 
@@ -49,6 +49,11 @@ public class ExitKeySequenceValidator implements ConfigurationValueValidator {
         return NAME;
     }
 
+    @Override
+    public boolean dependsOnStoredValues() {
+        return true;
+    }
+
     @Override
     public boolean validate(final ConfigurationValue value, final ConfigurationAttribute attribute) {
         if (!NAME.equals(attribute.validator)) {
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.session;
+
+import java.io.OutputStream;
+
+import ch.ethz.seb.sebserver.gbl.api.API.ExportFormat;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.FilterMap;
+
+/** Service to export SEB client event logs.
+ *
+ * The events are streamed from the persistent storage directly to the given output stream
+ * so that also very large exports run with a constant memory footprint. */
+public interface ClientEventExportService {
+
+    /** Streams all client events that match the given filter criteria in the given format to the
+     * given output stream. The events are ordered by server time.
+     *
+     * NOTE: The output stream is flushed but not closed by this method
+     *
+     * @param filterMap the FilterMap containing all the filter criteria
+     * @param format the ExportFormat
+     * @param out the OutputStream to write the export to
+     * @return Result refer to the number of exported events or to an error if happened */
+    Result<Integer> exportEvents(FilterMap filterMap, ExportFormat format, OutputStream out);
+
+}
@@ -10,6 +10,7 @@ package ch.ethz.seb.sebserver.webservice.servicelayer.session;
 
 import java.io.OutputStream;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.springframework.cache.CacheManager;
@@ -19,6 +20,7 @@ import ch.ethz.seb.sebserver.gbl.api.APIMessage;
 import ch.ethz.seb.sebserver.gbl.model.exam.Exam;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection.ConnectionStatus;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientConnectionData;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent;
 import ch.ethz.seb.sebserver.gbl.util.Result;
 import ch.ethz.seb.sebserver.gbl.util.Utils;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientConnectionDAO;
@@ -128,6 +130,19 @@ public interface ExamSessionService {
      * @return Result refer to the ClientConnectionData instance or to an error if happened */
     Result<ClientConnectionData> getConnectionData(String connectionToken);
 
+    /** Get the recent client events and ping samples of a specified active SEB client connection
+     * from the in-memory timeline of the connection, ordered by server time.
+     *
+     * The timeline is bounded and only contains the events that were received on the particular
+     * server instance. Use the client event DAO to get the full event history of a connection.
+     *
+     * @param examId the exam identifier the SEB client connection must belong to
+     * @param connectionToken the connection token of the active SEB client connection
+     * @param sinceServerTime only get the entries received after this server time. Use null to get all
+     * @return Result refer to the list of recent client events or to a ResourceNotFoundException if there is
+     *         no active SEB client connection with the given token within the given exam */
+    Result<List<ClientEvent>> getConnectionTimeline(Long examId, String connectionToken, Long sinceServerTime);
+
     /** Get the collection of ClientConnectionData of all active SEB client connections
      * of a running exam.
      *
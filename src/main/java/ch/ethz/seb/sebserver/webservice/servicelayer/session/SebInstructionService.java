@@ -16,6 +16,7 @@ import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 
 import ch.ethz.seb.sebserver.gbl.Constants;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientInstruction;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientInstruction.InstructionType;
 import ch.ethz.seb.sebserver.gbl.util.Result;
@@ -59,14 +60,30 @@ public interface SebInstructionService {
             Map<String, String> attributes,
             Set<String> connectionTokens);
 
+    /** Used to register a SEB client instruction for all SEB client connections of an exam.
+     *
+     * This stores only one instruction for the whole exam that is resolved on SEB ping for each
+     * SEB client connection of the exam that existed on registration and that is not excluded.
+     *
+     * @param examId The exam identifier
+     * @param type The InstructionType
+     * @param attributes The instruction's attributes
+     * @param excludedConnectionTokens A Set of connectionTokens to not send the instruction to
+     * @return A Result refer to a void marker or to an error if happened */
+    Result<Void> registerExamInstruction(
+            final Long examId,
+            InstructionType type,
+            Map<String, String> attributes,
+            Set<String> excludedConnectionTokens);
+
     /** Get a SEB instruction for the specified SEB Client connection or null of there
      * is currently no SEB instruction in the queue.
      *
      * NOTE: If this call returns a SEB instruction instance, this instance is considered
      * as processed for the specified SEB Client afterwards and will be removed from the queue
      *
-     * @param connectionToken the SEB Client connection token
+     * @param clientConnection the SEB Client connection
      * @return SEB instruction to sent to the SEB Client or null */
-    String getInstructionJSON(final String connectionToken);
+    String getInstructionJSON(final ClientConnection clientConnection);
 
 }
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientConnectionData;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent.EventType;
 import ch.ethz.seb.sebserver.webservice.servicelayer.session.ClientIndicator;
 
@@ -28,16 +29,21 @@ public class ClientConnectionDataInternal extends ClientConnectionData {
 
     private static final Logger log = LoggerFactory.getLogger(ClientConnectionDataInternal.class);
 
+    final List<ClientIndicator> clientIndicators;
     final EnumMap<EventType, Collection<ClientIndicator>> indicatorMapping;
+    final ClientEventTimeline timeline;
 
     PingIntervalClientIndicator pingIndicator = null;
 
     protected ClientConnectionDataInternal(
             final ClientConnection clientConnection,
-            final List<ClientIndicator> clientIndicators) {
+            final List<ClientIndicator> clientIndicators,
+            final ClientEventTimeline timeline) {
 
         super(clientConnection, clientIndicators);
 
+        this.clientIndicators = clientIndicators;
+        this.timeline = timeline;
         this.indicatorMapping = new EnumMap<>(EventType.class);
         for (final ClientIndicator clientIndicator : clientIndicators) {
             if (clientIndicator instanceof PingIntervalClientIndicator) {
@@ -59,6 +65,13 @@ public class ClientConnectionDataInternal extends ClientConnectionData {
         if (this.pingIndicator != null) {
             this.pingIndicator.notifyPing(timestamp, pingNumber);
         }
+        this.timeline.notifyPing(timestamp, pingNumber);
+    }
+
+    public final void notifyEvent(final ClientEvent event) {
+        this.timeline.notifyEvent(event);
+        getIndicatorMapping(event.eventType)
+                .forEach(indicator -> indicator.notifyValueChange(event));
     }
 
     Collection<ClientIndicator> getIndicatorMapping(final EventType eventType) {
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PreDestroy;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ch.ethz.seb.sebserver.SEBServerInit;
+import ch.ethz.seb.sebserver.SEBServerInitEvent;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection;
+import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.WebserviceInfo;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientConnectionRecordMapper;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.ClientConnectionRecord;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientConnectionDAO;
+
+/** Persists state transitions of SEB client connections during the SEB handshake.
+ *
+ * On default (write-through) every transition is saved synchronously with the ClientConnectionDAO.
+ *
+ * If write-behind is enabled, a transition is only merged into a pending-map (connectionId -> ClientConnection)
+ * and the merged in-memory state is returned immediately. A background task coalesces all pending transitions
+ * and stores them with one batch-update within one transaction. Several transitions of the same connection
+ * within one interval result in only one update.
+ *
+ * Durability: A pending transition stays in the pending-map, and therefore visible to the read path, until the
+ * batch-update that contains it has been committed. It is then only removed if it has not been changed by a newer
+ * transition meanwhile. If the batch-update fails, all transitions stay pending. On server shutdown the
+ * pending-map is flushed synchronously. As with the AsyncBatchEventSaveStrategy there is a potential loss of the latest transitions
+ * on total server fail.
+ *
+ * Write-behind is never used within a distributed setup since other webservice instances rely on the
+ * persistent state of a connection. */
+@Lazy
+@Component
+@WebServiceProfile
+public class ClientConnectionStateWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientConnectionStateWriter.class);
+
+    public static final String WRITE_BEHIND_PROPERTY_KEY = "sebserver.webservice.api.exam.connection-state.write-behind";
+
+    private final ClientConnectionDAO clientConnectionDAO;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final SqlSessionTemplate sqlSessionTemplate;
+    private final ClientConnectionRecordMapper batchMapper;
+    private final boolean writeBehind;
+
+    private final ConcurrentHashMap<Long, ClientConnection> pending = new ConcurrentHashMap<>();
+    private boolean flushActive = false;
+
+    protected ClientConnectionStateWriter(
+            final ClientConnectionDAO clientConnectionDAO,
+            final CacheManager cacheManager,
+            final SqlSessionFactory sqlSessionFactory,
+            final PlatformTransactionManager transactionManager,
+            final WebserviceInfo webserviceInfo,
+            @Value("${" + WRITE_BEHIND_PROPERTY_KEY + ":false}") final boolean writeBehind) {
+
+        this.clientConnectionDAO = clientConnectionDAO;
+        this.cacheManager = cacheManager;
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.sqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.batchMapper = this.sqlSessionTemplate.getMapper(ClientConnectionRecordMapper.class);
+
+        if (writeBehind && webserviceInfo.isDistributed()) {
+            log.warn("Write-behind for client connection state is not supported within a distributed setup. "
+                    + "Use write-through instead");
+        }
+        this.writeBehind = writeBehind && !webserviceInfo.isDistributed();
+    }
+
+    @EventListener(SEBServerInitEvent.class)
+    protected void init() {
+        if (this.writeBehind) {
+            SEBServerInit.INIT_LOGGER.info("------>");
+            SEBServerInit.INIT_LOGGER.info("------> Activate write-behind for SEB client connection state");
+            this.flushActive = true;
+        }
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        this.flushActive = false;
+        if (!this.pending.isEmpty()) {
+            log.info("Flush {} pending client connection state transitions on shutdown", this.pending.size());
+            flush();
+        }
+    }
+
+    /** Indicates if write-behind is active for this webservice instance.
+     *
+     * @return true if state transitions are persisted asynchronously */
+    public boolean isWriteBehindEnabled() {
+        return this.writeBehind;
+    }
+
+    /** Get the number of pending (not yet persisted) state transitions.
+     *
+     * @return the number of pending state transitions */
+    public int pendingCount() {
+        return this.pending.size();
+    }
+
+    /** Saves the given update of a client connection.
+     *
+     * @param current the current state of the client connection
+     * @param update the update, only not null values are applied to the current state
+     * @return Result refer to the new state of the client connection or to an error if happened */
+    public Result<ClientConnection> save(final ClientConnection current, final ClientConnection update) {
+        if (!this.writeBehind) {
+            return this.clientConnectionDAO.save(update);
+        }
+
+        return Result.tryCatch(() -> {
+            if (!Objects.equals(current.id, update.id)) {
+                throw new IllegalArgumentException("ClientConnection identity mismatch");
+            }
+
+            this.pending.merge(update.id, update, ClientConnectionStateWriter::merge);
+            return merge(current, update);
+        });
+    }
+
+    /** Get a ClientConnection by connection token with all pending state transitions applied.
+     *
+     * @param connectionToken the connection token
+     * @return Result refer to the ClientConnection for the specified connection token or to an error if happened */
+    public Result<ClientConnection> byConnectionToken(final String connectionToken) {
+        return this.clientConnectionDAO
+                .byConnectionToken(connectionToken)
+                .map(this::applyPending);
+    }
+
+    /** Applies pending state transitions, if there are any, to the given (persistent) ClientConnection
+     *
+     * @param clientConnection the ClientConnection as loaded from persistent storage
+     * @return the ClientConnection with all pending state transitions applied */
+    public ClientConnection applyPending(final ClientConnection clientConnection) {
+        if (clientConnection == null || this.pending.isEmpty()) {
+            return clientConnection;
+        }
+
+        final ClientConnection update = this.pending.get(clientConnection.id);
+        return (update != null)
+                ? merge(clientConnection, update)
+                : clientConnection;
+    }
+
+    @Scheduled(fixedDelayString = "${" + WRITE_BEHIND_PROPERTY_KEY + ".interval:200}")
+    public void flushTask() {
+        if (!this.flushActive || this.pending.isEmpty()) {
+            return;
+        }
+
+        flush();
+    }
+
+    private synchronized void flush() {
+        final Collection<ClientConnection> batch = new ArrayList<>(this.pending.values());
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+
+            this.transactionTemplate.execute(status -> {
+                batch.stream()
+                        .map(ClientConnectionStateWriter::toUpdateRecord)
+                        .forEach(this.batchMapper::updateByPrimaryKeySelective);
+                this.sqlSessionTemplate.flushStatements();
+                return null;
+            });
+
+            // remove the flushed transitions but keep the ones that have been changed meanwhile
+            batch.forEach(update -> this.pending.computeIfPresent(
+                    update.id,
+                    (id, current) -> (current == update) ? null : current));
+
+            if (batch.stream().anyMatch(update -> update.examId != null)) {
+                final Cache tokenCache = this.cacheManager.getCache(ClientConnectionDAO.CONNECTION_TOKENS_CACHE);
+                if (tokenCache != null) {
+                    tokenCache.clear();
+                }
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("Flushed {} client connection state transitions", batch.size());
+            }
+
+        } catch (final Exception e) {
+            log.error("Failed to flush client connection state transitions. Keep {} transitions for retry: ",
+                    batch.size(),
+                    e);
+        }
+    }
+
+    private static ClientConnection merge(final ClientConnection base, final ClientConnection update) {
+        return new ClientConnection(
+                base.id,
+                (update.institutionId != null) ? update.institutionId : base.institutionId,
+                (update.examId != null) ? update.examId : base.examId,
+                (update.status != null) ? update.status : base.status,
+                (update.connectionToken != null) ? update.connectionToken : base.connectionToken,
+                (update.userSessionId != null) ? update.userSessionId : base.userSessionId,
+                (update.clientAddress != null) ? update.clientAddress : base.clientAddress,
+                (update.virtualClientAddress != null) ? update.virtualClientAddress : base.virtualClientAddress,
+                (update.getCreationTime() != null) ? update.getCreationTime() : base.getCreationTime());
+    }
+
+    private static ClientConnectionRecord toUpdateRecord(final ClientConnection data) {
+        return new ClientConnectionRecord(
+                data.id,
+                null,
+                data.examId,
+                (data.status != null) ? data.status.name() : null,
+                null,
+                data.userSessionId,
+                data.clientAddress,
+                data.virtualClientAddress,
+                null);
+    }
+
+}
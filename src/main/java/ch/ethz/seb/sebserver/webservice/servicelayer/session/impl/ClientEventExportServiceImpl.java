@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import ch.ethz.seb.sebserver.gbl.api.API.ExportFormat;
+import ch.ethz.seb.sebserver.gbl.api.JSONMapper;
+import ch.ethz.seb.sebserver.gbl.model.Domain;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent;
+import ch.ethz.seb.sebserver.gbl.model.session.ExtendedClientEvent;
+import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientEventDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.FilterMap;
+import ch.ethz.seb.sebserver.webservice.servicelayer.session.ClientEventExportService;
+
+@Lazy
+@Service
+@WebServiceProfile
+public class ClientEventExportServiceImpl implements ClientEventExportService {
+
+    private static final char CSV_SEPARATOR = ',';
+    private static final char CSV_QUOTE = '"';
+    private static final String LINE_SEPARATOR = "\n";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] CSV_HEADER = new String[] {
+            Domain.CLIENT_EVENT.ATTR_ID,
+            Domain.CLIENT_CONNECTION.ATTR_INSTITUTION_ID,
+            Domain.CLIENT_CONNECTION.ATTR_EXAM_ID,
+            Domain.CLIENT_EVENT.ATTR_CLIENT_CONNECTION_ID,
+            Domain.CLIENT_CONNECTION.ATTR_EXAM_USER_SESSION_ID,
+            Domain.CLIENT_EVENT.ATTR_TYPE,
+            ClientEvent.ATTR_TIMESTAMP,
+            Domain.CLIENT_EVENT.ATTR_SERVER_TIME,
+            Domain.CLIENT_EVENT.ATTR_NUMERIC_VALUE,
+            Domain.CLIENT_EVENT.ATTR_TEXT
+    };
+
+    private final ClientEventDAO clientEventDAO;
+    private final JSONMapper jsonMapper;
+
+    protected ClientEventExportServiceImpl(
+            final ClientEventDAO clientEventDAO,
+            final JSONMapper jsonMapper) {
+
+        this.clientEventDAO = clientEventDAO;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public Result<Integer> exportEvents(
+            final FilterMap filterMap,
+            final ExportFormat format,
+            final OutputStream out) {
+
+        return Result.tryCatch(() -> {
+            final Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(out, StandardCharsets.UTF_8),
+                    WRITE_BUFFER_SIZE);
+
+            final Consumer<ExtendedClientEvent> eventWriter;
+            if (format == ExportFormat.NDJSON) {
+                eventWriter = event -> writeJSONLine(writer, event);
+            } else {
+                writeCSVLine(writer, CSV_HEADER);
+                eventWriter = event -> writeCSVLine(writer, toCSVRecord(event));
+            }
+
+            try {
+                return this.clientEventDAO
+                        .streamExtended(filterMap, eventWriter)
+                        .getOrThrow();
+            } catch (final UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                writer.flush();
+            }
+        });
+    }
+
+    private void writeJSONLine(final Writer writer, final ExtendedClientEvent event) {
+        try {
+            writer.write(this.jsonMapper.writeValueAsString(event));
+            writer.write(LINE_SEPARATOR);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String[] toCSVRecord(final ExtendedClientEvent event) {
+        return new String[] {
+                toString(event.id),
+                toString(event.institutionId),
+                toString(event.examId),
+                toString(event.connectionId),
+                event.userSessionId,
+                (event.eventType != null) ? event.eventType.name() : null,
+                toString(event.clientTime),
+                toString(event.serverTime),
+                toString(event.numValue),
+                event.text
+        };
+    }
+
+    private static void writeCSVLine(final Writer writer, final String[] values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(CSV_SEPARATOR);
+                }
+                writeCSVValue(writer, values[i]);
+            }
+            writer.write(LINE_SEPARATOR);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCSVValue(final Writer writer, final String value) throws IOException {
+        if (StringUtils.isEmpty(value)) {
+            return;
+        }
+
+        if (StringUtils.containsAny(value, CSV_SEPARATOR, CSV_QUOTE, '\n', '\r')) {
+            writer.write(CSV_QUOTE);
+            writer.write(StringUtils.replace(
+                    value,
+                    String.valueOf(CSV_QUOTE),
+                    String.valueOf(CSV_QUOTE) + CSV_QUOTE));
+            writer.write(CSV_QUOTE);
+        } else {
+            writer.write(value);
+        }
+    }
+
+    private static String toString(final Object value) {
+        return (value != null) ? String.valueOf(value) : null;
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent.EventType;
+import ch.ethz.seb.sebserver.gbl.util.Utils;
+
+/** A bounded in-memory timeline of the most recent client events and ping samples of one SEB client connection.
+ *
+ * Client events and ping samples are held in two separate fixed size ring buffers so that a frequently
+ * pinging SEB client is not able to push out the (usually less frequent) log events. If a buffer is full, the
+ * oldest entry is overwritten. The text of an event is truncated to a maximum length to keep the memory
+ * footprint per connection bounded.
+ *
+ * Ping samples are stored as primitive values and only converted to ClientEvent instances of type LAST_PING
+ * on request.
+ *
+ * The timeline only contains the events and pings that were received by this webservice instance since the
+ * connection has been cached. */
+public final class ClientEventTimeline {
+
+    private final Long connectionId;
+    private final ClientEvent[] events;
+    private final int maxTextLength;
+    private int eventsHead = 0;
+    private int eventsSize = 0;
+
+    private final long[] pingServerTime;
+    private final long[] pingClientTime;
+    private final int[] pingNumber;
+    private int pingsHead = 0;
+    private int pingsSize = 0;
+
+    /** Create a new ClientEventTimeline.
+     *
+     * @param connectionId the identifier of the client connection
+     * @param eventCapacity the maximum number of client events to hold. Zero disables event recording
+     * @param pingCapacity the maximum number of ping samples to hold. Zero disables ping recording
+     * @param maxTextLength the maximum length of an event text. Longer texts are truncated */
+    public ClientEventTimeline(
+            final Long connectionId,
+            final int eventCapacity,
+            final int pingCapacity,
+            final int maxTextLength) {
+
+        this.connectionId = connectionId;
+        this.events = new ClientEvent[Math.max(0, eventCapacity)];
+        this.maxTextLength = Math.max(0, maxTextLength);
+        this.pingServerTime = new long[Math.max(0, pingCapacity)];
+        this.pingClientTime = new long[Math.max(0, pingCapacity)];
+        this.pingNumber = new int[Math.max(0, pingCapacity)];
+    }
+
+    public synchronized void notifyEvent(final ClientEvent event) {
+        if (this.events.length == 0 || event == null) {
+            return;
+        }
+
+        this.events[this.eventsHead] = normalize(event);
+        this.eventsHead = (this.eventsHead + 1) % this.events.length;
+        if (this.eventsSize < this.events.length) {
+            this.eventsSize++;
+        }
+    }
+
+    public synchronized void notifyPing(final long timestamp, final int pingNumber) {
+        final int capacity = this.pingNumber.length;
+        if (capacity == 0) {
+            return;
+        }
+
+        this.pingServerTime[this.pingsHead] = Utils.getMillisecondsNow();
+        this.pingClientTime[this.pingsHead] = timestamp;
+        this.pingNumber[this.pingsHead] = pingNumber;
+        this.pingsHead = (this.pingsHead + 1) % capacity;
+        if (this.pingsSize < capacity) {
+            this.pingsSize++;
+        }
+    }
+
+    /** Get a snapshot of the timeline, ordered by server time (oldest first).
+     *
+     * @param sinceServerTime only include entries that were received after this server time.
+     *            Use null to get all entries of the timeline
+     * @return list of client events and ping samples (as events of type LAST_PING) */
+    public List<ClientEvent> getTimeline(final Long sinceServerTime) {
+        final long since = (sinceServerTime != null) ? sinceServerTime : Long.MIN_VALUE;
+        final List<ClientEvent> result;
+
+        synchronized (this) {
+            result = new ArrayList<>(this.eventsSize + this.pingsSize);
+
+            for (int i = 0; i < this.eventsSize; i++) {
+                final ClientEvent event = this.events[oldest(this.eventsHead, this.eventsSize, this.events.length, i)];
+                if (event.serverTime > since) {
+                    result.add(event);
+                }
+            }
+
+            for (int i = 0; i < this.pingsSize; i++) {
+                final int index = oldest(this.pingsHead, this.pingsSize, this.pingNumber.length, i);
+                if (this.pingServerTime[index] > since) {
+                    result.add(new ClientEvent(
+                            null,
+                            this.connectionId,
+                            EventType.LAST_PING,
+                            this.pingClientTime[index],
+                            this.pingServerTime[index],
+                            (double) this.pingNumber[index],
+                            null));
+                }
+            }
+        }
+
+        result.sort(Comparator.comparingLong(ClientEvent::getServerTime));
+        return result;
+    }
+
+    private static int oldest(final int head, final int size, final int capacity, final int offset) {
+        return (head - size + offset + capacity) % capacity;
+    }
+
+    private ClientEvent normalize(final ClientEvent event) {
+        final boolean truncate = event.text != null && event.text.length() > this.maxTextLength;
+        if (!truncate && this.connectionId != null && this.connectionId.equals(event.connectionId)) {
+            return event;
+        }
+
+        return new ClientEvent(
+                event.id,
+                this.connectionId,
+                event.eventType,
+                event.clientTime,
+                event.serverTime,
+                event.numValue,
+                (truncate) ? event.text.substring(0, this.maxTextLength) : event.text);
+    }
+
+}
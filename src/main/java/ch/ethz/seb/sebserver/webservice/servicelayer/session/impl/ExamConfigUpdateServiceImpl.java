@@ -132,10 +132,7 @@ public class ExamConfigUpdateServiceImpl implements ExamConfigUpdateService {
             for (final Exam exam : exams) {
                 if (exam.getStatus() == ExamStatus.RUNNING || this.examAdminService.isRestricted(exam).getOr(false)) {
 
-                    this.examUpdateHandler
-                            .getSebRestrictionService()
-                            .applySebClientRestriction(exam)
-                            .onError(t -> log.error("Failed to update SEB Client restriction for Exam: {}", exam, t));
+                    this.examUpdateHandler.applySebClientRestriction(exam);
                 }
             }
 
@@ -202,13 +199,7 @@ public class ExamConfigUpdateServiceImpl implements ExamConfigUpdateService {
 
                     // update seb client restriction if the feature is activated for the exam
                     if (this.examAdminService.isRestricted(exam).getOr(false)) {
-                        this.examUpdateHandler
-                                .getSebRestrictionService()
-                                .applySebClientRestriction(exam)
-                                .onError(t -> log.error(
-                                        "Failed to update SEB Client restriction for Exam: {}",
-                                        exam,
-                                        t));
+                        this.examUpdateHandler.applySebClientRestriction(exam);
                     }
 
                     // flush the exam cache. If there was an error during flush, it is logged but this process goes on
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import ch.ethz.seb.sebserver.gbl.model.exam.Exam;
+import ch.ethz.seb.sebserver.gbl.model.exam.Exam.ExamStatus;
+
+/** A time ordered schedule of the next lifecycle transition of up-coming and running exams.
+ *
+ * Every exam has at most one scheduled transition. An up-coming exam is scheduled to start at its start-time
+ * minus the exam time prefix and a running exam is scheduled to finish at its end-time plus the exam time suffix.
+ * Exams in any other state or without the needed time are not scheduled.
+ *
+ * This is thread-safe. */
+final class ExamLifecycleSchedule {
+
+    enum Transition {
+        START,
+        END
+    }
+
+    static final class Entry implements Comparable<Entry> {
+        final Long examId;
+        final Long lmsSetupId;
+        final Transition transition;
+        final long time;
+
+        Entry(final Long examId, final Long lmsSetupId, final Transition transition, final long time) {
+            this.examId = examId;
+            this.lmsSetupId = lmsSetupId;
+            this.transition = transition;
+            this.time = time;
+        }
+
+        @Override
+        public int compareTo(final Entry other) {
+            return Long.compare(this.time, other.time);
+        }
+
+        @Override
+        public String toString() {
+            return "Entry [examId=" + this.examId + ", transition=" + this.transition + ", time=" + this.time + "]";
+        }
+    }
+
+    private final long examTimePrefix;
+    private final long examTimeSuffix;
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    ExamLifecycleSchedule(final long examTimePrefix, final long examTimeSuffix) {
+        this.examTimePrefix = examTimePrefix;
+        this.examTimeSuffix = examTimeSuffix;
+    }
+
+    /** Schedules the next transition of the given exam or removes the exam from the schedule if there is
+     * no transition for the exam in its current state.
+     *
+     * @param exam the exam to schedule
+     * @return the scheduled Entry or null if the exam has been removed from the schedule */
+    synchronized Entry schedule(final Exam exam) {
+        final Entry entry = toEntry(exam);
+        if (entry == null) {
+            remove(exam.id);
+        } else {
+            schedule(entry);
+        }
+        return entry;
+    }
+
+    /** Schedules the given transition of an exam and replaces the transition that was scheduled before for
+     * the exam if there was one.
+     *
+     * @param entry the schedule Entry */
+    synchronized void schedule(final Entry entry) {
+        remove(entry.examId);
+        this.entries.put(entry.examId, entry);
+        this.queue.add(entry);
+    }
+
+    synchronized void remove(final Long examId) {
+        final Entry old = this.entries.remove(examId);
+        if (old != null) {
+            this.queue.remove(old);
+        }
+    }
+
+    /** Replaces the whole schedule with the transitions of the given exams.
+     *
+     * @param exams all up-coming and running exams */
+    synchronized void reset(final Collection<Exam> exams) {
+        clear();
+        exams.forEach(this::schedule);
+    }
+
+    synchronized void clear() {
+        this.entries.clear();
+        this.queue.clear();
+    }
+
+    /** Removes and returns all scheduled transitions that are due at the given time, in time order.
+     *
+     * @param now the current time in milliseconds
+     * @return list of all due transitions in time order */
+    synchronized List<Entry> pollDue(final long now) {
+        final List<Entry> due = new ArrayList<>();
+        while (!this.queue.isEmpty() && this.queue.peek().time <= now) {
+            final Entry entry = this.queue.poll();
+            this.entries.remove(entry.examId);
+            due.add(entry);
+        }
+        return due;
+    }
+
+    synchronized int size() {
+        return this.queue.size();
+    }
+
+    /** Get the scheduled transition of an exam.
+     *
+     * @param examId the exam identifier
+     * @return the scheduled Entry or null if there is no scheduled transition for the exam */
+    synchronized Entry get(final Long examId) {
+        return this.entries.get(examId);
+    }
+
+    /** Creates the schedule Entry for the next transition of the given exam.
+     *
+     * @param exam the exam
+     * @return the schedule Entry or null if there is no transition for the exam in its current state */
+    Entry toEntry(final Exam exam) {
+        if (exam == null || exam.id == null || Boolean.FALSE.equals(exam.active)) {
+            return null;
+        }
+
+        if (exam.status == ExamStatus.UP_COMING && exam.startTime != null) {
+            return new Entry(
+                    exam.id,
+                    exam.lmsSetupId,
+                    Transition.START,
+                    exam.startTime.getMillis() - this.examTimePrefix);
+        }
+
+        if (exam.status == ExamStatus.RUNNING && exam.endTime != null) {
+            return new Entry(
+                    exam.id,
+                    exam.lmsSetupId,
+                    Transition.END,
+                    exam.endTime.getMillis() + this.examTimeSuffix);
+        }
+
+        return null;
+    }
+
+}
@@ -13,6 +13,9 @@ import java.io.ByteArrayOutputStream;
 import org.mybatis.dynamic.sql.SqlBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Lazy;
@@ -29,7 +32,6 @@ import ch.ethz.seb.sebserver.gbl.util.Utils;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientEventRecordDynamicSqlSupport;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientEventRecordMapper;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.ClientEventRecord;
-import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientConnectionDAO;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ExamDAO;
 import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.ExamConfigService;
 
@@ -52,26 +54,38 @@ public class ExamSessionCacheService {
     private static final Logger log = LoggerFactory.getLogger(ExamSessionCacheService.class);
 
     private final ExamDAO examDAO;
-    private final ClientConnectionDAO clientConnectionDAO;
     private final ClientIndicatorFactory clientIndicatorFactory;
     private final ExamConfigService sebExamConfigService;
     private final ClientEventRecordMapper clientEventRecordMapper;
     private final ExamUpdateHandler examUpdateHandler;
+    private final ClientConnectionStateWriter clientConnectionStateWriter;
+    private final CacheManager cacheManager;
+    private final int timelineEvents;
+    private final int timelinePings;
+    private final int timelineTextLength;
 
     protected ExamSessionCacheService(
             final ExamDAO examDAO,
-            final ClientConnectionDAO clientConnectionDAO,
             final ClientIndicatorFactory clientIndicatorFactory,
             final ExamConfigService sebExamConfigService,
             final ClientEventRecordMapper clientEventRecordMapper,
-            final ExamUpdateHandler examUpdateHandler) {
+            final ExamUpdateHandler examUpdateHandler,
+            final ClientConnectionStateWriter clientConnectionStateWriter,
+            final CacheManager cacheManager,
+            @Value("${sebserver.webservice.api.exam.connection-timeline.events:100}") final int timelineEvents,
+            @Value("${sebserver.webservice.api.exam.connection-timeline.pings:60}") final int timelinePings,
+            @Value("${sebserver.webservice.api.exam.connection-timeline.text-length:256}") final int timelineTextLength) {
 
         this.examDAO = examDAO;
-        this.clientConnectionDAO = clientConnectionDAO;
         this.clientIndicatorFactory = clientIndicatorFactory;
         this.sebExamConfigService = sebExamConfigService;
         this.clientEventRecordMapper = clientEventRecordMapper;
         this.examUpdateHandler = examUpdateHandler;
+        this.clientConnectionStateWriter = clientConnectionStateWriter;
+        this.cacheManager = cacheManager;
+        this.timelineEvents = timelineEvents;
+        this.timelinePings = timelinePings;
+        this.timelineTextLength = timelineTextLength;
     }
 
     @Cacheable(
@@ -146,10 +160,54 @@ public class ExamSessionCacheService {
         } else {
             return new ClientConnectionDataInternal(
                     clientConnection,
-                    this.clientIndicatorFactory.createFor(clientConnection));
+                    this.clientIndicatorFactory.createFor(clientConnection),
+                    createTimeline(clientConnection));
         }
     }
 
+    /** Updates the cached ClientConnectionDataInternal in place with the given new state of a ClientConnection
+     * without re-reading the ClientConnection from persistent storage.
+     *
+     * The client indicators of an already cached ClientConnectionDataInternal are kept as long as the
+     * exam of the connection has not changed. Otherwise new client indicators are created for the exam.
+     * The event timeline of an already cached ClientConnectionDataInternal is always kept.
+     *
+     * @param clientConnection the new state of the ClientConnection
+     * @return the updated and cached ClientConnectionDataInternal */
+    public ClientConnectionDataInternal updateActiveClientConnection(final ClientConnection clientConnection) {
+        final Cache cache = this.cacheManager.getCache(CACHE_NAME_ACTIVE_CLIENT_CONNECTION);
+        final ClientConnectionDataInternal current = cache.get(
+                clientConnection.connectionToken,
+                ClientConnectionDataInternal.class);
+
+        final ClientConnectionDataInternal updated = (current != null &&
+                current.clientConnection.examId != null &&
+                current.clientConnection.examId.equals(clientConnection.examId))
+                        ? new ClientConnectionDataInternal(
+                                clientConnection,
+                                current.clientIndicators,
+                                current.timeline)
+                        : new ClientConnectionDataInternal(
+                                clientConnection,
+                                this.clientIndicatorFactory.createFor(clientConnection),
+                                (current != null) ? current.timeline : createTimeline(clientConnection));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Update ClientConnectionData in cache: {}", clientConnection.connectionToken);
+        }
+
+        cache.put(clientConnection.connectionToken, updated);
+        return updated;
+    }
+
+    private ClientEventTimeline createTimeline(final ClientConnection clientConnection) {
+        return new ClientEventTimeline(
+                clientConnection.id,
+                this.timelineEvents,
+                this.timelinePings,
+                this.timelineTextLength);
+    }
+
     @CacheEvict(
             cacheNames = CACHE_NAME_ACTIVE_CLIENT_CONNECTION,
             key = "#connectionToken")
@@ -233,7 +291,7 @@ public class ExamSessionCacheService {
     }
 
     private ClientConnection getClientConnectionByToken(final String connectionToken) {
-        final Result<ClientConnection> byPK = this.clientConnectionDAO
+        final Result<ClientConnection> byPK = this.clientConnectionStateWriter
                 .byConnectionToken(connectionToken);
 
         if (byPK.hasError()) {
@@ -8,25 +8,40 @@
 
 package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
 
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
-import org.joda.time.DateTime;
-import org.joda.time.DateTimeZone;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import ch.ethz.seb.sebserver.SEBServerInit;
 import ch.ethz.seb.sebserver.SEBServerInitEvent;
+import ch.ethz.seb.sebserver.gbl.Constants;
+import ch.ethz.seb.sebserver.gbl.async.AsyncServiceSpringConfig;
+import ch.ethz.seb.sebserver.gbl.async.KeyedTaskRunner;
 import ch.ethz.seb.sebserver.gbl.model.exam.Exam;
 import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.gbl.util.Utils;
+import ch.ethz.seb.sebserver.webservice.WebserviceInfo;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ExamDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ResourceNotFoundException;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.WebserviceInfoDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.impl.ExamChangeEvent;
 import ch.ethz.seb.sebserver.webservice.servicelayer.session.SebClientConnectionService;
+import ch.ethz.seb.sebserver.webservice.servicelayer.session.impl.ExamLifecycleSchedule.Entry;
+import ch.ethz.seb.sebserver.webservice.servicelayer.session.impl.ExamLifecycleSchedule.Transition;
 
 @Service
 @WebServiceProfile
@@ -37,48 +52,94 @@ class ExamSessionControlTask implements DisposableBean {
     private final ExamDAO examDAO;
     private final SebClientConnectionService sebClientConnectionService;
     private final ExamUpdateHandler examUpdateHandler;
+    private final WebserviceInfoDAO webserviceInfoDAO;
+    private final WebserviceInfo webserviceInfo;
+    private final KeyedTaskRunner taskRunner;
     private final Long examTimePrefix;
     private final Long examTimeSuffix;
-    private final String examTaskCron;
+    private final long examTaskInterval;
+    private final long scheduleRefreshInterval;
     private final long pingUpdateRate;
+    private final long masterLeaseTime;
+    // delay to retry an exam transition that failed, e.g. because the LMS was not available
+    private final long transitionRetryDelay;
 
     private boolean examRunUpdateActive = false;
     private boolean lostPingUpdateActive = false;
-
-    // TODO for distributed systems we need a data-base based priority and flag that the individual
-    //      tasks can check and set so that only one task is actually processing and the other just checks
-    //      if a task is still processing and backup of not.
-    //      Possibly this can be done with a overall master service setting on the DB in table webservice_server_info
-
-    // TODO considering to have some caching of running exams end dates here to improve performance
-    //      the end check task has than only to first update missing running exams and then
-    //      check the exam ending within the cached end date of the exam. if an exam has ended by
-    //      applying the check to the cached value, the process can double-check if the end date has
-    //      no change and update if needed or end the exam and remove from cache.
+    // set by the master lease task and consumed by the exam run update task on another scheduler thread
+    private volatile boolean quizDataSyncPending = true;
+    private volatile boolean sebRestrictionSyncPending = true;
+
+    // The next start or end transition of all up-coming and running exams ordered by time.
+    // The schedule is built from the local copy of the LMS quiz start- and end-times and kept up to date
+    // by ExamChangeEvent notifications and a periodic refresh that also covers changes made on other
+    // webservice instances. A due transition is double-checked against the LMS before it is applied.
+    private final ExamLifecycleSchedule schedule;
+    private final Set<Long> changedExams = ConcurrentHashMap.newKeySet();
+    private volatile boolean scheduleResetPending = true;
+    private long lastScheduleReset = 0;
+
+    // Within a distributed setup only the webservice instance that holds the master lease on the
+    // webservice_server_info table processes the exam run updates. Every instance renews its lease
+    // periodically and an instance with an expired lease is removed by the next renewal of any other instance.
+    // The master flag starts with false and is only set after the first successful lease renewal
+    private volatile boolean master = false;
 
     protected ExamSessionControlTask(
             final ExamDAO examDAO,
             final SebClientConnectionService sebClientConnectionService,
             final ExamUpdateHandler examUpdateHandler,
+            final WebserviceInfoDAO webserviceInfoDAO,
+            final WebserviceInfo webserviceInfo,
+            @Qualifier(AsyncServiceSpringConfig.LMS_EXECUTOR_BEAN_NAME) final Executor executor,
+            @Value("${sebserver.webservice.lms.concurrent-requests:4}") final int maxConcurrentRequests,
             @Value("${sebserver.webservice.api.exam.time-prefix:3600000}") final Long examTimePrefix,
             @Value("${sebserver.webservice.api.exam.time-suffix:3600000}") final Long examTimeSuffix,
-            @Value("${sebserver.webservice.api.exam.update-interval:1 * * * * *}") final String examTaskCron,
-            @Value("${sebserver.webservice.api.seb.lostping.update:15000}") final Long pingUpdateRate) {
+            @Value("${sebserver.webservice.api.exam.schedule.interval:1000}") final Long examTaskInterval,
+            @Value("${sebserver.webservice.api.exam.schedule.refresh-interval:300000}") final Long scheduleRefreshInterval,
+            @Value("${sebserver.webservice.api.seb.lostping.update:15000}") final Long pingUpdateRate,
+            @Value("${sebserver.webservice.distributed.master.lease-time:15000}") final Long masterLeaseTime,
+            @Value("${sebserver.webservice.api.exam.schedule.retry-delay:60000}") final Long transitionRetryDelay) {
 
         this.examDAO = examDAO;
         this.sebClientConnectionService = sebClientConnectionService;
         this.examUpdateHandler = examUpdateHandler;
+        this.webserviceInfoDAO = webserviceInfoDAO;
+        this.webserviceInfo = webserviceInfo;
+        this.taskRunner = new KeyedTaskRunner(executor, maxConcurrentRequests);
         this.examTimePrefix = examTimePrefix;
         this.examTimeSuffix = examTimeSuffix;
-        this.examTaskCron = examTaskCron;
+        this.examTaskInterval = examTaskInterval;
+        this.scheduleRefreshInterval = scheduleRefreshInterval;
+        this.schedule = new ExamLifecycleSchedule(examTimePrefix, examTimeSuffix);
         this.pingUpdateRate = pingUpdateRate;
+        this.masterLeaseTime = masterLeaseTime;
+        this.transitionRetryDelay = transitionRetryDelay;
     }
 
     @EventListener(SEBServerInitEvent.class)
     public void init() {
+        if (this.webserviceInfo.isDistributed()) {
+            SEBServerInit.INIT_LOGGER.info("------>");
+            SEBServerInit.INIT_LOGGER.info(
+                    "------> Register webservice instance {} for master election with a lease time of {} milliseconds",
+                    this.webserviceInfo.getWebserviceUUID(),
+                    this.masterLeaseTime);
+
+            this.webserviceInfoDAO
+                    .register(this.webserviceInfo.getWebserviceUUID(), this.webserviceInfo.getHostAddress())
+                    .onError(error -> log.error("Failed to register webservice instance: ", error));
+            masterLeaseTask();
+        } else {
+            this.master = true;
+        }
+
         SEBServerInit.INIT_LOGGER.info("------>");
         SEBServerInit.INIT_LOGGER.info("------> Activate exam run controller background task");
-        SEBServerInit.INIT_LOGGER.info("--------> Task runs on an cron-job interval of {}", this.examTaskCron);
+        SEBServerInit.INIT_LOGGER.info(
+                "--------> Task runs on an interval of {} milliseconds and refreshes the exam schedule every {} milliseconds",
+                this.examTaskInterval,
+                this.scheduleRefreshInterval);
         SEBServerInit.INIT_LOGGER.info(
                 "--------> Real exam running time span is expanded on {} before start and {} milliseconds after ending",
                 this.examTimePrefix,
@@ -95,21 +156,76 @@ class ExamSessionControlTask implements DisposableBean {
 
     }
 
-    @Scheduled(cron = "${sebserver.webservice.api.exam.update-interval:1 * * * * *}")
+    @Scheduled(fixedDelayString = "${sebserver.webservice.api.exam.schedule.interval:1000}")
     public void examRunUpdateTask() {
 
-        if (!this.examRunUpdateActive) {
+        if (!this.examRunUpdateActive || !this.master) {
+            return;
+        }
+
+        if (this.quizDataSyncPending) {
+            this.quizDataSyncPending = false;
+            syncMissingQuizData();
+        }
+
+        if (this.sebRestrictionSyncPending) {
+            this.sebRestrictionSyncPending = false;
+            loadPendingSebRestrictions();
+        }
+
+        updateSchedule();
+
+        final List<Entry> due = this.schedule.pollDue(Utils.getMillisecondsNow());
+        if (due.isEmpty()) {
             return;
         }
 
         final String updateId = this.examUpdateHandler.createUpdateId();
 
         if (log.isDebugEnabled()) {
-            log.debug("Run exam runtime update task with Id: {}", updateId);
+            log.debug("Run exam runtime update task with Id: {} for due transitions: {}", updateId, due);
         }
 
-        controlExamStart(updateId);
-        controlExamEnd(updateId);
+        // transitions of different exams are applied concurrently with a limited number per LMS.
+        // This does not wait for the transitions to not block the scheduler, e.g. the master lease renewal
+        this.taskRunner.submitAll(due, entry -> entry.lmsSetupId, entry -> applyTransition(entry, updateId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void notifyExamChange(final ExamChangeEvent event) {
+        this.changedExams.addAll(event.getExamIds());
+    }
+
+    @Scheduled(fixedDelayString = "${sebserver.webservice.distributed.master.lease-renewal:5000}")
+    public void masterLeaseTask() {
+
+        if (!this.webserviceInfo.isDistributed()) {
+            return;
+        }
+
+        final boolean master = this.webserviceInfoDAO.renewLease(
+                this.webserviceInfo.getWebserviceUUID(),
+                this.webserviceInfo.getHostAddress(),
+                this.masterLeaseTime)
+                .onError(error -> log.error("Failed to renew master lease of webservice instance: ", error))
+                .getOr(false);
+
+        if (master != this.master) {
+            log.info("Webservice instance {} {} master for exam run updates",
+                    this.webserviceInfo.getWebserviceUUID(),
+                    (master) ? "is now" : "is no longer");
+            // a new master must first take over the pending quiz data synchronization
+            this.quizDataSyncPending = this.quizDataSyncPending || master;
+            // and the SEB restriction synchronizations that may have been pending on the previous master
+            this.sebRestrictionSyncPending = this.sebRestrictionSyncPending || master;
+            if (master) {
+                this.scheduleResetPending = true;
+            } else {
+                this.schedule.clear();
+            }
+        }
+
+        this.master = master;
     }
 
     @Scheduled(fixedRateString = "${sebserver.webservice.api.seb.lostping.update:5000}")
@@ -122,59 +238,153 @@ class ExamSessionControlTask implements DisposableBean {
         this.sebClientConnectionService.updatePingEvents();
     }
 
-    private void controlExamStart(final String updateId) {
-        if (log.isDebugEnabled()) {
-            log.debug("Check starting exams: {}", updateId);
+    private void syncMissingQuizData() {
+        this.examDAO.syncMissingQuizData()
+                .onError(error -> log.error("Failed to synchronize local quiz data of exams: ", error))
+                .ifPresent(ids -> {
+                    if (!ids.isEmpty()) {
+                        log.info("Synchronized local quiz data of exams: {}", ids);
+                    }
+                });
+    }
+
+    private void loadPendingSebRestrictions() {
+        this.examUpdateHandler.loadPendingSebRestrictions()
+                .onError(error -> {
+                    log.error("Failed to load pending SEB restriction synchronizations: ", error);
+                    this.sebRestrictionSyncPending = true;
+                })
+                .ifPresent(ids -> {
+                    if (!ids.isEmpty()) {
+                        log.info("Loaded pending SEB restriction synchronizations of exams: {}", ids);
+                    }
+                });
+    }
+
+    private void updateSchedule() {
+        final long now = Utils.getMillisecondsNow();
+        if (this.scheduleResetPending || now - this.lastScheduleReset > this.scheduleRefreshInterval) {
+            this.scheduleResetPending = false;
+            this.lastScheduleReset = now;
+            // changes that happen while loading are applied again on the next update
+            this.changedExams.clear();
+
+            this.examDAO.allForLifecycleSchedule(null)
+                    .onError(error -> {
+                        log.error("Failed to load the exam lifecycle schedule: ", error);
+                        this.scheduleResetPending = true;
+                    })
+                    .ifPresent(exams -> {
+                        this.schedule.reset(exams);
+                        if (log.isDebugEnabled()) {
+                            log.debug("Exam lifecycle schedule reset with {} transitions", this.schedule.size());
+                        }
+                    });
+            return;
         }
 
-        try {
+        if (this.changedExams.isEmpty()) {
+            return;
+        }
 
-            final DateTime now = DateTime.now(DateTimeZone.UTC);
-            final Map<Long, String> updated = this.examDAO.allForRunCheck()
-                    .getOrThrow()
-                    .stream()
-                    .filter(exam -> exam.startTime.minus(this.examTimePrefix).isBefore(now))
-                    .map(exam -> this.examUpdateHandler.setRunning(exam, updateId))
-                    .collect(Collectors.toMap(Exam::getId, Exam::getName));
+        final Set<Long> examIds = new HashSet<>(this.changedExams);
+        this.changedExams.removeAll(examIds);
 
-            if (!updated.isEmpty()) {
-                log.info("Updated exams to running state: {}", updated);
-            }
+        this.examDAO.allForLifecycleSchedule(examIds)
+                .onError(error -> {
+                    log.error("Failed to update the exam lifecycle schedule for exams: {}", examIds, error);
+                    this.changedExams.addAll(examIds);
+                })
+                .ifPresent(exams -> updateSchedule(examIds, exams));
+    }
 
-        } catch (final Exception e) {
-            log.error("Unexpected error while trying to update exams: ", e);
-        }
+    private void updateSchedule(final Collection<Long> examIds, final Collection<Exam> exams) {
+        // exams that are not in up-coming or running state anymore are not loaded and are removed
+        examIds.forEach(this.schedule::remove);
+        exams.forEach(this.schedule::schedule);
     }
 
-    private void controlExamEnd(final String updateId) {
-        if (log.isDebugEnabled()) {
-            log.debug("Check ending exams: {}", updateId);
+    private void applyTransition(final Entry entry, final String updateId) {
+        if (!this.master) {
+            // the new master loads the schedule again
+            return;
         }
 
         try {
 
-            final DateTime now = DateTime.now(DateTimeZone.UTC);
+            // double-check the transition on the actual LMS quiz data
+            final Result<Exam> examResult = this.examDAO.byPK(entry.examId);
+            if (examResult.hasError() && examResult.getError() instanceof ResourceNotFoundException) {
+                return;
+            }
+
+            final Exam exam = examResult.getOrThrow();
+            if (isQuizDataMissing(exam)) {
+                // the LMS quiz data could not be fetched, e.g. because the LMS is not available
+                log.warn("Failed to get the LMS quiz data of exam: {}. Retry in {} milliseconds",
+                        entry.examId,
+                        this.transitionRetryDelay);
+                this.schedule.schedule(retry(entry));
+                return;
+            }
 
-            final Map<Long, String> updated = this.examDAO.allForEndCheck()
-                    .getOrThrow()
-                    .stream()
-                    .filter(exam -> exam.endTime != null && exam.endTime.plus(this.examTimeSuffix).isBefore(now))
-                    .map(exam -> this.examUpdateHandler.setFinished(exam, updateId))
-                    .collect(Collectors.toMap(Exam::getId, Exam::getName));
+            final Entry actual = this.schedule.toEntry(exam);
+            if (actual == null || actual.transition != entry.transition) {
+                this.schedule.schedule(exam);
+                return;
+            }
+
+            if (actual.time > Utils.getMillisecondsNow()) {
+                log.info("Exam {} {} time has changed on the LMS. Reschedule the transition", exam.id,
+                        (actual.transition == Transition.START) ? "start" : "end");
+                this.schedule.schedule(actual);
+                return;
+            }
 
-            if (!updated.isEmpty()) {
-                log.info("Updated exams to finished state: {}", updated);
+            if (actual.transition == Transition.START) {
+                this.schedule.schedule(this.examUpdateHandler.setRunning(exam, updateId));
+                log.info("Updated exam to running state: {} {}", exam.id, exam.name);
+            } else {
+                this.schedule.schedule(this.examUpdateHandler.setFinished(exam, updateId));
+                log.info("Updated exam to finished state: {} {}", exam.id, exam.name);
             }
 
         } catch (final Exception e) {
-            log.error("Unexpected error while trying to update exams: ", e);
+            log.error("Unexpected error while trying to update exam: {}. Retry in {} milliseconds",
+                    entry.examId,
+                    this.transitionRetryDelay,
+                    e);
+            this.schedule.schedule(retry(entry));
         }
     }
 
+    private Entry retry(final Entry entry) {
+        return new Entry(
+                entry.examId,
+                entry.lmsSetupId,
+                entry.transition,
+                Utils.getMillisecondsNow() + this.transitionRetryDelay);
+    }
+
+    private static boolean isQuizDataMissing(final Exam exam) {
+        // an exam without LMS quiz data has neither start- nor end-time and an empty quiz name
+        return exam.startTime == null
+                && exam.endTime == null
+                && Constants.EMPTY_NOTE.equals(exam.name);
+    }
+
     @Override
     public void destroy() {
         this.examRunUpdateActive = false;
         this.lostPingUpdateActive = false;
+        this.master = false;
+        this.schedule.clear();
+
+        if (this.webserviceInfo.isDistributed()) {
+            this.webserviceInfoDAO
+                    .unregister(this.webserviceInfo.getWebserviceUUID())
+                    .onError(error -> log.error("Failed to unregister webservice instance: ", error));
+        }
     }
 
 }
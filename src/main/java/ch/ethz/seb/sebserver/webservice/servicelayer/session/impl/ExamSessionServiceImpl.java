@@ -13,6 +13,7 @@ import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Predicate;
@@ -30,12 +31,14 @@ import org.springframework.stereotype.Service;
 import ch.ethz.seb.sebserver.gbl.Constants;
 import ch.ethz.seb.sebserver.gbl.api.APIMessage;
 import ch.ethz.seb.sebserver.gbl.api.APIMessage.ErrorMessage;
+import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.model.exam.Exam;
 import ch.ethz.seb.sebserver.gbl.model.exam.Exam.ExamStatus;
 import ch.ethz.seb.sebserver.gbl.model.institution.LmsSetup;
 import ch.ethz.seb.sebserver.gbl.model.institution.LmsSetup.Features;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientConnectionData;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent;
 import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
 import ch.ethz.seb.sebserver.gbl.util.Result;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientConnectionDAO;
@@ -43,6 +46,7 @@ import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ExamConfigurationMapDAO
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ExamDAO;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.FilterMap;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.IndicatorDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ResourceNotFoundException;
 import ch.ethz.seb.sebserver.webservice.servicelayer.lms.LmsAPIService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.lms.impl.NoSebRestrictionException;
 import ch.ethz.seb.sebserver.webservice.servicelayer.session.ExamSessionService;
@@ -61,6 +65,7 @@ public class ExamSessionServiceImpl implements ExamSessionService {
     private final ExamConfigurationMapDAO examConfigurationMapDAO;
     private final CacheManager cacheManager;
     private final LmsAPIService lmsAPIService;
+    private final ClientConnectionStateWriter clientConnectionStateWriter;
 
     protected ExamSessionServiceImpl(
             final ExamSessionCacheService examSessionCacheService,
@@ -69,7 +74,8 @@ public class ExamSessionServiceImpl implements ExamSessionService {
             final ClientConnectionDAO clientConnectionDAO,
             final IndicatorDAO indicatorDAO,
             final CacheManager cacheManager,
-            final LmsAPIService lmsAPIService) {
+            final LmsAPIService lmsAPIService,
+            final ClientConnectionStateWriter clientConnectionStateWriter) {
 
         this.examSessionCacheService = examSessionCacheService;
         this.examDAO = examDAO;
@@ -78,6 +84,7 @@ public class ExamSessionServiceImpl implements ExamSessionService {
         this.cacheManager = cacheManager;
         this.indicatorDAO = indicatorDAO;
         this.lmsAPIService = lmsAPIService;
+        this.clientConnectionStateWriter = clientConnectionStateWriter;
     }
 
     @Override
@@ -254,7 +261,7 @@ public class ExamSessionServiceImpl implements ExamSessionService {
             log.debug("SEB exam configuration download request, connectionToken: {}", connectionToken);
         }
 
-        final ClientConnection connection = this.clientConnectionDAO
+        final ClientConnection connection = this.clientConnectionStateWriter
                 .byConnectionToken(connectionToken)
                 .getOrThrow();
 
@@ -310,6 +317,25 @@ public class ExamSessionServiceImpl implements ExamSessionService {
         });
     }
 
+    @Override
+    public Result<List<ClientEvent>> getConnectionTimeline(
+            final Long examId,
+            final String connectionToken,
+            final Long sinceServerTime) {
+
+        return Result.tryCatch(() -> {
+            final Cache cache = this.cacheManager.getCache(ExamSessionCacheService.CACHE_NAME_ACTIVE_CLIENT_CONNECTION);
+            final ClientConnectionDataInternal connectionData = cache.get(
+                    connectionToken,
+                    ClientConnectionDataInternal.class);
+            // a connection of another exam is treated as not existing to not expose it
+            if (connectionData == null || !examId.equals(connectionData.clientConnection.examId)) {
+                throw new ResourceNotFoundException(EntityType.CLIENT_CONNECTION, connectionToken);
+            }
+            return connectionData.timeline.getTimeline(sinceServerTime);
+        });
+    }
+
     @Override
     public Result<Collection<ClientConnectionData>> getConnectionData(
             final Long examId,
@@ -8,6 +8,8 @@
 
 package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
 
+import java.util.Collection;
+
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.slf4j.Logger;
@@ -34,17 +36,20 @@ class ExamUpdateHandler {
 
     private final ExamDAO examDAO;
     private final SebRestrictionService sebRestrictionService;
+    private final SebRestrictionOutbox sebRestrictionOutbox;
     private final String updatePrefix;
     private final Long examTimeSuffix;
 
     public ExamUpdateHandler(
             final ExamDAO examDAO,
             final SebRestrictionService sebRestrictionService,
+            final SebRestrictionOutbox sebRestrictionOutbox,
             final WebserviceInfo webserviceInfo,
             @Value("${sebserver.webservice.api.exam.time-suffix:3600000}") final Long examTimeSuffix) {
 
         this.examDAO = examDAO;
         this.sebRestrictionService = sebRestrictionService;
+        this.sebRestrictionOutbox = sebRestrictionOutbox;
         this.updatePrefix = webserviceInfo.getHostAddress()
                 + "_" + webserviceInfo.getServerPort() + "_";
         this.examTimeSuffix = examTimeSuffix;
@@ -54,6 +59,22 @@ class ExamUpdateHandler {
         return this.sebRestrictionService;
     }
 
+    /** Requests to apply the SEB client restriction for the given exam on the LMS. The restriction is pushed
+     * and verified asynchronously, see SebRestrictionOutbox.
+     *
+     * @param exam the Exam */
+    void applySebClientRestriction(final Exam exam) {
+        this.sebRestrictionOutbox.push(exam, true);
+    }
+
+    /** Loads the persisted SEB client restriction requests that are not yet synchronized with the LMS.
+     * This is used on startup or master takeover, see SebRestrictionOutbox.
+     *
+     * @return Result refer to the identifiers of the exams with a pending request or to an error if happened */
+    Result<Collection<Long>> loadPendingSebRestrictions() {
+        return this.sebRestrictionOutbox.loadPending();
+    }
+
     String createUpdateId() {
         return this.updatePrefix + Utils.getMillisecondsNow();
     }
@@ -82,8 +103,12 @@ class ExamUpdateHandler {
                         exam.id,
                         ExamStatus.RUNNING,
                         updateId))
-                .flatMap(this.sebRestrictionService::applySebClientRestriction)
                 .flatMap(e -> this.examDAO.releaseLock(e.id, updateId))
+                .map(e -> {
+                    // the SEB restriction is applied asynchronously to not delay the exam start
+                    this.sebRestrictionOutbox.push(e, true);
+                    return e;
+                })
                 .onError(error -> this.examDAO.forceUnlock(exam.id)
                         .onError(unlockError -> log.error("Failed to force unlock update look for exam: {}", exam.id)))
                 .getOrThrow();
@@ -100,8 +125,12 @@ class ExamUpdateHandler {
                         exam.id,
                         ExamStatus.FINISHED,
                         updateId))
-                .flatMap(this.sebRestrictionService::releaseSebClientRestriction)
                 .flatMap(e -> this.examDAO.releaseLock(e.id, updateId))
+                .map(e -> {
+                    // the SEB restriction is released asynchronously to not delay the exam end
+                    this.sebRestrictionOutbox.push(e, false);
+                    return e;
+                })
                 .onError(error -> this.examDAO.forceUnlock(exam.id))
                 .getOrThrow();
     }
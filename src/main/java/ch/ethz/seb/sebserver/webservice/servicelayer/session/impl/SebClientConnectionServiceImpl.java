@@ -53,6 +53,7 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
     private final CacheManager cacheManager;
     private final EventHandlingStrategy eventHandlingStrategy;
     private final ClientConnectionDAO clientConnectionDAO;
+    private final ClientConnectionStateWriter clientConnectionStateWriter;
     private final PingHandlingStrategy pingHandlingStrategy;
     private final SebClientConfigDAO sebClientConfigDAO;
     private final SebInstructionService sebInstructionService;
@@ -63,12 +64,14 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
             final EventHandlingStrategyFactory eventHandlingStrategyFactory,
             final PingHandlingStrategyFactory pingHandlingStrategyFactory,
             final SebClientConfigDAO sebClientConfigDAO,
-            final SebInstructionService sebInstructionService) {
+            final SebInstructionService sebInstructionService,
+            final ClientConnectionStateWriter clientConnectionStateWriter) {
 
         this.examSessionService = examSessionService;
         this.examSessionCacheService = examSessionService.getExamSessionCacheService();
         this.cacheManager = examSessionService.getCacheManager();
         this.clientConnectionDAO = examSessionService.getClientConnectionDAO();
+        this.clientConnectionStateWriter = clientConnectionStateWriter;
         this.pingHandlingStrategy = pingHandlingStrategyFactory.get();
         this.eventHandlingStrategy = eventHandlingStrategyFactory.get();
         this.sebClientConfigDAO = sebClientConfigDAO;
@@ -136,9 +139,9 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
                     Utils.getMillisecondsNow()))
                     .getOrThrow();
 
-            // load client connection data into cache
+            // put client connection data into cache
             final ClientConnectionDataInternal activeClientConnection = this.examSessionCacheService
-                    .getActiveClientConnection(connectionToken);
+                    .updateActiveClientConnection(clientConnection);
 
             if (activeClientConnection == null) {
                 log.warn("Failed to load ClientConnectionDataInternal into cache on update");
@@ -210,8 +213,8 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
                     clientAddress,
                     clientConnection.clientAddress);
 
-            final ClientConnection updatedClientConnection = this.clientConnectionDAO
-                    .save(new ClientConnection(
+            final ClientConnection updatedClientConnection = this.clientConnectionStateWriter
+                    .save(clientConnection, new ClientConnection(
                             clientConnection.id,
                             null,
                             examId,
@@ -224,7 +227,7 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
                     .getOrThrow();
 
             final ClientConnectionDataInternal activeClientConnection =
-                    reloadConnectionCache(connectionToken);
+                    updateConnectionCache(updatedClientConnection);
 
             if (activeClientConnection == null) {
                 log.warn("Failed to load ClientConnectionDataInternal into cache on update");
@@ -310,14 +313,14 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
                 throw new IllegalStateException("ClientConnection integrity violation");
             }
 
-            final ClientConnection updatedClientConnection = this.clientConnectionDAO
-                    .save(establishedClientConnection)
+            final ClientConnection updatedClientConnection = this.clientConnectionStateWriter
+                    .save(clientConnection, establishedClientConnection)
                     .getOrThrow();
 
             checkExamIntegrity(updatedClientConnection.examId);
 
             final ClientConnectionDataInternal activeClientConnection =
-                    reloadConnectionCache(connectionToken);
+                    updateConnectionCache(updatedClientConnection);
 
             if (activeClientConnection == null) {
                 log.warn("Failed to load ClientConnectionDataInternal into cache on update");
@@ -353,9 +356,7 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
                         connectionToken);
             }
 
-            final ClientConnection clientConnection = this.clientConnectionDAO
-                    .byConnectionToken(connectionToken)
-                    .getOrThrow();
+            final ClientConnection clientConnection = getClientConnection(connectionToken);
 
             ClientConnection updatedClientConnection;
             if (clientConnection.status != ConnectionStatus.CLOSED) {
@@ -372,7 +373,7 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
                 updatedClientConnection = clientConnection;
             }
 
-            reloadConnectionCache(connectionToken);
+            updateConnectionCache(updatedClientConnection);
             return updatedClientConnection;
         });
     }
@@ -406,9 +407,7 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
                         connectionToken);
             }
 
-            final ClientConnection clientConnection = this.clientConnectionDAO
-                    .byConnectionToken(connectionToken)
-                    .getOrThrow();
+            final ClientConnection clientConnection = getClientConnection(connectionToken);
 
             ClientConnection updatedClientConnection;
             if (DISABLE_STATE_PREDICATE.test(clientConnection)) {
@@ -426,7 +425,7 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
                 updatedClientConnection = clientConnection;
             }
 
-            reloadConnectionCache(connectionToken);
+            updateConnectionCache(updatedClientConnection);
             return updatedClientConnection;
         });
     }
@@ -465,7 +464,13 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
             final int pingNumber) {
 
         this.pingHandlingStrategy.notifyPing(connectionToken, timestamp, pingNumber);
-        return this.sebInstructionService.getInstructionJSON(connectionToken);
+
+        final ClientConnectionDataInternal activeClientConnection =
+                this.examSessionCacheService.getActiveClientConnection(connectionToken);
+
+        return (activeClientConnection != null)
+                ? this.sebInstructionService.getInstructionJSON(activeClientConnection.clientConnection)
+                : null;
     }
 
     @Override
@@ -483,9 +488,8 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
                     event,
                     activeClientConnection.getConnectionId()));
 
-            // update indicators
-            activeClientConnection.getIndicatorMapping(event.eventType)
-                    .forEach(indicator -> indicator.notifyValueChange(event));
+            // update timeline and indicators
+            activeClientConnection.notifyEvent(event);
         } else {
             log.warn("No active ClientConnection found for connectionToken: {}", connectionToken);
         }
@@ -498,7 +502,16 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
     }
 
     private ClientConnection getClientConnection(final String connectionToken) {
-        return this.clientConnectionDAO
+        // with write-behind, the cached connection state is the most recent one
+        if (this.clientConnectionStateWriter.isWriteBehindEnabled()) {
+            final ClientConnectionDataInternal activeClientConnection = this.examSessionCacheService
+                    .getActiveClientConnection(connectionToken);
+            if (activeClientConnection != null) {
+                return activeClientConnection.clientConnection;
+            }
+        }
+
+        return this.clientConnectionStateWriter
                 .byConnectionToken(connectionToken)
                 .getOrThrow();
     }
@@ -586,8 +599,8 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
                     null,
                     null);
 
-            clientConnection = this.clientConnectionDAO
-                    .save(authenticatedClientConnection)
+            clientConnection = this.clientConnectionStateWriter
+                    .save(clientConnection, authenticatedClientConnection)
                     .getOrThrow();
         }
         return clientConnection;
@@ -617,19 +630,17 @@ public class SebClientConnectionServiceImpl implements SebClientConnectionServic
     }
 
     private ClientConnection saveInState(final ClientConnection clientConnection, final ConnectionStatus status) {
-        return this.clientConnectionDAO.save(new ClientConnection(
+        return this.clientConnectionStateWriter.save(clientConnection, new ClientConnection(
                 clientConnection.id, null, null,
                 status, null, null, null, null, null))
                 .getOrThrow();
     }
 
-    private ClientConnectionDataInternal reloadConnectionCache(final String connectionToken) {
-        // evict cached ClientConnection
-        this.examSessionCacheService.evictClientConnection(connectionToken);
-        // evict also cached ping record
-        this.examSessionCacheService.evictPingRecord(connectionToken);
-        // and load updated ClientConnection into cache
-        return this.examSessionCacheService.getActiveClientConnection(connectionToken);
+    private ClientConnectionDataInternal updateConnectionCache(final ClientConnection clientConnection) {
+        // evict cached ping record
+        this.examSessionCacheService.evictPingRecord(clientConnection.connectionToken);
+        // and update the cached ClientConnection in place
+        return this.examSessionCacheService.updateActiveClientConnection(clientConnection);
     }
 
 }
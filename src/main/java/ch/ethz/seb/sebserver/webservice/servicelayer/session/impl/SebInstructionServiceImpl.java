@@ -8,23 +8,35 @@
 
 package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import javax.annotation.PreDestroy;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import ch.ethz.seb.sebserver.SEBServerInit;
 import ch.ethz.seb.sebserver.SEBServerInitEvent;
 import ch.ethz.seb.sebserver.gbl.Constants;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientInstruction.InstructionType;
 import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
 import ch.ethz.seb.sebserver.gbl.util.Result;
@@ -33,8 +45,24 @@ import ch.ethz.seb.sebserver.webservice.WebserviceInfo;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.ClientInstructionRecord;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientConnectionDAO;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientInstructionDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ExamDAO;
 import ch.ethz.seb.sebserver.webservice.servicelayer.session.SebInstructionService;
 
+/** Holds a queue of pending SEB client instructions per connection token. An instruction is delivered
+ * on the next SEB ping of the respective connection and every ping delivers at most one instruction of the queue.
+ *
+ * Exam-wide instructions are held once per exam and are resolved on SEB ping for every connection of the exam
+ * that existed on registration and is not excluded. They are removed when the exam is not running anymore.
+ * Within a single server setup, the connections an exam-wide instruction has been delivered to are added to its
+ * excluded connection tokens on persistent storage by the background task, so that they are not addressed again
+ * after a restart. Within a distributed setup, adding the connection token to the excluded connection tokens is
+ * a synchronous claim before delivery, so that an exam-wide instruction is only delivered once per connection
+ * over all webservice instances.
+ *
+ * Within a single server setup, delivered instructions are deleted from persistent storage in batches by
+ * a background task. Within a distributed setup, new instructions registered by other webservice instances
+ * are incrementally loaded by a background task and deleting a delivered instruction is a synchronous claim
+ * that ensures that an instruction is only delivered once over all webservice instances. */
 @Lazy
 @Service
 @WebServiceProfile
@@ -45,22 +73,39 @@ public class SebInstructionServiceImpl implements SebInstructionService {
     private static final String JSON_INST = "instruction";
     private static final String JSON_ATTR = "attributes";
 
+    /** Number of already known instruction identifiers that are re-read on incremental refresh to
+     * not miss instructions of concurrent transactions that where committed with a lower identifier */
+    private static final long REFRESH_LOOKBACK = 100;
+
+    /** Number of attempts to claim the delivery of an exam-wide instruction on concurrent modification */
+    private static final int CLAIM_ATTEMPTS = 3;
+
     private final WebserviceInfo webserviceInfo;
     private final ClientConnectionDAO clientConnectionDAO;
     private final ClientInstructionDAO clientInstructionDAO;
-    private final Map<String, ClientInstructionRecord> instructions;
+    private final ExamDAO examDAO;
+    private final ConcurrentHashMap<String, Queue<ClientInstructionRecord>> instructions;
+    private final ConcurrentHashMap<Long, Collection<ExamInstruction>> examInstructions;
+    private final Set<Long> knownInstructionIds;
+    private final BlockingQueue<Long> deliveredInstructionIds;
 
-    private long lastRefresh = 0;
+    private long lastKnownId = 0;
+    private boolean backgroundTasksActive = false;
 
     public SebInstructionServiceImpl(
             final WebserviceInfo webserviceInfo,
             final ClientConnectionDAO clientConnectionDAO,
-            final ClientInstructionDAO clientInstructionDAO) {
+            final ClientInstructionDAO clientInstructionDAO,
+            final ExamDAO examDAO) {
 
         this.webserviceInfo = webserviceInfo;
         this.clientConnectionDAO = clientConnectionDAO;
         this.clientInstructionDAO = clientInstructionDAO;
+        this.examDAO = examDAO;
         this.instructions = new ConcurrentHashMap<>();
+        this.examInstructions = new ConcurrentHashMap<>();
+        this.knownInstructionIds = ConcurrentHashMap.newKeySet();
+        this.deliveredInstructionIds = new LinkedBlockingQueue<>();
     }
 
     @Override
@@ -73,18 +118,27 @@ public class SebInstructionServiceImpl implements SebInstructionService {
         SEBServerInit.INIT_LOGGER.info("------>");
         SEBServerInit.INIT_LOGGER.info("------> Run SebInstructionService...");
 
-        loadInstruction()
+        loadInstructions()
                 .onError(
                         error -> log.error(
                                 "Failed  to initialize and load persistent storage SEB client instructions: ",
                                 error));
 
-        if (this.instructions.size() > 0) {
+        if (this.knownInstructionIds.size() > 0) {
             SEBServerInit.INIT_LOGGER.info("------> Loaded {} SEB client instructions from persistent storage",
-                    this.instructions.size());
+                    this.knownInstructionIds.size());
         } else {
             SEBServerInit.INIT_LOGGER.info("------> No pending SEB client instructions found on persistent storage");
         }
+
+        this.backgroundTasksActive = true;
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        this.backgroundTasksActive = false;
+        deleteDeliveredInstructions();
+        storeDeliveredExamInstructions();
     }
 
     @Override
@@ -109,76 +163,317 @@ public class SebInstructionServiceImpl implements SebInstructionService {
                             error -> log.error("Failed to put instruction: ", error),
                             () -> null))
                     .filter(Objects::nonNull)
-                    .forEach(inst -> this.instructions.putIfAbsent(inst.getConnectionToken(), inst));
+                    .forEach(this::putInstruction);
         });
 
     }
 
     @Override
-    public String getInstructionJSON(final String connectionToken) {
-        refreshCache();
-        if (this.instructions.isEmpty()) {
+    public Result<Void> registerExamInstruction(
+            final Long examId,
+            final InstructionType type,
+            final Map<String, String> attributes,
+            final Set<String> excludedConnectionTokens) {
+
+        return Result.tryCatch(() -> {
+
+            final String attributesString = Utils.toJsonArrayValue(attributes);
+            final String excludedTokens = (excludedConnectionTokens != null && !excludedConnectionTokens.isEmpty())
+                    ? StringUtils.join(excludedConnectionTokens, Constants.LIST_SEPARATOR)
+                    : null;
+
+            putInstruction(this.clientInstructionDAO
+                    .insertExamWide(examId, type, attributesString, excludedTokens)
+                    .getOrThrow());
+        });
+    }
+
+    @Override
+    public String getInstructionJSON(final ClientConnection clientConnection) {
+        if (this.instructions.isEmpty() && this.examInstructions.isEmpty()) {
             return null;
         }
 
-        final ClientInstructionRecord clientInstruction = this.instructions.remove(connectionToken);
-        if (clientInstruction != null) {
-            final Result<Void> delete = this.clientInstructionDAO.delete(clientInstruction.getId());
-            if (delete.hasError()) {
-                log.error("Failed to delete SEB client instruction on persistent storage: ", delete.getError());
-            }
+        ClientInstructionRecord clientInstruction = nextInstruction(clientConnection.connectionToken);
+        if (clientInstruction == null) {
+            clientInstruction = nextExamInstruction(clientConnection);
+        }
+        if (clientInstruction == null) {
+            return null;
+        }
 
-            // {"instruction":"%s", "attributes":%s}
-            final String attributes = clientInstruction.getAttributes();
-            final StringBuilder sBuilder = new StringBuilder()
-                    .append(Constants.CURLY_BRACE_OPEN)
+        // {"instruction":"%s", "attributes":%s}
+        final String attributes = clientInstruction.getAttributes();
+        final StringBuilder sBuilder = new StringBuilder()
+                .append(Constants.CURLY_BRACE_OPEN)
+                .append(Constants.DOUBLE_QUOTE)
+                .append(JSON_INST)
+                .append(Constants.DOUBLE_QUOTE)
+                .append(Constants.COLON)
+                .append(Constants.DOUBLE_QUOTE)
+                .append(clientInstruction.getType())
+                .append(Constants.DOUBLE_QUOTE);
+
+        if (StringUtils.isNotBlank(attributes)) {
+            sBuilder.append(Constants.COMMA)
                     .append(Constants.DOUBLE_QUOTE)
-                    .append(JSON_INST)
+                    .append(JSON_ATTR)
                     .append(Constants.DOUBLE_QUOTE)
                     .append(Constants.COLON)
-                    .append(Constants.DOUBLE_QUOTE)
-                    .append(clientInstruction.getType())
-                    .append(Constants.DOUBLE_QUOTE);
-
-            if (StringUtils.isNotBlank(attributes)) {
-                sBuilder.append(Constants.COMMA)
-                        .append(Constants.DOUBLE_QUOTE)
-                        .append(JSON_ATTR)
-                        .append(Constants.DOUBLE_QUOTE)
-                        .append(Constants.COLON)
-                        .append(Constants.CURLY_BRACE_OPEN)
-                        .append(attributes)
-                        .append(Constants.CURLY_BRACE_CLOSE);
-            }
-
-            return sBuilder
-                    .append(Constants.CURLY_BRACE_CLOSE)
-                    .toString();
+                    .append(Constants.CURLY_BRACE_OPEN)
+                    .append(attributes)
+                    .append(Constants.CURLY_BRACE_CLOSE);
         }
 
-        return null;
+        return sBuilder
+                .append(Constants.CURLY_BRACE_CLOSE)
+                .toString();
     }
 
-    private void refreshCache() {
-        if (!this.webserviceInfo.isDistributed()) {
+    @Scheduled(fixedDelayString = "${sebserver.webservice.api.exam.instruction.update-interval:1000}")
+    public void instructionUpdateTask() {
+        if (!this.backgroundTasksActive) {
             return;
         }
 
-        final long currentTimeMillis = System.currentTimeMillis();
-        if (currentTimeMillis - this.lastRefresh > Constants.SECOND_IN_MILLIS) {
-            this.lastRefresh = currentTimeMillis;
-
-            loadInstruction()
+        if (this.webserviceInfo.isDistributed()) {
+            loadInstructions()
                     .onError(error -> log.error(
                             "Failed load instructions from persistent storage and to refresh cache: ",
                             error));
+        } else {
+            deleteDeliveredInstructions();
         }
+
+        storeDeliveredExamInstructions();
+        removeExamInstructionsOfFinishedExams();
     }
 
-    private Result<Void> loadInstruction() {
-        return Result.tryCatch(() -> this.clientInstructionDAO.getAllActive()
-                .getOrThrow()
-                .forEach(inst -> this.instructions.putIfAbsent(inst.getConnectionToken(), inst)));
+    private ClientInstructionRecord nextExamInstruction(final ClientConnection clientConnection) {
+        if (clientConnection.examId == null || this.examInstructions.isEmpty()) {
+            return null;
+        }
+
+        final Collection<ExamInstruction> instructionsOfExam = this.examInstructions.get(clientConnection.examId);
+        if (instructionsOfExam == null) {
+            return null;
+        }
+
+        for (final ExamInstruction examInstruction : instructionsOfExam) {
+            if (examInstruction.deliverTo(clientConnection)) {
+                return examInstruction.record;
+            }
+        }
+
+        return null;
+    }
+
+    private void storeDeliveredExamInstructions() {
+        if (this.examInstructions.isEmpty()) {
+            return;
+        }
+
+        this.examInstructions.values()
+                .stream()
+                .flatMap(Collection::stream)
+                .forEach(ExamInstruction::storeDelivered);
+    }
+
+    private void removeExamInstructionsOfFinishedExams() {
+        if (this.examInstructions.isEmpty()) {
+            return;
+        }
+
+        try {
+            final Set<Long> runningExams = new HashSet<>(this.examDAO
+                    .allRunningExamIds()
+                    .getOrThrow());
+
+            final Collection<Long> ids = new ArrayList<>();
+            for (final Long examId : this.examInstructions.keySet()) {
+                if (!runningExams.contains(examId)) {
+                    final Collection<ExamInstruction> removed = this.examInstructions.remove(examId);
+                    if (removed != null) {
+                        removed.forEach(inst -> ids.add(inst.record.getId()));
+                    }
+                }
+            }
+
+            if (!ids.isEmpty()) {
+                this.clientInstructionDAO.delete(ids).getOrThrow();
+                this.knownInstructionIds.removeAll(ids);
+            }
+        } catch (final Exception e) {
+            log.error("Failed to remove exam-wide SEB client instructions of finished exams: ", e);
+        }
+    }
+
+    private ClientInstructionRecord nextInstruction(final String connectionToken) {
+        final boolean distributed = this.webserviceInfo.isDistributed();
+        while (true) {
+            final ClientInstructionRecord[] next = new ClientInstructionRecord[1];
+            this.instructions.computeIfPresent(connectionToken, (token, queue) -> {
+                next[0] = queue.poll();
+                return queue.isEmpty() ? null : queue;
+            });
+
+            final ClientInstructionRecord clientInstruction = next[0];
+            if (clientInstruction == null) {
+                return null;
+            }
+
+            if (!distributed) {
+                this.deliveredInstructionIds.add(clientInstruction.getId());
+                return clientInstruction;
+            }
+
+            // within a distributed setup only the instance that was able to delete the instruction delivers it
+            final Result<Void> delete = this.clientInstructionDAO.delete(clientInstruction.getId());
+            if (!delete.hasError()) {
+                return clientInstruction;
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("SEB client instruction already delivered by another instance: {}",
+                        clientInstruction.getId());
+            }
+        }
+    }
+
+    private void putInstruction(final ClientInstructionRecord clientInstruction) {
+        if (!this.knownInstructionIds.add(clientInstruction.getId())) {
+            return;
+        }
+
+        if (clientInstruction.getConnectionToken() == null) {
+            this.examInstructions
+                    .computeIfAbsent(clientInstruction.getExamId(), examId -> new CopyOnWriteArrayList<>())
+                    .add(new ExamInstruction(clientInstruction));
+            return;
+        }
+
+        this.instructions.compute(clientInstruction.getConnectionToken(), (token, queue) -> {
+            final Queue<ClientInstructionRecord> result = (queue != null) ? queue : new ArrayDeque<>();
+            result.add(clientInstruction);
+            return result;
+        });
+    }
+
+    private void deleteDeliveredInstructions() {
+        if (this.deliveredInstructionIds.isEmpty()) {
+            return;
+        }
+
+        final Collection<Long> ids = new ArrayList<>();
+        this.deliveredInstructionIds.drainTo(ids);
+        this.clientInstructionDAO.delete(ids)
+                .onError(error -> {
+                    log.error("Failed to delete delivered SEB client instructions on persistent storage: ", error);
+                    this.deliveredInstructionIds.addAll(ids);
+                });
+
+        this.knownInstructionIds.removeAll(ids);
+    }
+
+    private synchronized Result<Void> loadInstructions() {
+        return Result.tryCatch(() -> {
+            final long fromId = Math.max(0, this.lastKnownId - REFRESH_LOOKBACK);
+            final Collection<ClientInstructionRecord> newInstructions = this.clientInstructionDAO
+                    .getAllActiveAfter(fromId)
+                    .getOrThrow();
+
+            newInstructions.forEach(inst -> {
+                putInstruction(inst);
+                this.lastKnownId = Math.max(this.lastKnownId, inst.getId());
+            });
+
+            // known identifiers below the look-back window are not needed anymore for de-duplication
+            final long lowerBound = this.lastKnownId - REFRESH_LOOKBACK;
+            this.knownInstructionIds.removeIf(id -> id <= lowerBound);
+        });
+    }
+
+    /** An exam-wide instruction with the connection tokens it has already been delivered to on this instance */
+    private final class ExamInstruction {
+
+        final ClientInstructionRecord record;
+        final Set<String> excludedTokens;
+        final Set<String> deliveredTokens = ConcurrentHashMap.newKeySet();
+        final BlockingQueue<String> deliveredToStore = new LinkedBlockingQueue<>();
+
+        ExamInstruction(final ClientInstructionRecord record) {
+            this.record = record;
+            this.excludedTokens = (StringUtils.isNotBlank(record.getExcludedTokens()))
+                    ? new HashSet<>(Arrays.asList(StringUtils.split(
+                            record.getExcludedTokens(),
+                            Constants.LIST_SEPARATOR)))
+                    : Collections.emptySet();
+        }
+
+        boolean deliverTo(final ClientConnection clientConnection) {
+            // connections that where created after the registration of the instruction are not addressed
+            if (this.record.getCreationTime() != null &&
+                    clientConnection.getCreationTime() != null &&
+                    clientConnection.getCreationTime() > this.record.getCreationTime()) {
+                return false;
+            }
+
+            if (this.excludedTokens.contains(clientConnection.connectionToken) ||
+                    !this.deliveredTokens.add(clientConnection.connectionToken)) {
+                return false;
+            }
+
+            if (!SebInstructionServiceImpl.this.webserviceInfo.isDistributed()) {
+                this.deliveredToStore.add(clientConnection.connectionToken);
+                return true;
+            }
+
+            // within a distributed setup only the instance that was able to claim the delivery delivers it
+            final Result<Boolean> claim = claimDelivery(clientConnection.connectionToken);
+            if (claim.hasError()) {
+                log.warn("Failed to claim delivery of exam-wide SEB client instruction: {} cause: {}",
+                        this.record.getId(),
+                        claim.getError().getMessage());
+                // try again on next ping
+                this.deliveredTokens.remove(clientConnection.connectionToken);
+                return false;
+            }
+
+            if (!claim.get() && log.isDebugEnabled()) {
+                log.debug("Exam-wide SEB client instruction already delivered by another instance: {}",
+                        this.record.getId());
+            }
+
+            return claim.get();
+        }
+
+        private Result<Boolean> claimDelivery(final String connectionToken) {
+            Result<Boolean> claim = null;
+            for (int i = 0; i < CLAIM_ATTEMPTS; i++) {
+                claim = SebInstructionServiceImpl.this.clientInstructionDAO
+                        .claimExcludedToken(this.record.getId(), connectionToken);
+                if (!claim.hasError()) {
+                    return claim;
+                }
+            }
+            return claim;
+        }
+
+        void storeDelivered() {
+            if (this.deliveredToStore.isEmpty()) {
+                return;
+            }
+
+            final Collection<String> tokens = new ArrayList<>();
+            this.deliveredToStore.drainTo(tokens);
+            SebInstructionServiceImpl.this.clientInstructionDAO
+                    .addExcludedTokens(this.record.getId(), tokens)
+                    .onError(error -> {
+                        log.error("Failed to store delivered exam-wide SEB client instruction: {}",
+                                this.record.getId(), error);
+                        this.deliveredToStore.addAll(tokens);
+                    });
+        }
     }
 
 }
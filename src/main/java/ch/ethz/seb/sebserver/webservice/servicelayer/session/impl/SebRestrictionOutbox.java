@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.apache.commons.lang3.BooleanUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import ch.ethz.seb.sebserver.gbl.async.AsyncServiceSpringConfig;
+import ch.ethz.seb.sebserver.gbl.async.KeyedTaskRunner;
+import ch.ethz.seb.sebserver.gbl.model.exam.Exam;
+import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.gbl.util.Utils;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.SebRestrictionSyncRecord;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ExamDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.SebRestrictionSyncDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.lms.SebRestrictionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/** Synchronizes the SEB client restriction of exams with the LMS asynchronously so that exam state transitions
+ * do not have to wait for the LMS.
+ *
+ * There is at most one pending synchronization per exam that holds the desired restriction state of the exam.
+ * A new push for an exam replaces a pending one, e.g. if an exam is finished before its restriction was applied,
+ * only the release is pushed.
+ *
+ * A restriction is pushed once and then verified by reading it back from the LMS with an exponentially increasing
+ * delay since some LMS do not apply a change immediately from an outside perspective. A restriction is verified
+ * only after a number of consecutive matching read-backs since such an LMS may also respond with the old and
+ * the new state alternately for a while. A mismatch resets the matches. The restriction is only
+ * pushed again if the observed state still differs from the desired state after the maximal number of checks,
+ * or if the push failed. After the maximal number of pushes the synchronization gives up.
+ *
+ * The desired restriction state is also persisted with the SebRestrictionSyncDAO until it is verified or the
+ * synchronization gives up. The webservice instance that runs the exam lifecycle tasks loads the persisted
+ * requests on startup or master takeover so that a restart between an exam state transition and the
+ * synchronization of its restriction does not leave the exam without the restriction on the LMS. */
+@Service
+@WebServiceProfile
+class SebRestrictionOutbox implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SebRestrictionOutbox.class);
+
+    public static final String PENDING_GAUGE_NAME = "sebserver.lms.restriction.sync.pending";
+    public static final String LAG_TIMER_NAME = "sebserver.lms.restriction.sync.lag";
+    public static final String RETRY_COUNTER_NAME = "sebserver.lms.restriction.sync.retries";
+    public static final String FAILED_COUNTER_NAME = "sebserver.lms.restriction.sync.failed";
+
+    static final class Push {
+        final Exam exam;
+        final boolean restrict;
+        /** number of pushes to the LMS so far */
+        final int attempts;
+        /** number of read-back checks since the last push or -1 if the restriction is not pushed yet */
+        final int checks;
+        /** number of consecutive matching read-back checks */
+        final int matches;
+        final long nextAttempt;
+        final long requested;
+
+        Push(
+                final Exam exam,
+                final boolean restrict,
+                final int attempts,
+                final int checks,
+                final int matches,
+                final long nextAttempt,
+                final long requested) {
+
+            this.exam = exam;
+            this.restrict = restrict;
+            this.attempts = attempts;
+            this.checks = checks;
+            this.matches = matches;
+            this.nextAttempt = nextAttempt;
+            this.requested = requested;
+        }
+
+        boolean isPushed() {
+            return this.checks >= 0;
+        }
+
+        @Override
+        public String toString() {
+            return "Push [exam=" + this.exam.id + ", restrict=" + this.restrict + ", attempts=" + this.attempts
+                    + ", checks=" + this.checks + ", matches=" + this.matches + "]";
+        }
+    }
+
+    private final SebRestrictionService sebRestrictionService;
+    private final SebRestrictionSyncDAO sebRestrictionSyncDAO;
+    private final ExamDAO examDAO;
+    private final KeyedTaskRunner taskRunner;
+    private final int maxAttempts;
+    private final int maxChecks;
+    private final int requiredMatches;
+    private final long retryDelay;
+    private final long maxRetryDelay;
+    private final long checkDelay;
+
+    private final Timer syncLag;
+    private final Counter retries;
+    private final Counter failed;
+
+    private final ConcurrentHashMap<Long, Push> pending = new ConcurrentHashMap<>();
+    // exams with a push or check that is currently processed on the LMS executor
+    private final Set<Long> inProcess = ConcurrentHashMap.newKeySet();
+
+    protected SebRestrictionOutbox(
+            final SebRestrictionService sebRestrictionService,
+            final SebRestrictionSyncDAO sebRestrictionSyncDAO,
+            final ExamDAO examDAO,
+            @Qualifier(AsyncServiceSpringConfig.LMS_EXECUTOR_BEAN_NAME) final Executor executor,
+            final MeterRegistry meterRegistry,
+            @Value("${sebserver.webservice.lms.concurrent-requests:4}") final int maxConcurrentRequests,
+            @Value("${sebserver.webservice.lms.restriction.push.max-attempts:10}") final int maxAttempts,
+            @Value("${sebserver.webservice.lms.restriction.push.retry-delay:5000}") final long retryDelay,
+            @Value("${sebserver.webservice.lms.restriction.push.max-retry-delay:300000}") final long maxRetryDelay,
+            @Value("${sebserver.webservice.lms.restriction.check.max-checks:6}") final int maxChecks,
+            @Value("${sebserver.webservice.lms.restriction.check.required-matches:2}") final int requiredMatches,
+            @Value("${sebserver.webservice.lms.restriction.check.delay:2000}") final long checkDelay) {
+
+        this.sebRestrictionService = sebRestrictionService;
+        this.sebRestrictionSyncDAO = sebRestrictionSyncDAO;
+        this.examDAO = examDAO;
+        this.taskRunner = new KeyedTaskRunner(executor, maxConcurrentRequests);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.maxChecks = Math.max(1, maxChecks);
+        this.requiredMatches = Math.max(1, requiredMatches);
+        this.checkDelay = checkDelay;
+
+        Gauge.builder(PENDING_GAUGE_NAME, this.pending, ConcurrentHashMap::size)
+                .description("Number of exams with a SEB restriction that is not yet synchronized with the LMS")
+                .register(meterRegistry);
+        this.syncLag = Timer.builder(LAG_TIMER_NAME)
+                .description("Time from requesting a SEB restriction change until it is verified on the LMS")
+                .register(meterRegistry);
+        this.retries = Counter.builder(RETRY_COUNTER_NAME)
+                .description("Number of repeated SEB restriction pushes because of failure or mismatch")
+                .register(meterRegistry);
+        this.failed = Counter.builder(FAILED_COUNTER_NAME)
+                .description("Number of SEB restriction synchronizations that gave up")
+                .register(meterRegistry);
+    }
+
+    /** Adds a push of the SEB client restriction of the given exam to the outbox.
+     * This replaces a pending push for the same exam.
+     *
+     * @param exam the Exam
+     * @param restrict true to apply the SEB client restriction, false to release it */
+    void push(final Exam exam, final boolean restrict) {
+        final long now = Utils.getMillisecondsNow();
+        this.sebRestrictionSyncDAO
+                .savePending(exam.id, restrict, now)
+                .onError(error -> log.error("Failed to persist SEB restriction request for exam: {}", exam.id, error));
+        this.pending.put(exam.id, new Push(exam, restrict, 0, -1, 0, 0, now));
+    }
+
+    /** Loads the persisted SEB restriction requests into the outbox. A request replaces a pending push
+     * for the same exam only if it is newer. Requests of exams that do not exist anymore are removed.
+     *
+     * @return Result refer to the identifiers of the exams with a pending push or to an error if happened */
+    Result<Collection<Long>> loadPending() {
+        return this.sebRestrictionSyncDAO
+                .allPending()
+                .flatMap(records -> this.examDAO
+                        .allOf(records.stream()
+                                .map(SebRestrictionSyncRecord::getExamId)
+                                .collect(Collectors.toSet()))
+                        .map(exams -> {
+                            final Map<Long, Exam> examMap = exams
+                                    .stream()
+                                    .collect(Collectors.toMap(exam -> exam.id, Function.identity()));
+
+                            records.forEach(record -> {
+                                final Exam exam = examMap.get(record.getExamId());
+                                if (exam == null) {
+                                    removePersisted(record.getExamId(), record.getRequestTime());
+                                    return;
+                                }
+
+                                this.pending.compute(exam.id, (id, current) -> (current == null
+                                        || current.requested < record.getRequestTime())
+                                                ? new Push(
+                                                        exam,
+                                                        BooleanUtils.toBoolean(record.getApplyRestriction()),
+                                                        0,
+                                                        -1,
+                                                        0,
+                                                        0,
+                                                        record.getRequestTime())
+                                                : current);
+                            });
+
+                            return examMap.keySet();
+                        }));
+    }
+
+    /** Get the pending push for a given exam.
+     *
+     * @param examId the exam identifier
+     * @return the pending Push or null if there is none */
+    Push getPending(final Long examId) {
+        return this.pending.get(examId);
+    }
+
+    @Scheduled(fixedDelayString = "${sebserver.webservice.lms.restriction.push.interval:1000}")
+    public void processPending() {
+        if (this.pending.isEmpty()) {
+            return;
+        }
+
+        final long now = Utils.getMillisecondsNow();
+        final List<Push> due = this.pending.values()
+                .stream()
+                .filter(push -> push.nextAttempt <= now)
+                .filter(push -> this.inProcess.add(push.exam.id))
+                .collect(Collectors.toList());
+
+        // the pushes are processed on the LMS executor to not block the scheduler with LMS requests
+        this.taskRunner.submitAll(due, push -> push.exam.lmsSetupId, push -> {
+            try {
+                process(push);
+            } finally {
+                this.inProcess.remove(push.exam.id);
+            }
+        });
+    }
+
+    void process(final Push push) {
+        if (push.isPushed()) {
+            check(push);
+        } else {
+            push(push);
+        }
+    }
+
+    private void push(final Push push) {
+        final Result<Exam> result = Result.tryCatch(() -> (push.restrict)
+                ? this.sebRestrictionService.applySebClientRestriction(push.exam)
+                : this.sebRestrictionService.releaseSebClientRestriction(push.exam))
+                .flatMap(r -> r);
+
+        final int attempts = push.attempts + 1;
+        if (result.hasError()) {
+            retry(push, attempts, "push failed: " + result.getError().getMessage());
+            return;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Successfully pushed SEB restriction: {}", push);
+        }
+
+        // verify the push on the next check
+        this.pending.replace(
+                push.exam.id,
+                push,
+                new Push(push.exam, push.restrict, attempts, 0, 0, Utils.getMillisecondsNow() + this.checkDelay,
+                        push.requested));
+    }
+
+    private void check(final Push push) {
+        final Result<Boolean> result = Result.tryCatch(() -> this.sebRestrictionService
+                .checkSebClientRestriction(push.exam, push.restrict))
+                .flatMap(r -> r);
+
+        if (!result.hasError() && result.get()) {
+            final int matches = push.matches + 1;
+            if (matches < this.requiredMatches) {
+                // confirm the observed state with another read-back
+                this.pending.replace(
+                        push.exam.id,
+                        push,
+                        new Push(push.exam, push.restrict, push.attempts, push.checks, matches,
+                                Utils.getMillisecondsNow() + this.checkDelay, push.requested));
+                return;
+            }
+
+            final long lag = Utils.getMillisecondsNow() - push.requested;
+            this.syncLag.record(lag, TimeUnit.MILLISECONDS);
+            if (log.isDebugEnabled()) {
+                log.debug("Verified SEB restriction: {} after {} milliseconds", push, lag);
+            }
+            remove(push);
+            return;
+        }
+
+        final int checks = push.checks + 1;
+        if (checks < this.maxChecks) {
+            // the LMS may not reflect the change yet, check again later
+            final long delay = Math.min(this.checkDelay << Math.min(checks, 20), this.maxRetryDelay);
+            this.pending.replace(
+                    push.exam.id,
+                    push,
+                    new Push(push.exam, push.restrict, push.attempts, checks, 0, Utils.getMillisecondsNow() + delay,
+                            push.requested));
+            return;
+        }
+
+        retry(push, push.attempts, (result.hasError())
+                ? "check failed: " + result.getError().getMessage()
+                : "LMS state does not match");
+    }
+
+    private void retry(final Push push, final int attempts, final String cause) {
+        if (attempts >= this.maxAttempts) {
+            log.error("Failed to synchronize SEB restriction: {} after {} attempts. Give up. Last cause: {}",
+                    push,
+                    attempts,
+                    cause);
+            this.failed.increment();
+            remove(push);
+            return;
+        }
+
+        final long delay = Math.min(this.retryDelay << Math.min(attempts - 1, 20), this.maxRetryDelay);
+        log.warn("Failed to synchronize SEB restriction: {} cause: {}. Push again in {} milliseconds",
+                push,
+                cause,
+                delay);
+
+        this.retries.increment();
+        this.pending.replace(
+                push.exam.id,
+                push,
+                new Push(push.exam, push.restrict, attempts, -1, 0, Utils.getMillisecondsNow() + delay,
+                        push.requested));
+    }
+
+    private void remove(final Push push) {
+        // only remove if not replaced in the meantime
+        if (this.pending.remove(push.exam.id, push)) {
+            removePersisted(push.exam.id, push.requested);
+        }
+    }
+
+    private void removePersisted(final Long examId, final long requestTime) {
+        this.sebRestrictionSyncDAO
+                .removePending(examId, requestTime)
+                .onError(error -> log.error("Failed to remove persisted SEB restriction request for exam: {}",
+                        examId,
+                        error));
+    }
+
+    @Override
+    public void destroy() {
+        if (!this.pending.isEmpty()) {
+            log.warn("Shutdown with pending SEB restriction synchronizations: {}", this.pending.values());
+        }
+    }
+
+}
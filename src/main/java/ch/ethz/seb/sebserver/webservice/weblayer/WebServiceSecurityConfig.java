@@ -21,6 +21,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -43,8 +44,10 @@ import org.springframework.security.oauth2.provider.token.DefaultUserAuthenticat
 import org.springframework.security.oauth2.provider.token.TokenStore;
 import org.springframework.security.oauth2.provider.token.UserAuthenticationConverter;
 import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 import ch.ethz.seb.sebserver.WebSecurityConfig;
+import ch.ethz.seb.sebserver.gbl.api.API;
 import ch.ethz.seb.sebserver.gbl.model.user.UserRole;
 import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
 import ch.ethz.seb.sebserver.webservice.weblayer.oauth.CachableJdbcTokenStore;
@@ -119,6 +122,22 @@ public class WebServiceSecurityConfig extends WebSecurityConfigurerAdapter {
         return new RemoteIpFilter();
     }
 
+    /** Adds a content based ETag to the responses of the exam configuration metadata endpoints
+     * (configuration attributes, orientations and views) and answers a conditional request (If-None-Match)
+     * with 304 Not Modified if the metadata has not changed. This is used by the GUI to revalidate its
+     * cached metadata without transferring it again.
+     *
+     * @return FilterRegistrationBean of the ShallowEtagHeaderFilter for the exam configuration metadata endpoints */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> examConfigMetadataETagFilter() {
+        final FilterRegistrationBean<ShallowEtagHeaderFilter> registrationBean =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registrationBean.addUrlPatterns(
+                this.adminAPIEndpoint + API.CONFIGURATION_ATTRIBUTE_ENDPOINT + "/*",
+                this.adminAPIEndpoint + API.ORIENTATION_ENDPOINT + "/*");
+        return registrationBean;
+    }
+
     @Bean
     public AccessTokenConverter accessTokenConverter() {
         final DefaultAccessTokenConverter accessTokenConverter = new DefaultAccessTokenConverter();
@@ -14,6 +14,8 @@ import java.util.List;
 import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
+import javax.servlet.http.HttpServletResponse;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.Ordered;
@@ -177,7 +179,14 @@ public class APIExceptionHandler extends ResponseEntityExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleUnexpected(
             final Exception ex,
-            final WebRequest request) {
+            final WebRequest request,
+            final HttpServletResponse response) throws Exception {
+
+        // if a response has already been partially sent, e.g. on streaming, an error response cannot be sent anymore.
+        // The error is passed to the container to abort the connection instead of appending to the sent content
+        if (response.isCommitted()) {
+            throw ex;
+        }
 
         log.error("Unexpected internal error catched at the API endpoint: ", ex);
         return APIMessage.ErrorMessage.UNEXPECTED
@@ -155,4 +155,11 @@ public abstract class ActivatableEntityController<T extends GrantEntity, M exten
         return Result.of(entity);
     }
 
+    @Override
+    protected Result<T> validForBulkAction(final T entity, final BulkActionType bulkActionType) {
+        return (bulkActionType == BulkActionType.ACTIVATE || bulkActionType == BulkActionType.DEACTIVATE)
+                ? validForActivation(entity)
+                : super.validForBulkAction(entity, bulkActionType);
+    }
+
 }
@@ -8,11 +8,18 @@
 
 package ch.ethz.seb.sebserver.webservice.weblayer.api;
 
+import java.io.IOException;
 import java.util.Collection;
 
+import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.mybatis.dynamic.sql.SqlTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -22,15 +29,20 @@ import org.springframework.web.bind.annotation.RestController;
 
 import ch.ethz.seb.sebserver.gbl.api.API;
 import ch.ethz.seb.sebserver.gbl.api.API.BulkActionType;
+import ch.ethz.seb.sebserver.gbl.api.API.ExportFormat;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.api.authorization.PrivilegeType;
+import ch.ethz.seb.sebserver.gbl.model.Domain;
 import ch.ethz.seb.sebserver.gbl.model.EntityKey;
 import ch.ethz.seb.sebserver.gbl.model.GrantEntity;
 import ch.ethz.seb.sebserver.gbl.model.Page;
+import ch.ethz.seb.sebserver.gbl.model.exam.Exam;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent;
 import ch.ethz.seb.sebserver.gbl.model.session.ExtendedClientEvent;
 import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
+import ch.ethz.seb.sebserver.gbl.util.Utils;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientEventRecordDynamicSqlSupport;
+import ch.ethz.seb.sebserver.webservice.servicelayer.PageCursor;
 import ch.ethz.seb.sebserver.webservice.servicelayer.PaginationService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.AuthorizationService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.PermissionDeniedException;
@@ -41,6 +53,7 @@ import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientEventDAO;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ExamDAO;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.FilterMap;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.UserActivityLogDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.session.ClientEventExportService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.validation.BeanValidationService;
 
 @WebServiceProfile
@@ -48,8 +61,11 @@ import ch.ethz.seb.sebserver.webservice.servicelayer.validation.BeanValidationSe
 @RequestMapping("${sebserver.webservice.api.admin.endpoint}" + API.SEB_CLIENT_EVENT_ENDPOINT)
 public class ClientEventController extends ReadonlyEntityController<ClientEvent, ClientEvent> {
 
+    private static final Logger log = LoggerFactory.getLogger(ClientEventController.class);
+
     private final ExamDAO examDAO;
     private final ClientEventDAO clientEventDAO;
+    private final ClientEventExportService clientEventExportService;
 
     protected ClientEventController(
             final AuthorizationService authorization,
@@ -58,7 +74,8 @@ public class ClientEventController extends ReadonlyEntityController<ClientEvent,
             final UserActivityLogDAO userActivityLogDAO,
             final PaginationService paginationService,
             final BeanValidationService beanValidationService,
-            final ExamDAO examDAO) {
+            final ExamDAO examDAO,
+            final ClientEventExportService clientEventExportService) {
 
         super(authorization,
                 bulkActionService,
@@ -69,6 +86,7 @@ public class ClientEventController extends ReadonlyEntityController<ClientEvent,
 
         this.examDAO = examDAO;
         this.clientEventDAO = entityDAO;
+        this.clientEventExportService = clientEventExportService;
     }
 
     @RequestMapping(
@@ -100,6 +118,19 @@ public class ClientEventController extends ReadonlyEntityController<ClientEvent,
 
         try {
 
+            // keyset pagination on (server_time, id) if sorted by time
+            if (PageCursor.isApplicable(sort, Domain.CLIENT_EVENT.ATTR_SERVER_TIME)) {
+                return this.paginationService.getKeysetPage(
+                        pageNumber,
+                        pageSize,
+                        sort,
+                        filterMap.getString(Page.ATTR_CURSOR),
+                        event -> PageCursor.encode(event.serverTime, event.id),
+                        this::hasReadAccess,
+                        cursor -> this.clientEventDAO.allMatchingExtended(filterMap, cursor, Utils.truePredicate()))
+                        .getOrThrow();
+            }
+
             return this.paginationService.getPage(
                     pageNumber,
                     pageSize,
@@ -113,6 +144,68 @@ public class ClientEventController extends ReadonlyEntityController<ClientEvent,
         }
     }
 
+    /** Streams all SEB client events of one exam that match the given filter criteria in the requested
+     * format (CSV on default) to the response. Read access is checked once for the exam instead of
+     * for each event. */
+    @RequestMapping(
+            path = API.SEB_CLIENT_EVENT_EXPORT_PATH_SEGMENT,
+            method = RequestMethod.GET,
+            produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public void exportEvents(
+            @RequestParam(
+                    name = API.PARAM_INSTITUTION_ID,
+                    required = true,
+                    defaultValue = UserService.USERS_INSTITUTION_AS_DEFAULT) final Long institutionId,
+            @RequestParam(name = ExtendedClientEvent.FILTER_ATTRIBUTE_EXAM, required = true) final Long examId,
+            @RequestParam(name = API.SEB_CLIENT_EVENT_EXPORT_FORMAT, required = false) final ExportFormat format,
+            @RequestParam final MultiValueMap<String, String> allRequestParams,
+            final HttpServletRequest request,
+            final HttpServletResponse response) throws IOException {
+
+        checkReadPrivilege(institutionId);
+
+        final Exam exam = this.examDAO
+                .byPK(examId)
+                .flatMap(this.authorization::checkRead)
+                .flatMap(this.userActivityLogDAO::logExport)
+                .getOrThrow();
+
+        final FilterMap filterMap = new FilterMap(allRequestParams, request.getQueryString());
+        filterMap.putIfAbsent(API.PARAM_INSTITUTION_ID, String.valueOf(exam.institutionId));
+
+        final ExportFormat exportFormat = (format != null) ? format : ExportFormat.CSV;
+        response.setContentType(exportFormat.contentType);
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"SEBClientEvents_" + examId + "." + exportFormat.fileExtension + "\"");
+
+        final ServletOutputStream outputStream = response.getOutputStream();
+
+        try {
+
+            final Integer count = this.clientEventExportService
+                    .exportEvents(filterMap, exportFormat, outputStream)
+                    .getOrThrow();
+
+            if (log.isDebugEnabled()) {
+                log.debug("Exported {} SEB client events of exam: {}", count, examId);
+            }
+
+            response.setStatus(HttpStatus.OK.value());
+            outputStream.flush();
+            outputStream.close();
+
+        } catch (final Exception e) {
+            log.error("Unexpected error while trying to downstream SEB client events of exam: {}", examId);
+            // Do not close the stream normally, the client would get a silently truncated export.
+            // If streaming has already started, the rethrown error makes the container abort the connection
+            if (!response.isCommitted()) {
+                response.resetBuffer();
+            }
+            throw e;
+        }
+    }
+
     @Override
     public Collection<EntityKey> getDependencies(final String modelId, final BulkActionType bulkActionType) {
         throw new UnsupportedOperationException();
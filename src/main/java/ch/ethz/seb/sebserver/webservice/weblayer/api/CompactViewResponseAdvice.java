@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.weblayer.api;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import ch.ethz.seb.sebserver.gbl.Constants;
+import ch.ethz.seb.sebserver.gbl.api.API;
+import ch.ethz.seb.sebserver.gbl.api.JSONMapper;
+import ch.ethz.seb.sebserver.gbl.model.Page;
+import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
+
+/** Applies compact, field selected views on list responses of the admin API.
+ *
+ * If a request to an endpoint that responses a Page or a Collection has the API.PARAM_FIELDS parameter,
+ * only the selected fields of each list item are sent. The fields are given as a comma separated list of
+ * JSON field names where nested fields are addressed with dot notation. For example
+ * "clientConnection.id,clientConnection.status,indicatorValues" on the monitoring connection data.
+ *
+ * Requests without the parameter get the full view as before. */
+@ControllerAdvice
+@WebServiceProfile
+public class CompactViewResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final JSONMapper jsonMapper;
+
+    public CompactViewResponseAdvice(final JSONMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public boolean supports(
+            final MethodParameter returnType,
+            final Class<? extends HttpMessageConverter<?>> converterType) {
+
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            final Object body,
+            final MethodParameter returnType,
+            final MediaType selectedContentType,
+            final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            final ServerHttpRequest request,
+            final ServerHttpResponse response) {
+
+        if (!(body instanceof Page) && !(body instanceof Collection)) {
+            return body;
+        }
+
+        if (!(request instanceof ServletServerHttpRequest)) {
+            return body;
+        }
+
+        final String fields = ((ServletServerHttpRequest) request)
+                .getServletRequest()
+                .getParameter(API.PARAM_FIELDS);
+        if (StringUtils.isBlank(fields)) {
+            return body;
+        }
+
+        return applyFieldSelection(body, FieldSelection.of(fields));
+    }
+
+    /** Creates the compact view of a Page or Collection with only the selected fields of each list item.
+     *
+     * @param body the Page or Collection to create the compact view for
+     * @param selection the field selection
+     * @return JsonNode of the compact view */
+    JsonNode applyFieldSelection(final Object body, final FieldSelection selection) {
+        final JsonNode tree = this.jsonMapper.valueToTree(body);
+        if (body instanceof Page) {
+            selection.apply(tree.get(Page.ATTR_CONTENT));
+        } else {
+            selection.apply(tree);
+        }
+        return tree;
+    }
+
+    /** A tree of selected JSON field names. A node without children selects the whole field value. */
+    static final class FieldSelection {
+
+        private final Map<String, FieldSelection> children = new HashMap<>();
+
+        static FieldSelection of(final String fields) {
+            final FieldSelection selection = new FieldSelection();
+            for (final String field : StringUtils.split(fields, Constants.LIST_SEPARATOR)) {
+                FieldSelection node = selection;
+                for (final String name : StringUtils.split(field.trim(), '.')) {
+                    node = node.children.computeIfAbsent(name.trim(), n -> new FieldSelection());
+                }
+            }
+            return selection;
+        }
+
+        void apply(final JsonNode node) {
+            if (node == null || this.children.isEmpty()) {
+                return;
+            }
+
+            if (node.isArray()) {
+                node.forEach(this::apply);
+            } else if (node.isObject()) {
+                final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    final Map.Entry<String, JsonNode> field = fields.next();
+                    final FieldSelection child = this.children.get(field.getKey());
+                    if (child == null) {
+                        fields.remove();
+                    } else {
+                        child.apply(field.getValue());
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -8,7 +8,12 @@
 
 package ch.ethz.seb.sebserver.webservice.weblayer.api;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import javax.validation.Valid;
 
@@ -21,10 +26,16 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import ch.ethz.seb.sebserver.gbl.api.API;
+import ch.ethz.seb.sebserver.gbl.api.APIMessage;
+import ch.ethz.seb.sebserver.gbl.api.APIMessage.FieldValidationException;
+import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.api.POSTMapper;
 import ch.ethz.seb.sebserver.gbl.model.Domain;
+import ch.ethz.seb.sebserver.gbl.model.EntityKey;
 import ch.ethz.seb.sebserver.gbl.model.EntityProcessingReport;
+import ch.ethz.seb.sebserver.gbl.model.EntityProcessingReport.ErrorEntry;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationTableValues;
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationValueBatchReport;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationValue;
 import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
 import ch.ethz.seb.sebserver.gbl.util.Result;
@@ -127,6 +138,70 @@ public class ConfigurationValueController extends EntityController<Configuration
                 .getOrThrow();
     }
 
+    /** Validates and saves a batch of ConfigurationValue of one configuration within one transaction.
+     *
+     * All valid values are saved. Values that failed the validation are reported as errors with the entity key
+     * of the configuration attribute of the value.
+     *
+     * @param values the ConfigurationValue to save. All must belong to the same configuration and must have
+     *            a configuration attribute and list index
+     * @return ConfigurationValueBatchReport with all saved values and the errors of all invalid values */
+    @RequestMapping(
+            path = API.CONFIGURATION_VALUE_BATCH_PATH_SEGMENT,
+            method = RequestMethod.PUT,
+            consumes = MediaType.APPLICATION_JSON_UTF8_VALUE,
+            produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public ConfigurationValueBatchReport saveAllPut(@RequestBody final List<ConfigurationValue> values) {
+
+        final List<Long> configurationIds = values
+                .stream()
+                .map(value -> value.configurationId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (configurationIds.isEmpty()) {
+            return new ConfigurationValueBatchReport(
+                    Collections.emptyList(),
+                    Collections.emptyList());
+        }
+        if (configurationIds.size() > 1 || configurationIds.get(0) == null) {
+            throw new APIConstraintViolationException(
+                    "All configuration values of a batch must belong to the same configuration");
+        }
+        if (values.stream().anyMatch(value -> value.attributeId == null || value.listIndex == null)) {
+            throw new APIConstraintViolationException(
+                    "All configuration values of a batch must have a configuration attribute and list index");
+        }
+
+        return this.configurationDAO.byPK(configurationIds.get(0))
+                .flatMap(this.authorization::checkModify)
+                .flatMap(config -> {
+                    final Collection<ErrorEntry> errors = new ArrayList<>();
+                    final List<ConfigurationValue> validValues = values
+                            .stream()
+                            .map(value -> validForSave(value)
+                                    .onError(error -> errors.add(toErrorEntry(value, error)))
+                                    .getOr(null))
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList());
+
+                    return this.configurationValueDAO
+                            .saveAll(config.institutionId, config.id, validValues)
+                            .map(saved -> new ConfigurationValueBatchReport(saved, errors));
+                })
+                .getOrThrow();
+    }
+
+    private static ErrorEntry toErrorEntry(final ConfigurationValue value, final Exception error) {
+        final APIMessage message = (error instanceof FieldValidationException)
+                ? ((FieldValidationException) error).apiMessage
+                : APIMessage.ErrorMessage.ILLEGAL_API_ARGUMENT.of(error.getMessage());
+
+        return new ErrorEntry(
+                new EntityKey(value.attributeId, EntityType.CONFIGURATION_ATTRIBUTE),
+                message);
+    }
+
     @Override
     protected Result<ConfigurationValue> validForSave(final ConfigurationValue entity) {
         return Result.tryCatch(() -> {
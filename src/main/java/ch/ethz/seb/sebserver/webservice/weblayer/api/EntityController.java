@@ -34,6 +34,7 @@ import ch.ethz.seb.sebserver.gbl.api.API.BulkActionType;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.api.POSTMapper;
 import ch.ethz.seb.sebserver.gbl.api.authorization.PrivilegeType;
+import ch.ethz.seb.sebserver.gbl.model.BulkActionJobStatus;
 import ch.ethz.seb.sebserver.gbl.model.Entity;
 import ch.ethz.seb.sebserver.gbl.model.EntityKey;
 import ch.ethz.seb.sebserver.gbl.model.EntityName;
@@ -44,7 +45,9 @@ import ch.ethz.seb.sebserver.gbl.util.Pair;
 import ch.ethz.seb.sebserver.gbl.util.Result;
 import ch.ethz.seb.sebserver.webservice.servicelayer.PaginationService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.AuthorizationService;
+import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.PermissionDeniedException;
 import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.UserService;
+import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.impl.SEBServerUser;
 import ch.ethz.seb.sebserver.webservice.servicelayer.bulkaction.BulkActionService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.bulkaction.impl.BulkAction;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.EntityDAO;
@@ -152,13 +155,29 @@ public abstract class EntityController<T extends Entity, M extends Entity> {
             filterMap.putIfAbsent(API.PARAM_INSTITUTION_ID, String.valueOf(institutionId));
         }
 
+        return getPage(filterMap, pageNumber, pageSize, sort)
+                .getOrThrow();
+    }
+
+    /** Get the requested Page of entities. Override this to apply another kind of pagination.
+     *
+     * @param filterMap the FilterMap of the request
+     * @param pageNumber the number of the page that is requested
+     * @param pageSize the size of the page that is requested
+     * @param sort the sort parameter
+     * @return Result refer to the requested Page or to an error if happened */
+    protected Result<Page<T>> getPage(
+            final FilterMap filterMap,
+            final Integer pageNumber,
+            final Integer pageSize,
+            final String sort) {
+
         return this.paginationService.getPage(
                 pageNumber,
                 pageSize,
                 sort,
                 getSQLTableOfEntity().name(),
-                () -> getAll(filterMap))
-                .getOrThrow();
+                () -> getAll(filterMap));
     }
 
     // ******************
@@ -341,6 +360,94 @@ public abstract class EntityController<T extends Entity, M extends Entity> {
                         .getOrThrow()));
     }
 
+    // ******************
+    // * Bulk action jobs
+    // ******************
+
+    @RequestMapping(
+            path = API.BULK_ACTION_PATH_SEGMENT,
+            method = RequestMethod.POST,
+            consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE,
+            produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public BulkActionJobStatus submitBulkAction(
+            @RequestParam(name = API.PARAM_MODEL_ID_LIST, required = true) final String modelIds,
+            @RequestParam(name = API.PARAM_BULK_ACTION_TYPE, required = true) final BulkActionType bulkActionType) {
+
+        final EntityType entityType = this.entityDAO.entityType();
+        final List<T> entities = Arrays.stream(StringUtils.split(modelIds, Constants.LIST_SEPARATOR_CHAR))
+                .map(modelId -> this.entityDAO.byModelId(modelId)
+                        .flatMap(this::checkWriteAccess)
+                        .flatMap(entity -> validForBulkAction(entity, bulkActionType))
+                        .getOrThrow())
+                .collect(Collectors.toList());
+
+        return this.bulkActionService.submitBulkAction(
+                new BulkAction(
+                        bulkActionType,
+                        entityType,
+                        entities.stream()
+                                .map(entity -> new EntityName(entity.getModelId(), entityType, entity.getName()))
+                                .collect(Collectors.toList())),
+                report -> notifyBulkActionFinished(entities, bulkActionType, report))
+                .getOrThrow();
+    }
+
+    @RequestMapping(
+            path = API.BULK_ACTION_PATH_SEGMENT + API.MODEL_ID_VAR_PATH_SEGMENT,
+            method = RequestMethod.GET,
+            consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE,
+            produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public BulkActionJobStatus getBulkActionJobStatus(@PathVariable final String modelId) {
+
+        final BulkActionJobStatus status = this.bulkActionService
+                .getJobStatus(this.entityDAO.entityType(), modelId)
+                .getOrThrow();
+
+        // only the user that has submitted the job has access to its status
+        final SEBServerUser currentUser = this.authorization.getUserService().getCurrentUser();
+        if (!currentUser.uuid().equals(status.userUuid)) {
+            throw new PermissionDeniedException(
+                    this.entityDAO.entityType(),
+                    PrivilegeType.READ,
+                    currentUser.getUserInfo());
+        }
+
+        return status;
+    }
+
+    /** Validates a given entity for a given type of bulk action. On default HARD_DELETE
+     * is validated with validForDelete
+     *
+     * @param entity the entity to validate
+     * @param bulkActionType the type of the bulk action
+     * @return Result refer to the valid entity or to an error if the entity is not valid */
+    protected Result<T> validForBulkAction(final T entity, final BulkActionType bulkActionType) {
+        return (bulkActionType == BulkActionType.HARD_DELETE)
+                ? validForDelete(entity)
+                : Result.of(entity);
+    }
+
+    /** Called within the bulk action job thread when a submitted bulk action job has processed all entities.
+     * On default this notifies the deletion or the save (state change) of each source entity
+     *
+     * @param entities the source entities of the bulk action
+     * @param bulkActionType the type of the bulk action
+     * @param report the EntityProcessingReport of the bulk action */
+    protected void notifyBulkActionFinished(
+            final Collection<T> entities,
+            final BulkActionType bulkActionType,
+            final EntityProcessingReport report) {
+
+        for (final T entity : entities) {
+            if (bulkActionType == BulkActionType.HARD_DELETE) {
+                notifyDeleted(new Pair<>(entity, report));
+            } else {
+                this.entityDAO.byModelId(entity.getModelId())
+                        .flatMap(this::notifySaved);
+            }
+        }
+    }
+
     protected void checkReadPrivilege(final Long institutionId) {
         this.authorization.check(
                 PrivilegeType.READ,
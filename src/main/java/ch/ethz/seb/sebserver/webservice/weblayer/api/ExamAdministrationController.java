@@ -9,7 +9,6 @@
 package ch.ethz.seb.sebserver.webservice.weblayer.api;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -18,7 +17,6 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.servlet.ServletOutputStream;
-import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
@@ -28,7 +26,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.util.MultiValueMap;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -42,7 +39,6 @@ import ch.ethz.seb.sebserver.gbl.api.APIMessage;
 import ch.ethz.seb.sebserver.gbl.api.APIMessage.APIMessageException;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.api.POSTMapper;
-import ch.ethz.seb.sebserver.gbl.api.authorization.PrivilegeType;
 import ch.ethz.seb.sebserver.gbl.model.Domain;
 import ch.ethz.seb.sebserver.gbl.model.Domain.EXAM;
 import ch.ethz.seb.sebserver.gbl.model.EntityKey;
@@ -64,7 +60,6 @@ import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.UserService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.impl.SEBServerUser;
 import ch.ethz.seb.sebserver.webservice.servicelayer.bulkaction.BulkActionService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ExamDAO;
-import ch.ethz.seb.sebserver.webservice.servicelayer.dao.FilterMap;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.UserActivityLogDAO;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.UserDAO;
 import ch.ethz.seb.sebserver.webservice.servicelayer.exam.ExamAdminService;
@@ -124,52 +119,6 @@ public class ExamAdministrationController extends EntityController<Exam, Exam> {
         return ExamRecordDynamicSqlSupport.examRecord;
     }
 
-    @RequestMapping(
-            method = RequestMethod.GET,
-            consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE,
-            produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
-    @Override
-    public Page<Exam> getPage(
-            @RequestParam(
-                    name = API.PARAM_INSTITUTION_ID,
-                    required = true,
-                    defaultValue = UserService.USERS_INSTITUTION_AS_DEFAULT) final Long institutionId,
-            @RequestParam(name = Page.ATTR_PAGE_NUMBER, required = false) final Integer pageNumber,
-            @RequestParam(name = Page.ATTR_PAGE_SIZE, required = false) final Integer pageSize,
-            @RequestParam(name = Page.ATTR_SORT, required = false) final String sort,
-            @RequestParam final MultiValueMap<String, String> allRequestParams,
-            final HttpServletRequest request) {
-
-        checkReadPrivilege(institutionId);
-
-        // NOTE: several attributes for sorting may be originated by the QuizData from LMS not by the database
-        //       of the SEB Server. Therefore in the case we have no or the default sorting we can use the
-        //       native PaginationService within MyBatis and SQL. For the other cases we need an in-line sorting and paging
-        if (StringUtils.isBlank(sort) ||
-                this.paginationService.isNativeSortingSupported(ExamRecordDynamicSqlSupport.examRecord, sort)) {
-
-            return super.getPage(institutionId, pageNumber, pageSize, sort, allRequestParams, request);
-
-        } else {
-
-            this.authorization.check(
-                    PrivilegeType.READ,
-                    EntityType.EXAM,
-                    institutionId);
-
-            final List<Exam> exams = new ArrayList<>(
-                    this.examDAO
-                            .allMatching(new FilterMap(allRequestParams, request.getQueryString()), this::hasReadAccess)
-                            .getOrThrow());
-
-            return buildSortedExamPage(
-                    this.paginationService.getPageNumber(pageNumber),
-                    this.paginationService.getPageSize(pageSize),
-                    sort,
-                    exams);
-        }
-    }
-
     @RequestMapping(
             path = API.MODEL_ID_VAR_PATH_SEGMENT
                     + API.EXAM_ADMINISTRATION_DOWNLOAD_CONFIG_PATH_SEGMENT
@@ -512,13 +461,11 @@ public class ExamAdministrationController extends EntityController<Exam, Exam> {
             Collections.reverse(exams);
         }
 
-        final int start = (pageNumber - 1) * pageSize;
-        int end = start + pageSize;
-        if (exams.size() < end) {
-            end = exams.size();
-        }
+        final int numberOfPages = (exams.size() + pageSize - 1) / pageSize;
+        final int start = Math.min((pageNumber - 1) * pageSize, exams.size());
+        final int end = Math.min(start + pageSize, exams.size());
         return new Page<>(
-                exams.size() / pageSize,
+                numberOfPages,
                 pageNumber,
                 sort,
                 exams.subList(start, end));
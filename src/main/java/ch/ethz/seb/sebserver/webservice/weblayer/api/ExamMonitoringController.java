@@ -9,10 +9,14 @@
 package ch.ethz.seb.sebserver.webservice.weblayer.api;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
@@ -41,7 +45,9 @@ import ch.ethz.seb.sebserver.gbl.model.Page;
 import ch.ethz.seb.sebserver.gbl.model.exam.Exam;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection.ConnectionStatus;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientConnectionData;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent;
 import ch.ethz.seb.sebserver.gbl.model.session.ClientInstruction;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientInstruction.InstructionType;
 import ch.ethz.seb.sebserver.gbl.model.user.UserRole;
 import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
 import ch.ethz.seb.sebserver.webservice.servicelayer.PaginationService;
@@ -225,6 +231,41 @@ public class ExamMonitoringController {
                 .getOrThrow();
     }
 
+    @RequestMapping(
+            path = API.MODEL_ID_VAR_PATH_SEGMENT +
+                    API.EXAM_MONITORING_SEB_CONNECTION_TOKEN_PATH_SEGMENT +
+                    API.EXAM_MONITORING_TIMELINE_PATH_SEGMENT,
+            method = RequestMethod.GET,
+            consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE,
+            produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public List<ClientEvent> getConnectionTimeline(
+            @RequestParam(
+                    name = API.PARAM_INSTITUTION_ID,
+                    required = true,
+                    defaultValue = UserService.USERS_INSTITUTION_AS_DEFAULT) final Long institutionId,
+            @PathVariable(name = API.PARAM_MODEL_ID, required = true) final Long examId,
+            @PathVariable(name = API.EXAM_API_SEB_CONNECTION_TOKEN, required = true) final String connectionToken,
+            @RequestParam(name = API.EXAM_MONITORING_TIMELINE_SINCE, required = false) final Long since) {
+
+        // check overall privilege
+        this.authorization.checkRole(
+                institutionId,
+                EntityType.EXAM,
+                UserRole.EXAM_SUPPORTER);
+
+        // check running exam privilege for specified exam
+        if (!hasRunningExamPrivilege(examId, institutionId)) {
+            throw new PermissionDeniedException(
+                    EntityType.EXAM,
+                    PrivilegeType.READ,
+                    this.authorization.getUserService().getCurrentUser().getUserInfo());
+        }
+
+        return this.examSessionService
+                .getConnectionTimeline(examId, connectionToken, since)
+                .getOrThrow();
+    }
+
     @RequestMapping(
             path = API.MODEL_ID_VAR_PATH_SEGMENT + API.EXAM_MONITORING_INSTRUCTION_ENDPOINT,
             method = RequestMethod.POST,
@@ -240,6 +281,46 @@ public class ExamMonitoringController {
         this.sebInstructionService.registerInstruction(clientInstruction);
     }
 
+    @RequestMapping(
+            path = API.MODEL_ID_VAR_PATH_SEGMENT + API.EXAM_MONITORING_EXAM_INSTRUCTION_ENDPOINT,
+            method = RequestMethod.POST,
+            consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    public void registerExamInstruction(
+            @RequestParam(
+                    name = API.PARAM_INSTITUTION_ID,
+                    required = true,
+                    defaultValue = UserService.USERS_INSTITUTION_AS_DEFAULT) final Long institutionId,
+            @PathVariable(name = API.PARAM_MODEL_ID, required = true) final Long examId,
+            @RequestParam(
+                    name = Domain.CLIENT_INSTRUCTION.ATTR_TYPE,
+                    required = true) final InstructionType type,
+            @RequestParam(
+                    name = API.EXAM_MONITORING_EXCLUDED_CONNECTION_TOKENS,
+                    required = false) final String excludedConnectionTokens) {
+
+        // check overall privilege
+        this.authorization.checkRole(
+                institutionId,
+                EntityType.EXAM,
+                UserRole.EXAM_SUPPORTER);
+
+        // check running exam privilege for specified exam
+        if (!hasRunningExamPrivilege(examId, institutionId)) {
+            throw new PermissionDeniedException(
+                    EntityType.EXAM,
+                    PrivilegeType.MODIFY,
+                    this.authorization.getUserService().getCurrentUser().getUserInfo());
+        }
+
+        final Set<String> excluded = (StringUtils.isNotBlank(excludedConnectionTokens))
+                ? new HashSet<>(Arrays.asList(StringUtils.split(excludedConnectionTokens, Constants.LIST_SEPARATOR)))
+                : Collections.emptySet();
+
+        this.sebInstructionService
+                .registerExamInstruction(examId, type, null, excluded)
+                .getOrThrow();
+    }
+
     @RequestMapping(
             path = API.MODEL_ID_VAR_PATH_SEGMENT + API.EXAM_MONITORING_DISABLE_CONNECTION_ENDPOINT,
             method = RequestMethod.POST,
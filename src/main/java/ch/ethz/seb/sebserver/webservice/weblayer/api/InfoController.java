@@ -13,10 +13,12 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import ch.ethz.seb.sebserver.gbl.api.API;
 import ch.ethz.seb.sebserver.gbl.api.authorization.Privilege;
@@ -32,6 +34,7 @@ public class InfoController {
 
     private final InstitutionDAO institutionDAO;
     private final AuthorizationService authorizationGrantService;
+    private String privilegesETag = null;
 
     protected InfoController(
             final InstitutionDAO institutionDAO,
@@ -94,8 +97,31 @@ public class InfoController {
             path = API.PRIVILEGES_PATH_SEGMENT,
             method = RequestMethod.GET,
             produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
-    public Collection<Privilege> privileges() {
-        return this.authorizationGrantService.getAllPrivileges();
+    public ResponseEntity<Collection<Privilege>> privileges(final WebRequest request) {
+        // the privileges only change with a new version of the webservice. A client that already has them
+        // can send the ETag of its version within the If-None-Match header and gets a 304 (not modified) response
+        final Collection<Privilege> privileges = this.authorizationGrantService.getAllPrivileges();
+        final String eTag = getPrivilegesETag(privileges);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity
+                .ok()
+                .eTag(eTag)
+                .body(privileges);
+    }
+
+    private String getPrivilegesETag(final Collection<Privilege> privileges) {
+        if (this.privilegesETag == null) {
+            final String version = privileges
+                    .stream()
+                    .map(privilege -> privilege.roleTypeKey + "=" + privilege)
+                    .sorted()
+                    .collect(Collectors.joining());
+            this.privilegesETag = "\"" + Integer.toHexString(version.hashCode()) + "\"";
+        }
+        return this.privilegesETag;
     }
 
 }
@@ -13,8 +13,10 @@ import javax.validation.Valid;
 
 import org.springframework.util.MultiValueMap;
 
+import ch.ethz.seb.sebserver.gbl.api.API.BulkActionType;
 import ch.ethz.seb.sebserver.gbl.api.POSTMapper;
 import ch.ethz.seb.sebserver.gbl.api.authorization.PrivilegeType;
+import ch.ethz.seb.sebserver.gbl.model.BulkActionJobStatus;
 import ch.ethz.seb.sebserver.gbl.model.Entity;
 import ch.ethz.seb.sebserver.gbl.model.EntityProcessingReport;
 import ch.ethz.seb.sebserver.gbl.util.Result;
@@ -63,6 +65,11 @@ public abstract class ReadonlyEntityController<T extends Entity, M extends Entit
         throw new UnsupportedOperationException(ONLY_READ_ACCESS);
     }
 
+    @Override
+    public BulkActionJobStatus submitBulkAction(final String modelIds, final BulkActionType bulkActionType) {
+        throw new UnsupportedOperationException(ONLY_READ_ACCESS);
+    }
+
     @Override
     protected M createNew(final POSTMapper postParams) {
         throw new UnsupportedOperationException(ONLY_READ_ACCESS);
@@ -9,15 +9,12 @@
 package ch.ethz.seb.sebserver.webservice.weblayer.api;
 
 import java.io.IOException;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.joda.time.DateTime;
@@ -90,18 +87,12 @@ public class SebClientConfigController extends ActivatableEntityController<SebCl
                 .map(this.userActivityLogDAO::logExport);
 
         final ServletOutputStream outputStream = response.getOutputStream();
-        PipedOutputStream pout;
-        PipedInputStream pin;
         try {
-            pout = new PipedOutputStream();
-            pin = new PipedInputStream(pout);
 
             this.sebClientConfigService.exportSebClientConfiguration(
-                    pout,
+                    outputStream,
                     modelId);
 
-            IOUtils.copyLarge(pin, outputStream);
-
             response.setStatus(HttpStatus.OK.value());
 
             outputStream.flush();
@@ -15,14 +15,19 @@ import org.springframework.web.bind.annotation.RestController;
 import ch.ethz.seb.sebserver.gbl.api.API;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.api.authorization.PrivilegeType;
+import ch.ethz.seb.sebserver.gbl.model.Domain;
+import ch.ethz.seb.sebserver.gbl.model.Page;
 import ch.ethz.seb.sebserver.gbl.model.user.UserActivityLog;
 import ch.ethz.seb.sebserver.gbl.profile.WebServiceProfile;
 import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.gbl.util.Utils;
 import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.UserActivityLogRecordDynamicSqlSupport;
+import ch.ethz.seb.sebserver.webservice.servicelayer.PageCursor;
 import ch.ethz.seb.sebserver.webservice.servicelayer.PaginationService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.AuthorizationService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.bulkaction.BulkActionService;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.EntityDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.FilterMap;
 import ch.ethz.seb.sebserver.webservice.servicelayer.dao.UserActivityLogDAO;
 import ch.ethz.seb.sebserver.webservice.servicelayer.validation.BeanValidationService;
 
@@ -48,6 +53,28 @@ public class UserActivityLogController extends ReadonlyEntityController<UserActi
                 beanValidationService);
     }
 
+    @Override
+    protected Result<Page<UserActivityLog>> getPage(
+            final FilterMap filterMap,
+            final Integer pageNumber,
+            final Integer pageSize,
+            final String sort) {
+
+        // keyset pagination on (timestamp, id) if sorted by time
+        if (!PageCursor.isApplicable(sort, Domain.USER_ACTIVITY_LOG.ATTR_TIMESTAMP)) {
+            return super.getPage(filterMap, pageNumber, pageSize, sort);
+        }
+
+        return this.paginationService.getKeysetPage(
+                pageNumber,
+                pageSize,
+                sort,
+                filterMap.getString(Page.ATTR_CURSOR),
+                log -> PageCursor.encode(log.timestamp, log.id),
+                this::hasReadAccess,
+                cursor -> this.userActivityLogDAO.allMatching(filterMap, cursor, Utils.truePredicate()));
+    }
+
     @Override
     protected void checkReadPrivilege(final Long institutionId) {
         checkRead(institutionId);
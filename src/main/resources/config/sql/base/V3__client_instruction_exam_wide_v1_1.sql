@@ -0,0 +1,11 @@
+-- -----------------------------------------------------
+-- Alter Table `client_instruction`
+--   connection_token is NULL for exam-wide instructions
+--   excluded_tokens holds a comma separated list of connection tokens an exam-wide instruction is not sent to
+--   creation_time is used to send an exam-wide instruction only to connections that existed on registration
+-- -----------------------------------------------------
+ALTER TABLE `client_instruction`
+  MODIFY `connection_token` VARCHAR(255) NULL,
+  ADD COLUMN `excluded_tokens` MEDIUMTEXT NULL AFTER `attributes`,
+  ADD COLUMN `creation_time` BIGINT UNSIGNED NULL AFTER `excluded_tokens`
+;
@@ -0,0 +1,15 @@
+-- -----------------------------------------------------
+-- Alter Table `client_event`
+--   eventConnectionTypeTime_idx covers the indicator queries on (client_connection_id, type, server_time)
+--     (count of log events and MAX(server_time) of the last ping) and the deletion of all events of a connection.
+--     It replaces eventConnectionRef_idx as the index of the eventConnectionRef foreign key.
+--   eventServerTime_idx supports the time range queries of the SEB client log views.
+-- -----------------------------------------------------
+ALTER TABLE `client_event`
+  ADD INDEX `eventConnectionTypeTime_idx` (`client_connection_id` ASC, `type` ASC, `server_time` ASC),
+  ADD INDEX `eventServerTime_idx` (`server_time` ASC)
+;
+
+ALTER TABLE `client_event`
+  DROP INDEX `eventConnectionRef_idx`
+;
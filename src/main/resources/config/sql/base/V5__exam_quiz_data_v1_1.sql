@@ -0,0 +1,14 @@
+-- -----------------------------------------------------
+-- Alter Table `exam`
+--   quiz_name, quiz_start_time and quiz_end_time hold a local copy of the LMS quiz data of an exam.
+--     They are synchronized whenever the quiz data is fetched from the LMS and are used to filter
+--     and sort exam lists on SQL level without contacting the LMS.
+--   examQuizName_idx and examQuizStartTime_idx support the sorted exam list per institution.
+-- -----------------------------------------------------
+ALTER TABLE `exam`
+  ADD COLUMN `quiz_name` VARCHAR(255) NULL AFTER `active`,
+  ADD COLUMN `quiz_start_time` BIGINT NULL AFTER `quiz_name`,
+  ADD COLUMN `quiz_end_time` BIGINT NULL AFTER `quiz_start_time`,
+  ADD INDEX `examQuizName_idx` (`institution_id` ASC, `quiz_name` ASC),
+  ADD INDEX `examQuizStartTime_idx` (`institution_id` ASC, `quiz_start_time` ASC)
+;
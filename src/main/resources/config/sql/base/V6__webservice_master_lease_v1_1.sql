@@ -0,0 +1,13 @@
+-- -----------------------------------------------------
+-- Alter Table `webservice_server_info`
+--   Every webservice instance of a distributed setup registers itself with a row in this table.
+--   update_time is the heartbeat of the instance and master marks the instance that holds the
+--     master lease. Only the master runs the exam lifecycle tasks. A master lease expires if the
+--     heartbeat of the master instance is older than the lease time.
+-- -----------------------------------------------------
+ALTER TABLE `webservice_server_info`
+  MODIFY COLUMN `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  ADD COLUMN `master` INT(1) NOT NULL DEFAULT 0 AFTER `service_address`,
+  ADD COLUMN `update_time` BIGINT NULL AFTER `master`,
+  ADD UNIQUE INDEX `webserviceUUID_idx` (`uuid` ASC)
+;
@@ -0,0 +1,16 @@
+-- -----------------------------------------------------
+-- Table `seb_restriction_sync`
+--   Holds the SEB restriction state of an exam that is requested but not yet verified on the LMS.
+--   apply_restriction is 1 if the restriction has to be applied and 0 if it has to be released.
+--   request_time is the time the state was requested and identifies the request. A row is removed
+--     when the state is verified on the LMS or the synchronization gives up. Pending rows are loaded
+--     again by the webservice instance that runs the exam lifecycle tasks on startup or master takeover.
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `seb_restriction_sync` (
+  `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `exam_id` BIGINT UNSIGNED NOT NULL,
+  `apply_restriction` INT(1) NOT NULL,
+  `request_time` BIGINT NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE INDEX `sebRestrictionSyncExam_idx` (`exam_id` ASC))
+;
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import ch.ethz.seb.sebserver.webservice.servicelayer.client.ClientCredentialService;
+import ch.ethz.seb.sebserver.webservice.servicelayer.client.ProxyData;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ClientHttpRequestFactoryServiceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ClientHttpRequestFactoryService service;
+
+    public ClientHttpRequestFactoryServiceTest() {
+        final Environment environment = mock(Environment.class);
+        when(environment.getActiveProfiles()).thenReturn(new String[] { "test" });
+        this.service = new ClientHttpRequestFactoryService(
+                environment,
+                mock(ClientCredentialService.class),
+                this.meterRegistry,
+                15000, 20000, 10000, 20, 5, 30000, 60000, 2000);
+    }
+
+    @After
+    public void cleanup() {
+        this.service.destroy();
+    }
+
+    @Test
+    public void testSharedPoolPerTarget() {
+        final String lmsTarget = ClientHttpRequestFactoryService.LMS_SETUP_TARGET_PREFIX + 1;
+
+        final HttpComponentsClientHttpRequestFactory factory1 = getFactory(
+                ClientHttpRequestFactoryService.DEFAULT_TARGET, null);
+        final HttpComponentsClientHttpRequestFactory factory2 = getFactory(
+                ClientHttpRequestFactoryService.DEFAULT_TARGET, null);
+        final HttpComponentsClientHttpRequestFactory factory3 = getFactory(lmsTarget, null);
+
+        assertNotSame(factory1, factory2);
+        assertSame(factory1.getHttpClient(), factory2.getHttpClient());
+        assertNotSame(factory1.getHttpClient(), factory3.getHttpClient());
+
+        assertEquals(20.0, this.meterRegistry
+                .get(ClientHttpRequestFactoryService.POOL_MAX_GAUGE_NAME)
+                .tag(ClientHttpRequestFactoryService.TARGET_TAG_NAME, lmsTarget)
+                .gauge()
+                .value(), 0.0);
+        assertEquals(0.0, this.meterRegistry
+                .get(ClientHttpRequestFactoryService.POOL_LEASED_GAUGE_NAME)
+                .tag(ClientHttpRequestFactoryService.TARGET_TAG_NAME, lmsTarget)
+                .gauge()
+                .value(), 0.0);
+    }
+
+    @Test
+    public void testProxyChangeKeepsPoolInUse() {
+        final String lmsTarget = ClientHttpRequestFactoryService.LMS_SETUP_TARGET_PREFIX + 1;
+
+        final HttpComponentsClientHttpRequestFactory factory1 = getFactory(lmsTarget, null);
+        final HttpComponentsClientHttpRequestFactory factory2 = getFactory(
+                lmsTarget,
+                new ProxyData("proxy", 8080, null));
+        final HttpComponentsClientHttpRequestFactory factory3 = getFactory(
+                lmsTarget,
+                new ProxyData("proxy", 8080, null));
+
+        assertNotSame(factory1.getHttpClient(), factory2.getHttpClient());
+        assertSame(factory2.getHttpClient(), factory3.getHttpClient());
+
+        // the pool of the former configuration is still in use and must not be released
+        this.service.evictConnections();
+        assertSame(factory1.getHttpClient(), getFactory(lmsTarget, null).getHttpClient());
+
+        assertEquals(40.0, this.meterRegistry
+                .get(ClientHttpRequestFactoryService.POOL_MAX_GAUGE_NAME)
+                .tag(ClientHttpRequestFactoryService.TARGET_TAG_NAME, lmsTarget)
+                .gauge()
+                .value(), 0.0);
+    }
+
+    @Test
+    public void testAdHocFactoriesUseOwnClient() {
+        final HttpComponentsClientHttpRequestFactory factory1 = getFactory(null, null);
+        final HttpComponentsClientHttpRequestFactory factory2 = getFactory(null, null);
+
+        assertNotSame(factory1.getHttpClient(), factory2.getHttpClient());
+        assertTrue(this.meterRegistry.getMeters().isEmpty());
+    }
+
+    private HttpComponentsClientHttpRequestFactory getFactory(final String target, final ProxyData proxy) {
+        return (HttpComponentsClientHttpRequestFactory) this.service
+                .getClientHttpRequestFactory(target, proxy)
+                .getOrThrow();
+    }
+
+}
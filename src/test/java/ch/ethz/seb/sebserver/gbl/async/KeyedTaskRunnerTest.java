@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.gbl.async;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class KeyedTaskRunnerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(10);
+
+    @After
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrencyIsLimitedPerKey() {
+        final KeyedTaskRunner runner = new KeyedTaskRunner(this.executor, 2);
+
+        final Map<String, AtomicInteger> running = new ConcurrentHashMap<>();
+        final Map<String, AtomicInteger> maxRunning = new ConcurrentHashMap<>();
+        final AtomicInteger processed = new AtomicInteger();
+
+        final List<String> items = Arrays.asList(
+                "A1", "A2", "A3", "A4", "A5", "A6",
+                "B1", "B2", "B3");
+
+        runner.runAll(items, item -> item.substring(0, 1), item -> {
+            final String key = item.substring(0, 1);
+            final int current = running.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            maxRunning.computeIfAbsent(key, k -> new AtomicInteger()).accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.get(key).decrementAndGet();
+            processed.incrementAndGet();
+        });
+
+        // runAll blocks until all tasks have finished
+        assertEquals(9, processed.get());
+        assertTrue(maxRunning.get("A").get() <= 2);
+        assertTrue(maxRunning.get("B").get() <= 2);
+    }
+
+    @Test
+    public void testErrorDoesNotStopOtherTasks() {
+        final KeyedTaskRunner runner = new KeyedTaskRunner(this.executor, 1);
+        final AtomicInteger processed = new AtomicInteger();
+        final Collection<Integer> items = Arrays.asList(1, 2, 3, 4);
+
+        runner.runAll(items, item -> "key", item -> {
+            if (item == 2) {
+                throw new RuntimeException("test error");
+            }
+            processed.incrementAndGet();
+        });
+
+        assertEquals(3, processed.get());
+    }
+
+    @Test
+    public void testSubmitAllDoesNotBlock() throws InterruptedException {
+        final KeyedTaskRunner runner = new KeyedTaskRunner(this.executor, 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger processed = new AtomicInteger();
+
+        final CompletableFuture<Void> done = runner.submitAll(Arrays.asList(1, 2), item -> "key", item -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            processed.incrementAndGet();
+        });
+
+        // submitAll returns while the tasks are still running
+        assertFalse(done.isDone());
+        assertEquals(0, processed.get());
+
+        release.countDown();
+        done.join();
+        assertEquals(2, processed.get());
+    }
+
+}
@@ -17,6 +17,7 @@ import ch.ethz.seb.sebserver.gbl.api.authorization.PrivilegeType;
 import ch.ethz.seb.sebserver.gbl.model.user.UserInfo;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.auth.CurrentUser;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.auth.OAuth2AuthorizationContextHolder;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.auth.PrivilegeCache;
 
 public class CurrentUserTest extends GuiIntegrationTest {
 
@@ -24,7 +25,9 @@ public class CurrentUserTest extends GuiIntegrationTest {
     public void testCurrentUserLoginAndGet() {
         final OAuth2AuthorizationContextHolder authorizationContextHolder = getAuthorizationContextHolder();
 
-        final CurrentUser currentUser = new CurrentUser(authorizationContextHolder);
+        final CurrentUser currentUser = new CurrentUser(
+                authorizationContextHolder,
+                new PrivilegeCache(authorizationContextHolder.getWebserviceURIService(), 60000));
 
         // no user is logged in for now
         try {
@@ -51,7 +54,9 @@ public class CurrentUserTest extends GuiIntegrationTest {
     public void testCurrentUserPrivileges() {
         final OAuth2AuthorizationContextHolder authorizationContextHolder = getAuthorizationContextHolder();
 
-        final CurrentUser currentUser = new CurrentUser(authorizationContextHolder);
+        final CurrentUser currentUser = new CurrentUser(
+                authorizationContextHolder,
+                new PrivilegeCache(authorizationContextHolder.getWebserviceURIService(), 60000));
         // login as SEB Administrator
         authorizationContextHolder.getAuthorizationContext().login("admin", "admin");
 
@@ -64,7 +69,9 @@ public class CurrentUserTest extends GuiIntegrationTest {
     @Test
     public void testCurrentUserLogin() {
         final OAuth2AuthorizationContextHolder authorizationContextHolder = login("admin", "admin");
-        final CurrentUser currentUser = new CurrentUser(authorizationContextHolder);
+        final CurrentUser currentUser = new CurrentUser(
+                authorizationContextHolder,
+                new PrivilegeCache(authorizationContextHolder.getWebserviceURIService(), 60000));
         final UserInfo userInfo = currentUser.getOrHandleError(error -> {
             fail("expecting no error here");
             return null;
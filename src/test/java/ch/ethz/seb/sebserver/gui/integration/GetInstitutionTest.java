@@ -17,12 +17,18 @@ import org.junit.Test;
 import org.springframework.test.context.jdbc.Sql;
 
 import ch.ethz.seb.sebserver.gbl.api.API;
+import ch.ethz.seb.sebserver.gbl.api.API.BulkActionType;
 import ch.ethz.seb.sebserver.gbl.api.JSONMapper;
+import ch.ethz.seb.sebserver.gbl.model.BulkActionJobStatus;
+import ch.ethz.seb.sebserver.gbl.model.BulkActionJobStatus.JobState;
 import ch.ethz.seb.sebserver.gbl.model.institution.Institution;
 import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.EntityNameCache;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestCall;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestServiceImpl;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.institution.GetInstitution;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.institution.GetInstitutionBulkActionStatus;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.institution.SubmitInstitutionBulkAction;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.auth.OAuth2AuthorizationContextHolder;
 
 @Sql(scripts = { "classpath:schema-test.sql", "classpath:data-test.sql" })
@@ -34,7 +40,8 @@ public class GetInstitutionTest extends GuiIntegrationTest {
         final Collection<RestCall<?>> calls = new ArrayList<>();
         calls.add(new GetInstitution());
 
-        final RestServiceImpl restService = new RestServiceImpl(authorizationContextHolder, new JSONMapper(), calls);
+        final RestServiceImpl restService = new RestServiceImpl(authorizationContextHolder, new JSONMapper(), calls,
+                new EntityNameCache(0));
 
         final Result<Institution> call = restService.getBuilder(GetInstitution.class)
                 .withURIVariable(API.PARAM_MODEL_ID, "2")
@@ -46,4 +53,42 @@ public class GetInstitutionTest extends GuiIntegrationTest {
         assertEquals("Institution2", institution.name);
     }
 
+    @Test
+    public void testSubmitBulkActionJobAndPollStatus() throws InterruptedException {
+        final OAuth2AuthorizationContextHolder authorizationContextHolder = login("admin", "admin");
+        final Collection<RestCall<?>> calls = new ArrayList<>();
+        calls.add(new GetInstitution());
+        calls.add(new SubmitInstitutionBulkAction());
+        calls.add(new GetInstitutionBulkActionStatus());
+
+        final RestServiceImpl restService = new RestServiceImpl(authorizationContextHolder, new JSONMapper(), calls,
+                new EntityNameCache(0));
+
+        final BulkActionJobStatus submitted = restService.getBuilder(SubmitInstitutionBulkAction.class)
+                .withFormParam(API.PARAM_MODEL_ID_LIST, "2")
+                .withFormParam(API.PARAM_BULK_ACTION_TYPE, BulkActionType.DEACTIVATE.name())
+                .call()
+                .getOrThrow();
+
+        assertNotNull(submitted.jobId);
+
+        BulkActionJobStatus status = submitted;
+        for (int i = 0; i < 50 && !status.isDone(); i++) {
+            Thread.sleep(100);
+            status = restService.getBuilder(GetInstitutionBulkActionStatus.class)
+                    .withURIVariable(API.PARAM_MODEL_ID, submitted.jobId)
+                    .call()
+                    .getOrThrow();
+        }
+
+        assertEquals(JobState.FINISHED, status.state);
+        assertTrue(status.report.errors.isEmpty());
+
+        final Institution institution = restService.getBuilder(GetInstitution.class)
+                .withURIVariable(API.PARAM_MODEL_ID, "2")
+                .call()
+                .getOrThrow();
+        assertFalse(institution.active);
+    }
+
 }
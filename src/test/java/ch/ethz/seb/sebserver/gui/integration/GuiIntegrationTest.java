@@ -31,6 +31,7 @@ import ch.ethz.seb.sebserver.ClientHttpRequestFactoryService;
 import ch.ethz.seb.sebserver.SEBServer;
 import ch.ethz.seb.sebserver.gbl.api.JSONMapper;
 import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.EntityNameCache;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestCall;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestServiceImpl;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.auth.OAuth2AuthorizationContextHolder;
@@ -123,7 +124,8 @@ public abstract class GuiIntegrationTest {
         final RestServiceImpl restService = new RestServiceImpl(
                 authorizationContextHolder,
                 new JSONMapper(),
-                java.util.Arrays.asList(calls));
+                java.util.Arrays.asList(calls),
+                new EntityNameCache(0));
         return restService;
     }
 
@@ -12,10 +12,12 @@ import static org.junit.Assert.*;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.junit.Test;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 
@@ -23,9 +25,13 @@ import ch.ethz.seb.sebserver.gbl.api.API;
 import ch.ethz.seb.sebserver.gbl.api.EntityType;
 import ch.ethz.seb.sebserver.gbl.api.JSONMapper;
 import ch.ethz.seb.sebserver.gbl.model.institution.Institution;
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.Orientation;
 import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.EntityNameCache;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestCall;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.RestServiceImpl;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.GetOrientationPage;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.GetOrientations;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.auth.OAuth2AuthorizationContextHolder;
 
 public class RestServiceTest extends GuiIntegrationTest {
@@ -36,7 +42,8 @@ public class RestServiceTest extends GuiIntegrationTest {
         final Collection<RestCall<?>> calls = new ArrayList<>();
         calls.add(new RestServiceTest.GetInstitution());
 
-        final RestServiceImpl restService = new RestServiceImpl(authorizationContextHolder, new JSONMapper(), calls);
+        final RestServiceImpl restService = new RestServiceImpl(authorizationContextHolder, new JSONMapper(), calls,
+                new EntityNameCache(0));
 
         final Result<Institution> call = restService.getBuilder(RestServiceTest.GetInstitution.class)
                 .withURIVariable(API.PARAM_MODEL_ID, "2")
@@ -48,6 +55,30 @@ public class RestServiceTest extends GuiIntegrationTest {
         assertEquals("Institution2", institution.name);
     }
 
+    @Test
+    @Sql(scripts = { "classpath:schema-test.sql", "classpath:data-test.sql", "classpath:data-test-additional.sql" })
+    public void testListCallUsesResponseCacheOfPageCall() {
+        final RestServiceImpl restService = createRestServiceForUser(
+                "admin",
+                "admin",
+                new GetOrientationPage(),
+                new GetOrientations());
+
+        final List<Orientation> orientations = restService.getBuilder(GetOrientations.class)
+                .call()
+                .getOrThrow();
+        assertFalse(orientations.isEmpty());
+
+        // the pages are revalidated and answered with 304 Not Modified so the cached orientations are used
+        final List<Orientation> revalidated = restService.getBuilder(GetOrientations.class)
+                .call()
+                .getOrThrow();
+        assertEquals(orientations.size(), revalidated.size());
+        for (int i = 0; i < orientations.size(); i++) {
+            assertSame(orientations.get(i), revalidated.get(i));
+        }
+    }
+
     public static class GetInstitution extends RestCall<Institution> {
 
         public GetInstitution() {
@@ -13,6 +13,7 @@ import static org.junit.Assert.*;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -39,7 +40,6 @@ import org.springframework.web.servlet.DispatcherServlet;
 
 import ch.ethz.seb.sebserver.gbl.Constants;
 import ch.ethz.seb.sebserver.gbl.api.API;
-import ch.ethz.seb.sebserver.gbl.api.JSONMapper;
 import ch.ethz.seb.sebserver.gbl.model.Domain;
 import ch.ethz.seb.sebserver.gbl.model.Domain.SEB_CLIENT_CONFIGURATION;
 import ch.ethz.seb.sebserver.gbl.model.EntityName;
@@ -65,6 +65,7 @@ import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationNode.Configuration
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationTableValues;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationTableValues.TableValue;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationValue;
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationValueBatchReport;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.Orientation;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.SebClientConfig;
 import ch.ethz.seb.sebserver.gbl.model.sebconfig.TemplateAttribute;
@@ -136,6 +137,7 @@ import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.Sa
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.SaveExamConfigHistory;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.SaveExamConfigTableValues;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.SaveExamConfigValue;
+import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.SaveExamConfigValues;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.seb.examconfig.SebExamConfigUndo;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.useraccount.ActivateUserAccount;
 import ch.ethz.seb.sebserver.gui.service.remote.webservice.api.useraccount.ChangePassword;
@@ -1044,9 +1046,9 @@ public class UseCasesIntegrationTest extends GuiIntegrationTest {
 
         final ExamConfigurationServiceImpl examConfigurationService = new ExamConfigurationServiceImpl(
                 restService,
-                new JSONMapper(),
                 null, null,
-                Collections.emptyList());
+                Collections.emptyList(),
+                0);
 
         final Result<AttributeMapping> attributes = examConfigurationService.getAttributes(0l);
         assertNotNull(attributes);
@@ -1638,6 +1640,7 @@ public class UseCasesIntegrationTest extends GuiIntegrationTest {
                 new GetConfigurationValues(),
                 new GetConfigurationValuePage(),
                 new SaveExamConfigValue(),
+                new SaveExamConfigValues(),
                 new GetFollowupConfiguration(),
                 new RemoveOrientation(),
                 new AttachDefaultOrientation(),
@@ -1786,6 +1789,38 @@ public class UseCasesIntegrationTest extends GuiIntegrationTest {
         assertNotNull(newTemplValue);
         assertEquals("123", newTemplValue.value);
 
+        // save a batch of values
+        final ConfigurationValueBatchReport batchReport = restService
+                .getBuilder(SaveExamConfigValues.class)
+                .withBody(Arrays.asList(new ConfigurationValue(
+                        null, templateValue.institutionId, fallow_up.id,
+                        templateValue.attributeId, 0, "456")))
+                .call()
+                .getOrThrow();
+        assertNotNull(batchReport);
+        assertTrue(batchReport.errors.isEmpty());
+        assertEquals(1, batchReport.values.size());
+        assertEquals(templateValue.attributeId, batchReport.values.get(0).attributeId);
+        assertEquals("456", batchReport.values.get(0).value);
+
+        // a batch value without configuration attribute is rejected
+        final Result<ConfigurationValueBatchReport> invalidBatch = restService
+                .getBuilder(SaveExamConfigValues.class)
+                .withBody(Arrays.asList(new ConfigurationValue(
+                        batchReport.values.get(0).id, templateValue.institutionId, fallow_up.id,
+                        null, 0, "789")))
+                .call();
+        assertTrue(invalidBatch.hasError());
+
+        final ConfigurationValue batchSavedValue = restService
+                .getBuilder(GetConfigurationValues.class)
+                .withQueryParam(ConfigurationValue.FILTER_ATTR_CONFIGURATION_ID, String.valueOf(fallow_up.id))
+                .withQueryParam(ConfigurationValue.FILTER_ATTR_CONFIGURATION_ATTRIBUTE_ID, savedTAttribute.getModelId())
+                .call()
+                .getOrThrow()
+                .get(0);
+        assertEquals("456", batchSavedValue.value);
+
         // reset template values
         final TemplateAttribute attribute = restService
                 .getBuilder(ResetTemplateValues.class)
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.gui.service.remote.webservice.api;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import ch.ethz.seb.sebserver.gbl.api.EntityType;
+import ch.ethz.seb.sebserver.gbl.model.EntityName;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+
+public class EntityNameCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger(0);
+
+    private final Supplier<Result<List<EntityName>>> loader = () -> {
+        this.loads.incrementAndGet();
+        return Result.of(Arrays.asList(new EntityName("1", EntityType.INSTITUTION, "Institution1")));
+    };
+
+    @Test
+    public void testCachedWithinTimeToLive() {
+        final EntityNameCache cache = new EntityNameCache(10000);
+
+        final List<EntityName> names = cache.get(EntityType.INSTITUTION, "all:/institution/names", this.loader)
+                .getOrThrow();
+        assertEquals(1, names.size());
+        assertEquals("Institution1", names.get(0).name);
+
+        cache.get(EntityType.INSTITUTION, "all:/institution/names", this.loader).getOrThrow();
+        assertEquals(1, this.loads.get());
+
+        // other key is loaded separately
+        cache.get(EntityType.INSTITUTION, "institution:1:/institution/names", this.loader).getOrThrow();
+        assertEquals(2, this.loads.get());
+    }
+
+    @Test
+    public void testDisabled() {
+        final EntityNameCache cache = new EntityNameCache(0);
+
+        cache.get(EntityType.INSTITUTION, "all:/institution/names", this.loader).getOrThrow();
+        cache.get(EntityType.INSTITUTION, "all:/institution/names", this.loader).getOrThrow();
+        assertEquals(2, this.loads.get());
+    }
+
+    @Test
+    public void testEvict() {
+        final EntityNameCache cache = new EntityNameCache(10000);
+
+        cache.get(EntityType.INSTITUTION, "all:/institution/names", this.loader).getOrThrow();
+        cache.get(EntityType.LMS_SETUP, "all:/lms-setup/names", this.loader).getOrThrow();
+        assertEquals(2, this.loads.get());
+
+        cache.evict(EntityType.INSTITUTION);
+        cache.get(EntityType.INSTITUTION, "all:/institution/names", this.loader).getOrThrow();
+        cache.get(EntityType.LMS_SETUP, "all:/lms-setup/names", this.loader).getOrThrow();
+        assertEquals(3, this.loads.get());
+
+        cache.evictAll();
+        cache.get(EntityType.INSTITUTION, "all:/institution/names", this.loader).getOrThrow();
+        cache.get(EntityType.LMS_SETUP, "all:/lms-setup/names", this.loader).getOrThrow();
+        assertEquals(5, this.loads.get());
+    }
+
+    @Test
+    public void testErrorIsNotCached() {
+        final EntityNameCache cache = new EntityNameCache(10000);
+
+        final Result<List<EntityName>> error = cache.get(
+                EntityType.INSTITUTION,
+                "all:/institution/names",
+                () -> Result.ofError(new RuntimeException("Some error")));
+        assertTrue(error.hasError());
+
+        cache.get(EntityType.INSTITUTION, "all:/institution/names", this.loader).getOrThrow();
+        assertEquals(1, this.loads.get());
+    }
+
+}
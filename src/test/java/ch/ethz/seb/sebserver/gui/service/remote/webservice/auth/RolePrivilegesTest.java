@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.gui.service.remote.webservice.auth;
+
+import static org.junit.Assert.*;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import ch.ethz.seb.sebserver.gbl.api.EntityType;
+import ch.ethz.seb.sebserver.gbl.api.authorization.Privilege;
+import ch.ethz.seb.sebserver.gbl.api.authorization.Privilege.RoleTypeKey;
+import ch.ethz.seb.sebserver.gbl.api.authorization.PrivilegeType;
+import ch.ethz.seb.sebserver.gbl.model.user.UserRole;
+
+public class RolePrivilegesTest {
+
+    private final Map<RoleTypeKey, Privilege> privileges = new HashMap<>();
+
+    public RolePrivilegesTest() {
+        addPrivilege(EntityType.EXAM, UserRole.INSTITUTIONAL_ADMIN,
+                PrivilegeType.READ, PrivilegeType.READ, PrivilegeType.NONE);
+        addPrivilege(EntityType.EXAM, UserRole.EXAM_ADMIN,
+                PrivilegeType.NONE, PrivilegeType.MODIFY, PrivilegeType.NONE);
+        addPrivilege(EntityType.EXAM, UserRole.EXAM_SUPPORTER,
+                PrivilegeType.NONE, PrivilegeType.NONE, PrivilegeType.MODIFY);
+        addPrivilege(EntityType.INSTITUTION, UserRole.SEB_SERVER_ADMIN,
+                PrivilegeType.WRITE, PrivilegeType.NONE, PrivilegeType.NONE);
+    }
+
+    @Test
+    public void testSameGrantsAsPrivileges() {
+        final String[] ownerIds = { null, "user1", "user2,user1", "user2" };
+        final Long[] institutionIds = { null, 1L, 2L };
+
+        for (final EnumSet<UserRole> roles : new EnumSet[] {
+                EnumSet.of(UserRole.EXAM_SUPPORTER),
+                EnumSet.of(UserRole.EXAM_ADMIN, UserRole.EXAM_SUPPORTER),
+                EnumSet.of(UserRole.INSTITUTIONAL_ADMIN),
+                EnumSet.allOf(UserRole.class) }) {
+
+            final RolePrivileges rolePrivileges = new RolePrivileges(1, roles, this.privileges);
+
+            for (final EntityType entityType : new EntityType[] { EntityType.EXAM, EntityType.INSTITUTION }) {
+                for (final PrivilegeType privilegeType : PrivilegeType.values()) {
+                    for (final Long institutionId : institutionIds) {
+                        for (final String ownerId : ownerIds) {
+                            final boolean expected = roles
+                                    .stream()
+                                    .map(role -> this.privileges.get(new RoleTypeKey(entityType, role)))
+                                    .anyMatch(privilege -> privilege != null && privilege.hasGrant(
+                                            "user1", 1L, privilegeType, institutionId, ownerId));
+
+                            assertEquals(
+                                    roles + " " + entityType + " " + privilegeType + " " + institutionId + " "
+                                            + ownerId,
+                                    expected,
+                                    rolePrivileges.hasGrant(
+                                            "user1", 1L, privilegeType, entityType, institutionId, ownerId));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCombinedRoles() {
+        final RolePrivileges rolePrivileges = new RolePrivileges(
+                1,
+                EnumSet.of(UserRole.EXAM_ADMIN, UserRole.EXAM_SUPPORTER),
+                this.privileges);
+
+        assertFalse(rolePrivileges.hasGrant("user1", 1L, PrivilegeType.READ, EntityType.EXAM, null, null));
+        assertTrue(rolePrivileges.hasGrant("user1", 1L, PrivilegeType.MODIFY, EntityType.EXAM, 1L, null));
+        assertFalse(rolePrivileges.hasGrant("user1", 1L, PrivilegeType.MODIFY, EntityType.EXAM, 2L, null));
+        assertTrue(rolePrivileges.hasGrant("user1", 1L, PrivilegeType.MODIFY, EntityType.EXAM, 2L, "user1"));
+        assertFalse(rolePrivileges.hasGrant("user1", 1L, PrivilegeType.WRITE, EntityType.EXAM, 1L, "user1"));
+        assertFalse(rolePrivileges.hasGrant("user1", 1L, PrivilegeType.READ, EntityType.INSTITUTION, 1L, null));
+    }
+
+    private void addPrivilege(
+            final EntityType entityType,
+            final UserRole role,
+            final PrivilegeType basePrivilege,
+            final PrivilegeType institutionalPrivilege,
+            final PrivilegeType ownershipPrivilege) {
+
+        final RoleTypeKey key = new RoleTypeKey(entityType, role);
+        this.privileges.put(key, new Privilege(key, basePrivilege, institutionalPrivilege, ownershipPrivilege));
+    }
+
+}
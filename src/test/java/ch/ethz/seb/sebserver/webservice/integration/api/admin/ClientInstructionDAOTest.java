@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.integration.api.admin;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import ch.ethz.seb.sebserver.gbl.model.session.ClientInstruction.InstructionType;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientInstructionRecordMapper;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.ClientInstructionRecord;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientInstructionDAO;
+
+@Sql(scripts = { "classpath:schema-test.sql", "classpath:data-test.sql", "classpath:data-test-additional.sql" })
+public class ClientInstructionDAOTest extends AdministrationAPIIntegrationTester {
+
+    @Autowired
+    private ClientInstructionDAO clientInstructionDAO;
+    @Autowired
+    private ClientInstructionRecordMapper clientInstructionRecordMapper;
+
+    @Test
+    public void testClaimExcludedToken() {
+        final Long id = this.clientInstructionDAO
+                .insertExamWide(1L, InstructionType.SEB_QUIT, null, "token1")
+                .getOrThrow()
+                .getId();
+
+        assertFalse(this.clientInstructionDAO.claimExcludedToken(id, "token1").getOrThrow());
+        assertTrue(this.clientInstructionDAO.claimExcludedToken(id, "token2").getOrThrow());
+        assertFalse(this.clientInstructionDAO.claimExcludedToken(id, "token2").getOrThrow());
+
+        final ClientInstructionRecord record = this.clientInstructionRecordMapper.selectByPrimaryKey(id);
+        assertEquals("token1,token2", record.getExcludedTokens());
+
+        // an instruction without excluded tokens and a removed instruction
+        final Long id2 = this.clientInstructionDAO
+                .insertExamWide(1L, InstructionType.SEB_QUIT, null, null)
+                .getOrThrow()
+                .getId();
+        assertTrue(this.clientInstructionDAO.claimExcludedToken(id2, "token1").getOrThrow());
+        this.clientInstructionDAO.delete(id2).getOrThrow();
+        assertFalse(this.clientInstructionDAO.claimExcludedToken(id2, "token2").getOrThrow());
+    }
+
+}
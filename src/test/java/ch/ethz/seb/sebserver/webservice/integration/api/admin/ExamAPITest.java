@@ -14,6 +14,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.jdbc.Sql;
@@ -22,12 +23,31 @@ import com.fasterxml.jackson.core.type.TypeReference;
 
 import ch.ethz.seb.sebserver.gbl.api.API;
 import ch.ethz.seb.sebserver.gbl.api.APIMessage;
+import ch.ethz.seb.sebserver.gbl.model.Domain;
+import ch.ethz.seb.sebserver.gbl.model.Page;
+import ch.ethz.seb.sebserver.gbl.model.PageSortOrder;
 import ch.ethz.seb.sebserver.gbl.model.exam.Exam;
 import ch.ethz.seb.sebserver.gbl.model.exam.Exam.ExamType;
+import ch.ethz.seb.sebserver.gbl.model.exam.QuizData;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection.ConnectionStatus;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientInstruction.InstructionType;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientConnectionRecordMapper;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ExamRecordMapper;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.ClientConnectionRecord;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.ExamRecord;
+import ch.ethz.seb.sebserver.webservice.servicelayer.session.impl.ExamSessionCacheService;
 
 @Sql(scripts = { "classpath:schema-test.sql", "classpath:data-test.sql" })
 public class ExamAPITest extends AdministrationAPIIntegrationTester {
 
+    @Autowired
+    private ExamRecordMapper examRecordMapper;
+    @Autowired
+    private ClientConnectionRecordMapper clientConnectionRecordMapper;
+    @Autowired
+    private ExamSessionCacheService examSessionCacheService;
+
     @Test
     public void testModify() throws Exception {
         final String sebAdminAccess = getSebAdminAccess();
@@ -107,4 +127,102 @@ public class ExamAPITest extends AdministrationAPIIntegrationTester {
         assertEquals("[exam, supporter, grantDenied, user2]", String.valueOf(error1.attributes));
     }
 
+    @Test
+    public void testSortedPage() throws Exception {
+        final String sebAdminAccess = getSebAdminAccess();
+        for (final String quizId : Arrays.asList("quiz2", "quiz5", "quiz6")) {
+            ExamImportTest.createImportedExamFromLmsSetupMock(
+                    this,
+                    sebAdminAccess,
+                    sebAdminAccess,
+                    "LmsSetupMock_" + quizId,
+                    quizId,
+                    ExamType.MANAGED,
+                    "user5");
+        }
+
+        // sort by name descending, on the local copy of the quiz data
+        Page<Exam> page = new RestAPITestHelper()
+                .withAccessToken(sebAdminAccess)
+                .withPath(API.EXAM_ADMINISTRATION_ENDPOINT)
+                .withAttribute(Page.ATTR_SORT, PageSortOrder.DESCENDING.encode(QuizData.QUIZ_ATTR_NAME))
+                .withAttribute(Page.ATTR_PAGE_SIZE, "2")
+                .withExpectedStatus(HttpStatus.OK)
+                .getAsObject(new TypeReference<Page<Exam>>() {
+                });
+
+        assertEquals(2, page.numberOfPages.intValue());
+        assertEquals(2, page.content.size());
+        assertEquals("quiz6", page.content.get(0).externalId);
+        assertEquals("quiz5", page.content.get(1).externalId);
+
+        // sort by start time ascending
+        page = new RestAPITestHelper()
+                .withAccessToken(sebAdminAccess)
+                .withPath(API.EXAM_ADMINISTRATION_ENDPOINT)
+                .withAttribute(Page.ATTR_SORT, QuizData.QUIZ_ATTR_START_TIME)
+                .withExpectedStatus(HttpStatus.OK)
+                .getAsObject(new TypeReference<Page<Exam>>() {
+                });
+
+        assertEquals(3, page.content.size());
+        assertEquals("quiz5", page.content.get(0).externalId);
+        assertEquals("quiz6", page.content.get(1).externalId);
+        assertEquals("quiz2", page.content.get(2).externalId);
+    }
+
+    @Test
+    @Sql(scripts = { "classpath:schema-test.sql", "classpath:data-test.sql", "classpath:data-test-additional.sql" })
+    public void testExamInstructionOnForeignExamDenied() throws Exception {
+        // exam supporter of institution 2 tries to quit all SEB clients of a running exam of institution 1
+        final List<APIMessage> errorMessage = new RestAPITestHelper()
+                .withAccessToken(obtainAccessToken("user1", "test"))
+                .withPath(API.EXAM_MONITORING_ENDPOINT + "/2" + API.EXAM_MONITORING_EXAM_INSTRUCTION_ENDPOINT)
+                .withMethod(HttpMethod.POST)
+                .withAttribute(Domain.CLIENT_INSTRUCTION.ATTR_TYPE, InstructionType.SEB_QUIT.name())
+                .withExpectedStatus(HttpStatus.FORBIDDEN)
+                .getAsObject(new TypeReference<List<APIMessage>>() {
+                });
+
+        assertNotNull(errorMessage);
+        assertEquals("1001", errorMessage.get(0).messageCode);
+    }
+
+    @Test
+    @Sql(scripts = { "classpath:schema-test.sql", "classpath:data-test.sql", "classpath:data-test-additional.sql" })
+    public void testConnectionTimelineOfForeignExamNotFound() throws Exception {
+        // running exam 3 is owned by the SEB admin, running exam 2 is not
+        this.examRecordMapper.insert(new ExamRecord(
+                3L, 1L, 1L, "quiz2", "user1", null, "MANAGED", null, null, "RUNNING",
+                0, 0, null, 1, "Demo Quiz 2 (MOCKUP)", 1546333200000L, 1609491600000L));
+        this.clientConnectionRecordMapper.insert(new ClientConnectionRecord(
+                null, 1L, 2L, ConnectionStatus.ACTIVE.name(), "token-exam2", "user-exam2", "", null, 1L));
+        this.clientConnectionRecordMapper.insert(new ClientConnectionRecord(
+                null, 1L, 3L, ConnectionStatus.ACTIVE.name(), "token-exam3", "user-exam3", "", null, 1L));
+        this.examSessionCacheService.getActiveClientConnection("token-exam2");
+        this.examSessionCacheService.getActiveClientConnection("token-exam3");
+
+        final String sebAdminAccess = getSebAdminAccess();
+
+        // the timeline of a connection of the own running exam is available
+        final List<ClientEvent> timeline = new RestAPITestHelper()
+                .withAccessToken(sebAdminAccess)
+                .withPath(API.EXAM_MONITORING_ENDPOINT + "/3/token-exam3" + API.EXAM_MONITORING_TIMELINE_PATH_SEGMENT)
+                .withExpectedStatus(HttpStatus.OK)
+                .getAsObject(new TypeReference<List<ClientEvent>>() {
+                });
+        assertNotNull(timeline);
+
+        // the timeline of a connection of another exam must not be available over the own running exam
+        final List<APIMessage> errorMessage = new RestAPITestHelper()
+                .withAccessToken(sebAdminAccess)
+                .withPath(API.EXAM_MONITORING_ENDPOINT + "/3/token-exam2" + API.EXAM_MONITORING_TIMELINE_PATH_SEGMENT)
+                .withExpectedStatus(HttpStatus.NOT_FOUND)
+                .getAsObject(new TypeReference<List<APIMessage>>() {
+                });
+
+        assertNotNull(errorMessage);
+        assertEquals("1002", errorMessage.get(0).messageCode);
+    }
+
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.integration.api.admin;
+
+import static org.junit.Assert.*;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.jdbc.Sql;
+
+import ch.ethz.seb.sebserver.gbl.Constants;
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.Configuration;
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationAttribute;
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationNode;
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationNode.ConfigurationStatus;
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationNode.ConfigurationType;
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationValue;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ConfigurationAttributeDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ConfigurationDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ConfigurationNodeDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ConfigurationValueDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.FilterMap;
+import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.ExamConfigService;
+
+@Sql(scripts = { "classpath:schema-test.sql", "classpath:data-test.sql", "classpath:data-test-additional.sql" })
+public class ExamConfigImportTest extends AdministrationAPIIntegrationTester {
+
+    @Autowired
+    private ExamConfigService examConfigService;
+    @Autowired
+    private ConfigurationNodeDAO configurationNodeDAO;
+    @Autowired
+    private ConfigurationDAO configurationDAO;
+    @Autowired
+    private ConfigurationAttributeDAO configurationAttributeDAO;
+    @Autowired
+    private ConfigurationValueDAO configurationValueDAO;
+
+    @Test
+    public void testImportPlainConfig() throws Exception {
+        final Configuration followup = this.configurationNodeDAO
+                .createNew(new ConfigurationNode(
+                        null, 1L, null, "importTest", null,
+                        ConfigurationType.EXAM_CONFIG, "user1", ConfigurationStatus.CONSTRUCTION))
+                .flatMap(this.configurationDAO::getFollowupConfiguration)
+                .getOrThrow();
+
+        final int valuesBefore = getValues(followup).size();
+
+        this.examConfigService.importFromSEBFile(
+                followup,
+                new ClassPathResource("importTest.seb").getInputStream(),
+                null)
+                .getOrThrow();
+
+        final Map<String, ConfigurationAttribute> attributes = this.configurationAttributeDAO
+                .allMatching(new FilterMap())
+                .getOrThrow()
+                .stream()
+                .collect(Collectors.toMap(attr -> attr.name, Function.identity()));
+        final Collection<ConfigurationValue> values = getValues(followup);
+
+        assertEquals(Constants.TRUE_STRING, getValue(values, attributes.get("URLFilterEnable"), 0));
+        assertEquals("jrtjrtzj", getValue(values, attributes.get("URLFilterRules.expression"), 0));
+
+        // import again on the same configuration updates the values
+        this.examConfigService.importFromSEBFile(
+                followup,
+                new ClassPathResource("importTest.seb").getInputStream(),
+                null)
+                .getOrThrow();
+
+        assertEquals(values.size(), getValues(followup).size());
+        assertTrue(values.size() >= valuesBefore);
+    }
+
+    private Collection<ConfigurationValue> getValues(final Configuration config) {
+        return this.configurationValueDAO
+                .allMatching(new FilterMap.Builder()
+                        .put(ConfigurationValue.FILTER_ATTR_CONFIGURATION_ID, String.valueOf(config.id))
+                        .create())
+                .getOrThrow();
+    }
+
+    private static String getValue(
+            final Collection<ConfigurationValue> values,
+            final ConfigurationAttribute attribute,
+            final int listIndex) {
+
+        return values
+                .stream()
+                .filter(value -> value.attributeId.equals(attribute.id) && value.listIndex == listIndex)
+                .map(value -> value.value)
+                .findFirst()
+                .orElse(null);
+    }
+
+}
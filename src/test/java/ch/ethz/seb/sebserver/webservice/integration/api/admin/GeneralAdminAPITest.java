@@ -15,9 +15,23 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.io.UnsupportedEncodingException;
 
 import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import ch.ethz.seb.sebserver.gbl.api.API;
 
 public class GeneralAdminAPITest extends AdministrationAPIIntegrationTester {
 
+    @Autowired
+    @Qualifier("examConfigMetadataETagFilter")
+    private FilterRegistrationBean<ShallowEtagHeaderFilter> examConfigMetadataETagFilter;
+
     @Test
     public void getHello_givenNoToken_thenRedirect() throws Exception {
         this.mockMvc.perform(get(this.endpoint + "/hello"))
@@ -51,4 +65,37 @@ public class GeneralAdminAPITest extends AdministrationAPIIntegrationTester {
         }
     }
 
+    @Test
+    public void getConfigAttributes_givenETag_thenNotModified() throws Exception {
+        final MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(this.wac)
+                .addFilter(this.springSecurityFilterChain)
+                .addFilter(
+                        this.examConfigMetadataETagFilter.getFilter(),
+                        this.examConfigMetadataETagFilter.getUrlPatterns().toArray(new String[0]))
+                .build();
+
+        final String accessToken = obtainAccessToken("admin", "admin");
+        final String path = this.endpoint + API.CONFIGURATION_ATTRIBUTE_ENDPOINT + API.LIST_PATH_SEGMENT;
+
+        final String eTag = mockMvc.perform(get(path)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotNull(eTag);
+
+        mockMvc.perform(get(path)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .header("Authorization", "Bearer " + accessToken)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get(path)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .header("Authorization", "Bearer " + accessToken)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk());
+    }
+
 }
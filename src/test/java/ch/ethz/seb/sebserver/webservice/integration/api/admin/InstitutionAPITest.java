@@ -112,6 +112,21 @@ public class InstitutionAPITest extends AdministrationAPIIntegrationTester {
         assertTrue(own.id.longValue() == 1);
     }
 
+    @Test
+    public void getInstitutionsCompactView() throws Exception {
+        final String json = new RestAPITestHelper()
+                .withAccessToken(getSebAdminAccess())
+                .withPath(API.INSTITUTION_ENDPOINT)
+                .withAttribute(API.PARAM_FIELDS, "id,name")
+                .withExpectedStatus(HttpStatus.OK)
+                .getAsString();
+
+        assertTrue(json.contains("\"number_of_pages\":1"));
+        assertTrue(json.contains("{\"id\":1,\"name\":\"Institution1\"}"));
+        assertFalse(json.contains("urlSuffix"));
+        assertFalse(json.contains("active"));
+    }
+
     @Test
     public void getInstitutionById() throws Exception {
         Institution institution = new RestAPITestHelper()
@@ -21,7 +21,11 @@ import org.springframework.test.context.jdbc.Sql;
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import ch.ethz.seb.sebserver.gbl.api.API;
+import ch.ethz.seb.sebserver.gbl.api.API.BulkActionType;
 import ch.ethz.seb.sebserver.gbl.api.APIMessage;
+import ch.ethz.seb.sebserver.gbl.api.EntityType;
+import ch.ethz.seb.sebserver.gbl.model.BulkActionJobStatus;
+import ch.ethz.seb.sebserver.gbl.model.BulkActionJobStatus.JobState;
 import ch.ethz.seb.sebserver.gbl.model.Domain;
 import ch.ethz.seb.sebserver.gbl.model.EntityName;
 import ch.ethz.seb.sebserver.gbl.model.EntityProcessingReport;
@@ -479,4 +483,83 @@ public class LmsSetupAPITest extends AdministrationAPIIntegrationTester {
         assertTrue(testResult.isQuizAccessOk());
     }
 
+    @Test
+    public void testAsyncBulkAction() throws Exception {
+        final LmsSetup lmsSetup1 = createLmsSetup("async LmsSetup 1");
+        final LmsSetup lmsSetup2 = createLmsSetup("async LmsSetup 2");
+        assertFalse(lmsSetup1.active);
+        assertFalse(lmsSetup2.active);
+
+        // submit activation job
+        BulkActionJobStatus status = new RestAPITestHelper()
+                .withAccessToken(getAdminInstitution1Access())
+                .withPath(API.LMS_SETUP_ENDPOINT)
+                .withPath(API.BULK_ACTION_PATH_SEGMENT)
+                .withMethod(HttpMethod.POST)
+                .withAttribute(API.PARAM_MODEL_ID_LIST, lmsSetup1.getModelId() + "," + lmsSetup2.getModelId())
+                .withAttribute(API.PARAM_BULK_ACTION_TYPE, BulkActionType.ACTIVATE.name())
+                .withExpectedStatus(HttpStatus.OK)
+                .getAsObject(new TypeReference<BulkActionJobStatus>() {
+                });
+
+        assertNotNull(status.jobId);
+        assertEquals(BulkActionType.ACTIVATE, status.bulkActionType);
+        assertEquals(EntityType.LMS_SETUP, status.sourceType);
+
+        // poll job status
+        final String jobId = status.jobId;
+        for (int i = 0; i < 50 && !status.isDone(); i++) {
+            Thread.sleep(100);
+            status = new RestAPITestHelper()
+                    .withAccessToken(getAdminInstitution1Access())
+                    .withPath(API.LMS_SETUP_ENDPOINT)
+                    .withPath(API.BULK_ACTION_PATH_SEGMENT)
+                    .withPath("/" + jobId)
+                    .withMethod(HttpMethod.GET)
+                    .withExpectedStatus(HttpStatus.OK)
+                    .getAsObject(new TypeReference<BulkActionJobStatus>() {
+                    });
+        }
+
+        assertEquals(JobState.FINISHED, status.state);
+        assertEquals(2, status.total);
+        assertEquals(2, status.processed);
+        assertNotNull(status.report);
+        assertEquals(2, status.report.source.size());
+        assertTrue(status.report.errors.isEmpty());
+
+        final LmsSetup activated = new RestAPITestHelper()
+                .withAccessToken(getAdminInstitution1Access())
+                .withPath(API.LMS_SETUP_ENDPOINT)
+                .withPath(lmsSetup2.getModelId())
+                .withMethod(HttpMethod.GET)
+                .withExpectedStatus(HttpStatus.OK)
+                .getAsObject(new TypeReference<LmsSetup>() {
+                });
+        assertTrue(activated.active);
+
+        // the job status is only accessible for the user that has submitted the job
+        new RestAPITestHelper()
+                .withAccessToken(getSebAdminAccess())
+                .withPath(API.LMS_SETUP_ENDPOINT)
+                .withPath(API.BULK_ACTION_PATH_SEGMENT)
+                .withPath("/" + jobId)
+                .withMethod(HttpMethod.GET)
+                .withExpectedStatus(HttpStatus.FORBIDDEN)
+                .getAsString();
+    }
+
+    private LmsSetup createLmsSetup(final String name) throws Exception {
+        return new RestAPITestHelper()
+                .withAccessToken(getAdminInstitution1Access())
+                .withPath(API.LMS_SETUP_ENDPOINT)
+                .withMethod(HttpMethod.POST)
+                .withAttribute(Domain.LMS_SETUP.ATTR_INSTITUTION_ID, "1")
+                .withAttribute(Domain.LMS_SETUP.ATTR_NAME, name)
+                .withAttribute(Domain.LMS_SETUP.ATTR_LMS_TYPE, LmsType.MOCKUP.name())
+                .withExpectedStatus(HttpStatus.OK)
+                .getAsObject(new TypeReference<LmsSetup>() {
+                });
+    }
+
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.integration.api.admin;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.SebRestrictionSyncRecord;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.SebRestrictionSyncDAO;
+
+@Sql(scripts = { "classpath:schema-test.sql", "classpath:data-test.sql" })
+public class SebRestrictionSyncDAOTest extends AdministrationAPIIntegrationTester {
+
+    @Autowired
+    private SebRestrictionSyncDAO sebRestrictionSyncDAO;
+
+    @Test
+    public void testPendingRequests() {
+        this.sebRestrictionSyncDAO.savePending(1L, true, 1000L).getOrThrow();
+        this.sebRestrictionSyncDAO.savePending(2L, true, 2000L).getOrThrow();
+        // a new request replaces the pending request of the same exam
+        this.sebRestrictionSyncDAO.savePending(1L, false, 3000L).getOrThrow();
+
+        List<SebRestrictionSyncRecord> pending = new ArrayList<>(this.sebRestrictionSyncDAO.allPending().getOrThrow());
+        assertEquals(2, pending.size());
+        assertEquals(Long.valueOf(2L), pending.get(0).getExamId());
+        assertEquals(Long.valueOf(1L), pending.get(1).getExamId());
+        assertEquals(Integer.valueOf(0), pending.get(1).getApplyRestriction());
+        assertEquals(Long.valueOf(3000L), pending.get(1).getRequestTime());
+
+        // a replaced request is not removed
+        assertFalse(this.sebRestrictionSyncDAO.removePending(1L, 1000L).getOrThrow());
+        assertTrue(this.sebRestrictionSyncDAO.removePending(1L, 3000L).getOrThrow());
+
+        pending = new ArrayList<>(this.sebRestrictionSyncDAO.allPending().getOrThrow());
+        assertEquals(1, pending.size());
+        assertEquals(Long.valueOf(2L), pending.get(0).getExamId());
+    }
+
+}
@@ -12,6 +12,8 @@ import static org.junit.Assert.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.stream.Collectors;
+
 import org.joda.time.DateTime;
 import org.junit.Test;
 import org.springframework.http.HttpHeaders;
@@ -307,4 +309,40 @@ public class UserActivityLogAPITest extends AdministrationAPIIntegrationTester {
         assertTrue(logs.content.isEmpty());
     }
 
+    @Test
+    public void getKeysetPagesAsSEBAdmin() throws Exception {
+        final String token = getSebAdminAccess();
+        final String query = this.endpoint + API.USER_ACTIVITY_LOG_ENDPOINT + "?page_size=2&sort=-timestamp";
+
+        Page<UserActivityLog> logs = getLogPage(token, query + "&page_number=1");
+        assertEquals("[5, 4]", logs.content.stream().map(log -> log.id).collect(Collectors.toList()).toString());
+        assertEquals(2, logs.getNumberOfPages());
+        assertNotNull(logs.nextCursor);
+
+        logs = getLogPage(token, query + "&page_number=2&page_cursor=" + logs.nextCursor);
+        assertEquals("[3, 2]", logs.content.stream().map(log -> log.id).collect(Collectors.toList()).toString());
+        assertEquals(3, logs.getNumberOfPages());
+        assertNotNull(logs.nextCursor);
+
+        logs = getLogPage(token, query + "&page_number=3&page_cursor=" + logs.nextCursor);
+        assertEquals("[1]", logs.content.stream().map(log -> log.id).collect(Collectors.toList()).toString());
+        assertEquals(3, logs.getNumberOfPages());
+        assertNull(logs.nextCursor);
+
+        // without cursor the same page is selected by offset
+        logs = getLogPage(token, query + "&page_number=2");
+        assertEquals("[3, 2]", logs.content.stream().map(log -> log.id).collect(Collectors.toList()).toString());
+    }
+
+    private Page<UserActivityLog> getLogPage(final String token, final String url) throws Exception {
+        return this.jsonMapper.readValue(
+                this.mockMvc.perform(get(url)
+                        .header("Authorization", "Bearer " + token)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString(),
+                new TypeReference<Page<UserActivityLog>>() {
+                });
+    }
+
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.integration.api.admin;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.WebserviceInfoDAO;
+
+@Sql(scripts = { "classpath:schema-test.sql", "classpath:data-test.sql" })
+public class WebserviceInfoDAOTest extends AdministrationAPIIntegrationTester {
+
+    @Autowired
+    private WebserviceInfoDAO webserviceInfoDAO;
+
+    @Test
+    public void testMasterLease() throws Exception {
+        assertTrue(this.webserviceInfoDAO.register("instance1", "address1").getOrThrow());
+        assertTrue(this.webserviceInfoDAO.register("instance2", "address2").getOrThrow());
+
+        // first renewal takes over the master lease
+        assertTrue(this.webserviceInfoDAO.renewLease("instance1", "address1", 10000).getOrThrow());
+        assertFalse(this.webserviceInfoDAO.renewLease("instance2", "address2", 10000).getOrThrow());
+        assertTrue(this.webserviceInfoDAO.renewLease("instance1", "address1", 10000).getOrThrow());
+
+        // master lease of instance1 expires and instance2 takes over
+        Thread.sleep(100);
+        assertTrue(this.webserviceInfoDAO.renewLease("instance2", "address2", 50).getOrThrow());
+        // instance1 has been removed, registers again but is not master anymore
+        assertFalse(this.webserviceInfoDAO.renewLease("instance1", "address1", 10000).getOrThrow());
+
+        // master unregisters and instance1 takes over
+        assertTrue(this.webserviceInfoDAO.unregister("instance2").getOrThrow());
+        assertTrue(this.webserviceInfoDAO.renewLease("instance1", "address1", 10000).getOrThrow());
+        assertFalse(this.webserviceInfoDAO.unregister("instance2").getOrThrow());
+    }
+
+    @Test
+    public void testConcurrentTakeover() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 10; round++) {
+                final List<Callable<Boolean>> renewals = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    final String uuid = "instance" + i;
+                    this.webserviceInfoDAO.register(uuid, "address" + i).getOrThrow();
+                    renewals.add(() -> this.webserviceInfoDAO.renewLease(uuid, "address", 10000).getOr(false));
+                }
+
+                int masters = 0;
+                for (final Future<Boolean> master : executor.invokeAll(renewals)) {
+                    masters += (master.get()) ? 1 : 0;
+                }
+                assertEquals("only one instance takes over in round " + round, 1, masters);
+
+                for (int i = 0; i < 4; i++) {
+                    this.webserviceInfoDAO.unregister("instance" + i).getOrThrow();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.github.pagehelper.PageHelper;
+
+import ch.ethz.seb.sebserver.gbl.api.EntityType;
+import ch.ethz.seb.sebserver.gbl.model.Page;
+import ch.ethz.seb.sebserver.gbl.model.user.UserActivityLog;
+import ch.ethz.seb.sebserver.gbl.model.user.UserLogActivityType;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+
+public class PaginationServiceImplTest {
+
+    private final PaginationServiceImpl paginationService = new PaginationServiceImpl(10, 500);
+
+    @After
+    public void cleanup() {
+        PageHelper.clearPage();
+    }
+
+    @Test
+    public void testKeysetPageIsFilledOverFilteredEntries() {
+        final List<UserActivityLog> logs = createLogs(10);
+        // entries 3 to 7 are not readable for the current user
+        final Predicate<UserActivityLog> readable = log -> log.id <= 2 || log.id >= 8;
+
+        final Page<UserActivityLog> page1 = getPage(logs, 1, null, readable);
+        assertEquals("[1, 2]", ids(page1));
+        assertEquals("2_2", page1.nextCursor);
+
+        final Page<UserActivityLog> page2 = getPage(logs, 2, page1.nextCursor, readable);
+        assertEquals("[8, 9]", ids(page2));
+        assertEquals("9_9", page2.nextCursor);
+        assertEquals(Integer.valueOf(3), page2.numberOfPages);
+
+        final Page<UserActivityLog> page3 = getPage(logs, 3, page2.nextCursor, readable);
+        assertEquals("[10]", ids(page3));
+        assertNull(page3.nextCursor);
+        assertEquals(Integer.valueOf(3), page3.numberOfPages);
+    }
+
+    @Test
+    public void testKeysetPageWithAllEntriesFiltered() {
+        final List<UserActivityLog> logs = createLogs(10);
+
+        final Page<UserActivityLog> page = getPage(logs, 1, null, log -> false);
+        assertTrue(page.content.isEmpty());
+        assertNull(page.nextCursor);
+    }
+
+    private Page<UserActivityLog> getPage(
+            final List<UserActivityLog> logs,
+            final int pageNumber,
+            final String cursor,
+            final Predicate<UserActivityLog> filter) {
+
+        return this.paginationService.getKeysetPage(
+                pageNumber,
+                2,
+                null,
+                cursor,
+                log -> PageCursor.encode(log.timestamp, log.id),
+                filter,
+                pageCursor -> select(logs, pageCursor))
+                .getOrThrow();
+    }
+
+    // simulates the SQL query with the page limitation set on the PageHelper
+    private Result<Collection<UserActivityLog>> select(
+            final List<UserActivityLog> logs,
+            final PageCursor pageCursor) {
+
+        final com.github.pagehelper.Page<Object> localPage = PageHelper.getLocalPage();
+        PageHelper.clearPage();
+        return Result.of(logs.stream()
+                .filter(log -> !pageCursor.hasPosition() || log.timestamp > pageCursor.time)
+                .skip(localPage.getStartRow())
+                .limit(localPage.getPageSize())
+                .collect(Collectors.toList()));
+    }
+
+    private static List<UserActivityLog> createLogs(final int number) {
+        final List<UserActivityLog> logs = new ArrayList<>();
+        for (long i = 1; i <= number; i++) {
+            logs.add(new UserActivityLog(
+                    i, "user1", "user1", i, UserLogActivityType.CREATE, EntityType.EXAM, "1", null));
+        }
+        return logs;
+    }
+
+    private static String ids(final Page<UserActivityLog> page) {
+        return page.content.stream()
+                .map(log -> log.id)
+                .collect(Collectors.toList())
+                .toString();
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.dao.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.transaction.TransactionFactory;
+import org.junit.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import ch.ethz.seb.sebserver.gbl.api.EntityType;
+import ch.ethz.seb.sebserver.gbl.model.user.UserLogActivityType;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.UserActivityLogRecordMapper;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.UserActivityLogRecord;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class UserActivityLogWriterTest {
+
+    private final UserActivityLogRecordMapper mapper = mock(UserActivityLogRecordMapper.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UserActivityLogWriter createWriter(final boolean writeBehind, final int maxPending) {
+        final Configuration configuration = new Configuration(new Environment(
+                "test",
+                mock(TransactionFactory.class),
+                mock(DataSource.class)));
+        configuration.addMapper(UserActivityLogRecordMapper.class);
+        final SqlSessionFactory sqlSessionFactory = mock(SqlSessionFactory.class);
+        when(sqlSessionFactory.getConfiguration()).thenReturn(configuration);
+
+        return new UserActivityLogWriter(
+                this.mapper,
+                sqlSessionFactory,
+                mock(PlatformTransactionManager.class),
+                this.meterRegistry,
+                writeBehind,
+                maxPending,
+                100,
+                2);
+    }
+
+    @Test
+    public void testWriteThrough() {
+        final UserActivityLogWriter writer = createWriter(false, 10);
+        writer.write("user1", UserLogActivityType.CREATE, EntityType.EXAM, "1", () -> "message");
+
+        verify(this.mapper, times(1)).insertSelective(any(UserActivityLogRecord.class));
+        assertEquals(0, writer.pendingCount());
+    }
+
+    @Test
+    public void testWriteBehindWithBackPressure() {
+        final UserActivityLogWriter writer = createWriter(true, 1);
+        final AtomicInteger messageCalls = new AtomicInteger(0);
+
+        writer.write("user1", UserLogActivityType.CREATE, EntityType.EXAM, "1", () -> {
+            messageCalls.incrementAndGet();
+            return "message";
+        });
+
+        // the first entry is queued and its message not yet created
+        verify(this.mapper, never()).insertSelective(any(UserActivityLogRecord.class));
+        assertEquals(0, messageCalls.get());
+        assertEquals(1, writer.pendingCount());
+        assertEquals(1.0, this.meterRegistry.get(UserActivityLogWriter.PENDING_GAUGE_NAME).gauge().value(), 0.0);
+
+        // the pending queue is full, the second entry is written synchronously
+        writer.write("user1", UserLogActivityType.MODIFY, EntityType.EXAM, "1", () -> "message");
+        verify(this.mapper, times(1)).insertSelective(any(UserActivityLogRecord.class));
+        assertEquals(1, writer.pendingCount());
+    }
+
+    @Test
+    public void testWriteBehindDropsEntriesThatCannotBePersisted() {
+        final UserActivityLogWriter writer = createWriter(true, 10);
+        writer.init();
+        doThrow(new RuntimeException("Invalid entry"))
+                .when(this.mapper)
+                .insert(argThat((UserActivityLogRecord record) -> "2".equals(record.getEntityId())));
+
+        writer.write("user1", UserLogActivityType.CREATE, EntityType.EXAM, "1", () -> "message");
+        writer.write("user1", UserLogActivityType.CREATE, EntityType.EXAM, "2", () -> "message");
+        assertEquals(2, writer.pendingCount());
+
+        // the batch-insert fails (no database) and the batch is kept for retry
+        writer.flushTask();
+        verify(this.mapper, never()).insert(any(UserActivityLogRecord.class));
+        assertEquals(2, writer.pendingCount());
+
+        // after the maximum of attempts the entries are inserted one by one and the invalid entry is dropped
+        writer.flushTask();
+        verify(this.mapper, times(2)).insert(any(UserActivityLogRecord.class));
+        assertEquals(0, writer.pendingCount());
+    }
+
+    @Test
+    public void testWriteThroughAfterShutdown() {
+        final UserActivityLogWriter writer = createWriter(true, 10);
+        writer.init();
+        writer.shutdown();
+
+        writer.write("user1", UserLogActivityType.DELETE, EntityType.EXAM, "1", () -> "message");
+        verify(this.mapper, times(1)).insertSelective(any(UserActivityLogRecord.class));
+        assertEquals(0, writer.pendingCount());
+    }
+
+}
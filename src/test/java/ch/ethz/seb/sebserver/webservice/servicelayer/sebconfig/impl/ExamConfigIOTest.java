@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.impl;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.AttributeType;
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationAttribute;
+import ch.ethz.seb.sebserver.gbl.model.sebconfig.ConfigurationValue;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ConfigurationAttributeDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ConfigurationValueDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.FilterMap;
+import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.AttributeValueConverter;
+import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.AttributeValueConverterService;
+import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.ConfigurationFormat;
+import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.ConfigurationValueValidator;
+import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.impl.ExamConfigIO.ExportPlan;
+
+public class ExamConfigIOTest {
+
+    @Test
+    public void testExportPlanIsCachedPerFormat() {
+        final ConfigurationAttributeDAO attributeDAO = mock(ConfigurationAttributeDAO.class);
+        when(attributeDAO.getAllRootAttributes()).thenReturn(Result.of(Arrays.asList(
+                attribute(2L, "zz"),
+                attribute(1L, "originatorVersion"),
+                attribute(3L, "aa"))));
+
+        final AttributeValueConverter converter = mock(AttributeValueConverter.class);
+        when(converter.convertAttribute(any())).thenCallRealMethod();
+        final AttributeValueConverterService converterService = mock(AttributeValueConverterService.class);
+        when(converterService.getAttributeValueConverter(any(ConfigurationAttribute.class))).thenReturn(converter);
+
+        final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        final ExamConfigIO examConfigIO = new ExamConfigIO(
+                attributeDAO,
+                null,
+                null,
+                converterService,
+                null,
+                null,
+                cacheManager,
+                Collections.emptyList());
+
+        final ExportPlan xmlPlan = examConfigIO.getExportPlan(ConfigurationFormat.XML);
+        assertEquals("[aa, originatorVersion, zz]", names(xmlPlan));
+        assertSame(converter, xmlPlan.entries.get(0).converter);
+        assertSame(xmlPlan, examConfigIO.getExportPlan(ConfigurationFormat.XML));
+
+        final ExportPlan jsonPlan = examConfigIO.getExportPlan(ConfigurationFormat.JSON);
+        assertEquals("[aa, zz]", names(jsonPlan));
+        assertSame(jsonPlan, examConfigIO.getExportPlan(ConfigurationFormat.JSON));
+
+        verify(attributeDAO, times(2)).getAllRootAttributes();
+
+        // a modification of an attribute evicts the cache
+        cacheManager.getCache(ConfigurationAttributeDAO.ATTRIBUTE_EXPORT_PLAN_CACHE).clear();
+        assertNotSame(xmlPlan, examConfigIO.getExportPlan(ConfigurationFormat.XML));
+        verify(attributeDAO, times(3)).getAllRootAttributes();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testImportSkipsInvalidValues() {
+        final ConfigurationAttributeDAO attributeDAO = mock(ConfigurationAttributeDAO.class);
+        when(attributeDAO.allMatching(any(FilterMap.class))).thenReturn(Result.of(Arrays.asList(
+                attribute(1L, "valid"),
+                attribute(2L, "invalid"))));
+
+        final ConfigurationValueValidator validator = mock(ConfigurationValueValidator.class);
+        when(validator.validate(any(), any())).thenAnswer(invocation -> !"invalid"
+                .equals(invocation.<ConfigurationAttribute> getArgument(1).name));
+
+        final ConfigurationValueDAO valueDAO = mock(ConfigurationValueDAO.class);
+        when(valueDAO.saveAll(eq(1L), eq(2L), any())).thenReturn(Result.of(Collections.emptyList()));
+
+        final ExamConfigIO examConfigIO = new ExamConfigIO(
+                attributeDAO,
+                valueDAO,
+                null,
+                null,
+                null,
+                null,
+                new ConcurrentMapCacheManager(),
+                Arrays.asList(validator));
+
+        examConfigIO.importPlainXML(
+                new ByteArrayInputStream((
+                        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                                + "<plist version=\"1.0\"><dict>"
+                                + "<key>valid</key><true/>"
+                                + "<key>invalid</key><true/>"
+                                + "<key>unknown</key><true/>"
+                                + "</dict></plist>").getBytes(StandardCharsets.UTF_8)),
+                1L,
+                2L);
+
+        // the values are validated on the pre-loaded attributes and only the valid value is saved
+        final ArgumentCaptor<Collection<ConfigurationValue>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(valueDAO).saveAll(eq(1L), eq(2L), saved.capture());
+        assertEquals(1, saved.getValue().size());
+        assertEquals(Long.valueOf(1L), saved.getValue().iterator().next().attributeId);
+        verify(attributeDAO, never()).byPK(any());
+    }
+
+    private static ConfigurationAttribute attribute(final Long id, final String name) {
+        return new ConfigurationAttribute(
+                id,
+                null,
+                name,
+                AttributeType.CHECKBOX,
+                null, null, null, "false");
+    }
+
+    private static String names(final ExportPlan plan) {
+        return plan.entries
+                .stream()
+                .map(entry -> entry.attribute.name)
+                .collect(Collectors.toList())
+                .toString();
+    }
+
+}
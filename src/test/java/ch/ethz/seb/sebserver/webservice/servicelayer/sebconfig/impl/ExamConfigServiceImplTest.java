@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.impl;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.OutputStream;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import ch.ethz.seb.sebserver.gbl.util.Utils;
+import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.ConfigurationFormat;
+import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.ExamConfigService;
+
+public class ExamConfigServiceImplTest {
+
+    private static final String JSON = "{\"allowAudioCapture\":false,\"allowBrowsingBackForward\":false}";
+
+    @Test
+    public void testConfigKeyIsGeneratedOncePerStableConfiguration() throws Exception {
+        final ExamConfigIO examConfigIO = mock(ExamConfigIO.class);
+        when(examConfigIO.getLastStableConfigurationId(1L)).thenReturn(10L);
+        when(examConfigIO.getLastStableConfigurationId(2L)).thenReturn(20L);
+        doAnswer(invocation -> {
+            final OutputStream out = invocation.getArgument(1);
+            out.write(Utils.toByteArray(JSON));
+            return null;
+        }).when(examConfigIO).writePlain(eq(ConfigurationFormat.JSON), any(), any(), any());
+
+        final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        final ExamConfigServiceImpl examConfigService = new ExamConfigServiceImpl(
+                examConfigIO,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                cacheManager);
+
+        final String configKey = examConfigService.generateConfigKey(1L, 1L).getOrThrow();
+        assertEquals(DigestUtils.sha256Hex(JSON), configKey);
+        assertEquals(configKey, examConfigService.generateConfigKey(1L, 1L).getOrThrow());
+        verify(examConfigIO, times(1)).writePlain(eq(ConfigurationFormat.JSON), any(), eq(1L), eq(10L));
+
+        // another stable configuration has its own Config-Key
+        assertEquals(configKey, examConfigService.generateConfigKey(1L, 2L).getOrThrow());
+        verify(examConfigIO, times(1)).writePlain(eq(ConfigurationFormat.JSON), any(), eq(1L), eq(20L));
+
+        // a modification of an attribute evicts the cache
+        cacheManager.getCache(ExamConfigService.CONFIG_KEY_CACHE).clear();
+        examConfigService.generateConfigKey(1L, 1L).getOrThrow();
+        verify(examConfigIO, times(2)).writePlain(eq(ConfigurationFormat.JSON), any(), eq(1L), eq(10L));
+    }
+
+}
@@ -13,6 +13,8 @@ import static org.junit.Assert.*;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +24,9 @@ import org.cryptonode.jncryptor.AES256JNCryptor;
 import org.cryptonode.jncryptor.JNCryptor;
 import org.junit.Test;
 
+import ch.ethz.seb.sebserver.gbl.api.APIMessage;
+import ch.ethz.seb.sebserver.gbl.api.APIMessage.APIMessageException;
+import ch.ethz.seb.sebserver.gbl.util.Result;
 import ch.ethz.seb.sebserver.gbl.util.Utils;
 import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.SebConfigCryptor;
 import ch.ethz.seb.sebserver.webservice.servicelayer.sebconfig.SebConfigEncryptionService.Strategy;
@@ -36,21 +41,23 @@ public class SebConfigEncryptionServiceImplTest {
         final String config = "<TestConfig></TestConfig>";
 
         final ByteArrayOutputStream out = new ByteArrayOutputStream();
-        sebConfigEncryptionServiceImpl
+        final Result<Void> encryption = sebConfigEncryptionServiceImpl
                 .streamEncrypted(
                         out,
                         IOUtils.toInputStream(config, "UTF-8"),
                         EncryptionContext.contextOfPlainText());
+        assertFalse(encryption.hasError());
 
         final byte[] plainWithHeader = out.toByteArray();
         assertNotNull(plainWithHeader);
         assertEquals("plnd<TestConfig></TestConfig>", Utils.toString(plainWithHeader));
 
         final ByteArrayOutputStream out2 = new ByteArrayOutputStream(512);
-        sebConfigEncryptionServiceImpl.streamDecrypted(
+        final Result<Void> decryption = sebConfigEncryptionServiceImpl.streamDecrypted(
                 out2,
                 new ByteArrayInputStream(plainWithHeader),
                 EncryptionContext.contextOf(Strategy.PASSWORD_PSWD, (CharSequence) null));
+        assertFalse(decryption.hasError());
 
         out2.close();
 
@@ -70,12 +77,13 @@ public class SebConfigEncryptionServiceImplTest {
 
         final ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
 
-        sebConfigEncryptionServiceImpl.streamEncrypted(
+        final Result<Void> encryption = sebConfigEncryptionServiceImpl.streamEncrypted(
                 out,
                 IOUtils.toInputStream(config, "UTF-8"),
                 EncryptionContext.contextOf(
                         Strategy.PASSWORD_PWCC,
                         pwd));
+        assertFalse(encryption.hasError());
 
         final byte[] byteArray = out.toByteArray();
 
@@ -84,10 +92,11 @@ public class SebConfigEncryptionServiceImplTest {
         assertTrue(Utils.toString(cipher).startsWith(Utils.toString(Strategy.PASSWORD_PWCC.header)));
 
         final ByteArrayOutputStream out2 = new ByteArrayOutputStream(512);
-        sebConfigEncryptionServiceImpl.streamDecrypted(
+        final Result<Void> decryption = sebConfigEncryptionServiceImpl.streamDecrypted(
                 out2,
                 new ByteArrayInputStream(byteArray),
                 EncryptionContext.contextOf(Strategy.PASSWORD_PSWD, pwd));
+        assertFalse(decryption.hasError());
 
         final byte[] byteArray2 = out2.toByteArray();
         assertNotNull(byteArray2);
@@ -96,6 +105,61 @@ public class SebConfigEncryptionServiceImplTest {
         assertEquals(config, decryptedConfig);
     }
 
+    @Test
+    public void testStreamingPipelineInCallingThread() throws IOException {
+        final SebConfigEncryptionServiceImpl sebConfigEncryptionServiceImpl = sebConfigEncryptionServiceImpl();
+        final ZipServiceImpl zipService = new ZipServiceImpl();
+
+        // much bigger than the buffer of a PipedInputStream
+        final StringBuilder builder = new StringBuilder("<TestConfig>");
+        for (int i = 0; i < 10000; i++) {
+            builder.append("<key>key").append(i).append("</key><string>value").append(i).append("</string>");
+        }
+        final String config = builder.append("</TestConfig>").toString();
+        final String pwd = "password";
+
+        // plain text -> zip -> encrypt
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final OutputStream plainOut = zipService.compress(
+                sebConfigEncryptionServiceImpl.encryptingStream(
+                        out,
+                        EncryptionContext.contextOf(Strategy.PASSWORD_PSWD, pwd)))) {
+            plainOut.write(Utils.toByteArray(config));
+        }
+
+        final byte[] cipher = out.toByteArray();
+        assertTrue(Utils.toString(ByteBuffer.wrap(cipher)).startsWith(Utils.toString(Strategy.PASSWORD_PSWD.header)));
+
+        // decrypt -> unzip -> plain text
+        try (final InputStream plainIn = zipService.uncompress(
+                sebConfigEncryptionServiceImpl.decryptingStream(
+                        new ByteArrayInputStream(cipher),
+                        EncryptionContext.contextOf(pwd)))) {
+            assertEquals(config, IOUtils.toString(plainIn, "UTF-8"));
+        }
+    }
+
+    @Test
+    public void testDecryptingStreamWithoutPassword() throws IOException {
+        final SebConfigEncryptionServiceImpl sebConfigEncryptionServiceImpl = sebConfigEncryptionServiceImpl();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        sebConfigEncryptionServiceImpl.streamEncrypted(
+                out,
+                IOUtils.toInputStream("<TestConfig></TestConfig>", "UTF-8"),
+                EncryptionContext.contextOf(Strategy.PASSWORD_PSWD, "password"))
+                .getOrThrow();
+
+        try {
+            sebConfigEncryptionServiceImpl.decryptingStream(
+                    new ByteArrayInputStream(out.toByteArray()),
+                    EncryptionContext.contextOf((CharSequence) null));
+            fail("APIMessageException expected");
+        } catch (final APIMessageException e) {
+            assertTrue(APIMessage.ErrorMessage.MISSING_PASSWORD.isOf(e.getAPIMessages().iterator().next()));
+        }
+    }
+
     private SebConfigEncryptionServiceImpl sebConfigEncryptionServiceImpl() {
         final JNCryptor cryptor = new AES256JNCryptor();
         final List<SebConfigCryptor> encryptors = Arrays.asList(
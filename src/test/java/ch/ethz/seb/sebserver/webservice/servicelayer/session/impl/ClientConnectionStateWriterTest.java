@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.transaction.TransactionFactory;
+import org.junit.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection.ConnectionStatus;
+import ch.ethz.seb.sebserver.webservice.WebserviceInfo;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.mapper.ClientConnectionRecordMapper;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientConnectionDAO;
+
+public class ClientConnectionStateWriterTest {
+
+    private static final ClientConnection PERSISTED = connection(null, ConnectionStatus.CONNECTION_REQUESTED);
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    public void testFlushedTransitionIsRemoved() {
+        final ClientConnectionStateWriter writer = createWriter();
+        writer.save(PERSISTED, connection(null, ConnectionStatus.AUTHENTICATED)).getOrThrow();
+        assertEquals(1, writer.pendingCount());
+
+        writer.flushTask();
+        assertEquals(0, writer.pendingCount());
+    }
+
+    @Test
+    public void testTransitionsStayVisibleUntilCommit() {
+        final ClientConnectionStateWriter writer = createWriter();
+        writer.save(PERSISTED, connection(null, ConnectionStatus.AUTHENTICATED)).getOrThrow();
+
+        when(this.transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            // the read path still sees the transition that is being flushed
+            assertEquals(ConnectionStatus.AUTHENTICATED, writer.applyPending(PERSISTED).status);
+            // a new transition while flushing
+            writer.save(PERSISTED, connection(2L, ConnectionStatus.ACTIVE)).getOrThrow();
+            return null;
+        });
+
+        writer.flushTask();
+
+        // the newer transition is kept for the next flush
+        assertEquals(1, writer.pendingCount());
+        final ClientConnection pending = writer.applyPending(PERSISTED);
+        assertEquals(ConnectionStatus.ACTIVE, pending.status);
+        assertEquals(Long.valueOf(2L), pending.examId);
+    }
+
+    @Test
+    public void testFailedFlushKeepsTransitions() {
+        final ClientConnectionStateWriter writer = createWriter();
+        writer.save(PERSISTED, connection(null, ConnectionStatus.AUTHENTICATED)).getOrThrow();
+        when(this.transactionManager.getTransaction(any())).thenThrow(new RuntimeException("No database"));
+
+        writer.flushTask();
+
+        assertEquals(1, writer.pendingCount());
+        assertEquals(ConnectionStatus.AUTHENTICATED, writer.applyPending(PERSISTED).status);
+    }
+
+    private ClientConnectionStateWriter createWriter() {
+        final Configuration configuration = new Configuration(new Environment(
+                "test",
+                mock(TransactionFactory.class),
+                mock(DataSource.class)));
+        configuration.addMapper(ClientConnectionRecordMapper.class);
+        final SqlSessionFactory sqlSessionFactory = mock(SqlSessionFactory.class);
+        when(sqlSessionFactory.getConfiguration()).thenReturn(configuration);
+        when(sqlSessionFactory.openSession(ExecutorType.BATCH)).thenReturn(mock(SqlSession.class));
+
+        final WebserviceInfo webserviceInfo = mock(WebserviceInfo.class);
+        when(webserviceInfo.isDistributed()).thenReturn(false);
+
+        final ClientConnectionStateWriter writer = new ClientConnectionStateWriter(
+                mock(ClientConnectionDAO.class),
+                mock(CacheManager.class),
+                sqlSessionFactory,
+                this.transactionManager,
+                webserviceInfo,
+                true);
+        writer.init();
+        return writer;
+    }
+
+    private static ClientConnection connection(final Long examId, final ConnectionStatus status) {
+        return new ClientConnection(1L, 1L, examId, status, "token1", null, null, null, 1000L);
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import ch.ethz.seb.sebserver.gbl.api.API.ExportFormat;
+import ch.ethz.seb.sebserver.gbl.api.JSONMapper;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent.EventType;
+import ch.ethz.seb.sebserver.gbl.model.session.ExtendedClientEvent;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientEventDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.FilterMap;
+
+public class ClientEventExportServiceImplTest {
+
+    @Test
+    public void testCSVExport() {
+        final ClientEventExportServiceImpl exportService = createExportService();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        final Integer count = exportService
+                .exportEvents(new FilterMap(), ExportFormat.CSV, out)
+                .getOrThrow();
+
+        assertEquals(Integer.valueOf(2), count);
+        assertEquals(
+                "id,institutionId,examId,clientConnectionId,examUserSessionId,type,timestamp,serverTime,numericValue,text\n"
+                        + "1,1,2,3,user1,INFO_LOG,10,11,,some text\n"
+                        + "2,1,2,3,user1,ERROR_LOG,20,21,1.0,\"text, with \"\"quotes\"\"\nand lines\"\n",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testNDJSONExport() {
+        final ClientEventExportServiceImpl exportService = createExportService();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        final Integer count = exportService
+                .exportEvents(new FilterMap(), ExportFormat.NDJSON, out)
+                .getOrThrow();
+
+        assertEquals(Integer.valueOf(2), count);
+        final String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(
+                "{\"institutionId\":1,\"examId\":2,\"examUserSessionId\":\"user1\",\"id\":1,\"clientConnectionId\":3,"
+                        + "\"type\":\"INFO_LOG\",\"timestamp\":10,\"serverTime\":11,\"text\":\"some text\",\"indicatorValue\":\"NaN\"}",
+                lines[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ClientEventExportServiceImpl createExportService() {
+        final ClientEventDAO clientEventDAO = Mockito.mock(ClientEventDAO.class);
+        Mockito.when(clientEventDAO.streamExtended(
+                ArgumentMatchers.any(FilterMap.class),
+                ArgumentMatchers.any(Consumer.class)))
+                .thenAnswer(invocation -> {
+                    final Consumer<ExtendedClientEvent> consumer = invocation.getArgument(1);
+                    consumer.accept(new ExtendedClientEvent(
+                            1L, 2L, "user1", 1L, 3L, EventType.INFO_LOG, 10L, 11L, null, "some text"));
+                    consumer.accept(new ExtendedClientEvent(
+                            1L, 2L, "user1", 2L, 3L, EventType.ERROR_LOG, 20L, 21L, 1.0,
+                            "text, with \"quotes\"\nand lines"));
+                    return Result.of(2);
+                });
+
+        return new ClientEventExportServiceImpl(clientEventDAO, new JSONMapper());
+    }
+
+}
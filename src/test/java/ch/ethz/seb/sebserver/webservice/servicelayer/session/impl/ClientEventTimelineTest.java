@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.joda.time.DateTimeUtils;
+import org.junit.After;
+import org.junit.Test;
+
+import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientEvent.EventType;
+
+public class ClientEventTimelineTest {
+
+    @After
+    public void resetTime() {
+        DateTimeUtils.setCurrentMillisSystem();
+    }
+
+    @Test
+    public void testRingBufferOverwritesOldest() {
+        final ClientEventTimeline timeline = new ClientEventTimeline(1L, 3, 0, 100);
+        for (int i = 1; i <= 5; i++) {
+            timeline.notifyEvent(new ClientEvent(null, null, EventType.INFO_LOG, (long) i, (long) i, null, "e" + i));
+        }
+
+        final List<ClientEvent> events = timeline.getTimeline(null);
+        assertEquals(3, events.size());
+        assertEquals("e3", events.get(0).text);
+        assertEquals("e5", events.get(2).text);
+        assertEquals(Long.valueOf(1L), events.get(0).connectionId);
+    }
+
+    @Test
+    public void testPingsAndEventsOrderedBySince() {
+        final ClientEventTimeline timeline = new ClientEventTimeline(1L, 10, 2, 100);
+
+        DateTimeUtils.setCurrentMillisFixed(10);
+        timeline.notifyPing(9, 1);
+        DateTimeUtils.setCurrentMillisFixed(20);
+        timeline.notifyPing(19, 2);
+        DateTimeUtils.setCurrentMillisFixed(30);
+        timeline.notifyPing(29, 3);
+        timeline.notifyEvent(new ClientEvent(null, null, EventType.WARN_LOG, 25L, 25L, null, "warn"));
+
+        List<ClientEvent> events = timeline.getTimeline(null);
+        assertEquals(3, events.size());
+        assertEquals(EventType.LAST_PING, events.get(0).eventType);
+        assertEquals("2.0", String.valueOf(events.get(0).numValue));
+        assertEquals("warn", events.get(1).text);
+        assertEquals("3.0", String.valueOf(events.get(2).numValue));
+
+        events = timeline.getTimeline(25L);
+        assertEquals(1, events.size());
+        assertEquals(Long.valueOf(30L), events.get(0).serverTime);
+    }
+
+    @Test
+    public void testTextTruncatedAndDisabled() {
+        final ClientEventTimeline timeline = new ClientEventTimeline(1L, 1, 0, 4);
+        timeline.notifyEvent(new ClientEvent(null, 1L, EventType.ERROR_LOG, 1L, 1L, null, "0123456789"));
+        timeline.notifyPing(1, 1);
+
+        final List<ClientEvent> events = timeline.getTimeline(null);
+        assertEquals(1, events.size());
+        assertEquals("0123", events.get(0).text);
+
+        assertTrue(new ClientEventTimeline(1L, 0, 0, 4).getTimeline(null).isEmpty());
+    }
+
+}
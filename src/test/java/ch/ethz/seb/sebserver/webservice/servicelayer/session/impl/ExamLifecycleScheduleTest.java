@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+import ch.ethz.seb.sebserver.gbl.model.exam.Exam;
+import ch.ethz.seb.sebserver.gbl.model.exam.Exam.ExamStatus;
+import ch.ethz.seb.sebserver.gbl.model.exam.Exam.ExamType;
+import ch.ethz.seb.sebserver.webservice.servicelayer.session.impl.ExamLifecycleSchedule.Entry;
+import ch.ethz.seb.sebserver.webservice.servicelayer.session.impl.ExamLifecycleSchedule.Transition;
+
+public class ExamLifecycleScheduleTest {
+
+    @Test
+    public void testScheduleByStatus() {
+        final ExamLifecycleSchedule schedule = new ExamLifecycleSchedule(100, 200);
+
+        final Entry start = schedule.schedule(exam(1L, ExamStatus.UP_COMING, 1000L, 5000L));
+        assertEquals(Transition.START, start.transition);
+        assertEquals(900L, start.time);
+
+        final Entry end = schedule.schedule(exam(2L, ExamStatus.RUNNING, 1000L, 5000L));
+        assertEquals(Transition.END, end.transition);
+        assertEquals(5200L, end.time);
+
+        assertNull(schedule.schedule(exam(3L, ExamStatus.FINISHED, 1000L, 5000L)));
+        assertNull(schedule.schedule(exam(4L, ExamStatus.RUNNING, 1000L, null)));
+        assertEquals(2, schedule.size());
+
+        // a finished exam is removed from the schedule
+        assertNull(schedule.schedule(exam(2L, ExamStatus.FINISHED, 1000L, 5000L)));
+        assertEquals(1, schedule.size());
+        assertNull(schedule.get(2L));
+    }
+
+    @Test
+    public void testPollDueInTimeOrder() {
+        final ExamLifecycleSchedule schedule = new ExamLifecycleSchedule(0, 0);
+        schedule.reset(Arrays.asList(
+                exam(1L, ExamStatus.UP_COMING, 3000L, null),
+                exam(2L, ExamStatus.UP_COMING, 1000L, null),
+                exam(3L, ExamStatus.RUNNING, 0L, 2000L),
+                exam(4L, ExamStatus.UP_COMING, 9000L, null)));
+
+        assertTrue(schedule.pollDue(500L).isEmpty());
+
+        final List<Entry> due = schedule.pollDue(3000L);
+        assertEquals(3, due.size());
+        assertEquals(Long.valueOf(2L), due.get(0).examId);
+        assertEquals(Long.valueOf(3L), due.get(1).examId);
+        assertEquals(Long.valueOf(1L), due.get(2).examId);
+        assertNull(schedule.get(1L));
+        assertEquals(1, schedule.size());
+    }
+
+    @Test
+    public void testRescheduleReplacesPreviousTransition() {
+        final ExamLifecycleSchedule schedule = new ExamLifecycleSchedule(0, 0);
+        schedule.schedule(exam(1L, ExamStatus.UP_COMING, 1000L, 5000L));
+
+        // start time has been moved on the LMS
+        schedule.schedule(exam(1L, ExamStatus.UP_COMING, 4000L, 5000L));
+        assertEquals(1, schedule.size());
+        assertTrue(schedule.pollDue(3000L).isEmpty());
+
+        // exam has been started
+        schedule.schedule(exam(1L, ExamStatus.RUNNING, 4000L, 5000L));
+        assertEquals(Transition.END, schedule.get(1L).transition);
+        assertEquals(1, schedule.pollDue(5000L).size());
+        assertEquals(0, schedule.size());
+    }
+
+    private static Exam exam(final Long id, final ExamStatus status, final Long startTime, final Long endTime) {
+        return new Exam(
+                id, 1L, 1L, "quiz" + id, "quiz" + id, null,
+                (startTime != null) ? new DateTime(startTime, DateTimeZone.UTC) : null,
+                (endTime != null) ? new DateTime(endTime, DateTimeZone.UTC) : null,
+                null, ExamType.MANAGED, "owner", null, status, null, true, null);
+    }
+
+}
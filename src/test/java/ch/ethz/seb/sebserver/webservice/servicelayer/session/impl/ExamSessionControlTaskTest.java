@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+import ch.ethz.seb.sebserver.gbl.Constants;
+import ch.ethz.seb.sebserver.gbl.model.exam.Exam;
+import ch.ethz.seb.sebserver.gbl.model.exam.Exam.ExamStatus;
+import ch.ethz.seb.sebserver.gbl.model.exam.Exam.ExamType;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.WebserviceInfo;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ExamDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.WebserviceInfoDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.session.SebClientConnectionService;
+
+public class ExamSessionControlTaskTest {
+
+    private static final Long EXAM_ID = 1L;
+
+    private final ExamDAO examDAO = mock(ExamDAO.class);
+    private final ExamUpdateHandler examUpdateHandler = mock(ExamUpdateHandler.class);
+
+    @Test
+    public void testTransitionIsRetriedWhenQuizDataIsMissing() {
+        final long startTime = System.currentTimeMillis() - 1000;
+        when(this.examDAO.allForLifecycleSchedule(any())).thenReturn(Result.of(Collections.singletonList(
+                exam("quiz", startTime, startTime + 3600000))));
+        // the LMS is not available on the first check and the exam has no quiz data
+        final Exam exam = exam("quiz", startTime, startTime + 3600000);
+        when(this.examDAO.byPK(EXAM_ID)).thenReturn(
+                Result.of(exam(Constants.EMPTY_NOTE, null, null)),
+                Result.of(exam));
+
+        final ExamSessionControlTask task = createTask();
+        task.examRunUpdateTask();
+        verify(this.examUpdateHandler, never()).setRunning(any(), any());
+
+        // the transition has been rescheduled instead of dropped and is applied on the retry
+        task.examRunUpdateTask();
+        verify(this.examDAO, times(2)).byPK(EXAM_ID);
+        verify(this.examUpdateHandler).setRunning(exam, "update1");
+    }
+
+    private ExamSessionControlTask createTask() {
+        final WebserviceInfo webserviceInfo = mock(WebserviceInfo.class);
+        when(webserviceInfo.isDistributed()).thenReturn(false);
+        when(this.examDAO.syncMissingQuizData()).thenReturn(Result.of(Collections.emptyList()));
+        when(this.examUpdateHandler.createUpdateId()).thenReturn("update1");
+        when(this.examUpdateHandler.loadPendingSebRestrictions()).thenReturn(Result.of(Collections.emptyList()));
+
+        final ExamSessionControlTask task = new ExamSessionControlTask(
+                this.examDAO,
+                mock(SebClientConnectionService.class),
+                this.examUpdateHandler,
+                mock(WebserviceInfoDAO.class),
+                webserviceInfo,
+                Runnable::run,
+                1,
+                0L,
+                0L,
+                1000L,
+                300000L,
+                15000L,
+                15000L,
+                0L);
+        task.init();
+        return task;
+    }
+
+    private static Exam exam(final String name, final Long startTime, final Long endTime) {
+        return new Exam(
+                EXAM_ID, 1L, 1L, "quiz1", name, null,
+                (startTime != null) ? new DateTime(startTime, DateTimeZone.UTC) : null,
+                (endTime != null) ? new DateTime(endTime, DateTimeZone.UTC) : null,
+                null, ExamType.MANAGED, "owner", null, ExamStatus.UP_COMING, null, true, null);
+    }
+
+}
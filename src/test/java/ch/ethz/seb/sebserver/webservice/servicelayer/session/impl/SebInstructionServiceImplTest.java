@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+
+import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection.ConnectionStatus;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientInstruction.InstructionType;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.WebserviceInfo;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.ClientInstructionRecord;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientConnectionDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientInstructionDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ExamDAO;
+
+public class SebInstructionServiceImplTest {
+
+    private static final Long EXAM_ID = 1L;
+    private static final Long INSTRUCTION_ID = 10L;
+
+    private final ClientInstructionDAO clientInstructionDAO = mock(ClientInstructionDAO.class);
+
+    @Test
+    public void testDeliveredExamInstructionIsStored() {
+        final SebInstructionServiceImpl service = createService(null);
+
+        assertNotNull(service.getInstructionJSON(connection("token1")));
+        assertNull(service.getInstructionJSON(connection("token1")));
+        assertNotNull(service.getInstructionJSON(connection("token2")));
+
+        service.instructionUpdateTask();
+
+        verify(this.clientInstructionDAO).addExcludedTokens(
+                INSTRUCTION_ID,
+                Arrays.asList("token1", "token2"));
+    }
+
+    @Test
+    public void testDeliveredExamInstructionIsNotSentAgainAfterRestart() {
+        // the tokens the instruction has been delivered to before the restart are stored as excluded tokens
+        final SebInstructionServiceImpl service = createService("token1,token2");
+
+        assertNull(service.getInstructionJSON(connection("token1")));
+        assertNull(service.getInstructionJSON(connection("token2")));
+        assertEquals(
+                "{\"instruction\":\"SEB_QUIT\"}",
+                service.getInstructionJSON(connection("token3")));
+    }
+
+    @Test
+    public void testExamInstructionDeliveredOnceOverAllInstances() {
+        final Set<String> claimedTokens = ConcurrentHashMap.newKeySet();
+        when(this.clientInstructionDAO.claimExcludedToken(eq(INSTRUCTION_ID), anyString()))
+                .thenAnswer(invocation -> Result.of(claimedTokens.add(invocation.getArgument(1))));
+
+        final SebInstructionServiceImpl service1 = createService(null, true);
+        final SebInstructionServiceImpl service2 = createService(null, true);
+
+        assertNotNull(service1.getInstructionJSON(connection("token1")));
+        assertNull(service2.getInstructionJSON(connection("token1")));
+        assertNotNull(service2.getInstructionJSON(connection("token2")));
+        assertNull(service1.getInstructionJSON(connection("token2")));
+        assertNull(service1.getInstructionJSON(connection("token1")));
+    }
+
+    private SebInstructionServiceImpl createService(final String excludedTokens) {
+        return createService(excludedTokens, false);
+    }
+
+    private SebInstructionServiceImpl createService(final String excludedTokens, final boolean distributed) {
+        final WebserviceInfo webserviceInfo = mock(WebserviceInfo.class);
+        when(webserviceInfo.isDistributed()).thenReturn(distributed);
+
+        final ExamDAO examDAO = mock(ExamDAO.class);
+        when(examDAO.allRunningExamIds()).thenReturn(Result.of(Arrays.asList(EXAM_ID)));
+
+        final Collection<ClientInstructionRecord> records = Collections.singletonList(new ClientInstructionRecord(
+                INSTRUCTION_ID,
+                EXAM_ID,
+                null,
+                InstructionType.SEB_QUIT.name(),
+                null,
+                excludedTokens,
+                1000L));
+        when(this.clientInstructionDAO.getAllActiveAfter(anyLong())).thenReturn(Result.of(records));
+        when(this.clientInstructionDAO.addExcludedTokens(anyLong(), any())).thenReturn(Result.EMPTY);
+
+        final SebInstructionServiceImpl service = new SebInstructionServiceImpl(
+                webserviceInfo,
+                mock(ClientConnectionDAO.class),
+                this.clientInstructionDAO,
+                examDAO);
+        service.init();
+        return service;
+    }
+
+    private ClientConnection connection(final String connectionToken) {
+        return new ClientConnection(
+                1L, 1L, EXAM_ID, ConnectionStatus.ACTIVE, connectionToken, null, null, null, 500L);
+    }
+
+}
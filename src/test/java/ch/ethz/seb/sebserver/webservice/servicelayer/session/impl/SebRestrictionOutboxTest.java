@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.servicelayer.session.impl;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import ch.ethz.seb.sebserver.gbl.model.exam.Exam;
+import ch.ethz.seb.sebserver.gbl.model.exam.Exam.ExamStatus;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.datalayer.batis.model.SebRestrictionSyncRecord;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ExamDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.SebRestrictionSyncDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.lms.SebRestrictionService;
+import ch.ethz.seb.sebserver.webservice.servicelayer.session.impl.SebRestrictionOutbox.Push;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SebRestrictionOutboxTest {
+
+    private final Exam exam = new Exam(1L, ExamStatus.RUNNING);
+    private final SebRestrictionSyncDAO sebRestrictionSyncDAO = mock(SebRestrictionSyncDAO.class);
+    private final ExamDAO examDAO = mock(ExamDAO.class);
+
+    @Test
+    public void testPushReplacesPendingPush() {
+        final SebRestrictionService sebRestrictionService = mock(SebRestrictionService.class);
+        when(sebRestrictionService.releaseSebClientRestriction(this.exam)).thenReturn(Result.of(this.exam));
+        when(sebRestrictionService.checkSebClientRestriction(this.exam, false)).thenReturn(Result.of(true));
+        final SebRestrictionOutbox outbox = outbox(sebRestrictionService, 3, 0, 0);
+
+        outbox.push(this.exam, true);
+        outbox.push(this.exam, false);
+        outbox.processPending();
+
+        verify(sebRestrictionService, never()).applySebClientRestriction(this.exam);
+        verify(sebRestrictionService).releaseSebClientRestriction(this.exam);
+        assertTrue(outbox.getPending(this.exam.id).isPushed());
+
+        // verify
+        outbox.processPending();
+        verify(sebRestrictionService).checkSebClientRestriction(this.exam, false);
+        assertNull(outbox.getPending(this.exam.id));
+    }
+
+    @Test
+    public void testFailedPushIsRetried() {
+        final SebRestrictionService sebRestrictionService = mock(SebRestrictionService.class);
+        when(sebRestrictionService.applySebClientRestriction(this.exam))
+                .thenReturn(Result.ofError(new RuntimeException("LMS not available")))
+                .thenReturn(Result.of(this.exam));
+        when(sebRestrictionService.checkSebClientRestriction(this.exam, true)).thenReturn(Result.of(true));
+        final SebRestrictionOutbox outbox = outbox(sebRestrictionService, 3, 100000, 100000);
+
+        outbox.push(this.exam, true);
+        outbox.processPending();
+
+        final Push retry = outbox.getPending(this.exam.id);
+        assertNotNull(retry);
+        assertEquals(1, retry.attempts);
+
+        // not yet due
+        outbox.processPending();
+        verify(sebRestrictionService, times(1)).applySebClientRestriction(this.exam);
+
+        outbox.process(retry);
+        verify(sebRestrictionService, times(2)).applySebClientRestriction(this.exam);
+        outbox.process(outbox.getPending(this.exam.id));
+        assertNull(outbox.getPending(this.exam.id));
+    }
+
+    @Test
+    public void testGiveUpAfterMaxAttempts() {
+        final SebRestrictionService sebRestrictionService = mock(SebRestrictionService.class);
+        when(sebRestrictionService.applySebClientRestriction(this.exam))
+                .thenThrow(new IllegalStateException("No LMS setup"));
+        final SebRestrictionOutbox outbox = outbox(sebRestrictionService, 2, 0, 0);
+
+        outbox.push(this.exam, true);
+        outbox.processPending();
+        assertNotNull(outbox.getPending(this.exam.id));
+        outbox.processPending();
+        assertNull(outbox.getPending(this.exam.id));
+        verify(sebRestrictionService, times(2)).applySebClientRestriction(this.exam);
+    }
+
+    @Test
+    public void testPushedOnceWhileLmsCatchesUp() {
+        final SebRestrictionService sebRestrictionService = mock(SebRestrictionService.class);
+        when(sebRestrictionService.applySebClientRestriction(this.exam)).thenReturn(Result.of(this.exam));
+        when(sebRestrictionService.checkSebClientRestriction(this.exam, true))
+                .thenReturn(Result.of(false))
+                .thenReturn(Result.ofError(new RuntimeException("LMS not available")))
+                .thenReturn(Result.of(true));
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final SebRestrictionOutbox outbox = outbox(sebRestrictionService, meterRegistry, 3, 0, 0, 3, 1);
+
+        outbox.push(this.exam, true);
+        outbox.processPending();
+        outbox.processPending();
+        outbox.processPending();
+        assertEquals(2, outbox.getPending(this.exam.id).checks);
+        outbox.processPending();
+
+        verify(sebRestrictionService, times(1)).applySebClientRestriction(this.exam);
+        verify(sebRestrictionService, times(3)).checkSebClientRestriction(this.exam, true);
+        assertNull(outbox.getPending(this.exam.id));
+        assertEquals(1, meterRegistry.get(SebRestrictionOutbox.LAG_TIMER_NAME).timer().count());
+        assertEquals(0, meterRegistry.get(SebRestrictionOutbox.RETRY_COUNTER_NAME).counter().count(), 0);
+    }
+
+    @Test
+    public void testVerifiedAfterConsecutiveMatches() {
+        final SebRestrictionService sebRestrictionService = mock(SebRestrictionService.class);
+        when(sebRestrictionService.applySebClientRestriction(this.exam)).thenReturn(Result.of(this.exam));
+        // the LMS responds with the old and the new state alternately for a while
+        when(sebRestrictionService.checkSebClientRestriction(this.exam, true))
+                .thenReturn(Result.of(true))
+                .thenReturn(Result.of(false))
+                .thenReturn(Result.of(true));
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final SebRestrictionOutbox outbox = outbox(sebRestrictionService, meterRegistry, 3, 0, 0, 3, 2);
+
+        outbox.push(this.exam, true);
+        outbox.processPending();
+        outbox.processPending();
+        assertEquals(1, outbox.getPending(this.exam.id).matches);
+
+        // a mismatch resets the matches
+        outbox.processPending();
+        assertEquals(0, outbox.getPending(this.exam.id).matches);
+        assertEquals(1, outbox.getPending(this.exam.id).checks);
+
+        outbox.processPending();
+        assertNotNull(outbox.getPending(this.exam.id));
+        assertEquals(0, meterRegistry.get(SebRestrictionOutbox.LAG_TIMER_NAME).timer().count());
+
+        outbox.processPending();
+        assertNull(outbox.getPending(this.exam.id));
+        verify(sebRestrictionService, times(1)).applySebClientRestriction(this.exam);
+        verify(sebRestrictionService, times(4)).checkSebClientRestriction(this.exam, true);
+        assertEquals(1, meterRegistry.get(SebRestrictionOutbox.LAG_TIMER_NAME).timer().count());
+    }
+
+    @Test
+    public void testPersistentMismatchIsPushedAgain() {
+        final SebRestrictionService sebRestrictionService = mock(SebRestrictionService.class);
+        when(sebRestrictionService.applySebClientRestriction(this.exam)).thenReturn(Result.of(this.exam));
+        when(sebRestrictionService.checkSebClientRestriction(this.exam, true)).thenReturn(Result.of(false));
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final SebRestrictionOutbox outbox = outbox(sebRestrictionService, meterRegistry, 2, 0, 0, 2, 1);
+
+        outbox.push(this.exam, true);
+        outbox.processPending();
+        outbox.processPending();
+        outbox.processPending();
+
+        // mismatch after max checks, push again
+        final Push retry = outbox.getPending(this.exam.id);
+        assertFalse(retry.isPushed());
+        assertEquals(1, retry.attempts);
+        assertEquals(1, meterRegistry.get(SebRestrictionOutbox.RETRY_COUNTER_NAME).counter().count(), 0);
+
+        outbox.processPending();
+        outbox.processPending();
+        outbox.processPending();
+
+        verify(sebRestrictionService, times(2)).applySebClientRestriction(this.exam);
+        assertNull(outbox.getPending(this.exam.id));
+        assertEquals(1, meterRegistry.get(SebRestrictionOutbox.FAILED_COUNTER_NAME).counter().count(), 0);
+        assertEquals(0, meterRegistry.get(SebRestrictionOutbox.PENDING_GAUGE_NAME).gauge().value(), 0);
+    }
+
+    @Test
+    public void testPushIsPersistedUntilVerified() {
+        final SebRestrictionService sebRestrictionService = mock(SebRestrictionService.class);
+        when(sebRestrictionService.applySebClientRestriction(this.exam)).thenReturn(Result.of(this.exam));
+        when(sebRestrictionService.checkSebClientRestriction(this.exam, true)).thenReturn(Result.of(true));
+        final SebRestrictionOutbox outbox = outbox(sebRestrictionService, 3, 0, 0);
+
+        outbox.push(this.exam, true);
+        final long requested = outbox.getPending(this.exam.id).requested;
+        verify(this.sebRestrictionSyncDAO).savePending(this.exam.id, true, requested);
+
+        outbox.processPending();
+        verify(this.sebRestrictionSyncDAO, never()).removePending(anyLong(), anyLong());
+
+        outbox.processPending();
+        assertNull(outbox.getPending(this.exam.id));
+        verify(this.sebRestrictionSyncDAO).removePending(this.exam.id, requested);
+    }
+
+    @Test
+    public void testLoadPersistedRequests() {
+        final SebRestrictionService sebRestrictionService = mock(SebRestrictionService.class);
+        final SebRestrictionOutbox outbox = outbox(sebRestrictionService, 3, 0, 0);
+
+        // the request of exam 2 is persisted but the exam does not exist anymore
+        when(this.sebRestrictionSyncDAO.allPending()).thenReturn(Result.of(Arrays.asList(
+                new SebRestrictionSyncRecord(1L, this.exam.id, 1, 1000L),
+                new SebRestrictionSyncRecord(2L, 2L, 0, 1000L))));
+        when(this.examDAO.allOf(any())).thenReturn(Result.of(Collections.singletonList(this.exam)));
+
+        assertEquals(Collections.singleton(this.exam.id), outbox.loadPending().getOrThrow());
+
+        final Push push = outbox.getPending(this.exam.id);
+        assertTrue(push.restrict);
+        assertFalse(push.isPushed());
+        assertEquals(1000L, push.requested);
+        verify(this.sebRestrictionSyncDAO).removePending(2L, 1000L);
+
+        // a newer request in memory is not replaced by an older persisted one
+        outbox.push(this.exam, false);
+        outbox.loadPending();
+        assertFalse(outbox.getPending(this.exam.id).restrict);
+    }
+
+    private SebRestrictionOutbox outbox(
+            final SebRestrictionService sebRestrictionService,
+            final int maxAttempts,
+            final long retryDelay,
+            final long maxRetryDelay) {
+
+        return outbox(sebRestrictionService, new SimpleMeterRegistry(), maxAttempts, retryDelay, maxRetryDelay, 3, 1);
+    }
+
+    private SebRestrictionOutbox outbox(
+            final SebRestrictionService sebRestrictionService,
+            final SimpleMeterRegistry meterRegistry,
+            final int maxAttempts,
+            final long retryDelay,
+            final long maxRetryDelay,
+            final int maxChecks,
+            final int requiredMatches) {
+
+        when(this.sebRestrictionSyncDAO.savePending(anyLong(), anyBoolean(), anyLong()))
+                .thenAnswer(invocation -> Result.of(invocation.getArgument(0)));
+        when(this.sebRestrictionSyncDAO.removePending(anyLong(), anyLong())).thenReturn(Result.of(true));
+
+        return new SebRestrictionOutbox(
+                sebRestrictionService,
+                this.sebRestrictionSyncDAO,
+                this.examDAO,
+                Runnable::run,
+                meterRegistry,
+                2,
+                maxAttempts,
+                retryDelay,
+                maxRetryDelay,
+                maxChecks,
+                requiredMatches,
+                0);
+    }
+
+}
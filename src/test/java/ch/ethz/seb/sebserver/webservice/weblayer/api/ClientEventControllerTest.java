@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.weblayer.api;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Locale;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import ch.ethz.seb.sebserver.gbl.api.API.ExportFormat;
+import ch.ethz.seb.sebserver.gbl.model.exam.Exam;
+import ch.ethz.seb.sebserver.gbl.model.user.UserInfo;
+import ch.ethz.seb.sebserver.gbl.util.Result;
+import ch.ethz.seb.sebserver.webservice.servicelayer.PaginationService;
+import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.AuthorizationService;
+import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.UserService;
+import ch.ethz.seb.sebserver.webservice.servicelayer.authorization.impl.SEBServerUser;
+import ch.ethz.seb.sebserver.webservice.servicelayer.bulkaction.BulkActionService;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ClientEventDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.ExamDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.dao.UserActivityLogDAO;
+import ch.ethz.seb.sebserver.webservice.servicelayer.session.ClientEventExportService;
+import ch.ethz.seb.sebserver.webservice.servicelayer.validation.BeanValidationService;
+
+public class ClientEventControllerTest {
+
+    private static final int ROWS_BEFORE_FAILURE = 1000;
+
+    private final ClientEventExportService clientEventExportService = mock(ClientEventExportService.class);
+    private final ClientEventController controller = createController();
+
+    @Test
+    public void testExportFailureAfterStreamingStartedIsNotCompletedNormally() throws Exception {
+        when(this.clientEventExportService.exportEvents(any(), any(), any())).thenAnswer(invocation -> {
+            final OutputStream out = invocation.getArgument(2);
+            for (int i = 0; i < ROWS_BEFORE_FAILURE; i++) {
+                out.write(("event-" + i + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            out.flush();
+            return Result.ofRuntimeError("Lost database connection");
+        });
+
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            export(response);
+            fail("RuntimeException expected");
+        } catch (final RuntimeException e) {
+            assertEquals("Lost database connection", e.getMessage());
+        }
+
+        assertTrue(response.isCommitted());
+        assertTrue(response.getContentAsString().startsWith("event-0\n"));
+
+        // the error is not turned into an error response that is appended to the partial export
+        try {
+            new APIExceptionHandler().handleUnexpected(
+                    new RuntimeException("Lost database connection"),
+                    new ServletWebRequest(new MockHttpServletRequest(), response),
+                    response);
+            fail("RuntimeException expected");
+        } catch (final RuntimeException e) {
+            assertEquals("Lost database connection", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testExportFailureBeforeStreamingStartedSendsErrorResponse() throws Exception {
+        when(this.clientEventExportService.exportEvents(any(), any(), any())).thenAnswer(invocation -> {
+            final OutputStream out = invocation.getArgument(2);
+            out.write("event-0\n".getBytes(StandardCharsets.UTF_8));
+            return Result.ofRuntimeError("Lost database connection");
+        });
+
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            export(response);
+            fail("RuntimeException expected");
+        } catch (final RuntimeException e) {
+            assertFalse(response.isCommitted());
+            assertEquals("", response.getContentAsString());
+
+            final ResponseEntity<Object> errorResponse = new APIExceptionHandler().handleUnexpected(
+                    e,
+                    new ServletWebRequest(new MockHttpServletRequest(), response),
+                    response);
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, errorResponse.getStatusCode());
+        }
+    }
+
+    private void export(final MockHttpServletResponse response) throws Exception {
+        this.controller.exportEvents(
+                1L,
+                1L,
+                ExportFormat.CSV,
+                new LinkedMultiValueMap<>(),
+                new MockHttpServletRequest(),
+                response);
+    }
+
+    private ClientEventController createController() {
+        final Exam exam = new Exam(1L, 1L, 1L, "quiz1", "Exam 1", null, null, null, null, null, "user1",
+                Collections.emptyList(), null, null, true, null);
+
+        final UserService userService = mock(UserService.class);
+        when(userService.getCurrentUser()).thenReturn(new SEBServerUser(
+                1L,
+                new UserInfo("user1", 1L, new DateTime(0, DateTimeZone.UTC), "user1", "", "user1", "mail", true,
+                        Locale.ENGLISH, DateTimeZone.UTC, Collections.emptySet()),
+                ""));
+        final AuthorizationService authorization = mock(AuthorizationService.class);
+        when(authorization.getUserService()).thenReturn(userService);
+        when(authorization.checkRead(exam)).thenReturn(Result.of(exam));
+
+        final ExamDAO examDAO = mock(ExamDAO.class);
+        when(examDAO.byPK(1L)).thenReturn(Result.of(exam));
+        final UserActivityLogDAO userActivityLogDAO = mock(UserActivityLogDAO.class);
+        when(userActivityLogDAO.logExport(exam)).thenReturn(Result.of(exam));
+
+        return new ClientEventController(
+                authorization,
+                mock(BulkActionService.class),
+                mock(ClientEventDAO.class),
+                userActivityLogDAO,
+                mock(PaginationService.class),
+                mock(BeanValidationService.class),
+                examDAO,
+                this.clientEventExportService);
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2020 ETH Zürich, Educational Development and Technology (LET)
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package ch.ethz.seb.sebserver.webservice.weblayer.api;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import ch.ethz.seb.sebserver.gbl.api.JSONMapper;
+import ch.ethz.seb.sebserver.gbl.model.Page;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientConnection.ConnectionStatus;
+import ch.ethz.seb.sebserver.gbl.model.session.ClientConnectionData;
+import ch.ethz.seb.sebserver.gbl.model.session.SimpleIndicatorValue;
+import ch.ethz.seb.sebserver.webservice.weblayer.api.CompactViewResponseAdvice.FieldSelection;
+
+public class CompactViewResponseAdviceTest {
+
+    private final JSONMapper jsonMapper = new JSONMapper();
+    private final CompactViewResponseAdvice advice = new CompactViewResponseAdvice(this.jsonMapper);
+
+    @Test
+    public void testCompactConnectionData() throws Exception {
+        final JsonNode compact = this.advice.applyFieldSelection(
+                createConnectionData(1),
+                FieldSelection.of(ClientConnectionData.MONITORING_VIEW_FIELDS));
+
+        assertEquals(
+                "[{\"missingPing\":false,"
+                        + "\"clientConnection\":{\"id\":0,\"status\":\"ACTIVE\",\"connectionToken\":\"connection-token-0\","
+                        + "\"examUserSessionId\":\"user0\",\"clientAddress\":\"192.168.0.0\"},"
+                        + "\"indicatorValues\":[{\"indicatorType\":\"LAST_PING\",\"indicatorValue\":1000.0},"
+                        + "{\"indicatorType\":\"ERROR_COUNT\",\"indicatorValue\":0.0},"
+                        + "{\"indicatorType\":\"WARN_COUNT\",\"indicatorValue\":2.0}]}]",
+                this.jsonMapper.writeValueAsString(compact));
+    }
+
+    @Test
+    public void testCompactPageKeepsPageAttributes() throws Exception {
+        final Collection<ClientConnection> connections = new ArrayList<>();
+        createConnectionData(2).forEach(data -> connections.add(data.clientConnection));
+        final Page<ClientConnection> page = new Page<>(1, 1, "id", connections);
+
+        final JsonNode compact = this.advice.applyFieldSelection(page, FieldSelection.of(" id, status "));
+
+        assertEquals(
+                "{\"number_of_pages\":1,\"page_number\":1,\"sort\":\"id\","
+                        + "\"content\":[{\"id\":0,\"status\":\"ACTIVE\"},{\"id\":1,\"status\":\"ACTIVE\"}],"
+                        + "\"page_size\":2}",
+                this.jsonMapper.writeValueAsString(compact));
+    }
+
+    @Test
+    public void testPayloadSize() throws Exception {
+        final List<ClientConnectionData> data = createConnectionData(1000);
+        final FieldSelection selection = FieldSelection.of(ClientConnectionData.MONITORING_VIEW_FIELDS);
+
+        final byte[] full = this.jsonMapper.writeValueAsBytes(data);
+        final byte[] compact = this.jsonMapper.writeValueAsBytes(this.advice.applyFieldSelection(data, selection));
+
+        assertTrue(compact.length < full.length);
+        assertTrue(gzip(full).length < full.length);
+        assertTrue(gzip(compact).length < compact.length);
+    }
+
+    @Test
+    public void testCompactConnectionDataForMonitoring() throws Exception {
+        final List<ClientConnectionData> data = createConnectionData(2);
+        final byte[] compact = this.jsonMapper.writeValueAsBytes(this.advice.applyFieldSelection(
+                data,
+                FieldSelection.of(ClientConnectionData.MONITORING_VIEW_FIELDS)));
+
+        // the monitoring connection list can be updated with the compact view
+        final List<ClientConnectionData> result = this.jsonMapper.readValue(
+                compact,
+                new TypeReference<List<ClientConnectionData>>() {
+                });
+        assertEquals(2, result.size());
+        for (int i = 0; i < 2; i++) {
+            assertTrue(data.get(i).dataEquals(result.get(i)));
+            assertEquals(data.get(i).getConnectionId(), result.get(i).getConnectionId());
+            assertEquals(data.get(i).clientConnection.connectionToken, result.get(i).clientConnection.connectionToken);
+            assertEquals(data.get(i).missingPing, result.get(i).missingPing);
+        }
+    }
+
+    private List<ClientConnectionData> createConnectionData(final int num) throws IOException {
+        final List<SimpleIndicatorValue> indicatorValues = this.jsonMapper.readValue(
+                "[{\"indicatorType\":\"LAST_PING\",\"indicatorValue\":1000.0},"
+                        + "{\"indicatorType\":\"ERROR_COUNT\",\"indicatorValue\":0.0},"
+                        + "{\"indicatorType\":\"WARN_COUNT\",\"indicatorValue\":2.0}]",
+                new TypeReference<List<SimpleIndicatorValue>>() {
+                });
+
+        final List<ClientConnectionData> result = new ArrayList<>();
+        for (int i = 0; i < num; i++) {
+            result.add(new ClientConnectionData(
+                    false,
+                    new ClientConnection(
+                            (long) i,
+                            1L,
+                            2L,
+                            ConnectionStatus.ACTIVE,
+                            "connection-token-" + i,
+                            "user" + i,
+                            "192.168.0." + (i % 255),
+                            null,
+                            1584000000000L + i),
+                    indicatorValues));
+        }
+        return result;
+    }
+
+    private static byte[] gzip(final byte[] data) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+}
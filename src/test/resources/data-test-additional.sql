@@ -7,8 +7,8 @@ INSERT IGNORE INTO seb_client_configuration VALUES
     ;
     
 INSERT IGNORE INTO exam VALUES
-    (1, 1, 1, 'quiz1', 'super-admin', 'super-admin', 'MANAGED', null, null, 'UP_COMING', 1, 0, null, 1),
-    (2, 1, 1, 'quiz6', 'super-admin', 'super-admin', 'MANAGED', null, null, 'RUNNING', 1, 0, null, 1)
+    (1, 1, 1, 'quiz1', 'super-admin', 'super-admin', 'MANAGED', null, null, 'UP_COMING', 1, 0, null, 1, 'Demo Quiz 1 (MOCKUP)', 1577869200000, 1609491600000),
+    (2, 1, 1, 'quiz6', 'super-admin', 'super-admin', 'MANAGED', null, null, 'RUNNING', 1, 0, null, 1, 'Demo Quiz 6 (MOCKUP)', 1546333200000, 1609491600000)
     ;
     
 INSERT IGNORE INTO indicator VALUES
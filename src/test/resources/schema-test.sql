@@ -64,9 +64,14 @@ CREATE TABLE IF NOT EXISTS `exam` (
   `updating` INT(1) NOT NULL,
   `lastUpdate` VARCHAR(255) NULL,
   `active` INT(1) NOT NULL,
+  `quiz_name` VARCHAR(255) NULL,
+  `quiz_start_time` BIGINT NULL,
+  `quiz_end_time` BIGINT NULL,
   PRIMARY KEY (`id`),
   INDEX `lms_setup_key_idx` (`lms_setup_id` ASC),
   INDEX `institution_key_idx` (`institution_id` ASC),
+  INDEX `examQuizName_idx` (`institution_id` ASC, `quiz_name` ASC),
+  INDEX `examQuizStartTime_idx` (`institution_id` ASC, `quiz_start_time` ASC),
   CONSTRAINT `examLmsSetupRef`
     FOREIGN KEY (`lms_setup_id`)
     REFERENCES `lms_setup` (`id`)
@@ -126,7 +131,8 @@ CREATE TABLE IF NOT EXISTS `client_event` (
   `numeric_value` DECIMAL(10,4) NULL,
   `text` VARCHAR(512) NULL,
   PRIMARY KEY (`id`),
-  INDEX `eventConnectionRef_idx` (`client_connection_id` ASC),
+  INDEX `eventConnectionTypeTime_idx` (`client_connection_id` ASC, `type` ASC, `server_time` ASC),
+  INDEX `eventServerTime_idx` (`server_time` ASC),
   CONSTRAINT `eventConnectionRef`
     FOREIGN KEY (`client_connection_id`)
     REFERENCES `client_connection` (`id`)
@@ -505,10 +511,13 @@ CREATE TABLE IF NOT EXISTS `seb_client_configuration` (
 DROP TABLE IF EXISTS `webservice_server_info` ;
 
 CREATE TABLE IF NOT EXISTS `webservice_server_info` (
-  `id` BIGINT UNSIGNED NOT NULL,
+  `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   `uuid` VARCHAR(255) NOT NULL,
   `service_address` VARCHAR(255) NOT NULL,
-  PRIMARY KEY (`id`))
+  `master` INT(1) NOT NULL DEFAULT 0,
+  `update_time` BIGINT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE INDEX `webserviceUUID_idx` (`uuid` ASC))
 ;
 
 
@@ -520,9 +529,11 @@ DROP TABLE IF EXISTS `client_instruction` ;
 CREATE TABLE IF NOT EXISTS `client_instruction` (
   `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   `exam_id` BIGINT UNSIGNED NOT NULL,
-  `connection_token` VARCHAR(255) NOT NULL,
+  `connection_token` VARCHAR(255) NULL,
   `type` VARCHAR(45) NOT NULL,
   `attributes` VARCHAR(4000) NULL,
+  `excluded_tokens` MEDIUMTEXT NULL,
+  `creation_time` BIGINT UNSIGNED NULL,
   PRIMARY KEY (`id`),
   INDEX `instructionExamRef_idx` (`exam_id` ASC),
   INDEX `instructionConnectionRef` (`connection_token` ASC),
@@ -536,4 +547,18 @@ CREATE TABLE IF NOT EXISTS `client_instruction` (
     REFERENCES `client_connection` (`connection_token`)
     ON DELETE NO ACTION
     ON UPDATE NO ACTION)
-;
\ No newline at end of file
+;
+
+-- -----------------------------------------------------
+-- Table `seb_restriction_sync`
+-- -----------------------------------------------------
+DROP TABLE IF EXISTS `seb_restriction_sync` ;
+
+CREATE TABLE IF NOT EXISTS `seb_restriction_sync` (
+  `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `exam_id` BIGINT UNSIGNED NOT NULL,
+  `apply_restriction` INT(1) NOT NULL,
+  `request_time` BIGINT NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE INDEX `sebRestrictionSyncExam_idx` (`exam_id` ASC))
+;